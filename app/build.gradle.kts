@@ -20,6 +20,9 @@ repositories {
     mavenCentral()
 }
 
+// Classpath of the texture packer run at build time
+val texturePacker by configurations.creating
+
 dependencies {
     // Use JUnit Jupiter for testing.
     testImplementation(libs.junit.jupiter)
@@ -30,6 +33,9 @@ dependencies {
     testImplementation("com.badlogicgames.gdx:gdx-backend-headless:$libgdxVersion")
     testImplementation("com.badlogicgames.gdx:gdx-platform:$libgdxVersion:natives-desktop")
 
+    // Gameplay simulation
+    implementation(project(":core"))
+
     // This dependency is used by the application.
     implementation(libs.guava)
 
@@ -49,6 +55,9 @@ dependencies {
     implementation("com.badlogicgames.gdx:gdx-tools:$libgdxVersion") {
         exclude(group = "com.badlogicgames.gdx", module = "gdx-backend-lwjgl")
     }
+    texturePacker("com.badlogicgames.gdx:gdx-tools:$libgdxVersion") {
+        exclude(group = "com.badlogicgames.gdx", module = "gdx-backend-lwjgl")
+    }
 
     // Logging
     implementation("org.slf4j:slf4j-api:2.1.0-alpha1")
@@ -79,6 +88,50 @@ tasks.withType<JavaCompile>().configureEach {
     options.release.set(25)
 }
 
+// Gameplay sprites, flattened so each region is named after its file
+val stageGameplaySprites by tasks.registering(Sync::class) {
+    from("src/main/resources/textures/arkanoid") {
+        include("*.png", "bricks/*.png")
+        // WebP data under a .png name, and unused
+        exclude("perk6.png")
+    }
+    from("src/main/resources/textures/ui") {
+        include("hearth.png")
+    }
+    eachFile { path = name }
+    includeEmptyDirs = false
+    into(layout.buildDirectory.dir("atlas/gameplay"))
+}
+
+// Packs the gameplay sprites into one atlas so the board draws without texture switches
+val packGameplayAtlas by tasks.registering(JavaExec::class) {
+    group = "build"
+    description = "Packs the gameplay sprites into textures/arkanoid/gameplay.atlas."
+    val settings = file("src/main/atlas/gameplay.json")
+    val output = layout.buildDirectory.dir("generated/atlas/textures/arkanoid")
+    inputs.files(stageGameplaySprites)
+    inputs.file(settings)
+    outputs.dir(output)
+    classpath = texturePacker
+    mainClass = "com.badlogic.gdx.tools.texturepacker.TexturePacker"
+    jvmArgs("-Djava.awt.headless=true")
+    doFirst { delete(output) }
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(stageGameplaySprites.get().destinationDir.path, output.get().asFile.path,
+               "gameplay.atlas", settings.path)
+    })
+}
+
+sourceSets {
+    main {
+        resources.srcDir(layout.buildDirectory.dir("generated/atlas"))
+    }
+}
+
+tasks.processResources {
+    dependsOn(packGameplayAtlas)
+}
+
 tasks.named<Test>("test") {
     // Use JUnit Platform for unit tests.
     useJUnitPlatform()
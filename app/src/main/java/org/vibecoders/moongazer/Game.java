@@ -2,7 +2,9 @@ package org.vibecoders.moongazer;
 
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
@@ -18,11 +20,16 @@ import org.vibecoders.moongazer.managers.Assets;
 import org.vibecoders.moongazer.managers.Audio;
 import org.vibecoders.moongazer.scenes.*;
 
+import static org.vibecoders.moongazer.Constants.WINDOW_HEIGHT;
+import static org.vibecoders.moongazer.Constants.WINDOW_WIDTH;
+
 public class Game extends ApplicationAdapter {
     private static final Logger log = LoggerFactory.getLogger(Game.class);
     public State state = State.INTRO;
     public Transition transition = null;
     SpriteBatch batch;
+    // Outgoing scene snapshot, shared by transitions since only one runs at a time
+    private FrameBuffer transitionBuffer;
     // UI stage
     public Stage stage;
     public Table root;
@@ -161,6 +168,19 @@ public class Game extends ApplicationAdapter {
         return newScene;
     }
 
+    /**
+     * Gets the window-sized frame buffer that transitions capture the outgoing scene into,
+     * creating it on first use.
+     *
+     * @return The transition frame buffer.
+     */
+    public FrameBuffer getTransitionBuffer() {
+        if (transitionBuffer == null) {
+            transitionBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, WINDOW_WIDTH, WINDOW_HEIGHT, false);
+        }
+        return transitionBuffer;
+    }
+
     /**
      * Called when the application is destroyed. Saves settings, disposes of scenes and resources.
      */
@@ -174,6 +194,9 @@ public class Game extends ApplicationAdapter {
         Assets.dispose();
         batch.dispose();
         stage.dispose();
+        if (transitionBuffer != null) {
+            transitionBuffer.dispose();
+        }
         log.debug("Resources disposed");
     }
 }
\ No newline at end of file
@@ -1,18 +1,48 @@
 package org.vibecoders.moongazer;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.vibecoders.moongazer.arkanoid.replay.Replay;
+import org.vibecoders.moongazer.arkanoid.replay.ReplayVerifier;
 
+import java.io.IOException;
 import java.sql.*;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SaveGameManager {
     private static final Logger log = LoggerFactory.getLogger(SaveGameManager.class);
     private static final String DB_FILE = "userdata.db";
+    private static final String REPLAY_DIR = "replays";
     private static Connection connection;
+    /** Re-simulates submitted endless runs off the render thread. */
+    private static final ExecutorService RUN_VERIFIER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "endless-run-verifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** Submitted runs whose score is not saved yet; only touched on the render thread. */
+    private static final List<PendingRun> pendingRuns = new ArrayList<>();
+
+    /**
+     * An endless run being verified in the background.
+     */
+    private static class PendingRun {
+        final Replay replay;
+        final CompletableFuture<ReplayVerifier.Result> verification;
+
+        PendingRun(Replay replay, CompletableFuture<ReplayVerifier.Result> verification) {
+            this.replay = replay;
+            this.verification = verification;
+        }
+    }
 
     /**
      * Data class representing a score entry.
@@ -255,29 +285,183 @@ public class SaveGameManager {
         return false;
     }
 
+    /**
+     * Verifies an endless run by re-simulating its replay, then saves its score, updates the
+     * high score and stores the replay. Runs whose outcome does not match are not saved.
+     * @param replay The recorded run, carrying the score and wave the client reported.
+     * @return The id of the new score entry, or -1 if the run was rejected or not saved.
+     */
+    public static int saveEndlessRun(Replay replay) {
+        return saveVerifiedRun(replay, ReplayVerifier.verify(replay));
+    }
+
+    /**
+     * Verifies an endless run on a background thread and saves it on the render thread once
+     * the verification completes, so a long run does not stall the frame it ended in.
+     * Call from the render thread.
+     * @param replay The recorded run, carrying the score and wave the client reported.
+     */
+    public static void submitEndlessRun(Replay replay) {
+        PendingRun run = new PendingRun(replay,
+            CompletableFuture.supplyAsync(() -> ReplayVerifier.verify(replay), RUN_VERIFIER));
+        pendingRuns.add(run);
+        run.verification.whenComplete((result, error) -> Gdx.app.postRunnable(() -> completeRun(run)));
+    }
+
+    /**
+     * Waits for every submitted endless run to be verified and saves it, e.g. before the
+     * application exits. Call from the render thread.
+     */
+    public static void finishEndlessRuns() {
+        while (!pendingRuns.isEmpty()) {
+            completeRun(pendingRuns.get(0));
+        }
+    }
+
+    /**
+     * Saves a submitted run once its verification is done, unless it was already saved.
+     * @param run The submitted run.
+     */
+    private static void completeRun(PendingRun run) {
+        if (!pendingRuns.remove(run)) {
+            return;
+        }
+        try {
+            saveVerifiedRun(run.replay, run.verification.join());
+        } catch (CompletionException e) {
+            log.error("Failed to verify endless run", e.getCause());
+        }
+    }
+
+    /**
+     * Saves a verified endless run's score, updates the high score and stores the replay.
+     * @param replay The recorded run.
+     * @param result The outcome of re-simulating the replay.
+     * @return The id of the new score entry, or -1 if the run was rejected or not saved.
+     */
+    private static int saveVerifiedRun(Replay replay, ReplayVerifier.Result result) {
+        if (!result.isValid()) {
+            log.warn("Endless run rejected: {}", result);
+            return -1;
+        }
+        int scoreId = saveEndlessScore(result.getScore(), result.getWave());
+        updateHighScore(result.getScore(), result.getWave());
+        saveReplay(scoreId, replay);
+        return scoreId;
+    }
+
+    /**
+     * Re-validates every endless score against its replay, verifying the replays in parallel.
+     * Use after a balance change to find entries the current rules no longer reproduce.
+     * Entries are only reported, never deleted.
+     * @return The entries that have no replay or whose replay does not reproduce them.
+     */
+    public static List<ScoreEntry> revalidateEndlessScores() {
+        List<ScoreEntry> invalid = new ArrayList<>();
+        List<ScoreEntry> withReplay = new ArrayList<>();
+        List<Replay> replays = new ArrayList<>();
+        List<ScoreEntry> scores = getAllEndlessScores();
+        for (ScoreEntry entry : scores) {
+            Replay replay = loadReplay(entry.id);
+            if (replay == null) {
+                invalid.add(entry);
+            } else {
+                withReplay.add(entry);
+                replays.add(replay);
+            }
+        }
+        List<ReplayVerifier.Result> results = ReplayVerifier.verifyAll(replays);
+        for (int i = 0; i < results.size(); i++) {
+            ScoreEntry entry = withReplay.get(i);
+            ReplayVerifier.Result result = results.get(i);
+            if (!result.isValid() || result.getScore() != entry.score || result.getWave() != entry.wave) {
+                log.warn("Endless score {} failed re-validation: {}", entry, result);
+                invalid.add(entry);
+            }
+        }
+        log.info("Re-validated {} endless scores, {} failed", scores.size(), invalid.size());
+        return invalid;
+    }
+
     /**
      * Saves an endless mode score entry.
      * @param score The score achieved.
      * @param wave The wave number reached.
+     * @return The id of the new entry, or -1 if it could not be saved.
      */
-    public static void saveEndlessScore(int score, int wave) {
+    public static int saveEndlessScore(int score, int wave) {
         if (connection == null) {
             log.warn("Database not initialized, cannot save endless score");
-            return;
+            return -1;
         }
         String insert = """
             INSERT INTO endless_scores (score, wave, timestamp)
             VALUES (?, ?, ?)
             """;
-        try (PreparedStatement pstmt = connection.prepareStatement(insert)) {
+        try (PreparedStatement pstmt = connection.prepareStatement(insert, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setInt(1, score);
             pstmt.setInt(2, wave);
             pstmt.setLong(3, System.currentTimeMillis());
             pstmt.executeUpdate();
             log.info("Endless score saved: {} (Wave: {})", score, wave);
+            try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                return keys.next() ? keys.getInt(1) : -1;
+            }
         } catch (SQLException e) {
             log.error("Failed to save endless score", e);
         }
+        return -1;
+    }
+
+    /**
+     * Saves the replay of an endless run next to its score entry.
+     * @param scoreId The id returned by {@link #saveEndlessScore(int, int)}.
+     * @param replay The recorded run.
+     */
+    public static void saveReplay(int scoreId, Replay replay) {
+        if (scoreId < 0 || replay == null) {
+            return;
+        }
+        FileHandle file = getReplayFile(scoreId);
+        byte[] bytes = replay.toBytes();
+        file.writeBytes(bytes, false);
+        log.info("Replay saved: {} ({} bytes, {} steps)", file.path(), bytes.length, replay.getStepCount());
+    }
+
+    /**
+     * Loads the replay of an endless score entry.
+     * @param scoreId The id of the score entry.
+     * @return The replay, or null if the entry has none or it cannot be read.
+     */
+    public static Replay loadReplay(int scoreId) {
+        FileHandle file = getReplayFile(scoreId);
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            return Replay.fromBytes(file.readBytes());
+        } catch (IOException e) {
+            log.error("Failed to load replay {}", file.path(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether an endless score entry has a replay.
+     * @param scoreId The id of the score entry.
+     * @return True if a replay file exists.
+     */
+    public static boolean hasReplay(int scoreId) {
+        return getReplayFile(scoreId).exists();
+    }
+
+    /**
+     * Gets the replay file of an endless score entry.
+     * @param scoreId The id of the score entry.
+     * @return The file handle.
+     */
+    private static FileHandle getReplayFile(int scoreId) {
+        return Gdx.files.local(REPLAY_DIR + "/endless_" + scoreId + ".mgr");
     }
 
     /**
@@ -14,6 +14,8 @@ public class Settings {
     private static float masterVolume = 1.0f;
     private static float musicVolume = 1.0f;
     private static float sfxVolume = 1.0f;
+    public static final float MIN_RENDER_SCALE = 0.5f;
+    private static float renderScale = 1.0f;
     public static HashMap<String, Integer> keybinds = new HashMap<>() {{
         put("p1_left", Input.Keys.LEFT);
         put("p1_right", Input.Keys.RIGHT);
@@ -23,6 +25,7 @@ public class Settings {
         public float masterVolume;
         public float musicVolume;
         public float sfxVolume;
+        public float renderScale = 1.0f;
         public HashMap<String, Integer> keybinds;
     }
 
@@ -30,10 +33,12 @@ public class Settings {
     public static float getMasterVolume() { return masterVolume; }
     public static float getMusicVolume() { return musicVolume; }
     public static float getSfxVolume() { return sfxVolume; }
+    public static float getRenderScale() { return renderScale; }
     public static void setKeybind(String action, int keycode) { keybinds.put(action, keycode); }
     public static void setMasterVolume(float volume) { masterVolume = Math.max(0, Math.min(1, volume)); }
     public static void setMusicVolume(float volume) { musicVolume = Math.max(0, Math.min(1, volume)); }
     public static void setSfxVolume(float volume) { sfxVolume = Math.max(0, Math.min(1, volume)); }
+    public static void setRenderScale(float scale) { renderScale = Math.max(MIN_RENDER_SCALE, Math.min(1, scale)); }
 
     /**
      * Saves the current settings to a JSON file.
@@ -44,6 +49,7 @@ public class Settings {
             data.masterVolume = masterVolume;
             data.musicVolume = musicVolume;
             data.sfxVolume = sfxVolume;
+            data.renderScale = renderScale;
             data.keybinds = new HashMap<>(keybinds);
             Json json = new Json();
             json.setOutputType(JsonWriter.OutputType.json);
@@ -52,7 +58,8 @@ public class Settings {
             String jsonString = json.prettyPrint(data);
             file.writeString(jsonString, false);
             log.info("Settings saved to {}", SETTINGS_FILE);
-            log.debug("Master Volume = {}, Music Volume = {}, SFX Volume = {}", masterVolume, musicVolume, sfxVolume);
+            log.debug("Master Volume = {}, Music Volume = {}, SFX Volume = {}, Render Scale = {}",
+                    masterVolume, musicVolume, sfxVolume, renderScale);
         } catch (Exception e) {
             log.error("Failed to save settings", e);
         }
@@ -75,12 +82,14 @@ public class Settings {
                 masterVolume = data.masterVolume;
                 musicVolume = data.musicVolume;
                 sfxVolume = data.sfxVolume;
+                setRenderScale(data.renderScale);
                 if (data.keybinds != null && !data.keybinds.isEmpty()) {
                     keybinds.clear();
                     keybinds.putAll(data.keybinds);
                 }
                 log.info("Settings loaded from {}", SETTINGS_FILE);
-                log.debug("Master Volume = {}, Music Volume = {}, SFX Volume = {}", masterVolume, musicVolume, sfxVolume);
+                log.debug("Master Volume = {}, Music Volume = {}, SFX Volume = {}, Render Scale = {}",
+                        masterVolume, musicVolume, sfxVolume, renderScale);
             }
         } catch (Exception e) {
             log.error("Failed to load settings, using defaults", e);
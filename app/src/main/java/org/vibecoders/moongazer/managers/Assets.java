@@ -11,6 +11,8 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGeneratorLoader;
 import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
 
@@ -18,12 +20,19 @@ import java.util.ArrayList;
 import java.util.HashMap;
 
 public class Assets {
+    /** Atlas of the gameplay sprites, packed at build time by the packGameplayAtlas task. */
+    public static final String GAMEPLAY_ATLAS = "textures/arkanoid/gameplay.atlas";
+    /** Folders the gameplay sprites are packed from, searched when the atlas is missing. */
+    private static final String[] GAMEPLAY_SPRITE_DIRS = {
+        "textures/arkanoid/", "textures/arkanoid/bricks/", "textures/ui/"
+    };
     private static final AssetManager assetManager = new AssetManager();
     private static final FileHandleResolver resolver = new InternalFileHandleResolver();
     private static final Logger log = org.slf4j.LoggerFactory.getLogger(Assets.class);
     private static final ArrayList<String> loadedFonts = new ArrayList<>();
     private static final HashMap<String, FileHandle> loadedFiles = new HashMap<>();
     private static final HashMap<String, com.badlogic.gdx.audio.Sound> loadedSounds = new HashMap<>();
+    private static final HashMap<String, TextureRegion> regions = new HashMap<>();
     private static boolean startLoadAll = false;
     private static boolean loadedAll = false;
     private static Thread loadingThread = null;
@@ -60,6 +69,48 @@ public class Assets {
         }
     }
 
+    /**
+     * Retrieves a gameplay sprite by name from the gameplay atlas.
+     * <p>
+     * The name is the sprite's file name without extension, e.g. "paddle" or
+     * "breakable_brick_lv1". When the atlas was not packed (running without the
+     * Gradle resources step), the sprite's own texture is used instead.
+     *
+     * @param name the sprite name
+     * @return the region of the sprite
+     */
+    public static TextureRegion getRegion(String name) {
+        TextureRegion region = regions.get(name);
+        if (region != null) {
+            return region;
+        }
+        if (Gdx.files.internal(GAMEPLAY_ATLAS).exists()) {
+            region = getAsset(GAMEPLAY_ATLAS, TextureAtlas.class).findRegion(name);
+        }
+        if (region == null) {
+            log.warn("Sprite {} not found in {}, using its own texture", name, GAMEPLAY_ATLAS);
+            region = new TextureRegion(getAsset(findSpriteFile(name), Texture.class));
+        }
+        regions.put(name, region);
+        return region;
+    }
+
+    /**
+     * Finds the loose image of a gameplay sprite.
+     *
+     * @param name the sprite name
+     * @return the file name of the sprite image
+     */
+    private static String findSpriteFile(String name) {
+        for (String dir : GAMEPLAY_SPRITE_DIRS) {
+            String fileName = dir + name + ".png";
+            if (Gdx.files.internal(fileName).exists()) {
+                return fileName;
+            }
+        }
+        throw new RuntimeException("Unknown gameplay sprite: " + name);
+    }
+
     /**
      * Retrieves a loaded Sound asset by its file name.
      *
@@ -189,21 +240,13 @@ public class Assets {
         assetManager.load("textures/stage/Bg3.png", Texture.class);
         assetManager.load("textures/stage/Bg4.png", Texture.class);
         assetManager.load("textures/stage/Bg5.png", Texture.class);
-        // Arkanoid gameplay assets
-        assetManager.load("textures/arkanoid/normal_ball.png", Texture.class);
-        assetManager.load("textures/arkanoid/paddle.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/unbreakable_brick.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/breakable_brick_lv1.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/breakable_brick_lv2.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/breakable_brick_lv3.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/expandpaddlebrick.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/extralifebrick.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/fastballbrick.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/slowballbrick.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/multiballbrick.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/superballbrick.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/laserbrick.png", Texture.class);
-        assetManager.load("textures/arkanoid/bricks/explosivebrick.png", Texture.class);
+        // Arkanoid gameplay assets, packed into one atlas by the build
+        if (Gdx.files.internal(GAMEPLAY_ATLAS).exists()) {
+            assetManager.load(GAMEPLAY_ATLAS, TextureAtlas.class);
+        } else {
+            log.warn("{} not found, loading gameplay sprites as separate textures", GAMEPLAY_ATLAS);
+            loadGameplaySprites();
+        }
         // "Load" unsupported file types as FileHandle
         loadingThread = new Thread(() -> {
             // Load endless mode music (both OGG and MP3 formats)
@@ -265,6 +308,29 @@ public class Assets {
         loadingThread.start();
     }
 
+    /**
+     * Queues the gameplay sprites as separate textures, for when the atlas was not packed.
+     */
+    private static void loadGameplaySprites() {
+        assetManager.load("textures/arkanoid/normal_ball.png", Texture.class);
+        assetManager.load("textures/arkanoid/enchanted_ball.png", Texture.class);
+        assetManager.load("textures/arkanoid/laser_bullet.png", Texture.class);
+        assetManager.load("textures/arkanoid/heart.png", Texture.class);
+        assetManager.load("textures/arkanoid/paddle.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/unbreakable_brick.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/breakable_brick_lv1.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/breakable_brick_lv2.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/breakable_brick_lv3.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/expandpaddlebrick.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/extralifebrick.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/fastballbrick.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/slowballbrick.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/multiballbrick.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/superballbrick.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/laserbrick.png", Texture.class);
+        assetManager.load("textures/arkanoid/bricks/explosivebrick.png", Texture.class);
+    }
+
     /**
      * Checks if all assets have been loaded.
      *
@@ -353,6 +419,7 @@ public class Assets {
         }
         loadedFonts.clear();
         loadedFiles.clear();
+        regions.clear();
         assetManager.dispose();
         if (textureWhite != null) {
             textureWhite.dispose();
@@ -14,16 +14,20 @@ import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import org.vibecoders.moongazer.Game;
 import org.vibecoders.moongazer.SaveGameManager;
+import org.vibecoders.moongazer.arkanoid.replay.Replay;
 import org.vibecoders.moongazer.enums.State;
 import org.vibecoders.moongazer.managers.Assets;
+import org.vibecoders.moongazer.scenes.arkanoid.ArkanoidEndless;
 import org.vibecoders.moongazer.ui.UICloseButton;
 import org.vibecoders.moongazer.ui.UIScrollbar;
+import org.vibecoders.moongazer.ui.UITextButton;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 
 public class Leaderboard extends Scene {
+    private static final int REPLAY_SEARCH_LIMIT = 50;
     private UIScrollbar customScrollbar;
     private ScrollPane scrollPane;
     private static final float KEYBOARD_SCROLL_SPEED = 500f;
@@ -87,6 +91,15 @@ public class Leaderboard extends Scene {
 
         root.addActor(mainPanel);
         root.addActor(backButton.getActor());
+
+        SaveGameManager.ScoreEntry bestRun = findBestRunWithReplay();
+        if (bestRun != null) {
+            UITextButton watchButton = new UITextButton("Watch Best Run", smallFont);
+            watchButton.setSize(240, 40);
+            watchButton.setPosition(40, Gdx.graphics.getHeight() - 80);
+            watchButton.onClick(() -> watchReplay(bestRun));
+            root.addActor(watchButton.getActor());
+        }
         game.stage.addActor(root);
 
         root.addListener(new InputListener() {
@@ -209,6 +222,38 @@ public class Leaderboard extends Scene {
         }
     }
 
+    /**
+     * Finds the highest scoring endless run that has a saved replay.
+     *
+     * @return The score entry, or null if no run has a replay.
+     */
+    private SaveGameManager.ScoreEntry findBestRunWithReplay() {
+        for (SaveGameManager.ScoreEntry entry : SaveGameManager.getTopEndlessScores(REPLAY_SEARCH_LIMIT)) {
+            if (SaveGameManager.hasReplay(entry.id)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Opens endless mode in playback mode for a recorded run.
+     *
+     * @param entry The score entry whose replay to watch.
+     */
+    private void watchReplay(SaveGameManager.ScoreEntry entry) {
+        if (game.transition != null) {
+            return;
+        }
+        Replay replay = SaveGameManager.loadReplay(entry.id);
+        if (replay == null) {
+            return;
+        }
+        log.info("Watching run {} (score {}, wave {})", entry.id, entry.score, entry.wave);
+        game.recreateScene(game.endlessModeScene, () -> new ArkanoidEndless(game, replay), scene -> game.endlessModeScene = scene);
+        game.transition = new Transition(game, this, game.endlessModeScene, State.ENDLESS_MODE, 500);
+    }
+
     /**
      * Scrolls the scroll pane by the specified amount.
      *
@@ -31,6 +31,7 @@ public class SettingsScene extends Scene {
     private UISlider masterVolSlider;
     private UISlider musicSlider;
     private UISlider sfxSlider;
+    private UISlider renderScaleSlider;
 
     /**
      * Constructor for the SettingsScene.
@@ -80,6 +81,19 @@ public class SettingsScene extends Scene {
             mainPanel.add(row).width(700).height(60).padBottom(5);
             mainPanel.row();
         }
+        Table renderScaleRow = new Table();
+        renderScaleRow.setBackground(tintedBg);
+        Label renderScaleLabel = new Label(getRenderScaleText(Settings.getRenderScale()), labelStyle);
+        renderScaleRow.add(renderScaleLabel).expandX().left().padLeft(40).pad(15);
+        renderScaleSlider = new UISlider(Settings.MIN_RENDER_SCALE, 1f, 0.05f);
+        renderScaleSlider.setValue(Settings.getRenderScale());
+        renderScaleSlider.onChanged(() -> {
+            Settings.setRenderScale(renderScaleSlider.getValue());
+            renderScaleLabel.setText(getRenderScaleText(Settings.getRenderScale()));
+        });
+        renderScaleRow.add(renderScaleSlider.slider).width(300).right().padRight(40);
+        mainPanel.add(renderScaleRow).width(700).height(60).padBottom(5);
+        mainPanel.row();
         Table section = new Table();
         section.setBackground(tintedBg);
         section.add(new Label("Keybinds", labelStyle)).colspan(2).expandX().left().padLeft(20).padTop(15).padBottom(10);
@@ -171,6 +185,16 @@ public class SettingsScene extends Scene {
         });
     }
 
+    /**
+     * Returns the label of the render scale row.
+     *
+     * @param scale The internal render scale.
+     * @return The label with the scale as a percentage.
+     */
+    private String getRenderScaleText(float scale) {
+        return "Render Scale (" + Math.round(scale * 100) + "%)";
+    }
+
     /**
      * Returns the name of the key corresponding to the given keycode.
      *
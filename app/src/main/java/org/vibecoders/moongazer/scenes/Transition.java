@@ -5,10 +5,21 @@ import org.vibecoders.moongazer.enums.State;
 import org.vibecoders.moongazer.scenes.arkanoid.Arkanoid;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+
+import static org.vibecoders.moongazer.Constants.WINDOW_HEIGHT;
+import static org.vibecoders.moongazer.Constants.WINDOW_WIDTH;
 
 /**
  * Handles transitions between scenes with a linear transition effect.
+ * <p>
+ * The outgoing scene, UI included, is captured once into a frame buffer on the first frame
+ * and faded out over the incoming scene, so only the incoming scene keeps rendering (and
+ * updating) during the transition. The frame buffer is shared by every transition through
+ * {@link Game#getTransitionBuffer()}.
  */
 public class Transition extends Scene {
     private Scene from;
@@ -16,6 +27,8 @@ public class Transition extends Scene {
     private State targetState;
     private float totalTime = 0f;
     private long duration;
+    private FrameBuffer fromSnapshot;
+    private boolean captured;
 
     /**
      * Creates a new transition between two scenes.
@@ -59,17 +72,69 @@ public class Transition extends Scene {
             }
             // Reset batch color to full opacity
             batch.setColor(1, 1, 1, 1);
+            to.root.setColor(1, 1, 1, 1);
             return;
         }
+        if (!captured) {
+            captureFrom(batch);
+        }
         var fromOpacity = 1 - toOpacity;
         log.trace("Transition opacities - from: {}, to: {}", fromOpacity, toOpacity);
-        batch.setColor(1, 1, 1, fromOpacity);
-        from.root.setVisible(true);
-        from.root.setColor(1, 1, 1, fromOpacity);
-        from.render(batch);
-        batch.setColor(1, 1, 1, toOpacity);
+        batch.setColor(1, 1, 1, 1);
         to.root.setVisible(true);
         to.root.setColor(1, 1, 1, toOpacity);
         to.render(batch);
+        drawSnapshot(batch, fromOpacity);
+    }
+
+    /**
+     * Draws the captured outgoing scene over the incoming one. Translucent sprites and UI
+     * lowered the snapshot's alpha where they landed, but its colour is already composited
+     * over black, so the snapshot is blended by a constant opacity and its alpha is ignored.
+     *
+     * @param batch   The SpriteBatch to draw with, between begin and end.
+     * @param opacity The opacity of the outgoing scene.
+     */
+    private void drawSnapshot(SpriteBatch batch, float opacity) {
+        int srcFunc = batch.getBlendSrcFunc();
+        int dstFunc = batch.getBlendDstFunc();
+        int srcFuncAlpha = batch.getBlendSrcFuncAlpha();
+        int dstFuncAlpha = batch.getBlendDstFuncAlpha();
+        batch.setColor(1, 1, 1, 1);
+        batch.setBlendFunction(GL20.GL_CONSTANT_ALPHA, GL20.GL_ONE_MINUS_CONSTANT_ALPHA);
+        Gdx.gl.glBlendColor(0, 0, 0, opacity);
+        Texture snapshot = fromSnapshot.getColorBufferTexture();
+        batch.draw(snapshot, 0, 0, WINDOW_WIDTH, WINDOW_HEIGHT, 0, 0,
+                snapshot.getWidth(), snapshot.getHeight(), false, true);
+        // Restoring the blend function flushes the snapshot while the blend colour is still set
+        batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+    }
+
+    /**
+     * Renders the outgoing scene and its UI once into a frame buffer, then hides its UI,
+     * which is part of the snapshot from now on.
+     *
+     * @param batch The SpriteBatch to draw with, between begin and end.
+     */
+    private void captureFrom(SpriteBatch batch) {
+        batch.end();
+        fromSnapshot = game.getTransitionBuffer();
+        fromSnapshot.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        boolean toVisible = to.root.isVisible();
+        to.root.setVisible(false);
+        from.root.setVisible(true);
+        from.root.setColor(1, 1, 1, 1);
+        batch.setColor(1, 1, 1, 1);
+        batch.begin();
+        from.render(batch);
+        batch.end();
+        game.stage.draw();
+        fromSnapshot.end();
+        from.root.setVisible(false);
+        to.root.setVisible(toVisible);
+        captured = true;
+        batch.begin();
     }
 }
\ No newline at end of file
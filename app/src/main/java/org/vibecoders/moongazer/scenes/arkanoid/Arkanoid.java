@@ -6,72 +6,63 @@ import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Intersector;
-import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.TimeUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.vibecoders.moongazer.Game;
+import org.vibecoders.moongazer.Settings;
 import org.vibecoders.moongazer.arkanoid.*;
+import org.vibecoders.moongazer.arkanoid.math.Rect;
 import org.vibecoders.moongazer.arkanoid.powerups.*;
+import org.vibecoders.moongazer.arkanoid.replay.Replay;
+import org.vibecoders.moongazer.arkanoid.replay.ReplayPlayer;
+import org.vibecoders.moongazer.arkanoid.replay.ReplayRecorder;
+import org.vibecoders.moongazer.arkanoid.util.TweenScheduler;
 import org.vibecoders.moongazer.managers.Assets;
 import org.vibecoders.moongazer.managers.Audio;
-import org.vibecoders.moongazer.managers.CollisionHandler;
 import org.vibecoders.moongazer.scenes.Scene;
+import org.vibecoders.moongazer.ui.FreezeFrame;
 import org.vibecoders.moongazer.ui.PauseMenu;
 import org.vibecoders.moongazer.ui.GameOverMenu;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static org.vibecoders.moongazer.Constants.*;
 
 public abstract class Arkanoid extends Scene {
     protected static final Logger log = LoggerFactory.getLogger(Arkanoid.class);
-    protected Paddle paddle;
-    protected List<Ball> balls;
-    protected List<Brick> bricks;
+    protected World world;
+    protected WorldRenderer worldRenderer;
     protected BitmapFont font;
     protected BitmapFont fontUI30;
-    protected int score = 0;
-    public int bestScore = 0;
-    public int lives = 3;
-    protected int bricksDestroyed = 0;
-    protected int combo = 0;
-    protected int maxCombo = 0;
-    protected Brick lastHitBrick = null;
-    protected float collisionCooldown = 0f;
-    protected static final int MAX_BALLS = 3;
-
-    private float stuckDetectionTimer = 0f;
-    private float minBallY = Float.MAX_VALUE;
-    private float maxBallY = Float.MIN_VALUE;
-    private static final float STUCK_CHECK_DURATION = 5.0f;
-    private static final float STUCK_Y_RANGE_THRESHOLD = 100f;
-
-    private Texture pixelTexture;
-    private Texture heartTexture;
+
+    private HudPanels sidePanels;
+    private HudPanels hudPanels;
+    private TextureRegion heartRegion;
     private Texture backgroundTexture = null;
-    protected boolean heartBlinking = false;
-    protected float heartBlinkTimer = 0f;
     private static final float HEART_BLINK_DURATION = 1.5f;
     private static final float HEART_BLINK_SPEED = 0.15f;
+
+    // HUD animations: frame tweens run on real time, step tweens on simulation time
+    private final TweenScheduler frameTweens = new TweenScheduler();
+    private final TweenScheduler stepTweens = new TweenScheduler();
+    private final TweenScheduler.Tween heartBlink = new TweenScheduler.Tween() {
+        @Override
+        protected void apply(float elapsed) {
+        }
+    };
     
     // Combo milestone display (osu!-style)
     private Texture iunoTexture;
-    private boolean showIunoImage = false;
-    private float iunoDisplayTimer = 0f;
-    private float iunoAlpha = 0f;
-    private float iunoSlideOffset = 0f; // Horizontal slide offset
+    private final IunoTween iuno = new IunoTween();
     private int lastComboMilestone = 0;
-    private boolean iunoFromLeft = true; // Alternate between left and right
     private static final float IUNO_DISPLAY_DURATION = 2.5f;
     private static final float IUNO_FADE_IN_TIME = 0.4f;
     private static final float IUNO_FADE_OUT_TIME = 0.5f;
@@ -79,21 +70,47 @@ public abstract class Arkanoid extends Scene {
     private static final int COMBO_MILESTONE_INTERVAL = 10;
     private static final float IUNO_MAX_HEIGHT = 500f; // Maximum height to display
     
+    // Cached HUD state so drawing the side panels does not allocate every frame
+    private static final Color COMBO_GOLD = new Color(1f, 0.84f, 0f, 1f);
+    private static final Color COMBO_GREEN = new Color(0f, 1f, 0.5f, 1f);
+    private static final Color AI_MODE_GRAY = new Color(0.7f, 0.7f, 0.7f, 1f);
+    private static final Color HITBOX_BREAKABLE = new Color(1f, 0.5f, 0f, 1f);
+    private static final Color SIDE_PANEL_SHADE = new Color(0f, 0f, 0f, 0.3f);
+    private static final float POWERUP_ICON_SIZE = 32f;
+    private static final float POWERUP_LINE_HEIGHT = 45f;
+    private final GlyphLayout layout = new GlyphLayout();
+    private final Color savedFontColor = new Color();
+    private final StringBuilder scoreText = new StringBuilder(16);
+    private final StringBuilder bestText = new StringBuilder(16);
+    private final StringBuilder comboText = new StringBuilder(16);
+    private final StringBuilder maxComboText = new StringBuilder(16);
+    private final StringBuilder livesText = new StringBuilder(16);
+    private final StringBuilder effectText = new StringBuilder(32);
+    private final StringBuilder replayText = new StringBuilder(16);
+    private final StringBuilder bricksText = new StringBuilder(16);
+
     protected ShapeRenderer shapeRenderer;
     protected boolean showHitboxes = false;
     protected PauseMenu pauseMenu;
     protected GameOverMenu gameOverMenu;
-    protected FrameBuffer gameFrameBuffer;
-    protected Texture gameSnapshot;
-    protected List<PowerUp> activePowerUps;
-    protected List<ActivePowerUpEffect> activePowerUpEffects;
+    protected FreezeFrame freezeFrame;
+    protected RenderScaler renderScaler;
     protected float pauseCooldown = 0f;
     private static final float PAUSE_COOLDOWN_TIME = 0.2f;
+    private float stepAccumulator = 0f;
+    protected float renderAlpha = 1f;
+
+    // Replays: live runs record their step inputs, playback feeds them back in
+    private static final int[] PLAYBACK_SPEEDS = {1, 2, 5, 10, 25, 50, 100};
+    private final ReplayRecorder recorder = new ReplayRecorder();
+    private ReplayPlayer replayPlayer;
+    private boolean replayEnded = false;
+    private boolean aiTogglePending = false;
+    private int playbackSpeedIndex = 0;
     protected InputMultiplexer inputMultiplexer;
     private InputAdapter gameInputAdapter;
     protected boolean gameInputEnabled = true;
     private boolean escKeyDownInGame = false;
-    protected PaddleAI paddleAI;
 
     public Arkanoid(Game game) {
         super(game);
@@ -106,12 +123,48 @@ public abstract class Arkanoid extends Scene {
     protected void init() {
         font = Assets.getFont("ui", 18);
         fontUI30 = Assets.getFont("ui", 30);
-        pixelTexture = Assets.getBlackTexture();
-        heartTexture = Assets.getAsset("textures/arkanoid/heart.png", Texture.class);
+        sidePanels = new HudPanels();
+        sidePanels.addRect(0, 0, SIDE_PANEL_WIDTH, WINDOW_HEIGHT, SIDE_PANEL_SHADE);
+        sidePanels.addRect(SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH, 0, SIDE_PANEL_WIDTH, WINDOW_HEIGHT, SIDE_PANEL_SHADE);
+        hudPanels = new HudPanels();
+        heartRegion = Assets.getRegion("heart");
         iunoTexture = Assets.getAsset("textures/vn_scene/iuno.png", Texture.class);
         shapeRenderer = new ShapeRenderer();
-        gameFrameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, WINDOW_WIDTH, WINDOW_HEIGHT, false);
-        paddleAI = new ArkanoidAI();
+        freezeFrame = new FreezeFrame();
+        renderScaler = new RenderScaler();
+        worldRenderer = new WorldRenderer();
+        world = new World();
+        world.setListener(new WorldListener() {
+            @Override
+            public void onBrickHit(int brick) {
+                Audio.playSfxBrickHit();
+            }
+
+            @Override
+            public void onPaddleHit() {
+                Audio.playSfxPaddleHit();
+            }
+
+            @Override
+            public void onPowerUpCollected(PowerUp powerUp) {
+                Audio.playSfxPowerupReceive();
+            }
+
+            @Override
+            public void onBallLost(int livesRemaining) {
+                Arkanoid.this.onBallLost();
+            }
+
+            @Override
+            public void onGameOver() {
+                Arkanoid.this.onGameOver();
+            }
+
+            @Override
+            public void onLevelComplete() {
+                Arkanoid.this.onLevelComplete();
+            }
+        });
         setupInputHandling();
         pauseMenu = new PauseMenu();
         setupPauseMenuCallbacks();
@@ -220,13 +273,8 @@ public abstract class Arkanoid extends Scene {
      * Restarts the game by resetting all relevant state variables and reinitializing gameplay.
      */
     protected void restartGame() {
-        score = 0;
-        lives = 3;
-        bricksDestroyed = 0;
-        combo = 0;
-        maxCombo = 0;
-        heartBlinking = false;
-        heartBlinkTimer = 0f;
+        world.resetProgress(3);
+        stopHeartBlink();
         initGameplay();
     }
 
@@ -243,20 +291,20 @@ public abstract class Arkanoid extends Scene {
     protected abstract void returnToMainMenu();
 
     /**
-     * Handles the pause action when the pause key is pressed.
+     * Places a fresh paddle and ball and clears the level, keeping score and lives.
      */
     protected void initGameplay() {
-        float paddleX = SIDE_PANEL_WIDTH + (GAMEPLAY_AREA_WIDTH - PADDLE_WIDTH) / 2f;
-        float paddleY = 50f;
-        paddle = new Paddle(paddleX, paddleY, PADDLE_WIDTH, PADDLE_HEIGHT);
-        float ballRadius = 12f;
-        Ball mainBall = new Ball(SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH / 2f, paddleY + PADDLE_HEIGHT + ballRadius + 5,
-                ballRadius);
-        balls = new ArrayList<>();
-        balls.add(mainBall);
-        bricks = new ArrayList<>();
-        activePowerUps = new ArrayList<>();
-        activePowerUpEffects = new ArrayList<>();
+        world.reset();
+        resetSimulationClock();
+    }
+
+    /**
+     * Drops any simulation time left over from the previous frames, so a freshly set up
+     * level starts on a whole step.
+     */
+    protected void resetSimulationClock() {
+        stepAccumulator = 0f;
+        renderAlpha = 1f;
     }
 
     /**
@@ -266,6 +314,7 @@ public abstract class Arkanoid extends Scene {
      * @param cols Number of columns of bricks.
      */
     protected void createBrickGrid(int rows, int cols) {
+        BrickField bricks = world.getBricks();
         bricks.clear();
         float availableWidth = GAMEPLAY_AREA_WIDTH;
         float brickTotalWidth = BRICK_WIDTH + BRICK_PADDING;
@@ -278,9 +327,18 @@ public abstract class Arkanoid extends Scene {
             for (int col = 0; col < cols; col++) {
                 float x = startX + col * brickTotalWidth;
                 float y = startY - row * (BRICK_HEIGHT + BRICK_PADDING);
-                bricks.add(new Brick(x, y, BRICK_WIDTH, BRICK_HEIGHT, getBrickType(row, col)));
+                bricks.add(x, y, BRICK_WIDTH, BRICK_HEIGHT, getBrickType(row, col));
             }
         }
+        indexBricks();
+    }
+
+    /**
+     * Rebuilds the brick spatial index from the current brick field.
+     * Must be called whenever a level layout replaces the contents of the world's bricks.
+     */
+    protected void indexBricks() {
+        world.indexBricks();
     }
 
     /**
@@ -310,8 +368,7 @@ public abstract class Arkanoid extends Scene {
      */
     @Override
     public void render(SpriteBatch batch) {
-        if (!pauseMenu.isPaused() && !gameOverMenu.isVisible() &&
-            Gdx.input.getInputProcessor() != inputMultiplexer) {
+        if (!isGameplayHalted() && Gdx.input.getInputProcessor() != inputMultiplexer) {
             restoreInputProcessor();
         }
 
@@ -322,353 +379,267 @@ public abstract class Arkanoid extends Scene {
             pauseCooldown -= delta;
         }
 
-        // Update iuno milestone display animation
-        updateIunoDisplay(delta);
+        // Update HUD animations such as the iuno milestone display
+        frameTweens.update(delta);
 
-        if (!pauseMenu.isPaused() && !gameOverMenu.isVisible()) {
-            handleInput(delta);
-            updateGameplay(delta);
-            handleCollisions();
+        if (!isGameplayHalted()) {
+            updateSimulation(delta);
         }
 
-        renderGameplay(batch);
-        renderUI(batch);
-        renderIunoDisplay(batch);
-        
-        // Ensure batch color is reset to white after all rendering
-        batch.setColor(Color.WHITE);
-
+        // A visible menu covers the window with the frozen scene, so the live scene is skipped
         if (pauseMenu.isPaused()) {
-            if (gameSnapshot == null) {
-                batch.end();
-                gameFrameBuffer.begin();
-                Gdx.gl.glClearColor(0, 0, 0, 1);
-                Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-                batch.begin();
-                renderGameplay(batch);
-                renderUI(batch);
-                renderIunoDisplay(batch);
-                batch.end();
-                gameFrameBuffer.end();
-                gameSnapshot = gameFrameBuffer.getColorBufferTexture();
-                batch.begin();
+            freezeScene(batch);
+            pauseMenu.render(batch, freezeFrame.getTexture());
+            if (!pauseMenu.isPaused()) {
+                // The menu resumed during its render and drew nothing, so show the scene
+                renderScene(batch);
             }
-            pauseMenu.render(batch, gameSnapshot);
         }
         else if (gameOverMenu.isVisible()) {
-            if (gameSnapshot == null) {
-                batch.end();
-                gameFrameBuffer.begin();
-                Gdx.gl.glClearColor(0, 0, 0, 1);
-                Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-                batch.begin();
-                renderGameplay(batch);
-                renderUI(batch);
-                renderIunoDisplay(batch);
-                batch.end();
-                gameFrameBuffer.end();
-                gameSnapshot = gameFrameBuffer.getColorBufferTexture();
-                batch.begin();
-            }
-            gameOverMenu.render(batch, gameSnapshot);
+            freezeScene(batch);
+            gameOverMenu.render(batch, freezeFrame.getTexture());
         }
         else {
-            if (gameSnapshot != null) {
-                gameSnapshot = null;
-            }
+            freezeFrame.release();
+            renderScene(batch);
+            // Ensure batch color is reset to white after all rendering
+            batch.setColor(Color.WHITE);
         }
     }
 
     /**
-     * Handles player input for the Arkanoid gameplay scene.
+     * Draws the board, the HUD and the overlays of one frame. This is also what the menus
+     * freeze and blur behind them.
      *
-     * @param delta The time elapsed since the last frame.
+     * @param batch SpriteBatch between begin and end.
      */
-    protected void handleInput(float delta) {
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            boolean anyLaunched = false;
-            for (Ball ball : balls) {
-                if (!ball.isActive()) {
-                    ball.launch();
-                    anyLaunched = true;
-                }
-            }
-            if (anyLaunched) {
-                log.info("Ball(s) launched!");
-            }
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.F3) && Gdx.input.isKeyJustPressed(Input.Keys.B)) {
-            showHitboxes = !showHitboxes;
-            log.info("Hitbox rendering: {}", showHitboxes ? "ON" : "OFF");
-        }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.F1)) {
-            paddleAI.setEnabled(!paddleAI.isEnabled());
-            log.info("AI mode: {}", paddleAI.isEnabled() ? "ENABLED" : "DISABLED");
-        }
+    protected void renderScene(SpriteBatch batch) {
+        renderScaledGameplay(batch);
+        renderUI(batch);
+        renderIunoDisplay(batch);
     }
 
     /**
-     * Updates the Arkanoid gameplay elements, including paddle, balls, bricks, and power-ups.
+     * Draws the gameplay layer at the internal render scale from the settings. The HUD is
+     * drawn afterwards at native resolution, so text stays crisp.
      *
-     * @param delta The time elapsed since the last frame.
+     * @param batch SpriteBatch between begin and end.
      */
-    protected void updateGameplay(float delta) {
-        // Update AI before paddle
-        if (paddleAI.isEnabled()) {
-            paddleAI.update(paddle, balls, activePowerUps);
+    protected void renderScaledGameplay(SpriteBatch batch) {
+        boolean scaled = renderScaler.begin(batch, Settings.getRenderScale());
+        renderGameplay(batch);
+        if (scaled) {
+            renderScaler.end(batch);
         }
+    }
 
-        paddle.update(delta, SIDE_PANEL_WIDTH, SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH);
-        paddle.cleanupBullets(WINDOW_HEIGHT);
-
-        for (Ball ball : balls) {
-            ball.update(delta);
+    /**
+     * Captures the blurred still shown behind the menus, unless it is already cached. This
+     * is the only scene render while a menu is showing.
+     *
+     * @param batch SpriteBatch between begin and end.
+     */
+    protected void freezeScene(SpriteBatch batch) {
+        if (!freezeFrame.isCaptured()) {
+            freezeFrame.capture(batch, () -> renderScene(batch));
+            batch.setColor(Color.WHITE);
         }
+    }
 
-        for (Brick brick : bricks) {
-            brick.update(delta);
-        }
+    /**
+     * Checks whether a menu currently halts the gameplay simulation.
+     *
+     * @return True if the simulation should not advance this frame.
+     */
+    protected boolean isGameplayHalted() {
+        return pauseMenu.isPaused() || gameOverMenu.isVisible() || replayEnded;
+    }
 
-        for (PowerUp powerUp : activePowerUps) {
-            powerUp.update(delta);
-        }
-        for (int i = activePowerUpEffects.size() - 1; i >= 0; i--) {
-            ActivePowerUpEffect activeEffect = activePowerUpEffects.get(i);
-            if (activeEffect.hasExpired()) {
-                activeEffect.removeEffect(this);
-                activePowerUpEffects.remove(i);
-                log.info("{} effect expired!", activeEffect.getEffectType());
-            }
-        }
-        if (collisionCooldown > 0) {
-            collisionCooldown -= delta;
-        }
-        if (heartBlinking) {
-            heartBlinkTimer += delta;
-            if (heartBlinkTimer >= HEART_BLINK_DURATION) {
-                heartBlinking = false;
-                heartBlinkTimer = 0f;
+    /**
+     * Advances the simulation by the frame time using fixed-size steps, so a frame hitch
+     * cannot produce one large step. The leftover time becomes the render interpolation factor.
+     * During playback the frame time is scaled by the playback speed.
+     *
+     * @param delta The time elapsed since the last frame.
+     */
+    protected void updateSimulation(float delta) {
+        handleInput(delta);
+        stepAccumulator += Math.min(delta, MAX_FRAME_TIME) * getPlaybackSpeed();
+        while (stepAccumulator >= FIXED_TIMESTEP && !isGameplayHalted()) {
+            if (!prepareStep()) {
+                break;
             }
+            int oldCombo = world.getCombo();
+            world.step(FIXED_TIMESTEP);
+            stepTweens.update(FIXED_TIMESTEP);
+            checkComboMilestone(oldCombo);
+            stepAccumulator -= FIXED_TIMESTEP;
         }
+        renderAlpha = isGameplayHalted() ? 1f : stepAccumulator / FIXED_TIMESTEP;
+    }
 
-        if (balls.size() == 1 && !balls.get(0).isActive()) {
-            Ball mainBall = balls.get(0);
-            mainBall.reset(paddle.getCenterX(), paddle.getBounds().y + paddle.getBounds().height + mainBall.getRadius() + 5);
-        }
-
-        if (!balls.isEmpty() && balls.get(0).isActive()) {
-            Ball mainBall = balls.get(0);
-            float currentBallY = mainBall.getBounds().y;
-
-            stuckDetectionTimer += delta;
-
-            if (currentBallY < minBallY) minBallY = currentBallY;
-            if (currentBallY > maxBallY) maxBallY = currentBallY;
-
-            if (stuckDetectionTimer >= STUCK_CHECK_DURATION) {
-                float yRange = maxBallY - minBallY;
-
-                if (yRange < STUCK_Y_RANGE_THRESHOLD) {
-                    log.warn("Ball stuck detected! Y range over {}s: {}px (threshold: {}px)",
-                             STUCK_CHECK_DURATION, yRange, STUCK_Y_RANGE_THRESHOLD);
-                    log.warn("Applying escape velocity...");
-
-                    float currentVelX = mainBall.getVelocity().x;
-                    float currentVelY = mainBall.getVelocity().y;
-                    float speed = (float) Math.sqrt(currentVelX * currentVelX + currentVelY * currentVelY);
-
-                    float escapeAngle = (float) Math.toRadians(30 + Math.random() * 30);
-                    float directionX = currentVelX > 0 ? 1 : -1;
-
-                    mainBall.setVelocity(
-                        directionX * speed * (float) Math.cos(escapeAngle),
-                        speed * (float) Math.sin(escapeAngle)
-                    );
-                }
-
-                stuckDetectionTimer = 0f;
-                minBallY = Float.MAX_VALUE;
-                maxBallY = Float.MIN_VALUE;
+    /**
+     * Feeds the next replay step into the world's input, or records the input of a live step.
+     *
+     * @return False if the replay has no steps left.
+     */
+    private boolean prepareStep() {
+        if (replayPlayer != null) {
+            if (replayPlayer.isFinished()) {
+                replayEnded = true;
+                onReplayFinished();
+                return false;
+            }
+            if (replayPlayer.apply(world.getInput())) {
+                toggleAI();
             }
         } else {
-            stuckDetectionTimer = 0f;
-            minBallY = Float.MAX_VALUE;
-            maxBallY = Float.MIN_VALUE;
+            recorder.record(world.getInput(), aiTogglePending);
         }
+        aiTogglePending = false;
+        return true;
     }
 
     /**
-     * Handles collisions between balls, bricks, paddle, power-ups, and bullets.
+     * Handles player input for the Arkanoid gameplay scene, copying the device state into
+     * the world's input for the coming steps. During playback the replay drives the world
+     * and only the playback controls are read.
+     *
+     * @param delta The time elapsed since the last frame.
      */
-    protected void handleCollisions() {
-        CollisionHandler.ScoreContext scoreContext = new CollisionHandler.ScoreContext(score, bestScore, combo, maxCombo);
-
-        CollisionHandler.BrickCollisionContext brickContext = new CollisionHandler.BrickCollisionContext() {
-            @Override
-            public void setLastHitBrick(Brick brick) {
-                lastHitBrick = brick;
-            }
-
-            @Override
-            public void resetCollisionCooldown() {
-                collisionCooldown = COLLISION_COOLDOWN_TIME;
-            }
-
-            @Override
-            public void onBrickDestroyed(Brick brick) {
-                Arkanoid.this.onBrickDestroyed(brick);
-            }
-
-            @Override
-            public void spawnPowerUp(Brick brick) {
-                spawnRandomPowerUp(brick);
-            }
-
-            @Override
-            public CollisionHandler.ScoreContext getScoreContext() {
-                return scoreContext;
-            }
-        };
-
-        for (int ballIndex = balls.size() - 1; ballIndex >= 0; ballIndex--) {
-            Ball ball = balls.get(ballIndex);
-            if (!ball.isActive()) continue;
-
-            // Handle wall collisions
-            if (CollisionHandler.handleWallCollisions(ball, ballIndex, balls,
-                SIDE_PANEL_WIDTH, GAMEPLAY_AREA_WIDTH, WINDOW_HEIGHT, this::onBallLost)) continue;
-
-            float ballX = ball.getBounds().x;
-            float ballY = ball.getBounds().y;
-            float ballRadius = ball.getRadius();
-
-            // Handle brick collisions
-            boolean brickHit = false;
-            for (Brick brick : bricks) {
-                if (!brick.isDestroyed() && Intersector.overlaps(ball.getBounds(), brick.getBounds())) {
-                    if (collisionCooldown > 0 && brick == lastHitBrick) continue;
-
-                    if (CollisionHandler.handleSuperBallBrickCollision(ball, brick, brickContext)) {
-                        continue;
-                    }
-
-                    CollisionHandler.handleRegularBrickCollision(ball, brick, ballX, ballY, ballRadius, brickContext);
-                    brickHit = true;
-                    break;
-                }
-            }
-
-            // Handle paddle collision
-            if (!brickHit && ball.isActive()) {
-                CollisionHandler.handlePaddleCollision(ball, ballX, ballY, ballRadius, paddle, bricksDestroyed);
-            }
+    protected void handleInput(float delta) {
+        if (replayPlayer != null) {
+            handlePlaybackInput();
+            return;
         }
-
-        // Update local state from context
-        score = scoreContext.score;
-        bestScore = scoreContext.bestScore;
-        
-        // Check for combo milestones before updating combo
-        int oldCombo = combo;
-        combo = scoreContext.combo;
-        maxCombo = scoreContext.maxCombo;
-        
-        // Trigger iuno display on combo milestones (10x, 20x, 30x, etc.)
-        if (combo > 0 && combo % COMBO_MILESTONE_INTERVAL == 0) {
-            int currentMilestone = combo / COMBO_MILESTONE_INTERVAL;
-            int oldMilestone = oldCombo / COMBO_MILESTONE_INTERVAL;
-            if (currentMilestone > oldMilestone && currentMilestone > lastComboMilestone) {
-                triggerIunoDisplay();
-                lastComboMilestone = currentMilestone;
-            }
+        PaddleInput input = world.getInput();
+        input.left = Gdx.input.isKeyPressed(Settings.getKeybind("p1_left"));
+        input.right = Gdx.input.isKeyPressed(Settings.getKeybind("p1_right"));
+        input.fire = Gdx.input.isKeyPressed(Input.Keys.SPACE);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+            input.launch = true;
         }
-
-        handlePowerUpCollisions();
-        handleBulletCollisions();
-        if (checkLevelComplete()) {
-            onLevelComplete();
+        input.pointerDown = Gdx.input.isTouched();
+        input.pointerX = Gdx.input.getX();
+        if (Gdx.input.isKeyPressed(Input.Keys.F3) && Gdx.input.isKeyJustPressed(Input.Keys.B)) {
+            showHitboxes = !showHitboxes;
+            log.info("Hitbox rendering: {}", showHitboxes ? "ON" : "OFF");
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F1)) {
+            toggleAI();
+            aiTogglePending = !aiTogglePending;
         }
     }
 
     /**
-     * Handles collisions between the paddle and active power-ups.
+     * Handles the playback controls: UP and DOWN change the playback speed.
      */
-    private void handlePowerUpCollisions() {
-        for (int i = activePowerUps.size() - 1; i >= 0; i--) {
-            PowerUp powerUp = activePowerUps.get(i);
-
-            if (powerUp.y < 0) {
-                activePowerUps.remove(i);
-                continue;
-            }
-
-            Rectangle paddleBounds = paddle.getBounds();
-            if (powerUp.x < paddleBounds.x + paddleBounds.width &&
-                    powerUp.x + powerUp.width > paddleBounds.x &&
-                    powerUp.y < paddleBounds.y + paddleBounds.height &&
-                    powerUp.y + powerUp.height > paddleBounds.y) {
-                Audio.playSfxPowerupReceive();
-                boolean canStack = canPowerUpStack(powerUp.getName());
-
-                if (!canStack) {
-                    log.info("{} cannot stack with active effects, ignored", powerUp.getName());
-                    activePowerUps.remove(i);
-                    continue;
-                }
-
-                boolean effectExists = false;
-                for (ActivePowerUpEffect activeEffect : activePowerUpEffects) {
-                    if (activeEffect.getEffectType().equals(powerUp.getName())) {
-                        activeEffect.refreshDuration();
-                        log.info("{} duration refreshed!", powerUp.getName());
-                        effectExists = true;
-                        break;
-                    }
-                }
+    private void handlePlaybackInput() {
+        if (Gdx.input.isKeyPressed(Input.Keys.F3) && Gdx.input.isKeyJustPressed(Input.Keys.B)) {
+            showHitboxes = !showHitboxes;
+            log.info("Hitbox rendering: {}", showHitboxes ? "ON" : "OFF");
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.UP) && playbackSpeedIndex < PLAYBACK_SPEEDS.length - 1) {
+            playbackSpeedIndex++;
+            log.info("Playback speed: {}x", PLAYBACK_SPEEDS[playbackSpeedIndex]);
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.DOWN) && playbackSpeedIndex > 0) {
+            playbackSpeedIndex--;
+            log.info("Playback speed: {}x", PLAYBACK_SPEEDS[playbackSpeedIndex]);
+        }
+    }
 
-                if (!effectExists) {
-                    powerUp.applyEffect(this);
+    /**
+     * Switches the paddle AI on or off.
+     */
+    private void toggleAI() {
+        PaddleAI paddleAI = world.getPaddleAI();
+        paddleAI.setEnabled(!paddleAI.isEnabled());
+        log.info("AI mode: {}", paddleAI.isEnabled() ? "ENABLED" : "DISABLED");
+    }
 
-                    if (powerUp.getDuration() > 0) {
-                        activePowerUpEffects.add(new ActivePowerUpEffect(powerUp));
-                        log.info("{} activated for {} seconds",
-                                powerUp.getName(),
-                                powerUp.getDuration() / 1000f);
-                    } else if (powerUp.getDuration() == -1) {
-                        log.info("{} collected (permanent)", powerUp.getName());
-                    }
-                }
+    /**
+     * Starts recording the run that begins with the world's current seed.
+     * Call after the run has been reset and its first level generated.
+     *
+     * @param startingLives Lives the run starts with.
+     */
+    protected void beginRecording(int startingLives) {
+        recorder.begin(world.getSeed(), startingLives, world.getPaddleAI().isEnabled());
+        aiTogglePending = false;
+    }
 
-                activePowerUps.remove(i);
-            }
-        }
+    /**
+     * Ends the recording of the current run.
+     *
+     * @param score Final score of the run.
+     * @param wave Final wave of the run.
+     * @return The replay, or null if nothing was being recorded.
+     */
+    protected Replay finishRecording(int score, int wave) {
+        return recorder.finish(score, wave);
     }
 
     /**
-     * Handles collisions between bullets fired from the paddle and bricks.
+     * Switches the scene to playback. The caller then resets the run with the replay's seed;
+     * from then on the replay drives the world instead of the input devices.
+     *
+     * @param replay The replay to play.
      */
-    private void handleBulletCollisions() {
-        List<Bullet> bullets = paddle.getBullets();
+    protected void beginPlayback(Replay replay) {
+        replayPlayer = replay.play();
+        replayEnded = false;
+        aiTogglePending = false;
+        world.getPaddleAI().setEnabled(replay.isAiEnabled());
+        log.info("Playing replay: seed {}, {} steps, score {}", replay.getSeed(), replay.getStepCount(), replay.getScore());
+    }
 
-        for (int i = bullets.size() - 1; i >= 0; i--) {
-            Bullet bullet = bullets.get(i);
-            Rectangle bulletBounds = bullet.getBounds();
+    /**
+     * Checks whether the scene is playing a replay.
+     *
+     * @return True during playback.
+     */
+    public boolean isPlayingBack() {
+        return replayPlayer != null;
+    }
 
-            for (Brick brick : bricks) {
-                if (!brick.isDestroyed() && Intersector.overlaps(bulletBounds, brick.getBounds())) {
-                    brick.hit();
+    /**
+     * Gets the speed multiplier applied to the simulation.
+     *
+     * @return The playback speed, or 1 for live play.
+     */
+    private float getPlaybackSpeed() {
+        return replayPlayer != null ? PLAYBACK_SPEEDS[playbackSpeedIndex] : 1f;
+    }
 
-                    if (brick.isDestroyed()) {
-                        onBrickDestroyed(brick);
+    /**
+     * Called once every step of the replay has been played. Leaves the scene by default.
+     */
+    protected void onReplayFinished() {
+        log.info("Replay finished after {} steps", replayPlayer.getStep());
+        returnToMainMenu();
+    }
 
-                        if (brick.getPowerUpType() != Brick.PowerUpType.NONE) {
-                            spawnRandomPowerUp(brick);
-                        }
-                    }
+    /**
+     * Stops the heart blink shown after losing a life.
+     */
+    protected void stopHeartBlink() {
+        stepTweens.cancel(heartBlink);
+    }
 
-                    bullet.setActive(false);
-                    break;
-                }
+    /**
+     * Shows the Iuno image when the combo crosses a milestone (10x, 20x, 30x, etc.).
+     *
+     * @param oldCombo The combo before the last simulation step.
+     */
+    private void checkComboMilestone(int oldCombo) {
+        int combo = world.getCombo();
+        if (combo > 0 && combo % COMBO_MILESTONE_INTERVAL == 0) {
+            int currentMilestone = combo / COMBO_MILESTONE_INTERVAL;
+            int oldMilestone = oldCombo / COMBO_MILESTONE_INTERVAL;
+            if (currentMilestone > oldMilestone && currentMilestone > lastComboMilestone) {
+                triggerIunoDisplay();
+                lastComboMilestone = currentMilestone;
             }
         }
     }
@@ -677,46 +648,48 @@ public abstract class Arkanoid extends Scene {
      * Triggers the display of the Iuno image for combo milestones.
      */
     private void triggerIunoDisplay() {
-        showIunoImage = true;
-        iunoDisplayTimer = 0f;
-        iunoAlpha = 0f;
-        iunoSlideOffset = IUNO_SLIDE_DISTANCE; // Start off-screen
-        iunoFromLeft = !iunoFromLeft; // Alternate direction
-        log.info("Combo milestone reached: {}x! Showing Iuno from {}", combo, iunoFromLeft ? "left" : "right");
+        iuno.fromLeft = !iuno.fromLeft; // Alternate direction
+        frameTweens.start(iuno, IUNO_DISPLAY_DURATION);
+        log.info("Combo milestone reached: {}x! Showing Iuno from {}", world.getCombo(), iuno.fromLeft ? "left" : "right");
     }
 
     /**
-     * Updates the Iuno image display animation based on elapsed time.
-     *
-     * @param delta The time elapsed since the last frame.
+     * Slides the Iuno image in from a side of the gameplay area, holds it, then slides it back out.
      */
-    private void updateIunoDisplay(float delta) {
-        if (!showIunoImage) return;
-
-        iunoDisplayTimer += delta;
-
-        // Fade in + Slide in
-        if (iunoDisplayTimer < IUNO_FADE_IN_TIME) {
-            float progress = iunoDisplayTimer / IUNO_FADE_IN_TIME;
-            iunoAlpha = progress;
-            iunoSlideOffset = IUNO_SLIDE_DISTANCE * (1f - progress); // Slide from distance to 0
-        }
-        // Hold
-        else if (iunoDisplayTimer < IUNO_DISPLAY_DURATION - IUNO_FADE_OUT_TIME) {
-            iunoAlpha = 1.0f;
-            iunoSlideOffset = 0f;
-        }
-        // Fade out + Slide out
-        else if (iunoDisplayTimer < IUNO_DISPLAY_DURATION) {
-            float fadeOutProgress = (iunoDisplayTimer - (IUNO_DISPLAY_DURATION - IUNO_FADE_OUT_TIME)) / IUNO_FADE_OUT_TIME;
-            iunoAlpha = 1.0f - fadeOutProgress;
-            iunoSlideOffset = IUNO_SLIDE_DISTANCE * fadeOutProgress; // Slide from 0 to distance
-        }
-        // Hide
-        else {
-            showIunoImage = false;
-            iunoAlpha = 0f;
-            iunoSlideOffset = 0f;
+    private static class IunoTween extends TweenScheduler.Tween {
+        private float alpha = 0f;
+        private float slideOffset = 0f; // Horizontal slide offset
+        private boolean fromLeft = true; // Alternate between left and right
+
+        /**
+         * Updates the alpha and slide offset for the time since the display started.
+         *
+         * @param elapsed Time since the display started.
+         */
+        @Override
+        protected void apply(float elapsed) {
+            // Fade in + Slide in
+            if (elapsed < IUNO_FADE_IN_TIME) {
+                float progress = elapsed / IUNO_FADE_IN_TIME;
+                alpha = progress;
+                slideOffset = IUNO_SLIDE_DISTANCE * (1f - progress); // Slide from distance to 0
+            }
+            // Hold
+            else if (elapsed < IUNO_DISPLAY_DURATION - IUNO_FADE_OUT_TIME) {
+                alpha = 1.0f;
+                slideOffset = 0f;
+            }
+            // Fade out + Slide out
+            else if (elapsed < IUNO_DISPLAY_DURATION) {
+                float fadeOutProgress = (elapsed - (IUNO_DISPLAY_DURATION - IUNO_FADE_OUT_TIME)) / IUNO_FADE_OUT_TIME;
+                alpha = 1.0f - fadeOutProgress;
+                slideOffset = IUNO_SLIDE_DISTANCE * fadeOutProgress; // Slide from 0 to distance
+            }
+            // Hide
+            else {
+                alpha = 0f;
+                slideOffset = 0f;
+            }
         }
     }
 
@@ -726,7 +699,7 @@ public abstract class Arkanoid extends Scene {
      * @param batch The SpriteBatch used for rendering.
      */
     private void renderIunoDisplay(SpriteBatch batch) {
-        if (!showIunoImage || iunoAlpha <= 0f) return;
+        if (!iuno.isActive() || iuno.alpha <= 0f) return;
 
         // Calculate aspect-ratio-preserving dimensions
         float textureWidth = iunoTexture.getWidth();
@@ -738,113 +711,19 @@ public abstract class Arkanoid extends Scene {
         float displayWidth = displayHeight * aspectRatio;
         
         // Position at bottom of screen, sliding from left or right
-        float baseX = iunoFromLeft ? 
+        float baseX = iuno.fromLeft ? 
             SIDE_PANEL_WIDTH + 50f : 
             SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH - displayWidth - 50f;
         
         // Apply slide offset
-        float offsetX = iunoFromLeft ? -iunoSlideOffset : iunoSlideOffset;
+        float offsetX = iuno.fromLeft ? -iuno.slideOffset : iuno.slideOffset;
         float imageX = baseX + offsetX;
         float imageY = 50f; // Bottom padding
 
-        Color oldColor = batch.getColor();
-        batch.setColor(1f, 1f, 1f, iunoAlpha);
+        float oldColor = batch.getPackedColor();
+        batch.setColor(1f, 1f, 1f, iuno.alpha);
         batch.draw(iunoTexture, imageX, imageY, displayWidth, displayHeight);
-        batch.setColor(oldColor);
-    }
-
-    /**
-     * Spawns a random power-up at the location of the destroyed brick.
-     *
-     * @param brick The Brick that was destroyed.
-     */
-    private void spawnRandomPowerUp(Brick brick) {
-        PowerUpFactory factory = new ClassicPowerUpFactory();
-        PowerUp powerUp = null;
-
-        float powerUpX = brick.getX() + brick.getWidth() / 2f - 16;
-        float powerUpY = brick.getY();
-        float powerUpWidth = 35;
-        float powerUpHeight = 35;
-
-        if (brick.getPowerUpType() != Brick.PowerUpType.NONE) {
-            switch (brick.getPowerUpType()) {
-                case EXPAND_PADDLE:
-                    powerUp = factory.createExpandPaddle(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-                    break;
-                case EXTRA_LIFE:
-                    powerUp = factory.createExtraLife(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-                    break;
-                case FAST_BALL:
-                    powerUp = factory.createFastBall(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-                    break;
-                case SLOW_BALL:
-                    powerUp = factory.createSlowBall(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-                    break;
-                case MULTI_BALL:
-                    powerUp = factory.createMultiBall(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-                    break;
-                case SUPER_BALL:
-                    powerUp = factory.createSuperBall(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-                    break;
-                case BULLET:
-                    powerUp = factory.createBulletPaddle(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-                    break;
-                case EXPLOSIVE:
-                    log.warn("Power-up type {} not yet implemented", brick.getPowerUpType());
-                    return;
-                case NONE:
-                    return;
-            }
-        } else {
-            double rand = Math.random();
-            if (rand < 0.15) {
-                powerUp = factory.createExpandPaddle(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-            } else if (rand < 0.30){
-                powerUp = factory.createExtraLife(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-            } else if (rand < 0.45){
-                powerUp = factory.createFastBall(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-            } else if (rand < 0.60){
-                powerUp = factory.createSlowBall(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-            } else if (rand < 0.75){
-                powerUp = factory.createMultiBall(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-            } else if (rand < 0.80){
-                powerUp = factory.createSuperBall(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-            } else if (rand < 0.85){
-                powerUp = factory.createBulletPaddle(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
-            }
-        }
-
-        if (powerUp != null) {
-            activePowerUps.add(powerUp);
-        }
-    }
-
-    /**
-     * Determines if a power-up can stack with currently active power-up effects.
-     *
-     * @param powerUpName The name of the power-up to check.
-     * @return True if the power-up can stack, false otherwise.
-     */
-    private boolean canPowerUpStack(String powerUpName) {
-        if (powerUpName.equals("Expand Paddle") ||
-                powerUpName.equals("Multi Ball") ||
-                powerUpName.equals("Extra Life") ||
-                powerUpName.equals("Bullet Paddle")) {
-            return true;
-        }
-
-        for (ActivePowerUpEffect activeEffect : activePowerUpEffects) {
-            String activeEffectName = activeEffect.getEffectType();
-            if (powerUpName.equals("Speed x2") && activeEffectName.equals("speed x0.5")) {
-                return false;
-            }
-            if (powerUpName.equals("speed x0.5") && activeEffectName.equals("Speed x2")) {
-                return false;
-            }
-        }
-
-        return true;
+        batch.setPackedColor(oldColor);
     }
 
     /**
@@ -857,23 +736,9 @@ public abstract class Arkanoid extends Scene {
             batch.setColor(Color.WHITE);
             batch.draw(backgroundTexture, 0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         }
-        batch.setColor(0f, 0f, 0f, 0.3f);
-        batch.draw(pixelTexture, 0, 0, SIDE_PANEL_WIDTH, WINDOW_HEIGHT);
-        batch.draw(pixelTexture, SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH, 0, SIDE_PANEL_WIDTH, WINDOW_HEIGHT);
+        sidePanels.draw(batch);
         batch.setColor(1f, 1f, 1f, 1f);
-        paddle.render(batch);
-
-        for (Ball ball : balls) {
-            ball.render(batch);
-        }
-
-        for (Brick brick : bricks) {
-            brick.render(batch);
-        }
-
-        for (PowerUp powerUp : activePowerUps) {
-            powerUp.render(batch);
-        }
+        worldRenderer.render(batch, world, renderAlpha);
 
         if (showHitboxes) {
             renderHitboxes(batch);
@@ -892,8 +757,11 @@ public abstract class Arkanoid extends Scene {
         Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
 
-        for (Ball ball : balls) {
-            Rectangle ballBounds = ball.getBounds();
+        Paddle paddle = world.getPaddle();
+        List<Ball> balls = world.getBalls();
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            Rect ballBounds = ball.getBounds();
             float ballRadius = ball.getRadius();
             shapeRenderer.setColor(0, 1, 0, 1);
             shapeRenderer.circle(ballBounds.x, ballBounds.y, ballRadius, 32);
@@ -903,26 +771,31 @@ public abstract class Arkanoid extends Scene {
             shapeRenderer.circle(ballBounds.x, ballBounds.y, 2, 8);
         }
 
-        for (Bullet bullet : paddle.getBullets()) {
-            Rectangle bulletBounds = bullet.getBounds();
+        List<Bullet> bullets = paddle.getBullets();
+        for (int i = 0; i < bullets.size(); i++) {
+            Rect bulletBounds = bullets.get(i).getBounds();
             shapeRenderer.rect(bulletBounds.x, bulletBounds.y, bulletBounds.width, bulletBounds.height);
         }
 
-        Rectangle paddleBounds = paddle.getBounds();
+        Rect paddleBounds = paddle.getBounds();
         shapeRenderer.setColor(0, 0.5f, 1, 1);
         shapeRenderer.rect(paddleBounds.x, paddleBounds.y, paddleBounds.width, paddleBounds.height);
         shapeRenderer.setColor(0, 1, 1, 1);
         shapeRenderer.line(paddleBounds.x, paddleBounds.y + paddleBounds.height,
                           paddleBounds.x + paddleBounds.width, paddleBounds.y + paddleBounds.height);
-        for (Brick brick : bricks) {
-            if (brick.isDestroyed()) continue;
-            Rectangle brickBounds = brick.getBounds();
-            shapeRenderer.setColor(brick.getType() == Brick.BrickType.UNBREAKABLE ?
-                                  Color.RED : new Color(1, 0.5f, 0, 1));
-            shapeRenderer.rect(brickBounds.x, brickBounds.y, brickBounds.width, brickBounds.height);
+        BrickField bricks = world.getBricks();
+        for (int i = 0; i < bricks.getLiveCount(); i++) {
+            int brick = bricks.getLive(i);
+            if (bricks.isDestroyed(brick)) continue;
+            float brickX = bricks.getX(brick);
+            float brickY = bricks.getY(brick);
+            float brickWidth = bricks.getWidth(brick);
+            float brickHeight = bricks.getHeight(brick);
+            shapeRenderer.setColor(bricks.getType(brick) == Brick.BrickType.UNBREAKABLE ?
+                                  Color.RED : HITBOX_BREAKABLE);
+            shapeRenderer.rect(brickX, brickY, brickWidth, brickHeight);
             shapeRenderer.setColor(1, 1, 1, 0.5f);
-            shapeRenderer.circle(brickBounds.x + brickBounds.width / 2f,
-                               brickBounds.y + brickBounds.height / 2f, 2, 8);
+            shapeRenderer.circle(brickX + brickWidth / 2f, brickY + brickHeight / 2f, 2, 8);
         }
         shapeRenderer.end();
         Gdx.gl.glDisable(GL20.GL_BLEND);
@@ -930,287 +803,244 @@ public abstract class Arkanoid extends Scene {
     }
 
     /**
-     * Draws a semi-transparent UI box with a border.
-     *
-     * @param batch  The SpriteBatch used for rendering.
-     * @param x      The x-coordinate of the box.
-     * @param y      The y-coordinate of the box.
-     * @param width  The width of the box.
-     * @param height The height of the box.
+     * Lays out the HUD boxes behind the score, best, combo and max combo values. The boxes
+     * only depend on the font metrics, since a single line of text always measures the font's
+     * cap height, so they are built once and drawn from the cached geometry every frame.
      */
-    private void drawUIBox(SpriteBatch batch, float x, float y, float width, float height) {
-        batch.end();
-        shapeRenderer.setProjectionMatrix(batch.getProjectionMatrix());
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0f, 0f, 0f, 0.3f);
-        shapeRenderer.rect(x, y, width, height);
-        shapeRenderer.end();
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(1f, 1f, 1f, 0.4f);
-        shapeRenderer.rect(x, y, width, height);
-        shapeRenderer.end();
-        Gdx.gl.glDisable(GL20.GL_BLEND);
-        batch.begin();
+    private void buildHudPanels() {
+        hudPanels.clear();
+        float[] labelYs = {WINDOW_HEIGHT - 50, WINDOW_HEIGHT - 140, WINDOW_HEIGHT - 230, WINDOW_HEIGHT - 320};
+        String[] labels = {"Score", "Best", "Combo", "Max Combo"};
+        for (int i = 0; i < labels.length; i++) {
+            layout.setText(fontUI30, labels[i]);
+            float labelHeight = layout.height;
+            layout.setText(fontUI30, "0");
+            float boxHeight = labelHeight + layout.height + 30;
+            hudPanels.addBox(10, labelYs[i] - boxHeight + 10, SIDE_PANEL_WIDTH - 20, boxHeight);
+        }
     }
 
     /**
-     * Renders the UI elements, including score, best score, combo, and max combo.
+     * Renders the UI elements, including score, best score, combo, max combo, lives and bricks left.
+     * <p>
+     * Everything from the gameplay atlas (panels, the heart and power-up icons) is drawn first,
+     * then the text grouped by font, so the batch switches textures only a couple of times.
      *
      * @param batch The SpriteBatch used for rendering.
      */
     protected void renderUI(SpriteBatch batch) {
+        if (hudPanels.isEmpty()) {
+            buildHudPanels();
+        }
+        long millis = TimeUtils.millis();
         batch.setColor(1f, 1f, 1f, 1f);
         fontUI30.setColor(Color.WHITE);
-        com.badlogic.gdx.graphics.g2d.GlyphLayout layout = new com.badlogic.gdx.graphics.g2d.GlyphLayout();
-
-        float boxWidth = SIDE_PANEL_WIDTH - 20;
-        float boxX = 10;
-
-        String scoreLabel = "Score";
-        String scoreValue = String.format("%d", score);
-        layout.setText(fontUI30, scoreLabel);
-        float scoreLabelHeight = layout.height;
-        layout.setText(fontUI30, scoreValue);
-        float scoreValueHeight = layout.height;
-        float scoreBoxHeight = scoreLabelHeight + scoreValueHeight + 30;
-        float scoreBoxY = WINDOW_HEIGHT - 50 - scoreBoxHeight + 10;
-
-        drawUIBox(batch, boxX, scoreBoxY, boxWidth, scoreBoxHeight);
-
-        layout.setText(fontUI30, scoreLabel);
-        float scoreLabelX = (SIDE_PANEL_WIDTH - layout.width) / 2f;
-        fontUI30.draw(batch, scoreLabel, scoreLabelX, WINDOW_HEIGHT - 50);
-        layout.setText(fontUI30, scoreValue);
-        float scoreValueX = (SIDE_PANEL_WIDTH - layout.width) / 2f;
-        fontUI30.draw(batch, scoreValue, scoreValueX, WINDOW_HEIGHT - 60 - layout.height);
-
-        String bestLabel = "Best";
-        String bestValue = String.format("%d", bestScore);
-        layout.setText(fontUI30, bestLabel);
-        float bestLabelHeight = layout.height;
-        layout.setText(fontUI30, bestValue);
-        float bestValueHeight = layout.height;
-        float bestBoxHeight = bestLabelHeight + bestValueHeight + 30;
-        float bestBoxY = WINDOW_HEIGHT - 140 - bestBoxHeight + 10;
-
-        drawUIBox(batch, boxX, bestBoxY, boxWidth, bestBoxHeight);
-
-        layout.setText(fontUI30, bestLabel);
-        float bestLabelX = (SIDE_PANEL_WIDTH - layout.width) / 2f;
-        fontUI30.draw(batch, bestLabel, bestLabelX, WINDOW_HEIGHT - 140);
-        layout.setText(fontUI30, bestValue);
-        float bestValueX = (SIDE_PANEL_WIDTH - layout.width) / 2f;
-        fontUI30.draw(batch, bestValue, bestValueX, WINDOW_HEIGHT - 150 - layout.height);
-
-        String comboLabel = "Combo";
-        String comboValue = String.format("%dx", combo);
-        layout.setText(fontUI30, comboLabel);
-        float comboLabelHeight = layout.height;
-        layout.setText(fontUI30, comboValue);
-        float comboValueHeight = layout.height;
-        float comboBoxHeight = comboLabelHeight + comboValueHeight + 30;
-        float comboBoxY = WINDOW_HEIGHT - 230 - comboBoxHeight + 10;
-
-        drawUIBox(batch, boxX, comboBoxY, boxWidth, comboBoxHeight);
-
-        layout.setText(fontUI30, comboLabel);
-        float comboLabelX = (SIDE_PANEL_WIDTH - layout.width) / 2f;
-        fontUI30.draw(batch, comboLabel, comboLabelX, WINDOW_HEIGHT - 230);
 
+        hudPanels.draw(batch);
+
+        livesText.setLength(0);
+        livesText.append(" x ").append(world.getLives());
+        layout.setText(fontUI30, livesText);
+        float livesTextHeight = layout.height;
+        float heartAndTextWidth = HEART_ICON_SIZE + 5f + layout.width;
+        float heartStartX = (SIDE_PANEL_WIDTH - heartAndTextWidth) / 2f;
+        float heartStartY = 40f;
+        float blinkAlpha = heartBlink.isActive()
+                && (heartBlink.getElapsed() % HEART_BLINK_SPEED) / HEART_BLINK_SPEED < 0.5f ? 0.2f : 1.0f;
+        batch.setColor(1f, 1f, 1f, blinkAlpha);
+        batch.draw(heartRegion, heartStartX, heartStartY, HEART_ICON_SIZE, HEART_ICON_SIZE);
+        batch.setColor(Color.WHITE);
+
+        renderActivePowerupIcons(batch, millis);
+
+        scoreText.setLength(0);
+        scoreText.append(world.getScore());
+        drawStat(batch, "Score", scoreText, Color.WHITE, WINDOW_HEIGHT - 50);
+
+        bestText.setLength(0);
+        bestText.append(world.getBestScore());
+        drawStat(batch, "Best", bestText, Color.WHITE, WINDOW_HEIGHT - 140);
+
+        int combo = world.getCombo();
+        comboText.setLength(0);
+        comboText.append(combo).append('x');
         Color comboColor = Color.WHITE;
         if (combo >= 50) {
-            comboColor = new Color(1f, 0.84f, 0f, 1f);
+            comboColor = COMBO_GOLD;
         } else if (combo >= 20) {
-            comboColor = new Color(0f, 1f, 0.5f, 1f);
+            comboColor = COMBO_GREEN;
         }
-        Color originalComboColor = fontUI30.getColor().cpy();
-        fontUI30.setColor(comboColor);
-        layout.setText(fontUI30, comboValue);
-        float comboValueX = (SIDE_PANEL_WIDTH - layout.width) / 2f;
-        fontUI30.draw(batch, comboValue, comboValueX, WINDOW_HEIGHT - 240 - layout.height);
-        fontUI30.setColor(originalComboColor);
-
-        String maxComboLabel = "Max Combo";
-        String maxComboValue = String.format("%dx", maxCombo);
-        layout.setText(fontUI30, maxComboLabel);
-        float maxComboLabelHeight = layout.height;
-        layout.setText(fontUI30, maxComboValue);
-        float maxComboValueHeight = layout.height;
-        float maxComboBoxHeight = maxComboLabelHeight + maxComboValueHeight + 30;
-        float maxComboBoxY = WINDOW_HEIGHT - 320 - maxComboBoxHeight + 10;
-
-        drawUIBox(batch, boxX, maxComboBoxY, boxWidth, maxComboBoxHeight);
-
-        layout.setText(fontUI30, maxComboLabel);
-        float maxComboLabelX = (SIDE_PANEL_WIDTH - layout.width) / 2f;
-        fontUI30.draw(batch, maxComboLabel, maxComboLabelX, WINDOW_HEIGHT - 320);
-
-        Color originalMaxComboColor = fontUI30.getColor().cpy();
-        fontUI30.setColor(new Color(1f, 0.84f, 0f, 1f));
-        layout.setText(fontUI30, maxComboValue);
-        float maxComboValueX = (SIDE_PANEL_WIDTH - layout.width) / 2f;
-        fontUI30.draw(batch, maxComboValue, maxComboValueX, WINDOW_HEIGHT - 330 - layout.height);
-        fontUI30.setColor(originalMaxComboColor);
+        drawStat(batch, "Combo", comboText, comboColor, WINDOW_HEIGHT - 230);
+
+        maxComboText.setLength(0);
+        maxComboText.append(world.getMaxCombo()).append('x');
+        float maxComboValueHeight = drawStat(batch, "Max Combo", maxComboText, COMBO_GOLD, WINDOW_HEIGHT - 320);
+
+        savedFontColor.set(fontUI30.getColor());
+        fontUI30.setColor(savedFontColor.r, savedFontColor.g, savedFontColor.b, blinkAlpha);
+        float textY = heartStartY + (HEART_ICON_SIZE + livesTextHeight) / 2f;
+        fontUI30.draw(batch, livesText, heartStartX + HEART_ICON_SIZE + 5f, textY);
+        fontUI30.setColor(savedFontColor);
+
+        String powerupsText = "Powerups";
+        layout.setText(fontUI30, powerupsText);
+        float powerupsX = SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH + (SIDE_PANEL_WIDTH - layout.width) / 2f;
+        fontUI30.draw(batch, powerupsText, powerupsX, WINDOW_HEIGHT - 50);
 
         // Display [AUTO MODE] text if AI is enabled with blinking effect
-        if (paddleAI.isEnabled()) {
+        if (world.getPaddleAI().isEnabled()) {
             String autoModeText = "[AI MODE]";
             // Create blinking effect by oscillating alpha
-            float blinkAlpha = (TimeUtils.millis() / 500) % 2 == 0 ? 0.4f : 1.0f;
-            Color aiColor = new Color(0.7f, 0.7f, 0.7f, blinkAlpha); // Gray color with blinking alpha
-            Color originalFontColor = font.getColor().cpy();
-            font.setColor(aiColor);
+            float autoModeAlpha = (millis / 500) % 2 == 0 ? 0.4f : 1.0f;
+            savedFontColor.set(font.getColor());
+            font.setColor(AI_MODE_GRAY.r, AI_MODE_GRAY.g, AI_MODE_GRAY.b, autoModeAlpha);
             layout.setText(font, autoModeText);
             float autoModeX = (SIDE_PANEL_WIDTH - layout.width) / 2f;
             float autoModeY = WINDOW_HEIGHT - 330 - maxComboValueHeight - layout.height - 30;
             font.draw(batch, autoModeText, autoModeX, autoModeY);
-            font.setColor(originalFontColor);
+            font.setColor(savedFontColor);
         }
 
-        String livesText = " x " + lives;
-        layout.setText(fontUI30, livesText);
-        float heartAndTextWidth = HEART_ICON_SIZE + 5f + layout.width;
-        float heartStartX = (SIDE_PANEL_WIDTH - heartAndTextWidth) / 2f;
-        float heartStartY = 40f;
-        float blinkAlpha = heartBlinking && (heartBlinkTimer % HEART_BLINK_SPEED) / HEART_BLINK_SPEED < 0.5f ? 0.2f : 1.0f;
-        Color originalColor = fontUI30.getColor().cpy();
-        batch.setColor(1f, 1f, 1f, blinkAlpha);
-        batch.draw(heartTexture, heartStartX, heartStartY, HEART_ICON_SIZE, HEART_ICON_SIZE);
-        fontUI30.setColor(originalColor.r, originalColor.g, originalColor.b, blinkAlpha);
-        float textY = heartStartY + (HEART_ICON_SIZE + layout.height) / 2f;
-        fontUI30.draw(batch, livesText, heartStartX + HEART_ICON_SIZE + 5f, textY);
-        batch.setColor(Color.WHITE);
-        fontUI30.setColor(originalColor);
+        if (replayPlayer != null) {
+            replayText.setLength(0);
+            replayText.append("[REPLAY x").append(PLAYBACK_SPEEDS[playbackSpeedIndex]).append(']');
+            layout.setText(font, replayText);
+            float replayX = (SIDE_PANEL_WIDTH - layout.width) / 2f;
+            float replayY = WINDOW_HEIGHT - 330 - maxComboValueHeight - layout.height - 60;
+            font.draw(batch, replayText, replayX, replayY);
+        }
 
-        String powerupsText = "Powerups";
-        layout.setText(fontUI30, powerupsText);
-        float powerupsX = SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH + (SIDE_PANEL_WIDTH - layout.width) / 2f;
-        fontUI30.draw(batch, powerupsText, powerupsX, WINDOW_HEIGHT - 50);
+        bricksText.setLength(0);
+        bricksText.append("Bricks left: ").append(world.getBricks().getStandingCount(Brick.BrickType.BREAKABLE));
+        layout.setText(font, bricksText);
+        font.draw(batch, bricksText, (SIDE_PANEL_WIDTH - layout.width) / 2f, heartStartY + HEART_ICON_SIZE + 30f);
+
+        renderActivePowerupTimers(batch, millis);
+    }
 
-        renderActivePowerups(batch, layout);
+    /**
+     * Draws a HUD label centred in the left panel with its value below it.
+     *
+     * @param batch      The SpriteBatch used for rendering.
+     * @param label      The label text.
+     * @param value      The value text.
+     * @param valueColor The colour of the value.
+     * @param labelY     The y-coordinate of the label.
+     * @return The height of the value text.
+     */
+    private float drawStat(SpriteBatch batch, String label, CharSequence value, Color valueColor, float labelY) {
+        layout.setText(fontUI30, label);
+        fontUI30.draw(batch, label, (SIDE_PANEL_WIDTH - layout.width) / 2f, labelY);
+
+        savedFontColor.set(fontUI30.getColor());
+        fontUI30.setColor(valueColor);
+        layout.setText(fontUI30, value);
+        float valueHeight = layout.height;
+        fontUI30.draw(batch, value, (SIDE_PANEL_WIDTH - layout.width) / 2f, labelY - 10 - valueHeight);
+        fontUI30.setColor(savedFontColor);
+        return valueHeight;
+    }
+
+    /**
+     * Gets the alpha of an active power-up's row, which blinks once its time runs low.
+     *
+     * @param remainingTime The remaining time of the effect in seconds.
+     * @param millis        The frame time in milliseconds.
+     * @return The alpha of the row.
+     */
+    private static float getPowerupRowAlpha(float remainingTime, long millis) {
+        if (remainingTime <= 3.0f) {
+            return (millis / 250) % 2 == 0 ? 0.3f : 1.0f;
+        }
+        return 1.0f;
     }
 
     /**
-     * Renders the active power-up effects on the right side panel.
+     * Renders the icons of the active power-up effects on the right side panel.
      *
      * @param batch  The SpriteBatch used for rendering.
-     * @param layout The GlyphLayout used for text measurement.
+     * @param millis The frame time in milliseconds.
      */
-    private void renderActivePowerups(SpriteBatch batch, com.badlogic.gdx.graphics.g2d.GlyphLayout layout) {
+    private void renderActivePowerupIcons(SpriteBatch batch, long millis) {
         float startY = WINDOW_HEIGHT - 100;
-        float iconSize = 32;
-        float lineHeight = 45;
         float rightPanelX = SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH + 15;
-        float textOffsetX = iconSize + 8;
 
         int index = 0;
-        for (ActivePowerUpEffect effect : activePowerUpEffects) {
-            float currentY = startY - (index * lineHeight);
+        List<ActivePowerUpEffect> effects = world.getActivePowerUpEffects();
+        for (int i = 0; i < effects.size(); i++) {
+            ActivePowerUpEffect effect = effects.get(i);
+            float currentY = startY - (index * POWERUP_LINE_HEIGHT);
 
-            float remainingTime = effect.getRemainingTime();
+            float remainingTime = effect.getRemainingTime(world.getTick());
             if (remainingTime < 0) continue;
 
-            boolean isLowTime = remainingTime <= 3.0f;
-
-            float alpha = 1.0f;
-            Color textColor = Color.WHITE;
-            if (isLowTime) {
-                alpha = (TimeUtils.millis() / 250) % 2 == 0 ? 0.3f : 1.0f;
-                textColor = Color.RED;
-            }
-
-            Texture powerupTexture = effect.getPowerUp().getTexture();
-            if (powerupTexture != null) {
-                batch.setColor(1f, 1f, 1f, alpha);
-                batch.draw(powerupTexture, rightPanelX, currentY - iconSize, iconSize, iconSize);
+            TextureRegion powerupRegion = worldRenderer.getPowerUpRegion(effect.getPowerUp().getType());
+            if (powerupRegion != null) {
+                batch.setColor(1f, 1f, 1f, getPowerupRowAlpha(remainingTime, millis));
+                batch.draw(powerupRegion, rightPanelX, currentY - POWERUP_ICON_SIZE, POWERUP_ICON_SIZE, POWERUP_ICON_SIZE);
                 batch.setColor(Color.WHITE);
             }
-
-            String effectText = effect.getEffectType() + ": " + String.format("%.1fs", remainingTime);
-            layout.setText(font, effectText);
-
-            float textY = currentY - (iconSize / 2f) + (layout.height / 2f);
-
-            Color originalColor = font.getColor().cpy();
-            font.setColor(textColor.r, textColor.g, textColor.b, alpha);
-            font.draw(batch, effectText, rightPanelX + textOffsetX, textY);
-            font.setColor(originalColor);
-
             index++;
         }
     }
 
     /**
-     * Checks if the level is complete (all breakable bricks destroyed).
+     * Renders the names and remaining times of the active power-up effects next to their icons.
      *
-     * @return True if the level is complete, false otherwise.
-     */
-    protected boolean checkLevelComplete() {
-        if (bricksDestroyed == 0) return false;
-        return bricks.stream().noneMatch(brick -> brick.getType() == Brick.BrickType.BREAKABLE && !brick.isDestroyed());
-    }
-
-    /**
-     * Called when a brick is destroyed to update the destroyed bricks count.
-     *
-     * @param brick The Brick that was destroyed.
+     * @param batch  The SpriteBatch used for rendering.
+     * @param millis The frame time in milliseconds.
      */
-    protected void onBrickDestroyed(Brick brick) {
-        bricksDestroyed++;
-        log.debug("Brick destroyed! Total bricks destroyed: {}", bricksDestroyed);
-    }
+    private void renderActivePowerupTimers(SpriteBatch batch, long millis) {
+        float startY = WINDOW_HEIGHT - 100;
+        float rightPanelX = SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH + 15;
+        float textOffsetX = POWERUP_ICON_SIZE + 8;
 
-    /**
-     * Handles the event when a ball is lost (falls below the paddle).
-     */
-    protected void onBallLost() {
-        lives--;
-        Audio.playSfxBallLoss();
-        heartBlinking = true;
-        heartBlinkTimer = 0f;
+        int index = 0;
+        List<ActivePowerUpEffect> effects = world.getActivePowerUpEffects();
+        for (int i = 0; i < effects.size(); i++) {
+            ActivePowerUpEffect effect = effects.get(i);
+            float currentY = startY - (index * POWERUP_LINE_HEIGHT);
 
-        if (combo > 0) {
-            log.info("Ball lost! Combo reset from {}x to 0", combo);
-            combo = 0;
-            lastComboMilestone = 0; // Reset milestone tracker
-        }
+            float remainingTime = effect.getRemainingTime(world.getTick());
+            if (remainingTime < 0) continue;
 
-        clearAllActivePowerups();
+            Color textColor = remainingTime <= 3.0f ? Color.RED : Color.WHITE;
+            effectText.setLength(0);
+            effectText.append(effect.getEffectType()).append(": ");
+            appendTenths(effectText, remainingTime).append('s');
+            layout.setText(font, effectText);
 
-        balls.clear();
-        float ballRadius = 12f;
-        Ball mainBall = new Ball(paddle.getCenterX(), paddle.getBounds().y + paddle.getBounds().height + ballRadius + 5, ballRadius);
-        balls.add(mainBall);
+            float textY = currentY - (POWERUP_ICON_SIZE / 2f) + (layout.height / 2f);
 
-        stuckDetectionTimer = 0f;
-        minBallY = Float.MAX_VALUE;
-        maxBallY = Float.MIN_VALUE;
+            savedFontColor.set(font.getColor());
+            font.setColor(textColor.r, textColor.g, textColor.b, getPowerupRowAlpha(remainingTime, millis));
+            font.draw(batch, effectText, rightPanelX + textOffsetX, textY);
+            font.setColor(savedFontColor);
 
-        log.info("Ball lost! Lives remaining: {}", lives);
-        if (lives <= 0) {
-            onGameOver();
+            index++;
         }
     }
 
     /**
-     * Clears all active power-up effects when a life is lost.
+     * Appends a non-negative number rounded to one decimal place, like {@code %.1f},
+     * without going through a formatter.
+     *
+     * @param text  The buffer to append to.
+     * @param value The value to append.
+     * @return The buffer.
      */
-    private void clearAllActivePowerups() {
-        if (activePowerUpEffects.isEmpty()) {
-            return;
-        }
-
-        log.info("Clearing {} active powerup effects due to life loss", activePowerUpEffects.size());
-
-        for (ActivePowerUpEffect effect : activePowerUpEffects) {
-            effect.removeEffect(this);
-            log.debug("Removed {} effect", effect.getEffectType());
-        }
+    private static StringBuilder appendTenths(StringBuilder text, float value) {
+        int tenths = Math.round(value * 10f);
+        return text.append(tenths / 10).append('.').append(tenths % 10);
+    }
 
-        activePowerUpEffects.clear();
-        activePowerUps.clear();
+    /**
+     * Handles the event when a ball is lost (falls below the paddle) and the world has taken a life.
+     */
+    protected void onBallLost() {
+        Audio.playSfxBallLoss();
+        stepTweens.start(heartBlink, HEART_BLINK_DURATION);
+        lastComboMilestone = 0;
     }
 
     /**
@@ -1236,8 +1066,8 @@ public abstract class Arkanoid extends Scene {
         if (shapeRenderer != null) {
             shapeRenderer.dispose();
         }
-        if (bricks != null) {
-            bricks.clear();
+        if (worldRenderer != null) {
+            worldRenderer.dispose();
         }
         if (pauseMenu != null) {
             pauseMenu.dispose();
@@ -1245,81 +1075,11 @@ public abstract class Arkanoid extends Scene {
         if (gameOverMenu != null) {
             gameOverMenu.dispose();
         }
-        if (gameFrameBuffer != null) {
-            gameFrameBuffer.dispose();
-        }
-        if (gameSnapshot != null) {
-            gameSnapshot.dispose();
+        if (freezeFrame != null) {
+            freezeFrame.dispose();
         }
-    }
-
-    /**
-     * Gets the paddle instance.
-     *
-     * @return The Paddle object.
-     */
-    public Paddle getPaddle() {
-        return paddle;
-    }
-
-    /**
-     * Gets the last brick that was hit by a ball.
-     *
-     * @return The last hit Brick object.
-     */
-    public Brick getLastHitBrick() {
-        return lastHitBrick;
-    }
-
-    /**
-     * Gets the main ball instance.
-     *
-     * @return The main Ball object, or null if no balls are present.
-     */
-    public Ball getBall() {
-        return balls.isEmpty() ? null : balls.get(0);
-    }
-
-    /**
-     * Gets the list of all active balls in the game.
-     *
-     * @return The list of Ball objects.
-     */
-    public List<Ball> getBalls() {
-        return balls;
-    }
-
-    /**
-     * Spawns additional balls based on the main ball's properties.
-     *
-     * @param count The number of additional balls to spawn.
-     */
-    public void spawnBalls(int count) {
-        if (balls.isEmpty()) return;
-
-        Ball mainBall = balls.get(0);
-        if (!mainBall.isActive()) return;
-
-        int ballsToSpawn = Math.min(count, MAX_BALLS - balls.size());
-
-        for (int i = 0; i < ballsToSpawn; i++) {
-            Ball newBall = new Ball(mainBall.getBounds().x, mainBall.getBounds().y, mainBall.getRadius());
-
-            newBall.setSuperBall(mainBall.isSuperBall());
-            newBall.setSpeedMultiplier(mainBall.getSpeedMultiplier());
-            newBall.launch();
-
-            float baseSpeed = mainBall.getVelocity().len();
-            float angleOffset = (i + 1) * 30f;
-            float angleInRadians = (float) Math.toRadians(90 + angleOffset - (ballsToSpawn * 15f));
-            newBall.setVelocity(
-                baseSpeed * (float) Math.cos(angleInRadians),
-                baseSpeed * (float) Math.sin(angleInRadians)
-            );
-
-            balls.add(newBall);
+        if (renderScaler != null) {
+            renderScaler.dispose();
         }
-
-        log.info("Spawned {} additional ball(s). Total balls: {}", ballsToSpawn, balls.size());
     }
 }
@@ -0,0 +1,115 @@
+package org.vibecoders.moongazer.scenes.arkanoid;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import org.vibecoders.moongazer.arkanoid.BrickField;
+
+import static org.vibecoders.moongazer.Constants.*;
+
+/**
+ * Caches the idle bricks of a level in an offscreen frame buffer covering the gameplay area.
+ * The buffer is redrawn only when the field's revision changes, i.e. when a brick starts or
+ * ends an animation or the level changes; every other frame draws it as one quad, so the
+ * cost no longer grows with the number of bricks. Animating bricks are drawn live on top by
+ * the {@link WorldRenderer}.
+ */
+public class BrickLayer implements Disposable {
+    private final FrameBuffer frameBuffer;
+    private final Matrix4 layerProjection = new Matrix4();
+    private final Matrix4 savedProjection = new Matrix4();
+    private BrickField cachedBricks;
+    private int cachedRevision;
+
+    /**
+     * Constructs the layer and its frame buffer.
+     */
+    public BrickLayer() {
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, (int) GAMEPLAY_AREA_WIDTH, WINDOW_HEIGHT, false);
+        layerProjection.setToOrtho2D(SIDE_PANEL_WIDTH, 0, GAMEPLAY_AREA_WIDTH, WINDOW_HEIGHT);
+    }
+
+    /**
+     * Draws the idle bricks, redrawing the cache first if they changed since the last frame.
+     * @param batch SpriteBatch between begin and end, drawing in world coordinates
+     * @param bricks The bricks of the level
+     * @param renderer Renderer picking the brick sprites
+     */
+    public void render(SpriteBatch batch, BrickField bricks, WorldRenderer renderer) {
+        if (bricks != cachedBricks || bricks.getRevision() != cachedRevision) {
+            redraw(batch, bricks, renderer);
+            cachedBricks = bricks;
+            cachedRevision = bricks.getRevision();
+        }
+
+        // The buffer holds premultiplied colour, see redraw
+        int srcFunc = batch.getBlendSrcFunc();
+        int dstFunc = batch.getBlendDstFunc();
+        int srcFuncAlpha = batch.getBlendSrcFuncAlpha();
+        int dstFuncAlpha = batch.getBlendDstFuncAlpha();
+        float oldColor = batch.getPackedColor();
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        Texture texture = frameBuffer.getColorBufferTexture();
+        batch.draw(texture, SIDE_PANEL_WIDTH, 0, GAMEPLAY_AREA_WIDTH, WINDOW_HEIGHT,
+                   0, 0, texture.getWidth(), texture.getHeight(), false, true);
+        batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+        batch.setPackedColor(oldColor);
+    }
+
+    /**
+     * Draws every idle brick into the frame buffer. Colour is blended as usual, while alpha
+     * accumulates as coverage, so the buffer ends up premultiplied and composites exactly
+     * like drawing the bricks directly.
+     * @param batch SpriteBatch between begin and end
+     * @param bricks The bricks of the level
+     * @param renderer Renderer picking the brick sprites
+     */
+    private void redraw(SpriteBatch batch, BrickField bricks, WorldRenderer renderer) {
+        batch.end();
+        int srcFunc = batch.getBlendSrcFunc();
+        int dstFunc = batch.getBlendDstFunc();
+        int srcFuncAlpha = batch.getBlendSrcFuncAlpha();
+        int dstFuncAlpha = batch.getBlendDstFuncAlpha();
+        float oldColor = batch.getPackedColor();
+        savedProjection.set(batch.getProjectionMatrix());
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.setProjectionMatrix(layerProjection);
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+                                       GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.begin();
+        for (int i = 0; i < bricks.getLiveCount(); i++) {
+            int brick = bricks.getLive(i);
+            if (bricks.isAnimating(brick) || bricks.isDestroyed(brick)) continue;
+            TextureRegion region = renderer.getBrickRegion(bricks, brick);
+            if (region != null) {
+                batch.draw(region, bricks.getX(brick), bricks.getY(brick), bricks.getWidth(brick), bricks.getHeight(brick));
+            }
+        }
+        batch.end();
+        frameBuffer.end();
+
+        batch.setProjectionMatrix(savedProjection);
+        batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+        batch.setPackedColor(oldColor);
+        batch.begin();
+    }
+
+    /**
+     * Releases the frame buffer.
+     */
+    @Override
+    public void dispose() {
+        frameBuffer.dispose();
+    }
+}
@@ -0,0 +1,123 @@
+package org.vibecoders.moongazer.scenes.arkanoid;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.vibecoders.moongazer.managers.Assets;
+
+import java.util.Arrays;
+
+/**
+ * Static HUD geometry drawn through the sprite batch. Every panel is a quad of the white
+ * gameplay atlas sprite tinted by its vertex colour, built once into a vertex array and
+ * submitted in one draw, so the panels share a batch with the board and the HUD icons
+ * instead of ending it for shape renderer passes.
+ */
+public class HudPanels {
+    private static final int VERTEX_SIZE = 5;
+    private static final int QUAD_SIZE = 4 * VERTEX_SIZE;
+    private static final float BOX_FILL = Color.toFloatBits(0f, 0f, 0f, 0.3f);
+    private static final float BOX_BORDER = Color.toFloatBits(1f, 1f, 1f, 0.4f);
+
+    private final TextureRegion white;
+    private final float u;
+    private final float v;
+    private float[] vertices = new float[8 * QUAD_SIZE];
+    private int size;
+
+    /**
+     * Constructs an empty set of panels.
+     */
+    public HudPanels() {
+        white = Assets.getRegion("white");
+        // Sample the middle of the sprite so filtering never reaches its neighbours
+        u = (white.getU() + white.getU2()) / 2f;
+        v = (white.getV() + white.getV2()) / 2f;
+    }
+
+    /**
+     * Adds a translucent box with a one pixel border, as used behind the HUD values.
+     * @param x Left edge
+     * @param y Bottom edge
+     * @param width Width of the box
+     * @param height Height of the box
+     */
+    public void addBox(float x, float y, float width, float height) {
+        addRect(x, y, width, height, BOX_FILL);
+        addRect(x, y, width, 1f, BOX_BORDER);
+        addRect(x, y + height - 1f, width, 1f, BOX_BORDER);
+        addRect(x, y + 1f, 1f, height - 2f, BOX_BORDER);
+        addRect(x + width - 1f, y + 1f, 1f, height - 2f, BOX_BORDER);
+    }
+
+    /**
+     * Adds a filled rectangle.
+     * @param x Left edge
+     * @param y Bottom edge
+     * @param width Width of the rectangle
+     * @param height Height of the rectangle
+     * @param color Colour of the rectangle, alpha included
+     */
+    public void addRect(float x, float y, float width, float height, Color color) {
+        addRect(x, y, width, height, color.toFloatBits());
+    }
+
+    /**
+     * Appends a rectangle's quad in the sprite batch vertex layout.
+     * @param x Left edge
+     * @param y Bottom edge
+     * @param width Width of the rectangle
+     * @param height Height of the rectangle
+     * @param color Packed colour of the rectangle
+     */
+    private void addRect(float x, float y, float width, float height, float color) {
+        if (size + QUAD_SIZE > vertices.length) {
+            vertices = Arrays.copyOf(vertices, vertices.length * 2);
+        }
+        float x2 = x + width;
+        float y2 = y + height;
+        putVertex(x, y, color);
+        putVertex(x, y2, color);
+        putVertex(x2, y2, color);
+        putVertex(x2, y, color);
+    }
+
+    /**
+     * Appends one corner of a quad.
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @param color Packed colour
+     */
+    private void putVertex(float x, float y, float color) {
+        vertices[size++] = x;
+        vertices[size++] = y;
+        vertices[size++] = color;
+        vertices[size++] = u;
+        vertices[size++] = v;
+    }
+
+    /**
+     * Removes every panel, e.g. before laying the HUD out again.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Checks whether any panel was added.
+     * @return true if there is nothing to draw
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Draws every panel in one batch call. The batch colour is not applied.
+     * @param batch Batch between begin and end
+     */
+    public void draw(Batch batch) {
+        if (size > 0) {
+            batch.draw(white.getTexture(), vertices, 0, size);
+        }
+    }
+}
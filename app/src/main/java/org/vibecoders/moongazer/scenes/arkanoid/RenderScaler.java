@@ -0,0 +1,80 @@
+package org.vibecoders.moongazer.scenes.arkanoid;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.Disposable;
+
+import static org.vibecoders.moongazer.Constants.*;
+
+/**
+ * Renders the gameplay layer at a reduced internal resolution. Between {@link #begin} and
+ * {@link #end} the batch draws into a frame buffer sized by the render scale, using the same
+ * world coordinates as the window; the buffer is then stretched over the window, and the HUD
+ * drawn afterwards stays at native resolution. At full scale nothing is redirected.
+ */
+public class RenderScaler implements Disposable {
+    private FrameBuffer frameBuffer;
+    private float bufferScale;
+
+    /**
+     * Starts drawing the gameplay layer into the scaled buffer, resizing it if the scale changed.
+     * @param batch SpriteBatch between begin and end, left between begin and end
+     * @param scale Internal resolution relative to the window, 1 for native
+     * @return true if drawing was redirected and {@link #end(SpriteBatch)} must be called
+     */
+    public boolean begin(SpriteBatch batch, float scale) {
+        if (scale >= 1f) {
+            dispose();
+            return false;
+        }
+        if (frameBuffer == null || scale != bufferScale) {
+            dispose();
+            int width = Math.max(1, Math.round(WINDOW_WIDTH * scale));
+            int height = Math.max(1, Math.round(WINDOW_HEIGHT * scale));
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            bufferScale = scale;
+        }
+        batch.end();
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.begin();
+        return true;
+    }
+
+    /**
+     * Stops drawing into the scaled buffer and draws it upscaled over the window. The buffer is
+     * opaque, so it is copied without blending.
+     * @param batch SpriteBatch between begin and end, left between begin and end
+     */
+    public void end(SpriteBatch batch) {
+        batch.end();
+        frameBuffer.end();
+        boolean blending = batch.isBlendingEnabled();
+        float oldColor = batch.getPackedColor();
+        batch.begin();
+        batch.disableBlending();
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.draw(frameBuffer.getColorBufferTexture(), 0, 0, WINDOW_WIDTH, WINDOW_HEIGHT, 0, 0, 1, 1);
+        if (blending) {
+            batch.enableBlending();
+        }
+        batch.setPackedColor(oldColor);
+    }
+
+    /**
+     * Releases the scaled buffer; it is created again by the next scaled {@link #begin}.
+     */
+    @Override
+    public void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+    }
+}
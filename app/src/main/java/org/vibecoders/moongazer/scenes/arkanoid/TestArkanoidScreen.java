@@ -51,10 +51,10 @@ public class TestArkanoidScreen extends Arkanoid {
     @Override
     protected void onLevelComplete() {
         int waveBonus = 100 * currentWave;
-        score += waveBonus;
+        world.addBonus(waveBonus);
         log.info("Wave {} complete! Bonus: {}", currentWave, waveBonus);
         currentWave++;
-        bricksDestroyed = 0;
+        world.setBricksDestroyed(0);
         initGameplay();
         startWave(currentWave);
     }
@@ -65,11 +65,9 @@ public class TestArkanoidScreen extends Arkanoid {
      */
     @Override
     protected void onGameOver() {
-        log.info("Game Over! Final Score: {} (Wave {})", score, currentWave);
-        score = 0;
-        lives = 3;
+        log.info("Game Over! Final Score: {} (Wave {})", world.getScore(), currentWave);
+        world.resetProgress(3);
         currentWave = 1;
-        bricksDestroyed = 0;
         initGameplay();
         startWave(currentWave);
     }
@@ -88,9 +86,7 @@ public class TestArkanoidScreen extends Arkanoid {
     @Override
     protected void restartGame() {
         // Reset game state
-        score = 0;
-        lives = 3;
-        bricksDestroyed = 0;
+        world.resetProgress(3);
         currentWave = 1;
         unbreakableChance = 0.1f;
         initGameplay();
@@ -0,0 +1,186 @@
+package org.vibecoders.moongazer.scenes.arkanoid;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import org.vibecoders.moongazer.arkanoid.*;
+import org.vibecoders.moongazer.arkanoid.math.Rect;
+import org.vibecoders.moongazer.managers.Assets;
+
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * Draws the bodies of a {@link World} with their textures. The simulation objects carry no
+ * graphics of their own, so every texture choice lives here. Every sprite comes from the
+ * gameplay atlas, so a whole board is drawn without switching textures. Idle bricks are
+ * drawn from a cached {@link BrickLayer}; only animating bricks are drawn one by one.
+ */
+public class WorldRenderer implements Disposable {
+    private final TextureRegion paddleRegion;
+    private final TextureRegion normalBallRegion;
+    private final TextureRegion enchantedBallRegion;
+    private final TextureRegion bulletRegion;
+    private final TextureRegion unbreakableBrickRegion;
+    private final TextureRegion[] breakableBrickRegions;
+    private final EnumMap<Brick.PowerUpType, TextureRegion> powerUpBrickRegions = new EnumMap<>(Brick.PowerUpType.class);
+    private final EnumMap<Brick.PowerUpType, TextureRegion> powerUpRegions = new EnumMap<>(Brick.PowerUpType.class);
+    private final BrickLayer brickLayer = new BrickLayer();
+
+    /**
+     * Constructs a renderer and looks up all gameplay sprites.
+     */
+    public WorldRenderer() {
+        paddleRegion = Assets.getRegion("paddle");
+        normalBallRegion = Assets.getRegion("normal_ball");
+        enchantedBallRegion = Assets.getRegion("enchanted_ball");
+        bulletRegion = Assets.getRegion("laser_bullet");
+        unbreakableBrickRegion = Assets.getRegion("unbreakable_brick");
+        breakableBrickRegions = new TextureRegion[] {
+            Assets.getRegion("breakable_brick_lv1"),
+            Assets.getRegion("breakable_brick_lv2"),
+            Assets.getRegion("breakable_brick_lv3")
+        };
+
+        powerUpBrickRegions.put(Brick.PowerUpType.EXPAND_PADDLE, Assets.getRegion("expandpaddlebrick"));
+        powerUpBrickRegions.put(Brick.PowerUpType.EXTRA_LIFE, Assets.getRegion("extralifebrick"));
+        powerUpBrickRegions.put(Brick.PowerUpType.FAST_BALL, Assets.getRegion("fastballbrick"));
+        powerUpBrickRegions.put(Brick.PowerUpType.SLOW_BALL, Assets.getRegion("slowballbrick"));
+        powerUpBrickRegions.put(Brick.PowerUpType.MULTI_BALL, Assets.getRegion("multiballbrick"));
+        powerUpBrickRegions.put(Brick.PowerUpType.SUPER_BALL, Assets.getRegion("superballbrick"));
+        powerUpBrickRegions.put(Brick.PowerUpType.BULLET, Assets.getRegion("laserbrick"));
+        powerUpBrickRegions.put(Brick.PowerUpType.EXPLOSIVE, Assets.getRegion("explosivebrick"));
+
+        powerUpRegions.put(Brick.PowerUpType.EXPAND_PADDLE, Assets.getRegion("perk5"));
+        powerUpRegions.put(Brick.PowerUpType.EXTRA_LIFE, Assets.getRegion("hearth"));
+        powerUpRegions.put(Brick.PowerUpType.FAST_BALL, Assets.getRegion("perk2"));
+        powerUpRegions.put(Brick.PowerUpType.SLOW_BALL, Assets.getRegion("perk4"));
+        powerUpRegions.put(Brick.PowerUpType.MULTI_BALL, Assets.getRegion("perk3"));
+        powerUpRegions.put(Brick.PowerUpType.SUPER_BALL, Assets.getRegion("perk1"));
+        powerUpRegions.put(Brick.PowerUpType.BULLET, Assets.getRegion("perk"));
+    }
+
+    /**
+     * Draws the paddle, bullets, balls, bricks and falling power-ups of the world.
+     * @param batch SpriteBatch used for rendering
+     * @param world The world to draw
+     * @param alpha Blend factor between the previous and current simulation step
+     */
+    public void render(SpriteBatch batch, World world, float alpha) {
+        renderPaddle(batch, world.getPaddle(), alpha);
+        List<Ball> balls = world.getBalls();
+        for (int i = 0; i < balls.size(); i++) {
+            renderBall(batch, balls.get(i), alpha);
+        }
+        BrickField bricks = world.getBricks();
+        brickLayer.render(batch, bricks, this);
+        for (int i = 0; i < bricks.getAnimatingCount(); i++) {
+            renderBrick(batch, bricks, bricks.getAnimating(i));
+        }
+        List<PowerUp> powerUps = world.getActivePowerUps();
+        for (int i = 0; i < powerUps.size(); i++) {
+            renderPowerUp(batch, powerUps.get(i), alpha);
+        }
+    }
+
+    /**
+     * Draws the paddle and its bullets interpolated between the last two simulation steps.
+     * @param batch SpriteBatch used for rendering
+     * @param paddle The paddle to draw
+     * @param alpha Blend factor between the previous and current step
+     */
+    private void renderPaddle(SpriteBatch batch, Paddle paddle, float alpha) {
+        Rect bounds = paddle.getBounds();
+        batch.draw(paddleRegion, paddle.getRenderX(alpha), paddle.getRenderY(alpha), bounds.width, bounds.height);
+
+        if (paddle.isBulletEnabled()) {
+            List<Bullet> bullets = paddle.getBullets();
+            for (int i = 0; i < bullets.size(); i++) {
+                Bullet bullet = bullets.get(i);
+                Rect bulletBounds = bullet.getBounds();
+                batch.draw(bulletRegion, bullet.getRenderX(alpha), bullet.getRenderY(alpha),
+                        bulletBounds.width, bulletBounds.height);
+            }
+        }
+    }
+
+    /**
+     * Draws a ball centred on its interpolated position.
+     * @param batch SpriteBatch used for rendering
+     * @param ball The ball to draw
+     * @param alpha Blend factor between the previous and current step
+     */
+    private void renderBall(SpriteBatch batch, Ball ball, float alpha) {
+        float radius = ball.getRadius();
+        TextureRegion region = ball.isSuperBall() ? enchantedBallRegion : normalBallRegion;
+        batch.draw(region, ball.getRenderX(alpha) - radius, ball.getRenderY(alpha) - radius, radius * 2, radius * 2);
+    }
+
+    /**
+     * Draws a brick live, shaking and fading it while it plays a hit or disappear animation.
+     * @param batch SpriteBatch used for rendering
+     * @param bricks The bricks of the level
+     * @param brick Index of the brick to draw
+     */
+    private void renderBrick(SpriteBatch batch, BrickField bricks, int brick) {
+        boolean animating = bricks.isDisappearing(brick) || bricks.isHitAnimating(brick);
+        if (!animating && bricks.isDestroyed(brick)) return;
+        TextureRegion region = getBrickRegion(bricks, brick);
+        if (region == null) return;
+
+        float oldColor = batch.getPackedColor();
+        if (animating) {
+            batch.setColor(1f, 1f, 1f, bricks.getAlpha(brick));
+        }
+        batch.draw(region, bricks.getRenderX(brick), bricks.getY(brick), bricks.getWidth(brick), bricks.getHeight(brick));
+        batch.setPackedColor(oldColor);
+    }
+
+    /**
+     * Draws a falling power-up interpolated between the last two simulation steps.
+     * @param batch SpriteBatch used for rendering
+     * @param powerUp The power-up to draw
+     * @param alpha Blend factor between the previous and current step
+     */
+    private void renderPowerUp(SpriteBatch batch, PowerUp powerUp, float alpha) {
+        TextureRegion region = getPowerUpRegion(powerUp.getType());
+        if (region != null) {
+            batch.draw(region, powerUp.getRenderX(alpha), powerUp.getRenderY(alpha), powerUp.width, powerUp.height);
+        }
+    }
+
+    /**
+     * Picks the sprite for a brick from its power-up, type and remaining durability.
+     * @param bricks The bricks of the level
+     * @param brick Index of the brick
+     * @return The brick sprite, or null if there is none
+     */
+    public TextureRegion getBrickRegion(BrickField bricks, int brick) {
+        if (bricks.getType(brick) == Brick.BrickType.UNBREAKABLE) {
+            return unbreakableBrickRegion;
+        }
+        Brick.PowerUpType powerUpType = bricks.getPowerUpType(brick);
+        if (powerUpType != Brick.PowerUpType.NONE) {
+            return powerUpBrickRegions.get(powerUpType);
+        }
+        int level = Math.max(1, Math.min(3, bricks.getDurability(brick)));
+        return breakableBrickRegions[level - 1];
+    }
+
+    /**
+     * Gets the icon of a power-up type, used both for falling power-ups and the HUD.
+     * @param type The power-up type
+     * @return The power-up sprite, or null if there is none
+     */
+    public TextureRegion getPowerUpRegion(Brick.PowerUpType type) {
+        return powerUpRegions.get(type);
+    }
+
+    /**
+     * Releases the cached brick layer.
+     */
+    @Override
+    public void dispose() {
+        brickLayer.dispose();
+    }
+}
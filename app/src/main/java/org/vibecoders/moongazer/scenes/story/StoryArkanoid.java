@@ -9,6 +9,9 @@ import org.vibecoders.moongazer.Game;
 import org.vibecoders.moongazer.SaveGameManager;
 import org.vibecoders.moongazer.arkanoid.Ball;
 import org.vibecoders.moongazer.arkanoid.Brick;
+import org.vibecoders.moongazer.arkanoid.BrickField;
+import org.vibecoders.moongazer.arkanoid.Paddle;
+import org.vibecoders.moongazer.arkanoid.World;
 import org.vibecoders.moongazer.scenes.arkanoid.Arkanoid;
 import org.vibecoders.moongazer.ui.GameWinMenu;
 
@@ -32,7 +35,7 @@ public class StoryArkanoid extends Arkanoid {
         super(game);
         this.requiredBricks = rows;
         this.startingLives = startingLives;
-        this.lives = startingLives;
+        world.setLives(startingLives);
     }
 
     /**
@@ -107,6 +110,7 @@ public class StoryArkanoid extends Arkanoid {
             log.info("Quit clicked from win menu");
             
             // Save high score before quitting
+            int score = world.getScore();
             if (score > 0) {
                 SaveGameManager.updateStoryHighScore(stageId, score);
                 log.info("High score saved before quit: {} for stage {}", score, stageId);
@@ -121,13 +125,13 @@ public class StoryArkanoid extends Arkanoid {
      */
     private void openSaveMenu() {
         try {
-            String gameStateJson = serializeGameState();
+            String gameStateJson = serializeGameState(world);
             String progressJson = "{}"; // Can be expanded to include story progress
 
             // Create save data
             org.vibecoders.moongazer.scenes.LoadScene.SaveGameData saveData =
                 new org.vibecoders.moongazer.scenes.LoadScene.SaveGameData(
-                    stageId, score, lives, bricksDestroyed, gameStateJson, progressJson
+                    stageId, world.getScore(), world.getLives(), world.getBricksDestroyed(), gameStateJson, progressJson
                 );
 
             // Set the LoadScene to save mode with the save data
@@ -161,12 +165,13 @@ public class StoryArkanoid extends Arkanoid {
             if (game.loadingSaveSlotId != -1) {
                 SaveGameManager.SaveSlot slot = SaveGameManager.getSaveSlot(game.loadingSaveSlotId);
                 if (slot != null && slot.currentStageId == stageId) {
-                    score = slot.currentScore;
-                    lives = slot.lives;
-                    bricksDestroyed = slot.bricksDestroyed;
-                    deserializeGameState(slot.gameStateJson);
+                    world.setScore(slot.currentScore);
+                    world.setLives(slot.lives);
+                    world.setBricksDestroyed(slot.bricksDestroyed);
+                    deserializeGameState(world, slot.gameStateJson);
+                    indexBricks();
                     log.info("Game loaded from save slot {} for stage {} - Score: {}, Lives: {}",
-                            game.loadingSaveSlotId, stageId, score, lives);
+                            game.loadingSaveSlotId, stageId, world.getScore(), world.getLives());
                     game.loadingSaveSlotId = -1;
                     return true;
                 }
@@ -178,11 +183,12 @@ public class StoryArkanoid extends Arkanoid {
                 log.info("No save game found for stage {}", stageId);
                 return false;
             }
-            score = save.currentScore;
-            lives = save.lives;
-            bricksDestroyed = save.bricksDestroyed;
-            deserializeGameState(save.gameStateJson);
-            log.info("Game loaded for stage {} - Score: {}, Lives: {}", stageId, score, lives);
+            world.setScore(save.currentScore);
+            world.setLives(save.lives);
+            world.setBricksDestroyed(save.bricksDestroyed);
+            deserializeGameState(world, save.gameStateJson);
+            indexBricks();
+            log.info("Game loaded for stage {} - Score: {}, Lives: {}", stageId, world.getScore(), world.getLives());
             return true;
         } catch (Exception e) {
             log.error("Failed to load game", e);
@@ -191,11 +197,13 @@ public class StoryArkanoid extends Arkanoid {
     }
 
     /**
-     * Serializes the current game state to a JSON string.
+     * Serializes the game state of a world to a JSON string.
      *
+     * @param world the world to serialize
      * @return the serialized game state as a JSON string
      */
-    private String serializeGameState() {
+    public static String serializeGameState(World world) {
+        Paddle paddle = world.getPaddle();
         GameState state = new GameState();
         state.paddle = new GameState.PaddleState();
         state.paddle.x = paddle.getBounds().x;
@@ -203,7 +211,7 @@ public class StoryArkanoid extends Arkanoid {
         state.paddle.width = paddle.getBounds().width;
         state.paddle.height = paddle.getBounds().height;
         state.balls = new java.util.ArrayList<>();
-        for (Ball ball : balls) {
+        for (Ball ball : world.getBalls()) {
             GameState.BallState ballState = new GameState.BallState();
             ballState.x = ball.getBounds().x;
             ballState.y = ball.getBounds().y;
@@ -215,17 +223,18 @@ public class StoryArkanoid extends Arkanoid {
             state.balls.add(ballState);
         }
         state.bricks = new java.util.ArrayList<>();
-        for (Brick brick : bricks) {
-            if (!brick.isDestroyed()) {
+        BrickField bricks = world.getBricks();
+        for (int brick = 0; brick < bricks.size(); brick++) {
+            if (!bricks.isDestroyed(brick)) {
                 GameState.BrickState brickState = new GameState.BrickState();
-                brickState.x = brick.getBounds().x;
-                brickState.y = brick.getBounds().y;
-                brickState.width = brick.getBounds().width;
-                brickState.height = brick.getBounds().height;
-                brickState.type = brick.getType().name();
-                brickState.powerUpType = brick.getPowerUpType().name();
-                brickState.durability = brick.getDurability();
-                brickState.destroyed = brick.isDestroyed();
+                brickState.x = bricks.getX(brick);
+                brickState.y = bricks.getY(brick);
+                brickState.width = bricks.getWidth(brick);
+                brickState.height = bricks.getHeight(brick);
+                brickState.type = bricks.getType(brick).name();
+                brickState.powerUpType = bricks.getPowerUpType(brick).name();
+                brickState.durability = bricks.getDurability(brick);
+                brickState.destroyed = bricks.isDestroyed(brick);
                 state.bricks.add(brickState);
             }
         }
@@ -235,20 +244,24 @@ public class StoryArkanoid extends Arkanoid {
     }
 
     /**
-     * Deserializes the game state from a JSON string.
+     * Restores the game state of a world from a JSON string.
+     * The caller must re-index the bricks afterwards.
      *
+     * @param world the world to restore into
      * @param gameStateJson the serialized game state as a JSON string
      */
-    private void deserializeGameState(String gameStateJson) {
+    public static void deserializeGameState(World world, String gameStateJson) {
         Json json = new Json();
         GameState state = json.fromJson(GameState.class, gameStateJson);
+        Paddle paddle = world.getPaddle();
+        BrickField bricks = world.getBricks();
         paddle.getBounds().x = state.paddle.x;
         paddle.getBounds().y = state.paddle.y;
         paddle.getBounds().width = state.paddle.width;
         paddle.getBounds().height = state.paddle.height;
-        balls.clear();
+        world.clearBalls();
         for (GameState.BallState ballState : state.balls) {
-            Ball ball = new Ball(ballState.x, ballState.y, ballState.radius);
+            Ball ball = world.addBall(ballState.x, ballState.y, ballState.radius);
             ball.getVelocity().set(ballState.velocityX, ballState.velocityY);
             if (ballState.active) {
                 ball.launch();
@@ -257,15 +270,13 @@ public class StoryArkanoid extends Arkanoid {
                 ball.setStuckToPaddle(true);
                 ball.setStuckOffsetX(ballState.x - state.paddle.x);
             }
-            balls.add(ball);
         }
         bricks.clear();
         for (GameState.BrickState brickState : state.bricks) {
             Brick.BrickType type = Brick.BrickType.valueOf(brickState.type);
             Brick.PowerUpType powerUpType = Brick.PowerUpType.valueOf(brickState.powerUpType);
-            Brick brick = new Brick(brickState.x, brickState.y, brickState.width, brickState.height,
-                                   type, brickState.durability, powerUpType);
-            bricks.add(brick);
+            bricks.add(brickState.x, brickState.y, brickState.width, brickState.height,
+                       type, brickState.durability, powerUpType);
         }
     }
 
@@ -302,14 +313,14 @@ public class StoryArkanoid extends Arkanoid {
     @Override
     protected void onLevelComplete() {
         log.info("Story level complete!");
-        SaveGameManager.updateStoryHighScore(stageId, score);
+        SaveGameManager.updateStoryHighScore(stageId, world.getScore());
         SaveGameManager.deleteStoryGameSave(stageId);
 
         // Disable game input while showing win menu
         gameInputEnabled = false;
 
         // Show win menu with stats (snapshot will be captured in render method)
-        gameWinMenu.show(score, maxCombo, lives);
+        gameWinMenu.show(world.getScore(), world.getMaxCombo(), world.getLives());
     }
     /**
      * Handles game over logic.
@@ -317,11 +328,11 @@ public class StoryArkanoid extends Arkanoid {
     @Override
     protected void onGameOver() {
         log.info("Story game over!");
-        SaveGameManager.updateStoryHighScore(stageId, score);
+        SaveGameManager.updateStoryHighScore(stageId, world.getScore());
 
         gameInputEnabled = false;
         if (gameOverMenu != null) {
-            gameOverMenu.show(score);
+            gameOverMenu.show(world.getScore());
         }
 
         if (onGameOverCallback != null) {
@@ -342,9 +353,7 @@ public class StoryArkanoid extends Arkanoid {
      */
     @Override
     protected void restartGame() {
-        score = 0;
-        lives = startingLives;
-        bricksDestroyed = 0;
+        world.resetProgress(startingLives);
         initGameplay();
     }
 
@@ -356,6 +365,7 @@ public class StoryArkanoid extends Arkanoid {
         log.info("Returning to main menu from story mode");
         
         // Save high score before returning to main menu
+        int score = world.getScore();
         if (score > 0) {
             SaveGameManager.updateStoryHighScore(stageId, score);
             log.info("High score saved: {} for stage {}", score, stageId);
@@ -378,8 +388,7 @@ public class StoryArkanoid extends Arkanoid {
     @Override
     public void render(SpriteBatch batch) {
         // Handle input and game updates
-        if (!pauseMenu.isPaused() && !gameOverMenu.isVisible() && !gameWinMenu.isVisible() &&
-            Gdx.input.getInputProcessor() != inputMultiplexer) {
+        if (!isGameplayHalted() && Gdx.input.getInputProcessor() != inputMultiplexer) {
             restoreInputProcessor();
         }
 
@@ -391,81 +400,65 @@ public class StoryArkanoid extends Arkanoid {
         }
 
         // Update game logic if not paused, game over, or won
-        if (!pauseMenu.isPaused() && !gameOverMenu.isVisible() && !gameWinMenu.isVisible()) {
-            handleInput(delta);
-            updateGameplay(delta);
-            handleCollisions();
+        if (!isGameplayHalted()) {
+            updateSimulation(delta);
         }
 
-        // Render gameplay and UI
-        renderGameplay(batch);
-        renderUI(batch);
-
+        // A visible menu covers the window with the frozen scene, so the live scene is skipped
         // Handle pause menu rendering
         if (pauseMenu.isPaused()) {
-            if (gameSnapshot == null) {
-                batch.end();
-                gameFrameBuffer.begin();
-                Gdx.gl.glClearColor(0, 0, 0, 1);
-                Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-                batch.begin();
-                renderGameplay(batch);
-                renderUI(batch);
-                batch.end();
-                gameFrameBuffer.end();
-                gameSnapshot = gameFrameBuffer.getColorBufferTexture();
-                batch.begin();
+            freezeScene(batch);
+            pauseMenu.render(batch, freezeFrame.getTexture());
+            if (!pauseMenu.isPaused()) {
+                // The menu resumed during its render and drew nothing, so show the scene
+                renderScene(batch);
             }
-            pauseMenu.render(batch, gameSnapshot);
         }
         // Handle game over menu rendering
         else if (gameOverMenu.isVisible()) {
-            if (gameSnapshot == null) {
-                batch.end();
-                gameFrameBuffer.begin();
-                Gdx.gl.glClearColor(0, 0, 0, 1);
-                Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-                batch.begin();
-                renderGameplay(batch);
-                renderUI(batch);
-                batch.end();
-                gameFrameBuffer.end();
-                gameSnapshot = gameFrameBuffer.getColorBufferTexture();
-                batch.begin();
-            }
-            gameOverMenu.render(batch, gameSnapshot);
+            freezeScene(batch);
+            gameOverMenu.render(batch, freezeFrame.getTexture());
         }
         // Handle game win menu rendering
         else if (gameWinMenu.isVisible()) {
-            if (gameSnapshot == null) {
-                batch.end();
-                gameFrameBuffer.begin();
-                Gdx.gl.glClearColor(0, 0, 0, 1);
-                Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-                batch.begin();
-                renderGameplay(batch);
-                renderUI(batch);
-                batch.end();
-                gameFrameBuffer.end();
-                gameSnapshot = gameFrameBuffer.getColorBufferTexture();
-                batch.begin();
-            }
-            gameWinMenu.render(batch, gameSnapshot);
+            freezeScene(batch);
+            gameWinMenu.render(batch, freezeFrame.getTexture());
         }
-        // Clear snapshot when no menu is visible
+        // Drop the cached still and render gameplay and UI when no menu is visible
         else {
-            if (gameSnapshot != null) {
-                gameSnapshot = null;
-            }
+            freezeFrame.release();
+            renderScene(batch);
         }
     }
 
+    /**
+     * Draws the board and the HUD; story levels have no Iuno display.
+     *
+     * @param batch SpriteBatch between begin and end.
+     */
+    @Override
+    protected void renderScene(SpriteBatch batch) {
+        renderScaledGameplay(batch);
+        renderUI(batch);
+    }
+
+    /**
+     * Checks whether a menu currently halts the gameplay simulation, including the win menu.
+     *
+     * @return True if the simulation should not advance this frame.
+     */
+    @Override
+    protected boolean isGameplayHalted() {
+        return super.isGameplayHalted() || gameWinMenu.isVisible();
+    }
+
     /**
      * Disposes resources used by the story mode Arkanoid game.
      */
     @Override
     public void dispose() {
         // Save high score before disposing
+        int score = world.getScore();
         if (score > 0 && stageId > 0) {
             SaveGameManager.updateStoryHighScore(stageId, score);
             log.info("High score saved on dispose: {} for stage {}", score, stageId);
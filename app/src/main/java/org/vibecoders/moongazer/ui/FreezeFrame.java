@@ -0,0 +1,210 @@
+package org.vibecoders.moongazer.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+import static org.vibecoders.moongazer.Constants.*;
+
+/**
+ * Blurred still of the scene shown behind the in-game menus. The scene is drawn once into a
+ * full resolution buffer when a menu opens, then blurred with a dual Kawase chain: two
+ * downsample passes to half and quarter resolution and one upsample pass back to half. Every
+ * later frame only draws the cached result, which the pause, game over and win menus share.
+ */
+public class FreezeFrame implements Disposable {
+    private static final String VERTEX_SHADER =
+        "attribute vec4 a_position;\n" +
+        "attribute vec2 a_texCoord0;\n" +
+        "uniform mat4 u_projTrans;\n" +
+        "varying vec2 v_texCoords;\n" +
+        "void main() {\n" +
+        "    v_texCoords = a_texCoord0;\n" +
+        "    gl_Position = u_projTrans * a_position;\n" +
+        "}\n";
+    private static final String DOWNSAMPLE_SHADER =
+        "#ifdef GL_ES\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "varying vec2 v_texCoords;\n" +
+        "uniform sampler2D u_texture;\n" +
+        "uniform vec2 u_offset;\n" +
+        "void main() {\n" +
+        "    vec4 sum = texture2D(u_texture, v_texCoords) * 4.0;\n" +
+        "    sum += texture2D(u_texture, v_texCoords - u_offset);\n" +
+        "    sum += texture2D(u_texture, v_texCoords + u_offset);\n" +
+        "    sum += texture2D(u_texture, v_texCoords + vec2(u_offset.x, -u_offset.y));\n" +
+        "    sum += texture2D(u_texture, v_texCoords - vec2(u_offset.x, -u_offset.y));\n" +
+        "    gl_FragColor = vec4(sum.rgb / 8.0, 1.0);\n" +
+        "}\n";
+    private static final String UPSAMPLE_SHADER =
+        "#ifdef GL_ES\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "varying vec2 v_texCoords;\n" +
+        "uniform sampler2D u_texture;\n" +
+        "uniform vec2 u_offset;\n" +
+        "void main() {\n" +
+        "    vec4 sum = texture2D(u_texture, v_texCoords + vec2(-u_offset.x * 2.0, 0.0));\n" +
+        "    sum += texture2D(u_texture, v_texCoords + vec2(u_offset.x * 2.0, 0.0));\n" +
+        "    sum += texture2D(u_texture, v_texCoords + vec2(0.0, u_offset.y * 2.0));\n" +
+        "    sum += texture2D(u_texture, v_texCoords + vec2(0.0, -u_offset.y * 2.0));\n" +
+        "    sum += texture2D(u_texture, v_texCoords + vec2(-u_offset.x, u_offset.y)) * 2.0;\n" +
+        "    sum += texture2D(u_texture, v_texCoords + vec2(u_offset.x, u_offset.y)) * 2.0;\n" +
+        "    sum += texture2D(u_texture, v_texCoords + vec2(u_offset.x, -u_offset.y)) * 2.0;\n" +
+        "    sum += texture2D(u_texture, v_texCoords + vec2(-u_offset.x, -u_offset.y)) * 2.0;\n" +
+        "    gl_FragColor = vec4(sum.rgb / 12.0, 1.0);\n" +
+        "}\n";
+    /** Sample distance in source texels; larger values blur further at the same cost. */
+    private static final float BLUR_OFFSET = 1.5f;
+
+    private final FrameBuffer scene;
+    private final FrameBuffer half;
+    private final FrameBuffer quarter;
+    private final ShaderProgram downsample;
+    private final ShaderProgram upsample;
+    private final Matrix4 passProjection = new Matrix4();
+    private final Matrix4 savedProjection = new Matrix4();
+    private boolean captured;
+
+    /**
+     * Constructs the frame buffers and compiles the blur shaders.
+     * @throws IllegalStateException if a blur shader fails to compile
+     */
+    public FreezeFrame() {
+        scene = createBuffer(WINDOW_WIDTH, WINDOW_HEIGHT);
+        half = createBuffer(WINDOW_WIDTH / 2, WINDOW_HEIGHT / 2);
+        quarter = createBuffer(WINDOW_WIDTH / 4, WINDOW_HEIGHT / 4);
+        downsample = createShader(DOWNSAMPLE_SHADER);
+        upsample = createShader(UPSAMPLE_SHADER);
+    }
+
+    /**
+     * Creates a frame buffer whose texture is filtered linearly, so every blur tap
+     * averages four texels.
+     * @param width Width in pixels
+     * @param height Height in pixels
+     * @return The frame buffer
+     */
+    private static FrameBuffer createBuffer(int width, int height) {
+        FrameBuffer buffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        buffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        return buffer;
+    }
+
+    /**
+     * Compiles a blur pass shader.
+     * @param fragmentShader Source of the fragment shader
+     * @return The compiled shader
+     * @throws IllegalStateException if the shader fails to compile
+     */
+    private static ShaderProgram createShader(String fragmentShader) {
+        ShaderProgram shader = new ShaderProgram(VERTEX_SHADER, fragmentShader);
+        if (!shader.isCompiled()) {
+            String log = shader.getLog();
+            shader.dispose();
+            throw new IllegalStateException("Failed to compile blur shader: " + log);
+        }
+        return shader;
+    }
+
+    /**
+     * Checks whether a blurred still is cached.
+     * @return true between {@link #capture(SpriteBatch, Runnable)} and {@link #release()}
+     */
+    public boolean isCaptured() {
+        return captured;
+    }
+
+    /**
+     * Draws the scene once and blurs it. Does nothing if a still is already cached.
+     * @param batch SpriteBatch between begin and end, left between begin and end
+     * @param drawScene Draws the scene through the batch in screen coordinates
+     */
+    public void capture(SpriteBatch batch, Runnable drawScene) {
+        if (captured) return;
+        batch.end();
+        scene.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.begin();
+        drawScene.run();
+        batch.end();
+        scene.end();
+
+        ShaderProgram oldShader = batch.getShader();
+        boolean blending = batch.isBlendingEnabled();
+        float oldColor = batch.getPackedColor();
+        savedProjection.set(batch.getProjectionMatrix());
+        batch.disableBlending();
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.setShader(downsample);
+        blurPass(batch, downsample, scene, half);
+        blurPass(batch, downsample, half, quarter);
+        batch.setShader(upsample);
+        blurPass(batch, upsample, quarter, half);
+
+        batch.setShader(oldShader);
+        if (blending) {
+            batch.enableBlending();
+        }
+        batch.setPackedColor(oldColor);
+        batch.setProjectionMatrix(savedProjection);
+        batch.begin();
+        captured = true;
+    }
+
+    /**
+     * Draws one buffer into another through a blur shader, stretching it to the target size.
+     * The texture keeps the orientation of the buffer it came from.
+     * @param batch SpriteBatch, not between begin and end
+     * @param shader The shader set on the batch
+     * @param source Buffer to sample
+     * @param target Buffer to draw into
+     */
+    private void blurPass(SpriteBatch batch, ShaderProgram shader, FrameBuffer source, FrameBuffer target) {
+        Texture texture = source.getColorBufferTexture();
+        target.begin();
+        passProjection.setToOrtho2D(0, 0, target.getWidth(), target.getHeight());
+        batch.setProjectionMatrix(passProjection);
+        batch.begin();
+        shader.setUniformf("u_offset", BLUR_OFFSET / texture.getWidth(), BLUR_OFFSET / texture.getHeight());
+        batch.draw(texture, 0, 0, target.getWidth(), target.getHeight(), 0, 0, 1, 1);
+        batch.end();
+        target.end();
+    }
+
+    /**
+     * Gets the blurred still. Like any frame buffer texture it is stored upside down, so draw
+     * it with texture coordinates from 0 to 1 upwards.
+     * @return The half resolution blurred texture
+     */
+    public Texture getTexture() {
+        return half.getColorBufferTexture();
+    }
+
+    /**
+     * Drops the cached still, so the next capture draws the scene again.
+     */
+    public void release() {
+        captured = false;
+    }
+
+    /**
+     * Releases the frame buffers and shaders.
+     */
+    @Override
+    public void dispose() {
+        scene.dispose();
+        half.dispose();
+        quarter.dispose();
+        downsample.dispose();
+        upsample.dispose();
+    }
+}
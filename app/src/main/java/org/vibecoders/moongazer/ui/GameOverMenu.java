@@ -274,7 +274,7 @@ public class GameOverMenu {
      * Renders the game over menu with scores and buttons.
      *
      * @param batch the sprite batch for rendering
-     * @param gameSnapshot the snapshot texture of the game state
+     * @param gameSnapshot the blurred still of the game from {@link FreezeFrame}
      */
     public void render(SpriteBatch batch, Texture gameSnapshot) {
         if (!isVisible) {
@@ -306,7 +306,7 @@ public class GameWinMenu {
      * Renders the game win menu with stats, stars, and buttons.
      *
      * @param batch the sprite batch for rendering
-     * @param gameSnapshot the snapshot texture of the game state
+     * @param gameSnapshot the blurred still of the game from {@link FreezeFrame}
      */
     public void render(SpriteBatch batch, Texture gameSnapshot) {
         if (!isVisible) {
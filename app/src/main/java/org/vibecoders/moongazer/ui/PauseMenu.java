@@ -33,7 +33,7 @@ public class PauseMenu {
     private Stage menuStage;
     private BitmapFont titleFont;
     private BitmapFont buttonFont;
-    private Texture blurOverlay;
+    private Texture dimOverlay;
     private int currentChoice = -1;
     private HashMap<Integer, Long> currentKeyDown = new HashMap<>();
     private PauseMenuSettings settingsOverlay;
@@ -95,7 +95,7 @@ public class PauseMenu {
         Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pixmap.setColor(0, 0, 0, 0.7f);
         pixmap.fill();
-        blurOverlay = new Texture(pixmap);
+        dimOverlay = new Texture(pixmap);
         pixmap.dispose();
         titleFont = Assets.getFont("ui", 40);
         buttonFont = Assets.getFont("ui", 24);
@@ -371,7 +371,7 @@ public class PauseMenu {
      * Renders the pause menu with the game snapshot background.
      *
      * @param batch the sprite batch for rendering
-     * @param gameSnapshot the snapshot texture of the game state
+     * @param gameSnapshot the blurred still of the game from {@link FreezeFrame}
      */
     public void render(SpriteBatch batch, Texture gameSnapshot) {
         if (!isPaused)
@@ -401,7 +401,7 @@ public class PauseMenu {
             return;
         }
         batch.setColor(1f, 1f, 1f, fadeAlpha);
-        batch.draw(blurOverlay, 0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
+        batch.draw(dimOverlay, 0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
         batch.setColor(Color.WHITE);
         if (settingsOverlay.isOpen()) {
             settingsOverlay.render(batch, fadeAlpha);
@@ -521,8 +521,8 @@ public class PauseMenu {
      * Disposes of all resources used by the pause menu.
      */
     public void dispose() {
-        if (blurOverlay != null) {
-            blurOverlay.dispose();
+        if (dimOverlay != null) {
+            dimOverlay.dispose();
         }
         if (menuStage != null) {
             menuStage.dispose();
@@ -19,6 +19,18 @@ public class UISlider {
      * The slider ranges from 0 to 1 with 0.01 step size and is initially set to 1.
      */
     public UISlider() {
+        this(0f, 1f, 0.01f);
+    }
+
+    /**
+     * Constructs a new slider with predefined textures over a custom range.
+     * The slider is initially set to its maximum.
+     *
+     * @param min the smallest value
+     * @param max the largest value
+     * @param stepSize the step between values
+     */
+    public UISlider(float min, float max, float stepSize) {
         Texture sliderBgTexture = Assets.getAsset("textures/ui/UI_SliderBg2.png", Texture.class);
         Texture sliderKnobTexture = Assets.getAsset("textures/ui/UI_SliderKnob.png", Texture.class);
         Texture sliderKnobOverTexture = Assets.getAsset("textures/ui/UI_SliderBg.png", Texture.class);
@@ -29,15 +41,15 @@ public class UISlider {
         sliderStyle.knobBefore = new TextureRegionDrawable(new TextureRegion(sliderKnobOverTexture));
         sliderStyle.knobAfter = new TextureRegionDrawable(new TextureRegion(sliderBgTexture));
 
-        slider = new Slider(0f, 1f, 0.01f, false, sliderStyle);
-        slider.setValue(1f);
+        slider = new Slider(min, max, stepSize, false, sliderStyle);
+        slider.setValue(max);
         slider.setProgrammaticChangeEvents(true);
     }
 
     /**
      * Sets the current value of the slider.
      *
-     * @param value the value to set (between 0 and 1)
+     * @param value the value to set, within the slider's range
      */
     public void setValue(float value) {
         slider.setValue(value);
@@ -46,7 +58,7 @@ public class UISlider {
     /**
      * Gets the current value of the slider.
      *
-     * @return the current value (between 0 and 1)
+     * @return the current value, within the slider's range
      */
     public float getValue() {
         return slider.getValue();
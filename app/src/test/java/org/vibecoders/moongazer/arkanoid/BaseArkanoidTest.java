@@ -1,238 +0,0 @@
-package org.vibecoders.moongazer.arkanoid;
-
-import com.badlogic.gdx.Application;
-import com.badlogic.gdx.ApplicationListener;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.backends.headless.HeadlessApplication;
-import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
-import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
-import org.lwjgl.opengl.GL11;
-
-/**
- * Base class for Arkanoid tests that sets up LibGDX headless environment
- */
-public abstract class BaseArkanoidTest {
-    private static HeadlessApplication application;
-    private static MockGL20 mockGL;
-
-    @BeforeAll
-    static void setUpGdxEnvironment() {
-        // Create headless LibGDX application
-        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
-        application = new HeadlessApplication(new ApplicationListener() {
-            @Override public void create() {}
-            @Override public void resize(int width, int height) {}
-            @Override public void render() {}
-            @Override public void pause() {}
-            @Override public void resume() {}
-            @Override public void dispose() {}
-        }, config);
-
-        // Set up mock GL
-        mockGL = new MockGL20();
-        Gdx.gl = mockGL;
-        Gdx.gl20 = mockGL;
-        Gdx.app.setLogLevel(Application.LOG_NONE);
-    }
-
-    @AfterAll
-    static void tearDownGdxEnvironment() {
-        if (application != null) {
-            application.exit();
-            application = null;
-        }
-        mockGL = null;
-    }
-    
-    /**
-     * Creates a dummy texture for testing
-     */
-    protected Texture createDummyTexture() {
-        Pixmap pixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-        pixmap.setColor(1, 1, 1, 1);
-        pixmap.fill();
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-        return texture;
-    }
-    
-    /**
-     * Creates a dummy font for testing
-     */
-    protected BitmapFont createDummyFont() {
-        return new BitmapFont();
-    }
-    
-    /**
-     * Minimal GL20 mock that does nothing but doesn't throw exceptions
-     */
-    private static class MockGL20 implements GL20 {
-        @Override public void glActiveTexture(int texture) {}
-        @Override public void glBindTexture(int target, int texture) {}
-        @Override public void glBlendFunc(int sfactor, int dfactor) {}
-        @Override public void glClear(int mask) {}
-        @Override public void glClearColor(float red, float green, float blue, float alpha) {}
-        @Override public void glClearDepthf(float depth) {}
-        @Override public void glClearStencil(int s) {}
-        @Override public void glColorMask(boolean red, boolean green, boolean blue, boolean alpha) {}
-        @Override public void glCompressedTexImage2D(int target, int level, int internalformat, int width, int height, int border, int imageSize, java.nio.Buffer data) {}
-        @Override public void glCompressedTexSubImage2D(int target, int level, int xoffset, int yoffset, int width, int height, int format, int imageSize, java.nio.Buffer data) {}
-        @Override public void glCopyTexImage2D(int target, int level, int internalformat, int x, int y, int width, int height, int border) {}
-        @Override public void glCopyTexSubImage2D(int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {}
-        @Override public void glCullFace(int mode) {}
-        @Override public void glDeleteTextures(int n, java.nio.IntBuffer textures) {}
-        @Override public void glDeleteTexture(int texture) {}
-        @Override public void glDepthFunc(int func) {}
-        @Override public void glDepthMask(boolean flag) {}
-        @Override public void glDepthRangef(float zNear, float zFar) {}
-        @Override public void glDisable(int cap) {}
-        @Override public void glDrawArrays(int mode, int first, int count) {}
-        @Override public void glDrawElements(int mode, int count, int type, java.nio.Buffer indices) {}
-        @Override public void glEnable(int cap) {}
-        @Override public void glFinish() {}
-        @Override public void glFlush() {}
-        @Override public void glFrontFace(int mode) {}
-        @Override public void glGenTextures(int n, java.nio.IntBuffer textures) {}
-        @Override public int glGenTexture() { return 1; }
-        @Override public int glGetError() { return GL11.GL_NO_ERROR; }
-        @Override public void glGetIntegerv(int pname, java.nio.IntBuffer params) {}
-        @Override public String glGetString(int name) { return "Mock"; }
-        @Override public void glHint(int target, int mode) {}
-        @Override public void glLineWidth(float width) {}
-        @Override public void glPixelStorei(int pname, int param) {}
-        @Override public void glPolygonOffset(float factor, float units) {}
-        @Override public void glReadPixels(int x, int y, int width, int height, int format, int type, java.nio.Buffer pixels) {}
-        @Override public void glScissor(int x, int y, int width, int height) {}
-        @Override public void glStencilFunc(int func, int ref, int mask) {}
-        @Override public void glStencilMask(int mask) {}
-        @Override public void glStencilOp(int fail, int zfail, int zpass) {}
-        @Override public void glTexImage2D(int target, int level, int internalformat, int width, int height, int border, int format, int type, java.nio.Buffer pixels) {}
-        @Override public void glTexParameterf(int target, int pname, float param) {}
-        @Override public void glTexSubImage2D(int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, java.nio.Buffer pixels) {}
-        @Override public void glViewport(int x, int y, int width, int height) {}
-        @Override public void glAttachShader(int program, int shader) {}
-        @Override public void glBindAttribLocation(int program, int index, String name) {}
-        @Override public void glBindBuffer(int target, int buffer) {}
-        @Override public void glBindFramebuffer(int target, int framebuffer) {}
-        @Override public void glBindRenderbuffer(int target, int renderbuffer) {}
-        @Override public void glBlendColor(float red, float green, float blue, float alpha) {}
-        @Override public void glBlendEquation(int mode) {}
-        @Override public void glBlendEquationSeparate(int modeRGB, int modeAlpha) {}
-        @Override public void glBlendFuncSeparate(int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {}
-        @Override public void glBufferData(int target, int size, java.nio.Buffer data, int usage) {}
-        @Override public void glBufferSubData(int target, int offset, int size, java.nio.Buffer data) {}
-        @Override public int glCheckFramebufferStatus(int target) { return GL20.GL_FRAMEBUFFER_COMPLETE; }
-        @Override public void glCompileShader(int shader) {}
-        @Override public int glCreateProgram() { return 1; }
-        @Override public int glCreateShader(int type) { return 1; }
-        @Override public void glDeleteBuffer(int buffer) {}
-        @Override public void glDeleteBuffers(int n, java.nio.IntBuffer buffers) {}
-        @Override public void glDeleteFramebuffer(int framebuffer) {}
-        @Override public void glDeleteFramebuffers(int n, java.nio.IntBuffer framebuffers) {}
-        @Override public void glDeleteProgram(int program) {}
-        @Override public void glDeleteRenderbuffer(int renderbuffer) {}
-        @Override public void glDeleteRenderbuffers(int n, java.nio.IntBuffer renderbuffers) {}
-        @Override public void glDeleteShader(int shader) {}
-        @Override public void glDetachShader(int program, int shader) {}
-        @Override public void glDisableVertexAttribArray(int index) {}
-        @Override public void glDrawElements(int mode, int count, int type, int indices) {}
-        @Override public void glEnableVertexAttribArray(int index) {}
-        @Override public void glFramebufferRenderbuffer(int target, int attachment, int renderbuffertarget, int renderbuffer) {}
-        @Override public void glFramebufferTexture2D(int target, int attachment, int textarget, int texture, int level) {}
-        @Override public int glGenBuffer() { return 1; }
-        @Override public void glGenBuffers(int n, java.nio.IntBuffer buffers) {}
-        @Override public void glGenerateMipmap(int target) {}
-        @Override public int glGenFramebuffer() { return 1; }
-        @Override public void glGenFramebuffers(int n, java.nio.IntBuffer framebuffers) {}
-        @Override public int glGenRenderbuffer() { return 1; }
-        @Override public void glGenRenderbuffers(int n, java.nio.IntBuffer renderbuffers) {}
-        @Override public String glGetActiveAttrib(int program, int index, java.nio.IntBuffer size, java.nio.IntBuffer type) { return ""; }
-        @Override public String glGetActiveUniform(int program, int index, java.nio.IntBuffer size, java.nio.IntBuffer type) { return ""; }
-        @Override public void glGetAttachedShaders(int program, int maxcount, java.nio.Buffer count, java.nio.IntBuffer shaders) {}
-        @Override public int glGetAttribLocation(int program, String name) { return -1; }
-        @Override public void glGetBooleanv(int pname, java.nio.Buffer params) {}
-        @Override public void glGetBufferParameteriv(int target, int pname, java.nio.IntBuffer params) {}
-        @Override public void glGetFloatv(int pname, java.nio.FloatBuffer params) {}
-        @Override public void glGetFramebufferAttachmentParameteriv(int target, int attachment, int pname, java.nio.IntBuffer params) {}
-        @Override public void glGetProgramiv(int program, int pname, java.nio.IntBuffer params) { if (params != null && params.remaining() > 0) params.put(0, GL20.GL_TRUE); }
-        @Override public String glGetProgramInfoLog(int program) { return ""; }
-        @Override public void glGetRenderbufferParameteriv(int target, int pname, java.nio.IntBuffer params) {}
-        @Override public void glGetShaderiv(int shader, int pname, java.nio.IntBuffer params) { if (params != null && params.remaining() > 0) params.put(0, GL20.GL_TRUE); }
-        @Override public String glGetShaderInfoLog(int shader) { return ""; }
-        @Override public void glGetShaderPrecisionFormat(int shadertype, int precisiontype, java.nio.IntBuffer range, java.nio.IntBuffer precision) {}
-        @Override public void glGetTexParameterfv(int target, int pname, java.nio.FloatBuffer params) {}
-        @Override public void glGetTexParameteriv(int target, int pname, java.nio.IntBuffer params) {}
-        @Override public void glGetUniformfv(int program, int location, java.nio.FloatBuffer params) {}
-        @Override public void glGetUniformiv(int program, int location, java.nio.IntBuffer params) {}
-        @Override public int glGetUniformLocation(int program, String name) { return -1; }
-        @Override public void glGetVertexAttribfv(int index, int pname, java.nio.FloatBuffer params) {}
-        @Override public void glGetVertexAttribiv(int index, int pname, java.nio.IntBuffer params) {}
-        @Override public void glGetVertexAttribPointerv(int index, int pname, java.nio.Buffer pointer) {}
-        @Override public boolean glIsBuffer(int buffer) { return false; }
-        @Override public boolean glIsEnabled(int cap) { return false; }
-        @Override public boolean glIsFramebuffer(int framebuffer) { return false; }
-        @Override public boolean glIsProgram(int program) { return false; }
-        @Override public boolean glIsRenderbuffer(int renderbuffer) { return false; }
-        @Override public boolean glIsShader(int shader) { return false; }
-        @Override public boolean glIsTexture(int texture) { return false; }
-        @Override public void glLinkProgram(int program) {}
-        @Override public void glReleaseShaderCompiler() {}
-        @Override public void glRenderbufferStorage(int target, int internalformat, int width, int height) {}
-        @Override public void glSampleCoverage(float value, boolean invert) {}
-        @Override public void glShaderBinary(int n, java.nio.IntBuffer shaders, int binaryformat, java.nio.Buffer binary, int length) {}
-        @Override public void glShaderSource(int shader, String string) {}
-        @Override public void glStencilFuncSeparate(int face, int func, int ref, int mask) {}
-        @Override public void glStencilMaskSeparate(int face, int mask) {}
-        @Override public void glStencilOpSeparate(int face, int fail, int zfail, int zpass) {}
-        @Override public void glTexParameterfv(int target, int pname, java.nio.FloatBuffer params) {}
-        @Override public void glTexParameteri(int target, int pname, int param) {}
-        @Override public void glTexParameteriv(int target, int pname, java.nio.IntBuffer params) {}
-        @Override public void glUniform1f(int location, float x) {}
-        @Override public void glUniform1fv(int location, int count, java.nio.FloatBuffer v) {}
-        @Override public void glUniform1fv(int location, int count, float[] v, int offset) {}
-        @Override public void glUniform1i(int location, int x) {}
-        @Override public void glUniform1iv(int location, int count, java.nio.IntBuffer v) {}
-        @Override public void glUniform1iv(int location, int count, int[] v, int offset) {}
-        @Override public void glUniform2f(int location, float x, float y) {}
-        @Override public void glUniform2fv(int location, int count, java.nio.FloatBuffer v) {}
-        @Override public void glUniform2fv(int location, int count, float[] v, int offset) {}
-        @Override public void glUniform2i(int location, int x, int y) {}
-        @Override public void glUniform2iv(int location, int count, java.nio.IntBuffer v) {}
-        @Override public void glUniform2iv(int location, int count, int[] v, int offset) {}
-        @Override public void glUniform3f(int location, float x, float y, float z) {}
-        @Override public void glUniform3fv(int location, int count, java.nio.FloatBuffer v) {}
-        @Override public void glUniform3fv(int location, int count, float[] v, int offset) {}
-        @Override public void glUniform3i(int location, int x, int y, int z) {}
-        @Override public void glUniform3iv(int location, int count, java.nio.IntBuffer v) {}
-        @Override public void glUniform3iv(int location, int count, int[] v, int offset) {}
-        @Override public void glUniform4f(int location, float x, float y, float z, float w) {}
-        @Override public void glUniform4fv(int location, int count, java.nio.FloatBuffer v) {}
-        @Override public void glUniform4fv(int location, int count, float[] v, int offset) {}
-        @Override public void glUniform4i(int location, int x, int y, int z, int w) {}
-        @Override public void glUniform4iv(int location, int count, java.nio.IntBuffer v) {}
-        @Override public void glUniform4iv(int location, int count, int[] v, int offset) {}
-        @Override public void glUniformMatrix2fv(int location, int count, boolean transpose, java.nio.FloatBuffer value) {}
-        @Override public void glUniformMatrix2fv(int location, int count, boolean transpose, float[] value, int offset) {}
-        @Override public void glUniformMatrix3fv(int location, int count, boolean transpose, java.nio.FloatBuffer value) {}
-        @Override public void glUniformMatrix3fv(int location, int count, boolean transpose, float[] value, int offset) {}
-        @Override public void glUniformMatrix4fv(int location, int count, boolean transpose, java.nio.FloatBuffer value) {}
-        @Override public void glUniformMatrix4fv(int location, int count, boolean transpose, float[] value, int offset) {}
-        @Override public void glUseProgram(int program) {}
-        @Override public void glValidateProgram(int program) {}
-        @Override public void glVertexAttrib1f(int indx, float x) {}
-        @Override public void glVertexAttrib1fv(int indx, java.nio.FloatBuffer values) {}
-        @Override public void glVertexAttrib2f(int indx, float x, float y) {}
-        @Override public void glVertexAttrib2fv(int indx, java.nio.FloatBuffer values) {}
-        @Override public void glVertexAttrib3f(int indx, float x, float y, float z) {}
-        @Override public void glVertexAttrib3fv(int indx, java.nio.FloatBuffer values) {}
-        @Override public void glVertexAttrib4f(int indx, float x, float y, float z, float w) {}
-        @Override public void glVertexAttrib4fv(int indx, java.nio.FloatBuffer values) {}
-        @Override public void glVertexAttribPointer(int indx, int size, int type, boolean normalized, int stride, java.nio.Buffer ptr) {}
-        @Override public void glVertexAttribPointer(int indx, int size, int type, boolean normalized, int stride, int ptr) {}
-    }
-}
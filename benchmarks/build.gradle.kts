@@ -0,0 +1,45 @@
+/*
+ * JMH benchmarks for the gameplay hot paths.
+ * Run with ./gradlew :benchmarks:jmh, or narrow it down with
+ * ./gradlew :benchmarks:jmh -PjmhIncludes=CollisionBenchmark
+ */
+
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":core"))
+    // Story save serialization lives in the game module and uses libGDX's Json
+    jmh(project(":app"))
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(25)
+    }
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+    options.release.set(25)
+}
+
+jmh {
+    jmhVersion = "1.37"
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    // Report the allocation rate next to the throughput
+    profilers.add("gc")
+    resultFormat = "JSON"
+    jvmArgsAppend.add("-Dlogback.configurationFile=logback-benchmark.xml")
+    if (project.hasProperty("jmhIncludes")) {
+        includes.add(project.property("jmhIncludes") as String)
+    }
+}
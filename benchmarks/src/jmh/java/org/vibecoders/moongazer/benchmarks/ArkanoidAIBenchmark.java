@@ -0,0 +1,114 @@
+package org.vibecoders.moongazer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.vibecoders.moongazer.arkanoid.ArkanoidAI;
+import org.vibecoders.moongazer.arkanoid.Ball;
+import org.vibecoders.moongazer.arkanoid.Brick;
+import org.vibecoders.moongazer.arkanoid.BrickField;
+import org.vibecoders.moongazer.arkanoid.Paddle;
+import org.vibecoders.moongazer.arkanoid.PowerUp;
+import org.vibecoders.moongazer.arkanoid.TrajectoryPredictor;
+import org.vibecoders.moongazer.arkanoid.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.vibecoders.moongazer.Constants.*;
+
+/**
+ * Benchmarks one decision of the paddle AI with balls, power-ups and rows of bricks, aiming
+ * with the brick-aware trajectory predictor. One benchmark replays the same state, so every
+ * prediction is served from the cache; the other nudges the balls every call, so every
+ * prediction marches the path through the bricks again.
+ */
+@State(Scope.Thread)
+public class ArkanoidAIBenchmark {
+    private static final float BRICK_W = 30f;
+    private static final float BRICK_H = 15f;
+    private static final int BRICK_COUNT = 150;
+    private static final float RISING_SPEED = 320f;
+
+    @Param({"1", "3"})
+    public int ballCount;
+
+    @Param({"0", "3"})
+    public int powerUpCount;
+
+    private ArkanoidAI ai;
+    private Paddle paddle;
+    private List<Ball> balls;
+    private float[] baseVx;
+    private float nudge = 1f;
+    private final List<PowerUp> powerUps = new ArrayList<>();
+
+    /**
+     * Fills the top of the play area with bricks and places falling balls and power-ups
+     * above the paddle.
+     */
+    @Setup
+    public void setUp() {
+        World world = new World();
+        world.reset();
+        BrickField bricks = world.getBricks();
+        int cols = (int) (GAMEPLAY_AREA_WIDTH / (BRICK_W + BRICK_PADDING));
+        for (int i = 0; i < BRICK_COUNT; i++) {
+            float x = SIDE_PANEL_WIDTH + (i % cols) * (BRICK_W + BRICK_PADDING);
+            float y = WINDOW_HEIGHT - 60f - (i / cols) * (BRICK_H + BRICK_PADDING);
+            bricks.add(x, y, BRICK_W, BRICK_H, Brick.BrickType.BREAKABLE, Integer.MAX_VALUE, Brick.PowerUpType.NONE);
+        }
+        world.indexBricks();
+        ai = new ArkanoidAI(new TrajectoryPredictor(world.getBrickGrid(), SIDE_PANEL_WIDTH,
+                                                    SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH, WINDOW_HEIGHT));
+        paddle = world.getPaddle();
+        Ball first = world.getBall();
+        for (int i = 1; i < ballCount; i++) {
+            world.addBall(first.getBounds().x, first.getBounds().y, first.getRadius());
+        }
+        balls = world.getBalls();
+        baseVx = new float[balls.size()];
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            ball.launch();
+            ball.getBounds().x = 350f + i * 220f;
+            ball.getBounds().y = 400f + i * 60f;
+            baseVx[i] = i % 2 == 0 ? 220f : -260f;
+            ball.getVelocity().set(baseVx[i], -320f);
+        }
+        for (int i = 0; i < powerUpCount; i++) {
+            PowerUp powerUp = world.getPowerUpPool(Brick.PowerUpType.EXPAND_PADDLE).obtain();
+            powerUp.place(400f + i * 150f, 250f + i * 80f, 40f, 40f);
+            powerUps.add(powerUp);
+        }
+        ai.setEnabled(true);
+    }
+
+    /**
+     * One AI update on an unchanged state, which picks a target from cached predictions and
+     * steers the paddle.
+     * @return The paddle, so the decision cannot be optimized away
+     */
+    @Benchmark
+    public Paddle update() {
+        ai.update(paddle, balls, powerUps);
+        return paddle;
+    }
+
+    /**
+     * One AI update after turning every ball up into the bricks on a slightly different
+     * heading than the last call, so no cached prediction can be reused.
+     * @return The paddle, so the decision cannot be optimized away
+     */
+    @Benchmark
+    public Paddle updateUncached() {
+        nudge = -nudge;
+        for (int i = 0; i < balls.size(); i++) {
+            balls.get(i).getVelocity().set(baseVx[i] + nudge, RISING_SPEED);
+        }
+        ai.update(paddle, balls, powerUps);
+        return paddle;
+    }
+}
@@ -0,0 +1,81 @@
+package org.vibecoders.moongazer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.vibecoders.moongazer.arkanoid.Ball;
+import org.vibecoders.moongazer.arkanoid.Brick;
+import org.vibecoders.moongazer.arkanoid.BrickField;
+import org.vibecoders.moongazer.arkanoid.CollisionHandler;
+import org.vibecoders.moongazer.arkanoid.Paddle;
+import org.vibecoders.moongazer.arkanoid.math.Vec2;
+
+/**
+ * Benchmarks the single-contact collision responses: a ball bouncing off a brick and off
+ * the paddle.
+ */
+@State(Scope.Thread)
+public class CollisionBenchmark {
+    private BrickField bricks;
+    private Ball ball;
+    private Paddle paddle;
+    private CollisionHandler.BrickCollisionContext context;
+
+    /**
+     * Places a brick that never breaks, a ball and a paddle.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        bricks = new BrickField();
+        bricks.add(300f, 400f, 60f, 20f, Brick.BrickType.BREAKABLE, Integer.MAX_VALUE, Brick.PowerUpType.NONE);
+        ball = new Ball(320f, 380f, 12f);
+        ball.launch();
+        paddle = new Paddle(250f, 50f, 150f, 50f);
+        CollisionHandler.ScoreContext scoreContext = new CollisionHandler.ScoreContext(0, 0, 0, 0);
+        context = new CollisionHandler.BrickCollisionContext() {
+            @Override
+            public void onBrickDestroyed(int brick) {
+            }
+
+            @Override
+            public void spawnPowerUp(int brick) {
+            }
+
+            @Override
+            public int getBricksDestroyed() {
+                return 0;
+            }
+
+            @Override
+            public CollisionHandler.ScoreContext getScoreContext() {
+                return scoreContext;
+            }
+        };
+    }
+
+    /**
+     * A ball moving up hits the bottom face of a brick.
+     * @return The reflected velocity
+     */
+    @Benchmark
+    public Vec2 regularBrickCollision() {
+        ball.getVelocity().set(200f, 300f);
+        CollisionHandler.handleRegularBrickCollision(ball, bricks, 0, 0f, -1f, context);
+        return ball.getVelocity();
+    }
+
+    /**
+     * A falling ball lands on the paddle off-center.
+     * @return The bounced velocity
+     */
+    @Benchmark
+    public Vec2 paddleCollision() {
+        ball.getBounds().x = 290f;
+        ball.getBounds().y = 110f;
+        ball.getVelocity().set(150f, -350f);
+        CollisionHandler.handlePaddleCollision(ball, paddle, 40);
+        return ball.getVelocity();
+    }
+}
@@ -0,0 +1,43 @@
+package org.vibecoders.moongazer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.vibecoders.moongazer.arkanoid.BrickField;
+import org.vibecoders.moongazer.arkanoid.World;
+import org.vibecoders.moongazer.arkanoid.levels.EndlessRun;
+
+/**
+ * Benchmarks the generation of an endless wave: distributing the brick types, shuffling,
+ * laying out the grid, indexing it and opening trapped bricks.
+ */
+@State(Scope.Thread)
+public class EndlessGenerationBenchmark {
+    @Param({"1", "10", "30"})
+    public int wave;
+
+    private World world;
+    private EndlessRun run;
+
+    /**
+     * Starts a run whose level stream the generated waves draw from.
+     */
+    @Setup
+    public void setUp() {
+        world = new World();
+        run = new EndlessRun(world);
+        run.start(1L);
+    }
+
+    /**
+     * Generates the bricks of a wave.
+     * @return The generated bricks
+     */
+    @Benchmark
+    public BrickField generateWave() {
+        run.skipToWave(wave);
+        return world.getBricks();
+    }
+}
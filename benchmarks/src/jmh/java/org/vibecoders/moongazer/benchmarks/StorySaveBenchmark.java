@@ -0,0 +1,50 @@
+package org.vibecoders.moongazer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.vibecoders.moongazer.arkanoid.World;
+import org.vibecoders.moongazer.arkanoid.levels.EndlessRun;
+import org.vibecoders.moongazer.scenes.story.StoryArkanoid;
+
+/**
+ * Benchmarks saving and loading a story game state to and from its JSON form.
+ */
+@State(Scope.Thread)
+public class StorySaveBenchmark {
+    private World world;
+    private String json;
+
+    /**
+     * Builds a level with a full brick grid and serializes it once for the load benchmark.
+     */
+    @Setup
+    public void setUp() {
+        world = new World();
+        EndlessRun run = new EndlessRun(world);
+        run.start(1L);
+        run.skipToWave(10);
+        json = StoryArkanoid.serializeGameState(world);
+    }
+
+    /**
+     * Serializes the paddle, balls and bricks.
+     * @return The JSON game state
+     */
+    @Benchmark
+    public String serialize() {
+        return StoryArkanoid.serializeGameState(world);
+    }
+
+    /**
+     * Restores the paddle, balls and bricks and re-indexes the bricks.
+     * @return The restored world
+     */
+    @Benchmark
+    public World deserialize() {
+        StoryArkanoid.deserializeGameState(world, json);
+        world.indexBricks();
+        return world;
+    }
+}
@@ -0,0 +1,79 @@
+package org.vibecoders.moongazer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.vibecoders.moongazer.arkanoid.Ball;
+import org.vibecoders.moongazer.arkanoid.Brick;
+import org.vibecoders.moongazer.arkanoid.BrickField;
+import org.vibecoders.moongazer.arkanoid.World;
+
+import static org.vibecoders.moongazer.Constants.*;
+
+/**
+ * Benchmarks a full simulation step, which runs the collision pass for every ball against
+ * the bricks, the paddle and the walls, at varying brick and ball counts. The bricks never
+ * break and lost balls are put back in play, so every iteration measures the same load.
+ */
+@State(Scope.Thread)
+public class WorldStepBenchmark {
+    private static final float BRICK_W = 30f;
+    private static final float BRICK_H = 15f;
+
+    @Param({"60", "150", "300"})
+    public int brickCount;
+
+    @Param({"1", "3"})
+    public int ballCount;
+
+    private World world;
+
+    /**
+     * Fills the top of the play area with unbreakable-in-practice bricks and launches the balls.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = new World();
+        world.resetProgress(Integer.MAX_VALUE, 1L);
+        world.reset();
+        BrickField bricks = world.getBricks();
+        int cols = (int) (GAMEPLAY_AREA_WIDTH / (BRICK_W + BRICK_PADDING));
+        for (int i = 0; i < brickCount; i++) {
+            float x = SIDE_PANEL_WIDTH + (i % cols) * (BRICK_W + BRICK_PADDING);
+            float y = WINDOW_HEIGHT - 60f - (i / cols) * (BRICK_H + BRICK_PADDING);
+            bricks.add(x, y, BRICK_W, BRICK_H, Brick.BrickType.BREAKABLE, Integer.MAX_VALUE, Brick.PowerUpType.NONE);
+        }
+        world.indexBricks();
+
+        world.getBall().launch();
+        world.getPaddleAI().setEnabled(true);
+        refillBalls();
+    }
+
+    /**
+     * One fixed step of the world.
+     * @return The world, so the step cannot be optimized away
+     */
+    @Benchmark
+    public World step() {
+        world.step(FIXED_TIMESTEP);
+        if (world.getBalls().size() < ballCount) {
+            refillBalls();
+        }
+        return world;
+    }
+
+    /**
+     * Launches new balls from the middle of the play area until there are {@link #ballCount}.
+     */
+    private void refillBalls() {
+        for (int i = world.getBalls().size(); i < ballCount; i++) {
+            Ball ball = world.addBall(SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH / 2f + i * 40f, 250f, 12f);
+            ball.launch();
+            ball.getVelocity().set(i % 2 == 0 ? 250f : -250f, 350f);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Gameplay simulation shared by the game and headless tools.
+ * Kept free of libGDX so it can run without a graphics context.
+ */
+
+plugins {
+    `java-library`
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    // Use JUnit Jupiter for testing.
+    testImplementation(libs.junit.jupiter)
+
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // Logging
+    api("org.slf4j:slf4j-api:2.1.0-alpha1")
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(25)
+    }
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+    options.release.set(25)
+}
+
+tasks.named<Test>("test") {
+    // Use JUnit Platform for unit tests.
+    useJUnitPlatform()
+}
+
+// Headless endless balancing: ./gradlew :core:balanceEndless --args="--games 5000 --seed 1"
+tasks.register<JavaExec>("balanceEndless") {
+    group = "application"
+    description = "Plays endless games with the paddle AI and reports the difficulty curve."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass = "org.vibecoders.moongazer.arkanoid.sim.EndlessBalancer"
+}
+
+// AI self-play benchmark: ./gradlew :core:selfPlay --args="--seeds 6 --baseline build/reports/self-play-before.csv"
+tasks.register<JavaExec>("selfPlay") {
+    group = "application"
+    description = "Plays every paddle AI over a fixed seed corpus and writes a score and throughput report."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass = "org.vibecoders.moongazer.arkanoid.sim.SelfPlayBenchmark"
+}
@@ -19,12 +19,13 @@ public class Constants {
     public static final float BRICK_WIDTH = 60f;
     public static final float BRICK_HEIGHT = 60f;
     public static final float BRICK_PADDING = 2f;
-    public static final float COLLISION_COOLDOWN_TIME = 0.05f;
     public static final float PADDLE_WIDTH = 150f;
     public static final float PADDLE_HEIGHT = 50f;
     public static final float SIDE_PANEL_WIDTH = 250f;
     public static final float GAMEPLAY_AREA_WIDTH = WINDOW_WIDTH - (SIDE_PANEL_WIDTH * 2);
     public static final float HEART_ICON_SIZE = 50f;
+    public static final float FIXED_TIMESTEP = 1f / 240f;
+    public static final float MAX_FRAME_TIME = 0.25f;
 
     /**
      * Main menu configuration.
@@ -1,6 +1,5 @@
 package org.vibecoders.moongazer.arkanoid;
 
-import com.badlogic.gdx.math.Vector2;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.util.List;
@@ -16,10 +15,25 @@ public class ArkanoidAI implements PaddleAI {
     private static final double TIME_PENALTY_MULTIPLIER = 10.0;
     private static final double MAX_TIME_TO_REACH = 5.0;
     private static final double POWERUP_VERY_CLOSE_DISTANCE = 80.0;
-    private static final double MIN_VELOCITY_THRESHOLD = 0.01;
 
+    private final TrajectoryPredictor predictor;
     private boolean enabled = false;
 
+    /**
+     * Constructs an AI for the standard gameplay area that predicts wall bounces only.
+     */
+    public ArkanoidAI() {
+        this(new TrajectoryPredictor(null, SIDE_PANEL_WIDTH, SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH, WINDOW_HEIGHT));
+    }
+
+    /**
+     * Constructs an AI that aims with the given trajectory predictor.
+     * @param predictor Predicts where balls come down, including brick bounces
+     */
+    public ArkanoidAI(TrajectoryPredictor predictor) {
+        this.predictor = predictor;
+    }
+
     /**
      * Updates the AI logic to control the paddle automatically.
      * @param paddle The paddle to control
@@ -67,18 +81,12 @@ public class ArkanoidAI implements PaddleAI {
         double highestPriority = Double.NEGATIVE_INFINITY;
         float paddleY = paddle.getBounds().y;
 
-        for (Ball ball : balls) {
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
             if (!ball.isActive() || ball.isStuckToPaddle()) {
                 continue;
             }
 
-            Vector2 velocity = ball.getVelocity();
-            float dy = velocity.y;
-
-            if (dy >= 0) {
-                continue;
-            }
-
             float ballY = ball.getBounds().y;
             double distanceToPaddle = Math.abs(ballY - paddleY);
 
@@ -86,11 +94,8 @@ public class ArkanoidAI implements PaddleAI {
             if (ballY < paddleY) {
                 priority = URGENT_PRIORITY_BASE - distanceToPaddle;
             } else {
-                if (Math.abs(dy) < MIN_VELOCITY_THRESHOLD) {
-                    continue;
-                }
-                double timeToReach = (ballY - paddleY) / Math.abs(dy);
-                if (timeToReach > 0 && timeToReach < MAX_TIME_TO_REACH) {
+                double timeToReach = predictor.predictLandingTime(ball, getInterceptY(paddle, ball));
+                if (timeToReach < MAX_TIME_TO_REACH) {
                     priority = NORMAL_PRIORITY_BASE - timeToReach * TIME_PENALTY_MULTIPLIER;
                 }
             }
@@ -120,7 +125,8 @@ public class ArkanoidAI implements PaddleAI {
         float paddleX = paddle.getBounds().x + paddle.getBounds().width / 2;
         float paddleY = paddle.getBounds().y;
 
-        for (PowerUp powerUp : powerUps) {
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
             if (powerUp.y < paddleY - paddle.getBounds().height - 50) {
                 continue;
             }
@@ -158,55 +164,35 @@ public class ArkanoidAI implements PaddleAI {
         double powerUpDistance = Math.sqrt(powerUpDx * powerUpDx + powerUpDy * powerUpDy);
 
         if (powerUpDistance < POWERUP_PRIORITY_DISTANCE) {
-            Vector2 velocity = ball.getVelocity();
-            float dy = velocity.y;
-            float ballY = ball.getBounds().y;
-            
-            if (dy >= 0 || ballY < paddleY) {
+            if (ball.getBounds().y < paddleY) {
                 return true;
             }
-            
-            if (Math.abs(dy) >= MIN_VELOCITY_THRESHOLD) {
-                double timeToReach = (ballY - paddleY) / Math.abs(dy);
-                if (timeToReach > 0 && timeToReach < 2.0) {
-                    return false;
-                }
+
+            double timeToReach = predictor.predictLandingTime(ball, getInterceptY(paddle, ball));
+            if (timeToReach < 2.0) {
+                return false;
             }
-            
+
             return powerUpDistance < POWERUP_VERY_CLOSE_DISTANCE;
         }
         return false;
     }
 
     /**
-     * Moves the paddle to intercept and hit the ball.
+     * Moves the paddle to where the ball is predicted to come down, or under the ball if it
+     * does not come down within the prediction horizon.
      * @param paddle The paddle to move
      * @param ball The ball to hit
      */
     private void moveToHitBall(Paddle paddle, Ball ball) {
         float paddleX = paddle.getBounds().x + paddle.getBounds().width / 2;
-        float paddleY = paddle.getBounds().y;
-        float ballX = ball.getBounds().x + ball.getBounds().width / 2;
-        float ballY = ball.getBounds().y;
-
-        Vector2 velocity = ball.getVelocity();
-        float dx = velocity.x;
-        float dy = velocity.y;
-        double targetX;
-
-        if (dy < 0 && ballY > paddleY) {
-            if (Math.abs(dy) < MIN_VELOCITY_THRESHOLD) {
-                targetX = ballX;
-            } else {
-                double timeToReach = (ballY - paddleY) / Math.abs(dy);
-                if (timeToReach > 0) {
-                    targetX = predictBallXWithBounce(ballX, dx, timeToReach);
-                } else {
-                    targetX = ballX;
-                }
+        // The simulation keeps the ball's center in its bounds position
+        double targetX = ball.getBounds().x;
+        if (ball.getBounds().y > paddle.getBounds().y) {
+            float landingX = predictor.predictLandingX(ball, getInterceptY(paddle, ball));
+            if (!Float.isNaN(landingX)) {
+                targetX = landingX;
             }
-        } else {
-            targetX = ballX;
         }
 
         targetX = Math.max(SIDE_PANEL_WIDTH + ball.getBounds().width / 2,
@@ -226,27 +212,13 @@ public class ArkanoidAI implements PaddleAI {
     }
 
     /**
-     * Predicts the ball's X position after bouncing off walls.
-     * @param ballX Current X position of the ball
-     * @param dx Horizontal velocity of the ball
-     * @param timeToReach Time until ball reaches paddle height
-     * @return Predicted X position of the ball
+     * Gets the height of a ball's center when it touches the top of the paddle.
+     * @param paddle The paddle
+     * @param ball The ball
+     * @return Intercept height
      */
-    private double predictBallXWithBounce(float ballX, float dx, double timeToReach) {
-        double predictedX = ballX + dx * timeToReach;
-        float leftWall = SIDE_PANEL_WIDTH;
-        float rightWall = SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH;
-        
-        while (predictedX < leftWall || predictedX > rightWall) {
-            if (predictedX < leftWall) {
-                predictedX = 2 * leftWall - predictedX;
-                dx = -dx;
-            } else if (predictedX > rightWall) {
-                predictedX = 2 * rightWall - predictedX;
-                dx = -dx;
-            }
-        }
-        return predictedX;
+    private static float getInterceptY(Paddle paddle, Ball ball) {
+        return paddle.getBounds().y + paddle.getBounds().height + ball.getRadius();
     }
 
     /**
@@ -282,6 +254,14 @@ public class ArkanoidAI implements PaddleAI {
         log.info("ArkanoidAI {}", enabled ? "ENABLED" : "DISABLED");
     }
 
+    /**
+     * Gets the trajectory predictor the AI aims with.
+     * @return The predictor
+     */
+    public TrajectoryPredictor getPredictor() {
+        return predictor;
+    }
+
     /**
      * Checks if the AI is currently enabled.
      * @return true if AI is enabled, false otherwise
@@ -1,15 +1,12 @@
 package org.vibecoders.moongazer.arkanoid;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
-import org.vibecoders.moongazer.managers.Assets;
-
-public class Ball extends MovableObject {
-    private Vector2 velocity;
+import org.vibecoders.moongazer.arkanoid.math.Rect;
+import org.vibecoders.moongazer.arkanoid.math.Vec2;
+import org.vibecoders.moongazer.arkanoid.util.Pool;
+
+public class Ball extends MovableObject implements Pool.Poolable {
+    private Vec2 velocity;
     private float radius;
-    private Texture texture;
     private boolean active;
     private float previousY;
     private boolean isHeavyBall = false;
@@ -18,8 +15,6 @@ public class Ball extends MovableObject {
     private float stuckOffsetX = 0f;
     private int comboCount = 0;
     private float speedMultiplier = 1.0f;
-    private Texture normalTexture;
-    private Texture enchantedTexture;
 
     /**
      * Constructs a new Ball object.
@@ -29,12 +24,58 @@ public class Ball extends MovableObject {
      */
     public Ball(float x, float y, float radius) {
         super((int)x, (int)y, (int)radius * 2, (int)radius * 2);
-        this.velocity = new Vector2(300, 300);
+        this.velocity = new Vec2(300, 300);
         this.radius = radius;
         this.active = false;
-        this.normalTexture = Assets.getAsset("textures/arkanoid/normal_ball.png", Texture.class);
-        this.enchantedTexture = Assets.getAsset("textures/arkanoid/enchanted_ball.png", Texture.class);
-        this.texture = normalTexture;
+    }
+
+    /**
+     * Places a pooled ball at a new position with a new radius.
+     * @param x X position
+     * @param y Y position
+     * @param radius Radius of the ball
+     */
+    public void place(float x, float y, float radius) {
+        this.radius = radius;
+        bounds.set((int) x, (int) y, (int) radius * 2, (int) radius * 2);
+        storeLastStepPosition();
+    }
+
+    /**
+     * Copies the position, velocity, launch state and power-up flags of another ball.
+     * @param other The ball to copy
+     */
+    public void copyFrom(Ball other) {
+        bounds.set(other.bounds);
+        lastStepX = other.lastStepX;
+        lastStepY = other.lastStepY;
+        velocity.set(other.velocity.x, other.velocity.y);
+        radius = other.radius;
+        active = other.active;
+        previousY = other.previousY;
+        isHeavyBall = other.isHeavyBall;
+        isSuperBall = other.isSuperBall;
+        isStuckToPaddle = other.isStuckToPaddle;
+        stuckOffsetX = other.stuckOffsetX;
+        comboCount = other.comboCount;
+        speedMultiplier = other.speedMultiplier;
+    }
+
+    /**
+     * Clears velocity, launch state, power-up flags and combo so a pooled ball behaves like
+     * a new one.
+     */
+    @Override
+    public void reset() {
+        velocity.set(300, 300);
+        active = false;
+        previousY = 0f;
+        isHeavyBall = false;
+        isSuperBall = false;
+        isStuckToPaddle = false;
+        stuckOffsetX = 0f;
+        comboCount = 0;
+        speedMultiplier = 1.0f;
     }
 
     /**
@@ -49,14 +90,6 @@ public class Ball extends MovableObject {
         }
     }
 
-    /**
-     * Renders the ball to the screen.
-     * @param batch SpriteBatch used for rendering
-     */
-    public void render(SpriteBatch batch) {
-        batch.draw(texture, bounds.x - radius, bounds.y - radius, radius * 2, radius * 2);
-    }
-
     /**
      * Launches the ball into motion.
      */
@@ -102,7 +135,7 @@ public class Ball extends MovableObject {
      * Gets the current velocity vector of the ball.
      * @return Velocity vector
      */
-    public Vector2 getVelocity() {
+    public Vec2 getVelocity() {
         return velocity;
     }
 
@@ -187,7 +220,6 @@ public class Ball extends MovableObject {
      */
     public void setSuperBall(boolean superBall) {
         this.isSuperBall = superBall;
-        this.texture = superBall ? enchantedTexture : normalTexture;
     }
 
     /**
@@ -235,7 +267,7 @@ public class Ball extends MovableObject {
      * @param paddle The paddle to center on
      */
     public void resetToCenter(Paddle paddle) {
-        Rectangle paddleBounds = paddle.getBounds();
+        Rect paddleBounds = paddle.getBounds();
         float paddleCenterX = paddleBounds.x + paddleBounds.width / 2f;
         float paddleTop = paddleBounds.y + paddleBounds.height;
         reset(paddleCenterX, paddleTop + radius + 5);
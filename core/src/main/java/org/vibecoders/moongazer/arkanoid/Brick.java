@@ -0,0 +1,20 @@
+package org.vibecoders.moongazer.arkanoid;
+
+/**
+ * Brick kinds shared by level builders, the simulation and the renderer.
+ * The state of individual bricks lives in a {@link BrickField}.
+ */
+public final class Brick {
+    public enum BrickType {
+        BREAKABLE,
+        UNBREAKABLE
+    }
+
+    public enum PowerUpType {
+        NONE, EXPAND_PADDLE, EXTRA_LIFE, FAST_BALL, SLOW_BALL,
+        MULTI_BALL, SUPER_BALL, BULLET, EXPLOSIVE
+    }
+
+    private Brick() {
+    }
+}
@@ -0,0 +1,576 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import java.util.Arrays;
+
+/**
+ * Stores the bricks of a level as parallel primitive arrays, addressed by brick index.
+ * Indices stay stable until the field is cleared. A separate live list holds the bricks that
+ * still need drawing; destroyed bricks leave it by swap-remove once their disappear animation
+ * ends, so they are never iterated again. A smaller animating list holds only the bricks
+ * playing a hit or disappear animation, so static bricks cost nothing per update, and
+ * counters of standing bricks by type and by remaining hits are kept up to date on every
+ * change, so level-complete checks and HUD counts never scan the field. A revision number
+ * changes whenever a brick joins or leaves the idle (live, not animating) set or an idle brick
+ * changes, so renderers can cache the idle bricks between changes.
+ */
+public class BrickField {
+    /** Durabilities up to this are counted exactly; higher ones share one overflow count. */
+    public static final int MAX_COUNTED_DURABILITY = 8;
+    private static final Brick.BrickType[] BRICK_TYPES = Brick.BrickType.values();
+    private static final Brick.PowerUpType[] POWER_UP_TYPES = Brick.PowerUpType.values();
+    private static final float DISAPPEAR_TIME = 1f;
+    private static final float DISAPPEAR_SHAKE = 4f;
+    private static final float HIT_ANIM_TIME = 0.6f;
+    private static final float HIT_SHAKE = 3f;
+
+    private int size;
+    private float[] x;
+    private float[] y;
+    private float[] width;
+    private float[] height;
+    private byte[] type;
+    private byte[] powerUpType;
+    private int[] durability;
+    private int[] maxDurability;
+    private boolean[] destroyed;
+    private boolean[] disappearing;
+    private boolean[] hitAnimating;
+    private float[] animTimer;
+    private float[] alpha;
+    private float[] shakeX;
+
+    private int[] live;
+    private int[] livePosition;
+    private int liveCount;
+
+    private int[] animating;
+    private int[] animatingPosition;
+    private int animatingCount;
+
+    private final int[] standingByType = new int[BRICK_TYPES.length];
+    private final int[] remainingByDurability = new int[MAX_COUNTED_DURABILITY + 2];
+    private int revision;
+
+    /**
+     * Constructs an empty field with room for a typical board.
+     */
+    public BrickField() {
+        this(128);
+    }
+
+    /**
+     * Constructs an empty field.
+     * @param capacity Initial number of bricks the arrays can hold
+     */
+    public BrickField(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    /**
+     * Removes every brick. Indices handed out before are no longer valid.
+     */
+    public void clear() {
+        size = 0;
+        liveCount = 0;
+        animatingCount = 0;
+        Arrays.fill(standingByType, 0);
+        Arrays.fill(remainingByDurability, 0);
+        revision++;
+    }
+
+    /**
+     * Replaces the contents of this field with a copy of another, keeping brick indices.
+     * @param other The field to copy
+     */
+    public void copyFrom(BrickField other) {
+        if (x.length < other.size) {
+            grow(other.x.length);
+        }
+        size = other.size;
+        liveCount = other.liveCount;
+        animatingCount = other.animatingCount;
+        System.arraycopy(other.x, 0, x, 0, size);
+        System.arraycopy(other.y, 0, y, 0, size);
+        System.arraycopy(other.width, 0, width, 0, size);
+        System.arraycopy(other.height, 0, height, 0, size);
+        System.arraycopy(other.type, 0, type, 0, size);
+        System.arraycopy(other.powerUpType, 0, powerUpType, 0, size);
+        System.arraycopy(other.durability, 0, durability, 0, size);
+        System.arraycopy(other.maxDurability, 0, maxDurability, 0, size);
+        System.arraycopy(other.destroyed, 0, destroyed, 0, size);
+        System.arraycopy(other.disappearing, 0, disappearing, 0, size);
+        System.arraycopy(other.hitAnimating, 0, hitAnimating, 0, size);
+        System.arraycopy(other.animTimer, 0, animTimer, 0, size);
+        System.arraycopy(other.alpha, 0, alpha, 0, size);
+        System.arraycopy(other.shakeX, 0, shakeX, 0, size);
+        System.arraycopy(other.live, 0, live, 0, liveCount);
+        System.arraycopy(other.livePosition, 0, livePosition, 0, size);
+        System.arraycopy(other.animating, 0, animating, 0, animatingCount);
+        System.arraycopy(other.animatingPosition, 0, animatingPosition, 0, size);
+        System.arraycopy(other.standingByType, 0, standingByType, 0, standingByType.length);
+        System.arraycopy(other.remainingByDurability, 0, remainingByDurability, 0, remainingByDurability.length);
+        revision++;
+    }
+
+    /**
+     * Adds a brick with the default durability for its type and no power-up.
+     * @param x X position
+     * @param y Y position
+     * @param width Width of the brick
+     * @param height Height of the brick
+     * @param type Type of brick (BREAKABLE or UNBREAKABLE)
+     * @return Index of the new brick
+     */
+    public int add(float x, float y, float width, float height, Brick.BrickType type) {
+        return add(x, y, width, height, type, type == Brick.BrickType.UNBREAKABLE ? -1 : 1, Brick.PowerUpType.NONE);
+    }
+
+    /**
+     * Adds a breakable brick with a specific level (1, 2, or 3).
+     * Level 1 = easiest (1 hit), Level 2 = medium (2 hits), Level 3 = hardest (3 hits)
+     * @param x X position
+     * @param y Y position
+     * @param width Width of the brick
+     * @param height Height of the brick
+     * @param level Hit points before destruction
+     * @param powerUpType Type of power-up dropped when destroyed
+     * @return Index of the new brick
+     */
+    public int addBreakable(float x, float y, float width, float height, int level, Brick.PowerUpType powerUpType) {
+        return add(x, y, width, height, Brick.BrickType.BREAKABLE, level, powerUpType);
+    }
+
+    /**
+     * Adds a brick with full specifications. Positions snap to whole pixels.
+     * @param x X position
+     * @param y Y position
+     * @param width Width of the brick
+     * @param height Height of the brick
+     * @param type Type of brick
+     * @param durability Hit points before destruction (-1 for unbreakable)
+     * @param powerUpType Type of power-up dropped
+     * @return Index of the new brick
+     */
+    public int add(float x, float y, float width, float height, Brick.BrickType type, int durability,
+                   Brick.PowerUpType powerUpType) {
+        if (size == this.x.length) {
+            grow(size * 2);
+        }
+        int brick = size++;
+        this.x[brick] = (int) x;
+        this.y[brick] = (int) y;
+        this.width[brick] = (int) width;
+        this.height[brick] = (int) height;
+        this.type[brick] = (byte) type.ordinal();
+        this.powerUpType[brick] = (byte) powerUpType.ordinal();
+        this.durability[brick] = durability;
+        this.maxDurability[brick] = durability;
+        this.destroyed[brick] = false;
+        this.disappearing[brick] = false;
+        this.hitAnimating[brick] = false;
+        this.animTimer[brick] = 0f;
+        this.alpha[brick] = 1f;
+        this.shakeX[brick] = 0f;
+        livePosition[brick] = liveCount;
+        live[liveCount++] = brick;
+        animatingPosition[brick] = -1;
+        standingByType[type.ordinal()]++;
+        countRemaining(durability, 1);
+        revision++;
+        return brick;
+    }
+
+    /**
+     * Changes the type, durability and power-up of a brick in place, e.g. when level
+     * generation opens a path through unbreakable bricks.
+     * @param brick Brick index
+     * @param type New type
+     * @param durability New hit points
+     * @param powerUpType New power-up
+     */
+    public void set(int brick, Brick.BrickType type, int durability, Brick.PowerUpType powerUpType) {
+        if (!destroyed[brick]) {
+            standingByType[this.type[brick]]--;
+            standingByType[type.ordinal()]++;
+            countRemaining(this.durability[brick], -1);
+            countRemaining(durability, 1);
+        }
+        this.type[brick] = (byte) type.ordinal();
+        this.powerUpType[brick] = (byte) powerUpType.ordinal();
+        this.durability[brick] = durability;
+        this.maxDurability[brick] = durability;
+        revision++;
+    }
+
+    /**
+     * Handles a hit on a brick, reducing durability.
+     * @param brick Brick index
+     */
+    public void hit(int brick) {
+        if (durability[brick] == -1 || destroyed[brick]) return;
+        countRemaining(durability[brick], -1);
+        durability[brick]--;
+        addAnimating(brick);
+
+        if (durability[brick] <= 0) {
+            standingByType[type[brick]]--;
+            destroyed[brick] = true;
+            disappearing[brick] = true;
+            hitAnimating[brick] = false;
+            animTimer[brick] = 0f;
+        } else {
+            countRemaining(durability[brick], 1);
+            hitAnimating[brick] = true;
+            animTimer[brick] = 0f;
+            alpha[brick] = 1f;
+        }
+    }
+
+    /**
+     * Adjusts the count of standing bricks with a given number of hits left.
+     * @param durability Hits left; unbreakable and destroyed bricks are not counted
+     * @param change Amount to add to the count
+     */
+    private void countRemaining(int durability, int change) {
+        if (durability <= 0) return;
+        remainingByDurability[Math.min(durability, MAX_COUNTED_DURABILITY + 1)] += change;
+    }
+
+    /**
+     * Advances hit and disappear animations and drops destroyed bricks from the live list
+     * once they have faded out. Only the animating bricks are visited.
+     * @param delta Time elapsed since last update
+     */
+    public void update(float delta) {
+        for (int i = animatingCount - 1; i >= 0; i--) {
+            int brick = animating[i];
+            if (disappearing[brick]) {
+                animTimer[brick] += delta;
+                float progress = animTimer[brick] / DISAPPEAR_TIME;
+                if (progress < 1f) {
+                    float frequency = 30f + progress * 20f;
+                    shakeX[brick] = (float) Math.sin(animTimer[brick] * frequency) * DISAPPEAR_SHAKE * (1f - progress);
+                    alpha[brick] = Math.max(0f, 1f - progress);
+                } else {
+                    shakeX[brick] = 0f;
+                    alpha[brick] = 0f;
+                    disappearing[brick] = false;
+                    removeLive(brick);
+                    removeAnimating(brick);
+                }
+            } else if (hitAnimating[brick]) {
+                animTimer[brick] += delta;
+                float progress = animTimer[brick] / HIT_ANIM_TIME;
+                if (progress < 1f) {
+                    shakeX[brick] = (float) Math.sin(animTimer[brick] * 40f) * HIT_SHAKE * (1f - progress);
+                    if (progress < 0.5f) {
+                        alpha[brick] = 1f - (progress * 2f * 0.5f);
+                    } else {
+                        alpha[brick] = 0.5f + ((progress - 0.5f) * 2f * 0.5f);
+                    }
+                } else {
+                    shakeX[brick] = 0f;
+                    alpha[brick] = 1f;
+                    hitAnimating[brick] = false;
+                    removeAnimating(brick);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a brick to the animating list unless it is already there.
+     * @param brick Brick index
+     */
+    private void addAnimating(int brick) {
+        if (animatingPosition[brick] >= 0) return;
+        animatingPosition[brick] = animatingCount;
+        animating[animatingCount++] = brick;
+        revision++;
+    }
+
+    /**
+     * Removes a brick from the animating list by moving the last animating brick into its slot.
+     * @param brick Brick index
+     */
+    private void removeAnimating(int brick) {
+        int position = animatingPosition[brick];
+        if (position < 0) return;
+        int last = animating[--animatingCount];
+        animating[position] = last;
+        animatingPosition[last] = position;
+        animatingPosition[brick] = -1;
+        revision++;
+    }
+
+    /**
+     * Removes a brick from the live list by moving the last live brick into its slot.
+     * @param brick Brick index
+     */
+    private void removeLive(int brick) {
+        int position = livePosition[brick];
+        if (position < 0) return;
+        int last = live[--liveCount];
+        live[position] = last;
+        livePosition[last] = position;
+        livePosition[brick] = -1;
+    }
+
+    /**
+     * Grows every array to a new capacity.
+     * @param capacity New capacity
+     */
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        type = Arrays.copyOf(type, capacity);
+        powerUpType = Arrays.copyOf(powerUpType, capacity);
+        durability = Arrays.copyOf(durability, capacity);
+        maxDurability = Arrays.copyOf(maxDurability, capacity);
+        destroyed = Arrays.copyOf(destroyed, capacity);
+        disappearing = Arrays.copyOf(disappearing, capacity);
+        hitAnimating = Arrays.copyOf(hitAnimating, capacity);
+        animTimer = Arrays.copyOf(animTimer, capacity);
+        alpha = Arrays.copyOf(alpha, capacity);
+        shakeX = Arrays.copyOf(shakeX, capacity);
+        live = Arrays.copyOf(live, capacity);
+        livePosition = Arrays.copyOf(livePosition, capacity);
+        animating = Arrays.copyOf(animating, capacity);
+        animatingPosition = Arrays.copyOf(animatingPosition, capacity);
+    }
+
+    /**
+     * Allocates empty arrays.
+     * @param capacity Number of bricks the arrays can hold
+     */
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        type = new byte[capacity];
+        powerUpType = new byte[capacity];
+        durability = new int[capacity];
+        maxDurability = new int[capacity];
+        destroyed = new boolean[capacity];
+        disappearing = new boolean[capacity];
+        hitAnimating = new boolean[capacity];
+        animTimer = new float[capacity];
+        alpha = new float[capacity];
+        shakeX = new float[capacity];
+        live = new int[capacity];
+        livePosition = new int[capacity];
+        animating = new int[capacity];
+        animatingPosition = new int[capacity];
+    }
+
+    /**
+     * Gets the number of bricks added since the last clear, destroyed or not.
+     * Valid brick indices are 0 to size() - 1.
+     * @return Brick count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of bricks that are still standing or fading out.
+     * @return Live brick count
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Gets the number of the idle bricks' changes so far. While it stays the same, the idle
+     * bricks (live and not animating) and everything drawn for them are unchanged.
+     * @return Revision number; only compare it for equality
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * Gets the number of bricks playing a hit or disappear animation.
+     * @return Animating brick count
+     */
+    public int getAnimatingCount() {
+        return animatingCount;
+    }
+
+    /**
+     * Gets the number of bricks of a type that have not been destroyed.
+     * @param type Brick type
+     * @return Standing brick count
+     */
+    public int getStandingCount(Brick.BrickType type) {
+        return standingByType[type.ordinal()];
+    }
+
+    /**
+     * Gets the number of standing bricks with exactly the given hits left. Above
+     * {@link #MAX_COUNTED_DURABILITY} the count covers every brick with more hits left than that.
+     * @param durability Hits left, 1 or more
+     * @return Brick count
+     */
+    public int getRemainingCount(int durability) {
+        return durability > 0 ? remainingByDurability[Math.min(durability, MAX_COUNTED_DURABILITY + 1)] : 0;
+    }
+
+    /**
+     * Gets the index of a live brick. The order changes as bricks leave the live list.
+     * @param position Position in the live list, 0 to getLiveCount() - 1
+     * @return Brick index
+     */
+    public int getLive(int position) {
+        return live[position];
+    }
+
+    /**
+     * Gets the index of an animating brick. The order changes as animations end.
+     * @param position Position in the animating list, 0 to getAnimatingCount() - 1
+     * @return Brick index
+     */
+    public int getAnimating(int position) {
+        return animating[position];
+    }
+
+    /**
+     * Checks if a brick is playing a hit or disappear animation.
+     * @param brick Brick index
+     * @return true if animating, false otherwise
+     */
+    public boolean isAnimating(int brick) {
+        return animatingPosition[brick] >= 0;
+    }
+
+    /**
+     * Gets the X position of a brick, without the shake applied by animations.
+     * @param brick Brick index
+     * @return X position
+     */
+    public float getX(int brick) {
+        return x[brick];
+    }
+
+    /**
+     * Gets the Y position of a brick.
+     * @param brick Brick index
+     * @return Y position
+     */
+    public float getY(int brick) {
+        return y[brick];
+    }
+
+    /**
+     * Gets the width of a brick.
+     * @param brick Brick index
+     * @return Width
+     */
+    public float getWidth(int brick) {
+        return width[brick];
+    }
+
+    /**
+     * Gets the height of a brick.
+     * @param brick Brick index
+     * @return Height
+     */
+    public float getHeight(int brick) {
+        return height[brick];
+    }
+
+    /**
+     * Gets the X position a brick should be drawn at, including animation shake.
+     * @param brick Brick index
+     * @return Render X position
+     */
+    public float getRenderX(int brick) {
+        return x[brick] + shakeX[brick];
+    }
+
+    /**
+     * Gets the type of a brick.
+     * @param brick Brick index
+     * @return Brick type
+     */
+    public Brick.BrickType getType(int brick) {
+        return BRICK_TYPES[type[brick]];
+    }
+
+    /**
+     * Gets the power-up type a brick drops.
+     * @param brick Brick index
+     * @return Power-up type
+     */
+    public Brick.PowerUpType getPowerUpType(int brick) {
+        return POWER_UP_TYPES[powerUpType[brick]];
+    }
+
+    /**
+     * Gets the current durability of a brick.
+     * @param brick Brick index
+     * @return Current durability (-1 for unbreakable)
+     */
+    public int getDurability(int brick) {
+        return durability[brick];
+    }
+
+    /**
+     * Gets the maximum durability of a brick.
+     * @param brick Brick index
+     * @return Maximum durability
+     */
+    public int getMaxDurability(int brick) {
+        return maxDurability[brick];
+    }
+
+    /**
+     * Gets the durability of a brick as a percentage of maximum.
+     * @param brick Brick index
+     * @return Durability percentage (0.0 to 1.0, or -1 for unbreakable)
+     */
+    public float getDurabilityPercentage(int brick) {
+        if (durability[brick] == -1) return -1f;
+        if (maxDurability[brick] <= 0) return 0f;
+        return (float) durability[brick] / maxDurability[brick];
+    }
+
+    /**
+     * Checks if a brick has been destroyed.
+     * @param brick Brick index
+     * @return true if destroyed, false otherwise
+     */
+    public boolean isDestroyed(int brick) {
+        return destroyed[brick];
+    }
+
+    /**
+     * Checks if a brick is playing its disappearing animation.
+     * @param brick Brick index
+     * @return true if disappearing, false otherwise
+     */
+    public boolean isDisappearing(int brick) {
+        return disappearing[brick];
+    }
+
+    /**
+     * Checks if a brick is playing its hit animation.
+     * @param brick Brick index
+     * @return true if animating, false otherwise
+     */
+    public boolean isHitAnimating(int brick) {
+        return hitAnimating[brick];
+    }
+
+    /**
+     * Gets the current alpha transparency of a brick.
+     * @param brick Brick index
+     * @return Alpha value (0.0 to 1.0)
+     */
+    public float getAlpha(int brick) {
+        return alpha[brick];
+    }
+}
@@ -0,0 +1,208 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.vibecoders.moongazer.arkanoid.math.Rect;
+import org.vibecoders.moongazer.arkanoid.util.IntList;
+
+/**
+ * Uniform grid over the gameplay area that indexes live bricks of a {@link BrickField} by the
+ * cells their bounds cover. Collision queries only visit the bricks stored in the cells a query
+ * region touches, so their cost does not grow with the size of the board.
+ */
+public class BrickGrid {
+    private final BrickField field;
+    private final float originX;
+    private final float originY;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final IntList[] cells;
+    private final IntList queryResult = new IntList();
+    private int brickCount = 0;
+    private int version = 0;
+
+    /**
+     * Constructs an empty grid covering the given area.
+     * @param field Bricks the stored indices refer to
+     * @param originX Left edge of the indexed area
+     * @param originY Bottom edge of the indexed area
+     * @param width Width of the indexed area
+     * @param height Height of the indexed area
+     * @param cellSize Side length of one square cell
+     */
+    public BrickGrid(BrickField field, float originX, float originY, float width, float height, float cellSize) {
+        this.field = field;
+        this.originX = originX;
+        this.originY = originY;
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cells = new IntList[columns * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new IntList(4);
+        }
+    }
+
+    /**
+     * Removes every brick from the grid.
+     */
+    public void clear() {
+        for (IntList cell : cells) {
+            cell.clear();
+        }
+        brickCount = 0;
+        version++;
+    }
+
+    /**
+     * Clears the grid and indexes every brick of the field that is not destroyed.
+     */
+    public void rebuild() {
+        clear();
+        for (int brick = 0; brick < field.size(); brick++) {
+            if (!field.isDestroyed(brick)) {
+                add(brick);
+            }
+        }
+    }
+
+    /**
+     * Adds a brick to every cell its bounds cover.
+     * @param brick Brick index
+     */
+    public void add(int brick) {
+        float x = field.getX(brick);
+        float y = field.getY(brick);
+        int minCol = columnOf(x);
+        int maxCol = columnOf(x + field.getWidth(brick));
+        int minRow = rowOf(y);
+        int maxRow = rowOf(y + field.getHeight(brick));
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                cells[row * columns + col].add(brick);
+            }
+        }
+        brickCount++;
+        version++;
+    }
+
+    /**
+     * Removes a brick from every cell its bounds cover.
+     * @param brick Brick index
+     */
+    public void remove(int brick) {
+        float x = field.getX(brick);
+        float y = field.getY(brick);
+        int minCol = columnOf(x);
+        int maxCol = columnOf(x + field.getWidth(brick));
+        int minRow = rowOf(y);
+        int maxRow = rowOf(y + field.getHeight(brick));
+        boolean removed = false;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                removed |= cells[row * columns + col].removeValue(brick);
+            }
+        }
+        if (removed) {
+            brickCount--;
+            version++;
+        }
+    }
+
+    /**
+     * Collects the indexed bricks stored in the cells touched by a region.
+     * Bricks spanning several cells are reported once.
+     * @param minX Left edge of the region
+     * @param minY Bottom edge of the region
+     * @param maxX Right edge of the region
+     * @param maxY Top edge of the region
+     * @param result List that is cleared and filled with the candidate brick indices
+     * @return The result list
+     */
+    public IntList query(float minX, float minY, float maxX, float maxY, IntList result) {
+        result.clear();
+        int minCol = columnOf(minX);
+        int maxCol = columnOf(maxX);
+        int minRow = rowOf(minY);
+        int maxRow = rowOf(maxY);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                IntList cell = cells[row * columns + col];
+                for (int i = 0; i < cell.size(); i++) {
+                    int brick = cell.get(i);
+                    if (!result.contains(brick)) {
+                        result.add(brick);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Collects the indexed bricks stored in the cells touched by a region into a list owned by
+     * the grid. The list is reused by the next call, so callers must not hold on to it.
+     * @param minX Left edge of the region
+     * @param minY Bottom edge of the region
+     * @param maxX Right edge of the region
+     * @param maxY Top edge of the region
+     * @return The shared result list
+     */
+    public IntList query(float minX, float minY, float maxX, float maxY) {
+        return query(minX, minY, maxX, maxY, queryResult);
+    }
+
+    /**
+     * Collects the indexed bricks near a rectangle.
+     * @param bounds Region to query
+     * @param result List that is cleared and filled with the candidate brick indices
+     * @return The result list
+     */
+    public IntList query(Rect bounds, IntList result) {
+        return query(bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height, result);
+    }
+
+    /**
+     * Gets the field whose bricks this grid indexes.
+     * @return The BrickField
+     */
+    public BrickField getField() {
+        return field;
+    }
+
+    /**
+     * Gets the number of bricks currently indexed.
+     * @return Indexed brick count
+     */
+    public int size() {
+        return brickCount;
+    }
+
+    /**
+     * Gets a counter that changes whenever a brick is added to or removed from the grid,
+     * so results derived from the indexed bricks can tell when they are stale.
+     * @return Modification counter
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Maps an X coordinate to a column, clamping positions outside the grid to the border cells.
+     * @param x X coordinate
+     * @return Column index
+     */
+    private int columnOf(float x) {
+        int col = (int) Math.floor((x - originX) / cellSize);
+        return Math.max(0, Math.min(columns - 1, col));
+    }
+
+    /**
+     * Maps a Y coordinate to a row, clamping positions outside the grid to the border cells.
+     * @param y Y coordinate
+     * @return Row index
+     */
+    private int rowOf(float y) {
+        int row = (int) Math.floor((y - originY) / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+}
@@ -1,11 +1,9 @@
 package org.vibecoders.moongazer.arkanoid;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import org.vibecoders.moongazer.managers.Assets;
+import org.vibecoders.moongazer.arkanoid.util.Pool;
 
-public class Bullet extends MovableObject {
-    private final Texture texture;
+public class Bullet extends MovableObject implements Pool.Poolable {
+    private static final float SPEED = 700f;
     private boolean active = true;
 
     /**
@@ -17,16 +15,39 @@ public class Bullet extends MovableObject {
      */
     public Bullet(float x, float y, float width, float height) {
         super(x, y, width, height);
-        this.texture = Assets.getAsset("textures/arkanoid/laser_bullet.png", Texture.class);
-        setVelocity(0, 700f);
+        setVelocity(0, SPEED);
     }
 
     /**
-     * Renders the bullet to the screen.
-     * @param batch SpriteBatch used for rendering
+     * Places the bullet at a new firing position.
+     * @param x X position
+     * @param y Y position
+     */
+    public void fireFrom(float x, float y) {
+        bounds.x = x;
+        bounds.y = y;
+        storeLastStepPosition();
+    }
+
+    /**
+     * Copies the position, velocity and active state of another bullet.
+     * @param other The bullet to copy
+     */
+    public void copyFrom(Bullet other) {
+        bounds.set(other.bounds);
+        lastStepX = other.lastStepX;
+        lastStepY = other.lastStepY;
+        velocity.set(other.velocity.x, other.velocity.y);
+        active = other.active;
+    }
+
+    /**
+     * Makes the bullet active again with its default velocity, ready to be fired.
      */
-    public void render(SpriteBatch batch) {
-        batch.draw(texture, bounds.x, bounds.y, bounds.width, bounds.height);
+    @Override
+    public void reset() {
+        active = true;
+        setVelocity(0, SPEED);
     }
 
     /**
@@ -0,0 +1,443 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vibecoders.moongazer.arkanoid.math.Rect;
+import org.vibecoders.moongazer.arkanoid.util.IntList;
+
+public class CollisionHandler {
+    private static final Logger log = LoggerFactory.getLogger(CollisionHandler.class);
+    private static final float MIN_HORIZONTAL_VELOCITY_THRESHOLD = 50f;
+    private static final float MIN_HORIZONTAL_RATIO = 0.3f;
+    private static final int MAX_CONTACTS_PER_STEP = 8;
+    private static final float CONTACT_OFFSET = 0.01f;
+    private static final ThreadLocal<Contact> CONTACT = ThreadLocal.withInitial(Contact::new);
+
+    /** Moves a ball through one simulation step, resolving every wall, brick and paddle contact
+     * along its path in time order. Each contact is found by a swept circle vs box test, so the
+     * ball cannot tunnel through thin bricks no matter how fast it moves.
+     *
+     * @param ball The ball to move.
+     * @param delta The duration of the step in seconds.
+     * @param minX The left wall of the gameplay area.
+     * @param maxX The right wall of the gameplay area.
+     * @param maxY The ceiling of the gameplay area.
+     * @param brickGrid The spatial index of live bricks.
+     * @param paddle The paddle.
+     * @param context The brick collision context.
+     * @return True if the ball fell below the bottom of the gameplay area, false otherwise.
+     */
+    public static boolean moveBall(Ball ball, float delta, float minX, float maxX, float maxY,
+                                   BrickGrid brickGrid, Paddle paddle, BrickCollisionContext context) {
+        float radius = ball.getRadius();
+        float remaining = delta;
+        BrickField bricks = brickGrid.getField();
+        Contact contact = CONTACT.get();
+
+        for (int i = 0; i < MAX_CONTACTS_PER_STEP && remaining > 0 && ball.isActive() && !ball.isStuckToPaddle(); i++) {
+            float x = ball.getBounds().x;
+            float y = ball.getBounds().y;
+            float vx = ball.getVelocity().x;
+            float vy = ball.getVelocity().y;
+            float endX = x + vx * remaining;
+            float endY = y + vy * remaining;
+
+            contact.reset(remaining);
+            sweepWalls(x, y, vx, vy, radius, minX, maxX, maxY, contact);
+            IntList candidates = brickGrid.query(Math.min(x, endX) - radius, Math.min(y, endY) - radius,
+                Math.max(x, endX) + radius, Math.max(y, endY) + radius);
+            for (int j = 0; j < candidates.size(); j++) {
+                int brick = candidates.get(j);
+                if (bricks.isDestroyed(brick)) continue;
+                boolean passThrough = ball.isSuperBall() && bricks.getType(brick) == Brick.BrickType.BREAKABLE;
+                if (sweepBox(x, y, vx, vy, radius, bricks.getX(brick), bricks.getY(brick),
+                        bricks.getWidth(brick), bricks.getHeight(brick), !passThrough, contact)) {
+                    contact.brick = brick;
+                    contact.paddle = false;
+                }
+            }
+            Rect paddleBounds = paddle.getBounds();
+            if (vy < 0 && y - radius > paddleBounds.y
+                && sweepBox(x, y, vx, vy, radius, paddleBounds.x, paddleBounds.y,
+                    paddleBounds.width, paddleBounds.height, true, contact)) {
+                contact.paddle = true;
+            }
+
+            if (!contact.hit) {
+                ball.getBounds().x = endX;
+                ball.getBounds().y = endY;
+                break;
+            }
+
+            ball.getBounds().x = x + vx * contact.time;
+            ball.getBounds().y = y + vy * contact.time;
+            remaining -= contact.time;
+
+            if (contact.brick >= 0 && handleSuperBallBrickCollision(ball, bricks, contact.brick, context)) {
+                // Carry on just inside the brick, so the next sweep sees it as entered and moves on
+                float inside = Math.min(remaining, CONTACT_OFFSET / (float) Math.hypot(vx, vy));
+                ball.getBounds().x += vx * inside;
+                ball.getBounds().y += vy * inside;
+                remaining -= inside;
+                continue;
+            }
+            // Back off the contact point slightly so the next sweep starts outside the surface
+            ball.getBounds().x += contact.normalX * CONTACT_OFFSET;
+            ball.getBounds().y += contact.normalY * CONTACT_OFFSET;
+            if (contact.paddle) {
+                handlePaddleCollision(ball, paddle, context.getBricksDestroyed());
+                context.onPaddleHit();
+            } else if (contact.brick >= 0) {
+                handleRegularBrickCollision(ball, bricks, contact.brick, contact.normalX, contact.normalY, context);
+            } else {
+                reflect(ball, contact.normalX, contact.normalY);
+            }
+        }
+
+        return ball.getBounds().y - radius <= 0;
+    }
+
+    /** Finds the earliest contact between a moving ball and the left, right and top walls.
+     *
+     * @param x The x-coordinate of the ball's center.
+     * @param y The y-coordinate of the ball's center.
+     * @param vx The horizontal velocity of the ball.
+     * @param vy The vertical velocity of the ball.
+     * @param radius The radius of the ball.
+     * @param minX The left wall.
+     * @param maxX The right wall.
+     * @param maxY The ceiling.
+     * @param contact The contact to update if a wall is hit earlier.
+     */
+    static void sweepWalls(float x, float y, float vx, float vy, float radius,
+                                   float minX, float maxX, float maxY, Contact contact) {
+        if (vx < 0) {
+            contact.offer(Math.max(0f, (minX + radius - x) / vx), 1f, 0f);
+        } else if (vx > 0) {
+            contact.offer(Math.max(0f, (maxX - radius - x) / vx), -1f, 0f);
+        }
+        if (vy > 0) {
+            contact.offer(Math.max(0f, (maxY - radius - y) / vy), 0f, -1f);
+        }
+    }
+
+    /** Finds the time of impact between a moving circle and a box, as a ray cast against the box
+     * grown by the radius: four face planes and four rounded corners.
+     *
+     * @param x The x-coordinate of the circle's center.
+     * @param y The y-coordinate of the circle's center.
+     * @param vx The horizontal velocity of the circle.
+     * @param vy The vertical velocity of the circle.
+     * @param radius The radius of the circle.
+     * @param boxX The left edge of the box.
+     * @param boxY The bottom edge of the box.
+     * @param boxWidth The width of the box.
+     * @param boxHeight The height of the box.
+     * @param solid Whether a circle already overlapping the box counts as touching it.
+     * @param contact The contact to update if the box is hit earlier.
+     * @return True if the box became the earliest contact, false otherwise.
+     */
+    static boolean sweepBox(float x, float y, float vx, float vy, float radius,
+                                    float boxX, float boxY, float boxWidth, float boxHeight,
+                                    boolean solid, Contact contact) {
+        float left = boxX;
+        float right = boxX + boxWidth;
+        float bottom = boxY;
+        float top = boxY + boxHeight;
+
+        float closestX = Math.max(left, Math.min(x, right));
+        float closestY = Math.max(bottom, Math.min(y, top));
+        float dx = x - closestX;
+        float dy = y - closestY;
+        float distSq = dx * dx + dy * dy;
+        if (distSq < radius * radius) {
+            if (!solid) return false;
+            float nx;
+            float ny;
+            if (distSq > 0) {
+                float dist = (float) Math.sqrt(distSq);
+                nx = dx / dist;
+                ny = dy / dist;
+            } else {
+                float penLeft = x - left;
+                float penRight = right - x;
+                float penBottom = y - bottom;
+                float penTop = top - y;
+                float minPen = Math.min(Math.min(penLeft, penRight), Math.min(penBottom, penTop));
+                nx = minPen == penLeft ? -1f : minPen == penRight ? 1f : 0f;
+                ny = nx != 0 ? 0f : minPen == penBottom ? -1f : 1f;
+            }
+            return vx * nx + vy * ny < 0 && contact.offer(0f, nx, ny);
+        }
+
+        boolean hit = false;
+        if (vx > 0) hit |= sweepFace((left - radius - x) / vx, y + vy * ((left - radius - x) / vx), bottom, top, -1f, 0f, contact);
+        if (vx < 0) hit |= sweepFace((right + radius - x) / vx, y + vy * ((right + radius - x) / vx), bottom, top, 1f, 0f, contact);
+        if (vy > 0) hit |= sweepFace((bottom - radius - y) / vy, x + vx * ((bottom - radius - y) / vy), left, right, 0f, -1f, contact);
+        if (vy < 0) hit |= sweepFace((top + radius - y) / vy, x + vx * ((top + radius - y) / vy), left, right, 0f, 1f, contact);
+        hit |= sweepCorner(x, y, vx, vy, radius, left, bottom, contact);
+        hit |= sweepCorner(x, y, vx, vy, radius, right, bottom, contact);
+        hit |= sweepCorner(x, y, vx, vy, radius, left, top, contact);
+        hit |= sweepCorner(x, y, vx, vy, radius, right, top, contact);
+        return hit;
+    }
+
+    /** Offers a face crossing of the grown box if it lies within the face's extent.
+     *
+     * @param time The time the ray crosses the face plane.
+     * @param along The coordinate along the face at that time.
+     * @param min The start of the face.
+     * @param max The end of the face.
+     * @param nx The x-component of the face normal.
+     * @param ny The y-component of the face normal.
+     * @param contact The contact to update.
+     * @return True if the face became the earliest contact, false otherwise.
+     */
+    private static boolean sweepFace(float time, float along, float min, float max,
+                                     float nx, float ny, Contact contact) {
+        return time >= 0 && along >= min && along <= max && contact.offer(time, nx, ny);
+    }
+
+    /** Offers the first time a moving circle touches a box corner.
+     *
+     * @param x The x-coordinate of the circle's center.
+     * @param y The y-coordinate of the circle's center.
+     * @param vx The horizontal velocity of the circle.
+     * @param vy The vertical velocity of the circle.
+     * @param radius The radius of the circle.
+     * @param cornerX The x-coordinate of the corner.
+     * @param cornerY The y-coordinate of the corner.
+     * @param contact The contact to update.
+     * @return True if the corner became the earliest contact, false otherwise.
+     */
+    private static boolean sweepCorner(float x, float y, float vx, float vy, float radius,
+                                       float cornerX, float cornerY, Contact contact) {
+        float ox = x - cornerX;
+        float oy = y - cornerY;
+        float a = vx * vx + vy * vy;
+        float b = ox * vx + oy * vy;
+        float c = ox * ox + oy * oy - radius * radius;
+        if (a == 0 || b >= 0) return false;
+        float discriminant = b * b - a * c;
+        if (discriminant < 0) return false;
+        float time = (-b - (float) Math.sqrt(discriminant)) / a;
+        if (time < 0) return false;
+        float nx = (ox + vx * time) / radius;
+        float ny = (oy + vy * time) / radius;
+        return contact.offer(time, nx, ny);
+    }
+
+    /** Reflects the ball's velocity about a contact normal.
+     *
+     * @param ball The ball to reflect.
+     * @param normalX The x-component of the contact normal.
+     * @param normalY The y-component of the contact normal.
+     */
+    private static void reflect(Ball ball, float normalX, float normalY) {
+        float vx = ball.getVelocity().x;
+        float vy = ball.getVelocity().y;
+        float dot = vx * normalX + vy * normalY;
+        if (dot >= 0) return;
+        ball.setVelocity(vx - 2 * dot * normalX, vy - 2 * dot * normalY);
+    }
+
+    /** Updates the score and combo based on the brick hit.
+     *
+     * @param type The type of the brick that was hit.
+     * @param context The score context to update.
+     */
+    public static void updateScoreAndCombo(Brick.BrickType type, ScoreContext context) {
+        if (type != Brick.BrickType.BREAKABLE) return;
+
+        context.combo++;
+        if (context.combo > context.maxCombo) {
+            context.maxCombo = context.combo;
+        }
+
+        float multiplier = 1.0f + (context.combo * 0.03f);
+        int scoreGain = (int) (10 * multiplier);
+        context.score += scoreGain;
+        if (context.score > context.bestScore) {
+            context.bestScore = context.score;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Breakable brick hit! Combo: {}x, Multiplier: {}x, Score gained: {}, Total: {}",
+                      context.combo, multiplier, scoreGain, context.score);
+        }
+    }
+
+    /** Handles a super ball entering a breakable brick. The ball keeps its course and hits the
+     * brick once on the way through.
+     *
+     * @param ball The ball involved in the collision.
+     * @param bricks The bricks of the level.
+     * @param brick The index of the brick involved in the collision.
+     * @param context The brick collision context.
+     * @return True if the collision was handled as a super ball hit, false otherwise.
+     */
+    public static boolean handleSuperBallBrickCollision(Ball ball, BrickField bricks, int brick,
+                                                       BrickCollisionContext context) {
+        if (!ball.isSuperBall() || bricks.getType(brick) != Brick.BrickType.BREAKABLE) return false;
+
+        bricks.hit(brick);
+        context.onBrickHit(brick);
+        updateScoreAndCombo(Brick.BrickType.BREAKABLE, context.getScoreContext());
+        if (bricks.isDestroyed(brick)) {
+            context.onBrickDestroyed(brick);
+            if (bricks.getPowerUpType(brick) != Brick.PowerUpType.NONE) {
+                context.spawnPowerUp(brick);
+            }
+        }
+        return true;
+    }
+
+    /** Handles a regular ball touching a brick: reflects the ball about the contact normal,
+     * then damages the brick.
+     *
+     * @param ball The ball involved in the collision.
+     * @param bricks The bricks of the level.
+     * @param brick The index of the brick involved in the collision.
+     * @param normalX The x-component of the contact normal, pointing from the brick to the ball.
+     * @param normalY The y-component of the contact normal, pointing from the brick to the ball.
+     * @param context The brick collision context.
+     */
+    public static void handleRegularBrickCollision(Ball ball, BrickField bricks, int brick, float normalX,
+                                                   float normalY, BrickCollisionContext context) {
+        Brick.BrickType type = bricks.getType(brick);
+        boolean isUnbreakable = type == Brick.BrickType.UNBREAKABLE;
+        if (isUnbreakable && context.getScoreContext().combo > 0) {
+            log.debug("Combo broken by unbreakable brick! Lost combo: {}x", context.getScoreContext().combo);
+            context.getScoreContext().combo = 0;
+        }
+
+        reflect(ball, normalX, normalY);
+        if (isUnbreakable) adjustBallVelocityIfTooVertical(ball);
+
+        bricks.hit(brick);
+        context.onBrickHit(brick);
+        updateScoreAndCombo(type, context.getScoreContext());
+
+        if (type == Brick.BrickType.BREAKABLE && bricks.isDestroyed(brick)) {
+            context.onBrickDestroyed(brick);
+            if (bricks.getPowerUpType(brick) != Brick.PowerUpType.NONE) {
+                context.spawnPowerUp(brick);
+            }
+        }
+    }
+
+    /** Handles the ball landing on the paddle, bouncing it at an angle set by where it hit.
+     *
+     * @param ball The ball touching the paddle.
+     * @param paddle The paddle.
+     * @param bricksDestroyed The number of bricks destroyed (for speed scaling).
+     */
+    public static void handlePaddleCollision(Ball ball, Paddle paddle, int bricksDestroyed) {
+        Rect paddleBounds = paddle.getBounds();
+        float ballX = ball.getBounds().x;
+        float ballRadius = ball.getRadius();
+
+        paddle.onBallHit(ball.getVelocity().y);
+        ball.getBounds().y = paddleBounds.y + paddleBounds.height + ballRadius + 2f;
+
+        float hitPos = Math.max(0.1f, Math.min(0.9f, (ballX - paddleBounds.x) / paddleBounds.width));
+        float bounceAngle = -(hitPos - 0.5f) * 100f;
+        float speedMultiplier = Math.min(1.0f + (bricksDestroyed * 0.002f), 1.3f);
+        float finalSpeed = 350f * speedMultiplier;
+        float angleInRadians = (float) Math.toRadians(90 + bounceAngle);
+
+        ball.setVelocity(
+            finalSpeed * (float) Math.cos(angleInRadians),
+            finalSpeed * (float) Math.sin(angleInRadians));
+    }
+
+    /** Adjusts the ball's velocity if it is too vertical to prevent getting stuck, keeping its
+     * horizontal direction.
+     *
+     * @param ball The ball whose velocity needs adjustment.
+     */
+    private static void adjustBallVelocityIfTooVertical(Ball ball) {
+        if (Math.abs(ball.getVelocity().x) < MIN_HORIZONTAL_VELOCITY_THRESHOLD) {
+            float currentVelX = ball.getVelocity().x;
+            float currentVelY = ball.getVelocity().y;
+            float speed = (float) Math.sqrt(currentVelX * currentVelX + currentVelY * currentVelY);
+            float directionX = currentVelX >= 0 ? 1 : -1;
+            float horizontalVel = speed * MIN_HORIZONTAL_RATIO * directionX;
+            float verticalVel = (float) Math.sqrt(speed * speed - horizontalVel * horizontalVel) * (currentVelY >= 0 ? 1 : -1);
+            ball.setVelocity(horizontalVel, verticalVel);
+            if (log.isDebugEnabled()) {
+                log.debug("Adjusted velocity to prevent vertical stuck: ({}, {})", horizontalVel, verticalVel);
+            }
+        }
+    }
+
+    /**
+     * Earliest contact found while sweeping a ball over the remainder of a step.
+     */
+    static class Contact {
+        boolean hit;
+        float time;
+        float normalX;
+        float normalY;
+        int brick = -1;
+        boolean paddle;
+
+        void reset(float limit) {
+            this.hit = false;
+            this.time = limit;
+            this.brick = -1;
+            this.paddle = false;
+        }
+
+        boolean offer(float time, float normalX, float normalY) {
+            if (time > this.time || (hit && time == this.time)) return false;
+            this.hit = true;
+            this.time = time;
+            this.normalX = normalX;
+            this.normalY = normalY;
+            this.brick = -1;
+            this.paddle = false;
+            return true;
+        }
+    }
+
+    /**
+     * Holds the score and combo context for the game.
+     */
+    public static class ScoreContext {
+        public int score;
+        public int bestScore;
+        public int combo;
+        public int maxCombo;
+
+        public ScoreContext(int score, int bestScore, int combo, int maxCombo) {
+            this.score = score;
+            this.bestScore = bestScore;
+            this.combo = combo;
+            this.maxCombo = maxCombo;
+        }
+    }
+
+    /**
+     * Interface for handling brick collision events.
+     */
+    public interface BrickCollisionContext {
+        void onBrickDestroyed(int brick);
+        void spawnPowerUp(int brick);
+        int getBricksDestroyed();
+        ScoreContext getScoreContext();
+
+        /**
+         * Called every time a ball damages a brick, breakable or not.
+         * @param brick The index of the brick that was hit
+         */
+        default void onBrickHit(int brick) {
+        }
+
+        /**
+         * Called after a ball bounces off the paddle.
+         */
+        default void onPaddleHit() {
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package org.vibecoders.moongazer.arkanoid;
 
-import com.badlogic.gdx.math.Rectangle;
+import org.vibecoders.moongazer.arkanoid.math.Rect;
 
 public abstract class GameObject {
-    public Rectangle bounds;
+    public Rect bounds;
+    protected float lastStepX;
+    protected float lastStepY;
 
     /**
      * Constructs a new GameObject with specified bounds.
@@ -13,14 +15,16 @@ public abstract class GameObject {
      * @param height Height of the object
      */
     public GameObject(float x, float y, float width, float height) {
-        this.bounds = new Rectangle(x, y, width, height);
+        this.bounds = new Rect(x, y, width, height);
+        this.lastStepX = x;
+        this.lastStepY = y;
     }
 
     /**
      * Gets the bounding rectangle of the object.
-     * @return Rectangle representing the object's bounds
+     * @return Rect representing the object's bounds
      */
-    public Rectangle getBounds() {
+    public Rect getBounds() {
         return bounds;
     }
 
@@ -87,6 +91,48 @@ public abstract class GameObject {
         this.bounds.set(x, y, width, height);
     }
 
+    /**
+     * Stores the current position as the state before the next simulation step.
+     */
+    public void storeLastStepPosition() {
+        lastStepX = bounds.x;
+        lastStepY = bounds.y;
+    }
+
+    /**
+     * Gets the X position stored before the current simulation step.
+     * @return X position at the start of the step
+     */
+    public float getLastStepX() {
+        return lastStepX;
+    }
+
+    /**
+     * Gets the Y position stored before the current simulation step.
+     * @return Y position at the start of the step
+     */
+    public float getLastStepY() {
+        return lastStepY;
+    }
+
+    /**
+     * Gets the X position interpolated between the last two simulation steps.
+     * @param alpha Blend factor, 0 for the previous step and 1 for the current one
+     * @return Interpolated X position
+     */
+    public float getRenderX(float alpha) {
+        return lastStepX + (bounds.x - lastStepX) * alpha;
+    }
+
+    /**
+     * Gets the Y position interpolated between the last two simulation steps.
+     * @param alpha Blend factor, 0 for the previous step and 1 for the current one
+     * @return Interpolated Y position
+     */
+    public float getRenderY(float alpha) {
+        return lastStepY + (bounds.y - lastStepY) * alpha;
+    }
+
     /**
      * Updates the object's state.
      * @param deltaTime Time elapsed since last update
@@ -0,0 +1,594 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vibecoders.moongazer.arkanoid.math.Rect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.vibecoders.moongazer.Constants.FIXED_TIMESTEP;
+
+/**
+ * Paddle AI that plans by lookahead. Every few steps it copies the world, plays each candidate
+ * plan (which ball to save and where on the paddle to strike it, or which falling power-up to
+ * catch) a second or two ahead in scratch worlds on worker threads, and follows the plan that
+ * ends best. The search waits no longer than a frame budget and picks the best plan evaluated
+ * by then, so the game thread never stalls on it.
+ * With a budget of zero it waits for every plan, which makes it deterministic for a given
+ * world, e.g. for benchmarks and replays.
+ * Close it when done to stop its worker threads.
+ */
+public class LookaheadAI implements PaddleAI, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(LookaheadAI.class);
+    private static final float DEFAULT_HORIZON_SECONDS = 1.5f;
+    private static final long DEFAULT_FRAME_BUDGET_NANOS = 4_000_000L;
+    private static final int REPLAN_STEPS = 24;
+    // Center first, so a budget that runs out early still leaves the safest strike evaluated
+    private static final float[] HIT_POSITIONS = {0.5f, 0.3f, 0.7f};
+    private static final int MAX_POWER_UP_TARGETS = 2;
+    private static final float AIM_TOLERANCE = 3f;
+    private static final float LIFE_VALUE = 100000f;
+    private static final float BALL_VALUE = 20000f;
+    private static final float UNREACHABLE_PENALTY = 10000f;
+    private static final float LEVEL_COMPLETE_VALUE = 50000f;
+    private static final float POWER_UP_VALUE = 250f;
+
+    private final World world;
+    private final int horizonSteps;
+    private final long frameBudgetNanos;
+    private final ExecutorService workers;
+    private final ThreadLocal<Rollout> rollouts = ThreadLocal.withInitial(Rollout::new);
+    private final List<Search> searches = new ArrayList<>();
+    private final List<Plan> candidates = new ArrayList<>();
+    private final Pilot pilot;
+    private boolean enabled = false;
+    private int stepsUntilReplan;
+    private int rolloutsCompleted;
+    private int rolloutsAbandoned;
+
+    /**
+     * Candidate strategy for the next few moments of play.
+     */
+    private static final class Plan {
+        final int order;
+        final int ball;
+        final int powerUp;
+        final float hitPosition;
+
+        /**
+         * Constructs a plan.
+         * @param order Position in the candidate list, used to break ties
+         * @param ball Index of the ball to save, or -1 for whichever is most urgent
+         * @param powerUp Index of the falling power-up to catch first, or -1 for none
+         * @param hitPosition Where the ball should strike the paddle, 0 for its left edge and 1 for its right edge
+         */
+        Plan(int order, int ball, int powerUp, float hitPosition) {
+            this.order = order;
+            this.ball = ball;
+            this.powerUp = powerUp;
+            this.hitPosition = hitPosition;
+        }
+    }
+
+    /**
+     * A plan with the value its rollout ended on.
+     */
+    private static final class Result {
+        final Plan plan;
+        final float value;
+
+        Result(Plan plan, float value) {
+            this.plan = plan;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Copy of the world one search plays its plans from. Reused only once no rollout reads it.
+     */
+    private final class Search {
+        final World snapshot = createScratchWorld();
+        final AtomicInteger pending = new AtomicInteger();
+        volatile boolean cancelled;
+    }
+
+    /**
+     * Steers a paddle to follow one plan. Used both on the real world and inside rollouts, so a
+     * plan is played the same way it was evaluated.
+     */
+    private static final class Pilot implements PaddleAI {
+        private final TrajectoryPredictor predictor;
+        private Ball ball;
+        private PowerUp powerUp;
+        private float hitPosition = 0.5f;
+
+        /**
+         * Constructs a pilot.
+         * @param predictor Predictor bound to the world the pilot plays in
+         */
+        Pilot(TrajectoryPredictor predictor) {
+            this.predictor = predictor;
+        }
+
+        /**
+         * Starts following a plan, resolving its targets among the world's objects.
+         * @param plan The plan
+         * @param world The world whose objects the plan's indices refer to
+         */
+        void follow(Plan plan, World world) {
+            ball = plan.ball >= 0 ? world.getBalls().get(plan.ball) : null;
+            powerUp = plan.powerUp >= 0 ? world.getActivePowerUps().get(plan.powerUp) : null;
+            hitPosition = plan.hitPosition;
+        }
+
+        /**
+         * Moves the paddle toward the plan's power-up until it is caught or missed, then toward
+         * the plan's ball, or the most urgent ball once that one is gone.
+         * @param paddle The paddle to control
+         * @param balls List of balls currently in play
+         * @param powerUps List of active power-ups falling
+         */
+        @Override
+        public void update(Paddle paddle, List<Ball> balls, List<PowerUp> powerUps) {
+            if (paddle == null) {
+                return;
+            }
+            Rect paddleBounds = paddle.getBounds();
+            if (powerUp != null && (!powerUps.contains(powerUp) || powerUp.y + powerUp.height < paddleBounds.y)) {
+                powerUp = null;
+            }
+            if (ball != null && (!balls.contains(ball) || !ball.isActive())) {
+                ball = null;
+            }
+
+            float targetX;
+            if (powerUp != null) {
+                targetX = powerUp.x + powerUp.width / 2;
+            } else {
+                Ball target = ball != null ? ball : findMostUrgentBall(paddle, balls, predictor);
+                if (target == null) {
+                    steer(paddle, paddle.getCenterX());
+                    return;
+                }
+                float ballX = predictLandingX(paddle, target, predictor);
+                targetX = ballX - (hitPosition - 0.5f) * paddleBounds.width;
+            }
+            steer(paddle, targetX);
+        }
+
+        /**
+         * Does nothing: a pilot is always on while it is installed.
+         * @param enabled Ignored
+         */
+        @Override
+        public void setEnabled(boolean enabled) {
+        }
+
+        /**
+         * Pilots are always enabled.
+         * @return true
+         */
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+    }
+
+    /**
+     * Scratch world of one worker thread, stepped ahead under a pilot to score plans.
+     */
+    private final class Rollout implements WorldListener {
+        final World scratch = createScratchWorld();
+        final Pilot scratchPilot = new Pilot(createPredictor(scratch));
+        int powerUpsCaught;
+        boolean levelComplete;
+
+        /**
+         * Installs the rollout's pilot and listener on its scratch world.
+         */
+        Rollout() {
+            scratch.setPaddleAI(scratchPilot);
+            scratch.setListener(this);
+        }
+
+        /**
+         * Plays a plan from a search's snapshot to the horizon and scores where it ends.
+         * @param search The search whose snapshot to start from
+         * @param plan The plan to play
+         * @return The value of the plan, higher is better, or NaN if the search was cancelled
+         */
+        float evaluate(Search search, Plan plan) {
+            if (search.cancelled) {
+                return Float.NaN;
+            }
+            scratch.copyFrom(search.snapshot);
+            scratchPilot.follow(plan, scratch);
+            powerUpsCaught = 0;
+            levelComplete = false;
+            int startLives = scratch.getLives();
+            int startScore = scratch.getScore();
+
+            for (int step = 0; step < horizonSteps && !scratch.isGameOver() && !levelComplete; step++) {
+                if (search.cancelled) {
+                    return Float.NaN;
+                }
+                scratch.step(FIXED_TIMESTEP);
+            }
+
+            float value = scratch.getScore() - startScore;
+            value += (scratch.getLives() - startLives) * LIFE_VALUE;
+            value += powerUpsCaught * POWER_UP_VALUE;
+            if (levelComplete) {
+                value += LEVEL_COMPLETE_VALUE;
+            }
+            Paddle paddle = scratch.getPaddle();
+            List<Ball> balls = scratch.getBalls();
+            for (int i = 0; i < balls.size(); i++) {
+                Ball ball = balls.get(i);
+                if (!ball.isActive()) continue;
+                value += BALL_VALUE;
+                if (!canReach(paddle, ball)) {
+                    value -= UNREACHABLE_PENALTY;
+                }
+            }
+            return value;
+        }
+
+        /**
+         * Checks whether the paddle can still get under a ball before it comes down, so plans
+         * that leave the paddle stranded at the horizon score lower.
+         * @param paddle The paddle
+         * @param ball The ball
+         * @return true if the ball is not coming down or the paddle can reach its landing point in time
+         */
+        private boolean canReach(Paddle paddle, Ball ball) {
+            if (ball.getBounds().y <= paddle.getBounds().y) {
+                return false;
+            }
+            float interceptY = getInterceptY(paddle, ball);
+            float time = scratchPilot.predictor.predictLandingTime(ball, interceptY);
+            if (Float.isInfinite(time)) {
+                return true;
+            }
+            float distance = Math.abs(scratchPilot.predictor.predictLandingX(ball, interceptY) - paddle.getCenterX())
+                    - paddle.getBounds().width / 2;
+            return distance <= paddle.getSpeed() * time;
+        }
+
+        @Override
+        public void onPowerUpCollected(PowerUp powerUp) {
+            powerUpsCaught++;
+        }
+
+        @Override
+        public void onLevelComplete() {
+            levelComplete = true;
+        }
+    }
+
+    /**
+     * Constructs a lookahead AI for a world with one worker per spare core, a 4 ms frame
+     * budget and a 1.5 second horizon.
+     * @param world The world whose paddle the AI controls
+     */
+    public LookaheadAI(World world) {
+        this(world, Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+             DEFAULT_FRAME_BUDGET_NANOS, DEFAULT_HORIZON_SECONDS);
+    }
+
+    /**
+     * Constructs a lookahead AI for a world.
+     * @param world The world whose paddle the AI controls
+     * @param threads Number of worker threads playing plans
+     * @param frameBudgetNanos Longest time a step waits for plans, or 0 to wait for every plan
+     * @param horizonSeconds How far ahead each plan is played, in game time
+     */
+    public LookaheadAI(World world, int threads, long frameBudgetNanos, float horizonSeconds) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1: " + threads);
+        }
+        this.world = world;
+        this.frameBudgetNanos = frameBudgetNanos;
+        this.horizonSteps = Math.max(1, Math.round(horizonSeconds / FIXED_TIMESTEP));
+        this.pilot = new Pilot(createPredictor(world));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "lookahead-ai-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Replans every few steps, then steers the paddle along the current plan.
+     * @param paddle The paddle to control
+     * @param balls List of balls currently in play
+     * @param powerUps List of active power-ups falling
+     */
+    @Override
+    public void update(Paddle paddle, List<Ball> balls, List<PowerUp> powerUps) {
+        if (paddle == null) {
+            return;
+        }
+        if (!enabled) {
+            paddle.moveLeft(false);
+            paddle.moveRight(false);
+            return;
+        }
+        if (--stepsUntilReplan <= 0) {
+            replan();
+            stepsUntilReplan = REPLAN_STEPS;
+        }
+        pilot.update(paddle, balls, powerUps);
+    }
+
+    /**
+     * Plays every candidate plan from a copy of the world on the workers and follows the best
+     * one evaluated within the frame budget. Keeps the current plan if none finished in time.
+     */
+    private void replan() {
+        buildCandidates();
+        if (candidates.size() == 1) {
+            pilot.follow(candidates.get(0), world);
+            return;
+        }
+
+        Search search = obtainSearch();
+        search.snapshot.copyFrom(world);
+        search.cancelled = false;
+        CompletionService<Result> completion = new ExecutorCompletionService<>(workers);
+        for (int i = 0; i < candidates.size(); i++) {
+            Plan plan = candidates.get(i);
+            search.pending.incrementAndGet();
+            completion.submit(() -> {
+                try {
+                    return new Result(plan, rollouts.get().evaluate(search, plan));
+                } finally {
+                    search.pending.decrementAndGet();
+                }
+            });
+        }
+
+        Result best = null;
+        int finished = 0;
+        long deadline = System.nanoTime() + frameBudgetNanos;
+        try {
+            while (finished < candidates.size()) {
+                Future<Result> future = frameBudgetNanos > 0
+                        ? completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)
+                        : completion.take();
+                if (future == null) {
+                    break;
+                }
+                finished++;
+                Result result = future.get();
+                if (Float.isNaN(result.value)) continue;
+                if (best == null || result.value > best.value
+                        || (result.value == best.value && result.plan.order < best.plan.order)) {
+                    best = result;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Lookahead rollout failed", e.getCause());
+        } finally {
+            search.cancelled = true;
+        }
+        rolloutsCompleted += finished;
+        rolloutsAbandoned += candidates.size() - finished;
+
+        if (best != null) {
+            pilot.follow(best.plan, world);
+        }
+    }
+
+    /**
+     * Lists the plans worth playing: every strike position on every launched ball, most urgent
+     * ball first, then catching each of the lowest falling power-ups. Indices refer to the
+     * world's current balls and power-ups, which the snapshot copies in the same order.
+     */
+    private void buildCandidates() {
+        candidates.clear();
+        Paddle paddle = world.getPaddle();
+        List<Ball> balls = world.getBalls();
+        List<Ball> byUrgency = new ArrayList<>(balls.size());
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            if (ball.isActive() && !ball.isStuckToPaddle()) {
+                byUrgency.add(ball);
+            }
+        }
+        if (byUrgency.isEmpty()) {
+            candidates.add(new Plan(0, -1, -1, 0.5f));
+            return;
+        }
+        byUrgency.sort((a, b) -> Float.compare(getUrgency(paddle, a, pilot.predictor),
+                                               getUrgency(paddle, b, pilot.predictor)));
+        for (Ball ball : byUrgency) {
+            for (float hitPosition : HIT_POSITIONS) {
+                candidates.add(new Plan(candidates.size(), balls.indexOf(ball), -1, hitPosition));
+            }
+        }
+
+        List<PowerUp> powerUps = world.getActivePowerUps();
+        boolean[] taken = new boolean[powerUps.size()];
+        for (int n = 0; n < MAX_POWER_UP_TARGETS; n++) {
+            int lowest = -1;
+            for (int i = 0; i < powerUps.size(); i++) {
+                PowerUp powerUp = powerUps.get(i);
+                if (taken[i] || powerUp.y + powerUp.height < paddle.getBounds().y) continue;
+                if (lowest < 0 || powerUp.y < powerUps.get(lowest).y) {
+                    lowest = i;
+                }
+            }
+            if (lowest < 0) break;
+            taken[lowest] = true;
+            candidates.add(new Plan(candidates.size(), -1, lowest, 0.5f));
+        }
+    }
+
+    /**
+     * Takes a search whose snapshot no rollout is still reading, or makes a new one.
+     * @return A free search
+     */
+    private Search obtainSearch() {
+        for (int i = 0; i < searches.size(); i++) {
+            Search search = searches.get(i);
+            if (search.pending.get() == 0) {
+                return search;
+            }
+        }
+        Search search = new Search();
+        searches.add(search);
+        return search;
+    }
+
+    /**
+     * Creates a world with the same playfield as the controlled one that does not log.
+     * @return The scratch world
+     */
+    private World createScratchWorld() {
+        World scratch = new World(world.getMinX(), world.getMaxX(), world.getHeight());
+        scratch.setLogging(false);
+        return scratch;
+    }
+
+    /**
+     * Creates a trajectory predictor for the bricks and walls of a world.
+     * @param target The world
+     * @return The predictor
+     */
+    private static TrajectoryPredictor createPredictor(World target) {
+        return new TrajectoryPredictor(target.getBrickGrid(), target.getMinX(), target.getMaxX(), target.getHeight());
+    }
+
+    /**
+     * Finds the ball that comes down to the paddle soonest.
+     * @param paddle The paddle
+     * @param balls Balls in play
+     * @param predictor Predictor for the balls' world
+     * @return The most urgent launched ball, or null if none is launched
+     */
+    private static Ball findMostUrgentBall(Paddle paddle, List<Ball> balls, TrajectoryPredictor predictor) {
+        Ball mostUrgent = null;
+        float soonest = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            if (!ball.isActive() || ball.isStuckToPaddle()) continue;
+            float time = getUrgency(paddle, ball, predictor);
+            if (mostUrgent == null || time < soonest) {
+                mostUrgent = ball;
+                soonest = time;
+            }
+        }
+        return mostUrgent;
+    }
+
+    /**
+     * Gets how soon a ball comes down to the paddle.
+     * @param paddle The paddle
+     * @param ball The ball
+     * @param predictor Predictor for the ball's world
+     * @return Seconds until it comes down, 0 if it is already below the paddle, or infinity
+     */
+    private static float getUrgency(Paddle paddle, Ball ball, TrajectoryPredictor predictor) {
+        if (ball.getBounds().y <= paddle.getBounds().y) {
+            return 0f;
+        }
+        return predictor.predictLandingTime(ball, getInterceptY(paddle, ball));
+    }
+
+    /**
+     * Predicts where a ball comes down to the paddle, or its current position if it is below
+     * the paddle or does not come down within the prediction horizon.
+     * @param paddle The paddle
+     * @param ball The ball
+     * @param predictor Predictor for the ball's world
+     * @return X position of the ball's center at the paddle
+     */
+    private static float predictLandingX(Paddle paddle, Ball ball, TrajectoryPredictor predictor) {
+        // The simulation keeps the ball's center in its bounds position
+        if (ball.getBounds().y > paddle.getBounds().y) {
+            float landingX = predictor.predictLandingX(ball, getInterceptY(paddle, ball));
+            if (!Float.isNaN(landingX)) {
+                return landingX;
+            }
+        }
+        return ball.getBounds().x;
+    }
+
+    /**
+     * Gets the height of a ball's center when it touches the top of the paddle.
+     * @param paddle The paddle
+     * @param ball The ball
+     * @return Intercept height
+     */
+    private static float getInterceptY(Paddle paddle, Ball ball) {
+        return paddle.getBounds().y + paddle.getBounds().height + ball.getRadius();
+    }
+
+    /**
+     * Moves the paddle toward a target center position.
+     * @param paddle The paddle to move
+     * @param targetX Target X position of the paddle's center
+     */
+    private static void steer(Paddle paddle, float targetX) {
+        float difference = targetX - paddle.getCenterX();
+        paddle.moveLeft(difference < -AIM_TOLERANCE);
+        paddle.moveRight(difference > AIM_TOLERANCE);
+    }
+
+    /**
+     * Enables or disables the AI control. Replans on the next step after being enabled.
+     * @param enabled true to enable AI, false to disable
+     */
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        stepsUntilReplan = 0;
+        log.info("LookaheadAI {}", enabled ? "ENABLED" : "DISABLED");
+    }
+
+    /**
+     * Checks if the AI is currently enabled.
+     * @return true if AI is enabled, false otherwise
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets how many plan rollouts finished within the frame budget.
+     * @return Completed rollout count
+     */
+    public int getRolloutsCompleted() {
+        return rolloutsCompleted;
+    }
+
+    /**
+     * Gets how many plan rollouts were abandoned because the frame budget ran out.
+     * @return Abandoned rollout count
+     */
+    public int getRolloutsAbandoned() {
+        return rolloutsAbandoned;
+    }
+
+    /**
+     * Stops the worker threads. Abandoned rollouts stop at their next step.
+     */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+}
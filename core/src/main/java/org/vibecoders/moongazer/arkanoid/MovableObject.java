@@ -1,9 +1,9 @@
 package org.vibecoders.moongazer.arkanoid;
 
-import com.badlogic.gdx.math.Vector2;
+import org.vibecoders.moongazer.arkanoid.math.Vec2;
 
 public abstract class MovableObject extends GameObject {
-    public Vector2 velocity;
+    public Vec2 velocity;
 
     /**
      * Constructs a new MovableObject with specified bounds.
@@ -14,7 +14,7 @@ public abstract class MovableObject extends GameObject {
      */
     public MovableObject(float x, float y, float width, float height) {
         super(x, y, width, height);
-        this.velocity = new Vector2(0, 0);
+        this.velocity = new Vec2(0, 0);
     }
 
     /**
@@ -31,7 +31,7 @@ public abstract class MovableObject extends GameObject {
      * Gets the velocity vector of the object.
      * @return Velocity vector
      */
-    public Vector2 getVelocity() {
+    public Vec2 getVelocity() {
         return velocity;
     }
 
@@ -57,8 +57,7 @@ public abstract class MovableObject extends GameObject {
      */
     @Override
     public void update(float deltaTime) {
-        int newX = getX() + (int) (velocity.x * deltaTime);
-        int newY = getY() + (int) (velocity.y * deltaTime);
-        setPosition(newX, newY);
+        bounds.x += velocity.x * deltaTime;
+        bounds.y += velocity.y * deltaTime;
     }
 }
@@ -1,20 +1,17 @@
 package org.vibecoders.moongazer.arkanoid;
 
-import org.vibecoders.moongazer.Settings;
-import org.vibecoders.moongazer.managers.Assets;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Rectangle;
+import org.vibecoders.moongazer.arkanoid.math.Rect;
+import org.vibecoders.moongazer.arkanoid.util.Pool;
 import java.util.ArrayList;
 import java.util.List;
 
 public class Paddle extends MovableObject {
-    private Texture texture;
+    private static final PaddleInput NO_INPUT = new PaddleInput();
+    /** Frame rate the smoothing factor is defined at. */
+    private static final float SMOOTHING_RATE = 60f;
     private float speed = 500f;
     private float targetX;
+    /** Share of the distance to the pointer left after one frame at {@link #SMOOTHING_RATE}. */
     private float smoothingFactor = 0.25f;
     private boolean isSticky = false;
     private float originalY;
@@ -28,8 +25,11 @@ public class Paddle extends MovableObject {
     // Bullet functionality
     private boolean bulletEnabled = false;
     private List<Bullet> bullets = new ArrayList<>();
+    private final Pool<Bullet> bulletPool;
     private float bulletCooldown = 0f;
     private static final float BULLET_COOLDOWN_TIME = 0.3f;
+    private static final float BULLET_WIDTH = 5f;
+    private static final float BULLET_HEIGHT = 19f;
     private boolean spaceWasPressed = false;
 
     /**
@@ -40,10 +40,60 @@ public class Paddle extends MovableObject {
      * @param height Height of the paddle
      */
     public Paddle(float x, float y, float width, float height) {
+        this(x, y, width, height, createBulletPool());
+    }
+
+    /**
+     * Constructs a new Paddle object that fires bullets from a shared pool, so bullets
+     * outlive the paddle when a level replaces it.
+     * @param x X position
+     * @param y Y position
+     * @param width Width of the paddle
+     * @param height Height of the paddle
+     * @param bulletPool Pool to obtain bullets from and return them to
+     */
+    public Paddle(float x, float y, float width, float height, Pool<Bullet> bulletPool) {
         super(x, y, width, height);
         this.targetX = x;
         this.originalY = y;
-        this.texture = Assets.getAsset("textures/arkanoid/paddle.png", Texture.class);
+        this.bulletPool = bulletPool;
+    }
+
+    /**
+     * Creates an empty pool of paddle-sized bullets.
+     * @return The bullet pool
+     */
+    public static Pool<Bullet> createBulletPool() {
+        return new Pool<>(() -> new Bullet(0, 0, BULLET_WIDTH, BULLET_HEIGHT));
+    }
+
+    /**
+     * Copies the position, size, movement, bounce and bullet state of another paddle.
+     * Bullets are copied into bullets from this paddle's own pool.
+     * @param other The paddle to copy
+     */
+    public void copyFrom(Paddle other) {
+        bounds.set(other.bounds);
+        lastStepX = other.lastStepX;
+        lastStepY = other.lastStepY;
+        speed = other.speed;
+        targetX = other.targetX;
+        smoothingFactor = other.smoothingFactor;
+        isSticky = other.isSticky;
+        originalY = other.originalY;
+        currentYOffset = other.currentYOffset;
+        targetYOffset = other.targetYOffset;
+        aiMoveLeft = other.aiMoveLeft;
+        aiMoveRight = other.aiMoveRight;
+        bulletCooldown = other.bulletCooldown;
+        spaceWasPressed = other.spaceWasPressed;
+        setBulletEnabled(false);
+        bulletEnabled = other.bulletEnabled;
+        for (int i = 0; i < other.bullets.size(); i++) {
+            Bullet bullet = bulletPool.obtain();
+            bullet.copyFrom(other.bullets.get(i));
+            bullets.add(bullet);
+        }
     }
 
     /**
@@ -56,35 +106,46 @@ public class Paddle extends MovableObject {
     }
 
     /**
-     * Updates the paddle's state with specified movement boundaries.
+     * Updates the paddle's state with specified movement boundaries, driven only by AI controls.
      * @param delta Time elapsed since last update
      * @param minX Minimum X position
      * @param maxX Maximum X position
      */
     public void update(float delta, float minX, float maxX) {
+        update(delta, minX, maxX, NO_INPUT);
+    }
+
+    /**
+     * Updates the paddle's state with specified movement boundaries and player controls.
+     * @param delta Time elapsed since last update
+     * @param minX Minimum X position
+     * @param maxX Maximum X position
+     * @param input Player controls for this step
+     */
+    public void update(float delta, float minX, float maxX, PaddleInput input) {
         boolean keyboardUsed = false;
-        if (Gdx.input.isKeyPressed(Settings.getKeybind("p1_left")) || aiMoveLeft) {
+        if (input.left || aiMoveLeft) {
             bounds.x -= speed * delta;
             targetX = bounds.x;
             keyboardUsed = true;
         }
-        if (Gdx.input.isKeyPressed(Settings.getKeybind("p1_right")) || aiMoveRight) {
+        if (input.right || aiMoveRight) {
             bounds.x += speed * delta;
             targetX = bounds.x;
             keyboardUsed = true;
         }
-        if (!keyboardUsed && Gdx.input.isTouched()) {
-            float mouseX = Gdx.input.getX();
-            targetX = mouseX - bounds.width / 2f;
-            bounds.x = MathUtils.lerp(bounds.x, targetX, 1f - smoothingFactor);
+        if (!keyboardUsed && input.pointerDown) {
+            targetX = input.pointerX - bounds.width / 2f;
+            // Scaled by the step length, so the paddle follows the same way at any step rate
+            bounds.x += (targetX - bounds.x) * (1f - (float) Math.pow(smoothingFactor, delta * SMOOTHING_RATE));
         }
-        bounds.x = MathUtils.clamp(bounds.x, minX, maxX - bounds.width);
-        targetX = MathUtils.clamp(targetX, minX, maxX - bounds.width);
+        bounds.x = Math.max(minX, Math.min(maxX - bounds.width, bounds.x));
+        targetX = Math.max(minX, Math.min(maxX - bounds.width, targetX));
         updateBounceEffect(delta);
 
         if (bulletEnabled) {
             updateBullets(delta);
-            handleBulletShooting();
+            handleBulletShooting(input.fire);
         }
     }
 
@@ -97,17 +158,16 @@ public class Paddle extends MovableObject {
             bulletCooldown -= delta;
         }
 
-        for (Bullet bullet : bullets) {
-            bullet.update(delta);
+        for (int i = 0; i < bullets.size(); i++) {
+            bullets.get(i).update(delta);
         }
     }
 
     /**
-     * Handles the shooting of bullets when space is pressed.
+     * Handles the shooting of bullets when the fire control is pressed.
+     * @param spacePressed Whether the fire control is held this step
      */
-    private void handleBulletShooting() {
-        boolean spacePressed = Gdx.input.isKeyPressed(Input.Keys.SPACE);
-
+    private void handleBulletShooting(boolean spacePressed) {
         if (spacePressed && !spaceWasPressed && bulletCooldown <= 0) {
             shootBullet();
             bulletCooldown = BULLET_COOLDOWN_TIME;
@@ -124,8 +184,12 @@ public class Paddle extends MovableObject {
         float rightX = bounds.x + bounds.width * 0.75f - 2;
         float bulletY = bounds.y + bounds.height;
 
-        bullets.add(new Bullet(leftX, bulletY, 5, 19));
-        bullets.add(new Bullet(rightX, bulletY, 5, 19));
+        Bullet left = bulletPool.obtain();
+        left.fireFrom(leftX, bulletY);
+        bullets.add(left);
+        Bullet right = bulletPool.obtain();
+        right.fireFrom(rightX, bulletY);
+        bullets.add(right);
     }
 
     /**
@@ -147,29 +211,26 @@ public class Paddle extends MovableObject {
      */
     public void onBallHit(float ballVelocityY) {
         float impactStrength = Math.abs(ballVelocityY) / 350f;
-        impactStrength = MathUtils.clamp(impactStrength, 0.3f, 1.0f);
+        impactStrength = Math.max(0.3f, Math.min(1.0f, impactStrength));
         targetYOffset = MAX_Y_OFFSET * impactStrength;
     }
 
     /**
-     * Renders the paddle to the screen.
-     * @param batch SpriteBatch used for rendering
+     * Stores the current paddle and bullet positions before the next simulation step.
      */
-    public void render(SpriteBatch batch) {
-        batch.draw(texture, bounds.x, bounds.y, bounds.width, bounds.height);
-
-        if (bulletEnabled) {
-            for (Bullet bullet : bullets) {
-                bullet.render(batch);
-            }
+    @Override
+    public void storeLastStepPosition() {
+        super.storeLastStepPosition();
+        for (int i = 0; i < bullets.size(); i++) {
+            bullets.get(i).storeLastStepPosition();
         }
     }
 
     /**
      * Gets the bounding rectangle of the paddle.
-     * @return Rectangle representing the paddle's bounds
+     * @return Rect representing the paddle's bounds
      */
-    public Rectangle getBounds() {
+    public Rect getBounds() {
         return bounds;
     }
 
@@ -189,6 +250,14 @@ public class Paddle extends MovableObject {
         return (targetX - bounds.x);
     }
 
+    /**
+     * Gets the speed the paddle moves at when steered left or right.
+     * @return Speed in pixels per second
+     */
+    public float getSpeed() {
+        return speed;
+    }
+
     /**
      * Extends the paddle width by a specified amount.
      * @param amount Amount to extend by
@@ -274,6 +343,9 @@ public class Paddle extends MovableObject {
     public void setBulletEnabled(boolean enabled) {
         this.bulletEnabled = enabled;
         if (!enabled) {
+            for (int i = 0; i < bullets.size(); i++) {
+                bulletPool.free(bullets.get(i));
+            }
             bullets.clear();
         }
     }
@@ -295,10 +367,18 @@ public class Paddle extends MovableObject {
     }
 
     /**
-     * Removes bullets that are off screen or inactive.
+     * Removes bullets that are off screen or inactive and returns them to the bullet pool.
      * @param screenHeight Height of the screen for boundary checking
      */
     public void cleanupBullets(float screenHeight) {
-        bullets.removeIf(bullet -> bullet.isOffScreen(screenHeight) || !bullet.isActive());
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            Bullet bullet = bullets.get(i);
+            if (bullet.isOffScreen(screenHeight) || !bullet.isActive()) {
+                int last = bullets.size() - 1;
+                bullets.set(i, bullets.get(last));
+                bullets.remove(last);
+                bulletPool.free(bullet);
+            }
+        }
     }
 }
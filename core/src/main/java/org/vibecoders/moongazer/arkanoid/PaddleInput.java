@@ -0,0 +1,39 @@
+package org.vibecoders.moongazer.arkanoid;
+
+/**
+ * Player controls for one simulation step. Frontends fill it from their input devices
+ * before stepping the world, so the simulation itself never polls a device.
+ */
+public class PaddleInput {
+    public boolean left;
+    public boolean right;
+    public boolean fire;
+    public boolean launch;
+    public boolean pointerDown;
+    public float pointerX;
+
+    /**
+     * Releases every control.
+     */
+    public void clear() {
+        left = false;
+        right = false;
+        fire = false;
+        launch = false;
+        pointerDown = false;
+        pointerX = 0f;
+    }
+
+    /**
+     * Copies the controls of another input.
+     * @param other Input to copy from
+     */
+    public void set(PaddleInput other) {
+        left = other.left;
+        right = other.right;
+        fire = other.fire;
+        launch = other.launch;
+        pointerDown = other.pointerDown;
+        pointerX = other.pointerX;
+    }
+}
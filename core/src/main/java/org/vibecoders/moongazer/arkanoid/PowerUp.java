@@ -0,0 +1,104 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.vibecoders.moongazer.arkanoid.util.Pool;
+
+public abstract class PowerUp extends MovableObject implements Pool.Poolable {
+    public float x;
+    public float y;
+    public float width;
+    public float height;
+    public float speedY = -100;
+
+    /**
+     * Constructs a new PowerUp object.
+     * @param x X position
+     * @param y Y position
+     * @param width Width of the power-up
+     * @param height Height of the power-up
+     */
+    protected PowerUp(float x, float y, float width, float height) {
+        super(x, y, width, height);
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Places a pooled power-up where a brick dropped it.
+     * @param x X position
+     * @param y Y position
+     * @param width Width of the power-up
+     * @param height Height of the power-up
+     */
+    public void place(float x, float y, float width, float height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        bounds.set(x, y, width, height);
+        storeLastStepPosition();
+    }
+
+    /**
+     * Copies the position and fall speed of another power-up of the same type.
+     * @param other The power-up to copy
+     */
+    public void copyFrom(PowerUp other) {
+        place(other.x, other.y, other.width, other.height);
+        lastStepX = other.lastStepX;
+        lastStepY = other.lastStepY;
+        speedY = other.speedY;
+    }
+
+    /**
+     * Restores the default fall speed so a pooled power-up behaves like a new one.
+     */
+    @Override
+    public void reset() {
+        speedY = -100;
+    }
+
+    public abstract void applyEffect(World world);
+    public abstract void removeEffect(World world);
+    public abstract int getDuration();
+    public abstract String getName();
+    public abstract Brick.PowerUpType getType();
+
+    /**
+     * Updates the power-up's position.
+     * @param delta Time elapsed since last update
+     */
+    public void update(float delta) {
+        y += speedY * delta;
+    }
+
+    /**
+     * Stores the current falling position before the next simulation step.
+     */
+    @Override
+    public void storeLastStepPosition() {
+        lastStepX = x;
+        lastStepY = y;
+    }
+
+    /**
+     * Gets the X position interpolated between the last two simulation steps.
+     * @param alpha Blend factor, 0 for the previous step and 1 for the current one
+     * @return Interpolated X position
+     */
+    @Override
+    public float getRenderX(float alpha) {
+        return lastStepX + (x - lastStepX) * alpha;
+    }
+
+    /**
+     * Gets the Y position interpolated between the last two simulation steps.
+     * @param alpha Blend factor, 0 for the previous step and 1 for the current one
+     * @return Interpolated Y position
+     */
+    @Override
+    public float getRenderY(float alpha) {
+        return lastStepY + (y - lastStepY) * alpha;
+    }
+}
@@ -0,0 +1,76 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.vibecoders.moongazer.arkanoid.util.Rng;
+
+/**
+ * Random streams of one run, all derived from a single seed. Each subsystem draws from its own
+ * stream, so extra draws in one (e.g. a longer level layout) do not shift the others, and a run
+ * is reproduced exactly from its seed and inputs.
+ */
+public class RunRandom {
+    /**
+     * Subsystems with their own random stream. New streams go at the end so existing seeds
+     * keep producing the same sequences.
+     */
+    public enum Stream {
+        /** Level and wave layouts: brick types, durability and carried power-ups. */
+        LEVEL,
+        /** Random drops from bricks that carry no power-up. */
+        POWER_UPS,
+        /** Ball physics corrections such as the stuck-ball escape angle. */
+        PHYSICS
+    }
+
+    private long seed;
+    private final Rng[] streams;
+
+    /**
+     * Constructs the streams of a run.
+     * @param seed Seed of the run
+     */
+    public RunRandom(long seed) {
+        this.seed = seed;
+        Rng root = new Rng(seed);
+        Stream[] values = Stream.values();
+        this.streams = new Rng[values.length];
+        for (int i = 0; i < values.length; i++) {
+            streams[i] = root.split();
+        }
+    }
+
+    /**
+     * Picks a fresh seed for a run nobody asked to reproduce.
+     * @return A new seed
+     */
+    public static long newSeed() {
+        return new Rng(System.nanoTime()).nextLong();
+    }
+
+    /**
+     * Continues the streams of another run from their current positions.
+     * @param other The run streams to copy
+     */
+    public void copyFrom(RunRandom other) {
+        seed = other.seed;
+        for (int i = 0; i < streams.length; i++) {
+            streams[i].copyFrom(other.streams[i]);
+        }
+    }
+
+    /**
+     * Gets the stream of a subsystem.
+     * @param stream The subsystem
+     * @return Its generator
+     */
+    public Rng get(Stream stream) {
+        return streams[stream.ordinal()];
+    }
+
+    /**
+     * Gets the seed the streams were derived from.
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
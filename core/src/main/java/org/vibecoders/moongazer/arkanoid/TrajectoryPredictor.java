@@ -0,0 +1,235 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.vibecoders.moongazer.arkanoid.util.IntList;
+
+/**
+ * Predicts where a ball will come down to the paddle by marching its path forward through
+ * wall and live brick bounces, using the same swept contact tests as the simulation.
+ * Bricks are looked up in the {@link BrickGrid} along each segment of the path instead of
+ * being scanned. Predictions are cached per ball and reused until the ball's velocity or
+ * super ball state changes, it leaves its predicted line or the bricks change.
+ * Not thread-safe: use one predictor per world.
+ */
+public class TrajectoryPredictor {
+    private static final float HORIZON_SECONDS = 4f;
+    private static final int MAX_BOUNCES = 24;
+    private static final float SEGMENT_LENGTH = 120f;
+    private static final float CONTACT_OFFSET = 0.01f;
+    private static final float LINE_TOLERANCE = 1f;
+    private static final float INTERCEPT_TOLERANCE = 10f;
+    private static final int CACHE_SIZE = 8;
+
+    private final BrickGrid brickGrid;
+    private final float minX;
+    private final float maxX;
+    private final float maxY;
+    private final CollisionHandler.Contact contact = new CollisionHandler.Contact();
+    private final IntList candidates = new IntList();
+    private final Entry[] cache = new Entry[CACHE_SIZE];
+    private int nextEvicted;
+    private int hits;
+    private int misses;
+
+    /**
+     * Cached prediction for one ball, valid while the ball follows the same line.
+     */
+    private static class Entry {
+        Ball ball;
+        float originX;
+        float originY;
+        float vx;
+        float vy;
+        float interceptY;
+        int gridVersion;
+        boolean superBall;
+        float landingX;
+        float landingTime;
+    }
+
+    /**
+     * Constructs a predictor that bounces balls off the walls and the bricks of a grid.
+     * @param brickGrid Spatial index of the live bricks, or null to consider walls only
+     * @param minX Left wall X position
+     * @param maxX Right wall X position
+     * @param maxY Ceiling Y position
+     */
+    public TrajectoryPredictor(BrickGrid brickGrid, float minX, float maxX, float maxY) {
+        this.brickGrid = brickGrid;
+        this.minX = minX;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        for (int i = 0; i < cache.length; i++) {
+            cache[i] = new Entry();
+        }
+    }
+
+    /**
+     * Predicts the X position of a ball's center when it next comes down to a height.
+     * @param ball The ball, which must be launched
+     * @param interceptY Height of the ball's center at the intercept, usually the top of the paddle plus the radius
+     * @return The predicted X position, or NaN if the ball does not come down within the horizon
+     */
+    public float predictLandingX(Ball ball, float interceptY) {
+        return lookup(ball, interceptY).landingX;
+    }
+
+    /**
+     * Predicts how long a ball takes to come down to a height.
+     * @param ball The ball, which must be launched
+     * @param interceptY Height of the ball's center at the intercept
+     * @return Seconds until the intercept, or infinity if it is beyond the horizon
+     */
+    public float predictLandingTime(Ball ball, float interceptY) {
+        Entry entry = lookup(ball, interceptY);
+        if (Float.isNaN(entry.landingX)) {
+            return Float.POSITIVE_INFINITY;
+        }
+        float speed = (float) Math.sqrt(entry.vx * entry.vx + entry.vy * entry.vy);
+        float travelled = (float) Math.hypot(ball.getBounds().x - entry.originX, ball.getBounds().y - entry.originY);
+        return Math.max(0f, entry.landingTime - travelled / speed);
+    }
+
+    /**
+     * Finds the cached prediction of a ball, recomputing it if it is stale.
+     * @param ball The ball
+     * @param interceptY Height of the ball's center at the intercept
+     * @return The up-to-date cache entry
+     */
+    private Entry lookup(Ball ball, float interceptY) {
+        float x = ball.getBounds().x;
+        float y = ball.getBounds().y;
+        float vx = ball.getVelocity().x;
+        float vy = ball.getVelocity().y;
+        int gridVersion = brickGrid != null ? brickGrid.getVersion() : 0;
+        boolean superBall = ball.isSuperBall();
+
+        Entry entry = null;
+        for (int i = 0; i < cache.length; i++) {
+            if (cache[i].ball == ball) {
+                entry = cache[i];
+                break;
+            }
+        }
+        if (entry != null && entry.vx == vx && entry.vy == vy && entry.gridVersion == gridVersion
+            && entry.superBall == superBall && Math.abs(entry.interceptY - interceptY) < INTERCEPT_TOLERANCE
+            && isOnLine(entry, x, y)) {
+            hits++;
+            return entry;
+        }
+        if (entry == null) {
+            entry = cache[nextEvicted];
+            nextEvicted = (nextEvicted + 1) % cache.length;
+        }
+        misses++;
+        entry.ball = ball;
+        entry.originX = x;
+        entry.originY = y;
+        entry.vx = vx;
+        entry.vy = vy;
+        entry.interceptY = interceptY;
+        entry.gridVersion = gridVersion;
+        entry.superBall = superBall;
+        march(entry, ball.getRadius(), superBall);
+        return entry;
+    }
+
+    /**
+     * Checks whether a position lies ahead of the cached origin on the cached line of travel.
+     * @param entry The cached prediction
+     * @param x X position of the ball
+     * @param y Y position of the ball
+     * @return true if the ball is still following the predicted line
+     */
+    private static boolean isOnLine(Entry entry, float x, float y) {
+        float dx = x - entry.originX;
+        float dy = y - entry.originY;
+        float speed = (float) Math.sqrt(entry.vx * entry.vx + entry.vy * entry.vy);
+        if (speed == 0) {
+            return dx == 0 && dy == 0;
+        }
+        float offLine = Math.abs(dx * entry.vy - dy * entry.vx) / speed;
+        return offLine < LINE_TOLERANCE && dx * entry.vx + dy * entry.vy >= 0;
+    }
+
+    /**
+     * Marches the ball's path from the entry's origin in segments of bounded length, reflecting
+     * off the walls and bricks met in each segment, until it comes down to the intercept height
+     * or the horizon runs out.
+     * @param entry The prediction to fill
+     * @param radius Radius of the ball
+     * @param superBall Whether the ball passes through breakable bricks
+     */
+    private void march(Entry entry, float radius, boolean superBall) {
+        float x = entry.originX;
+        float y = entry.originY;
+        float vx = entry.vx;
+        float vy = entry.vy;
+        float elapsed = 0f;
+        float speed = (float) Math.sqrt(vx * vx + vy * vy);
+        entry.landingX = Float.NaN;
+        entry.landingTime = Float.POSITIVE_INFINITY;
+        if (speed == 0) {
+            return;
+        }
+        float segmentTime = SEGMENT_LENGTH / speed;
+        BrickField bricks = brickGrid != null ? brickGrid.getField() : null;
+
+        for (int bounces = 0; bounces <= MAX_BOUNCES && elapsed < HORIZON_SECONDS; ) {
+            float limit = Math.min(segmentTime, HORIZON_SECONDS - elapsed);
+            contact.reset(limit);
+            CollisionHandler.sweepWalls(x, y, vx, vy, radius, minX, maxX, maxY, contact);
+            if (bricks != null) {
+                float endX = x + vx * limit;
+                float endY = y + vy * limit;
+                brickGrid.query(Math.min(x, endX) - radius, Math.min(y, endY) - radius,
+                                Math.max(x, endX) + radius, Math.max(y, endY) + radius, candidates);
+                for (int i = 0; i < candidates.size(); i++) {
+                    int brick = candidates.get(i);
+                    if (bricks.isDestroyed(brick)) continue;
+                    if (superBall && bricks.getType(brick) == Brick.BrickType.BREAKABLE) continue;
+                    CollisionHandler.sweepBox(x, y, vx, vy, radius, bricks.getX(brick), bricks.getY(brick),
+                                              bricks.getWidth(brick), bricks.getHeight(brick), true, contact);
+                }
+            }
+
+            if (vy < 0 && y >= entry.interceptY) {
+                float interceptTime = (entry.interceptY - y) / vy;
+                if (interceptTime <= contact.time) {
+                    entry.landingX = Math.max(minX + radius, Math.min(maxX - radius, x + vx * interceptTime));
+                    entry.landingTime = elapsed + interceptTime;
+                    return;
+                }
+            }
+
+            x += vx * contact.time;
+            y += vy * contact.time;
+            elapsed += contact.time;
+            if (contact.hit) {
+                float dot = vx * contact.normalX + vy * contact.normalY;
+                if (dot < 0) {
+                    vx -= 2 * dot * contact.normalX;
+                    vy -= 2 * dot * contact.normalY;
+                }
+                x += contact.normalX * CONTACT_OFFSET;
+                y += contact.normalY * CONTACT_OFFSET;
+                bounces++;
+            }
+        }
+    }
+
+    /**
+     * Gets how many predictions were served from the cache.
+     * @return Cache hit count
+     */
+    public int getCacheHits() {
+        return hits;
+    }
+
+    /**
+     * Gets how many predictions had to be marched.
+     * @return Cache miss count
+     */
+    public int getCacheMisses() {
+        return misses;
+    }
+}
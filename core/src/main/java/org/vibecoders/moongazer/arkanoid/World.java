@@ -0,0 +1,992 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.NOPLogger;
+import org.vibecoders.moongazer.arkanoid.math.Rect;
+import org.vibecoders.moongazer.arkanoid.powerups.ActivePowerUpEffect;
+import org.vibecoders.moongazer.arkanoid.powerups.EffectScheduler;
+import org.vibecoders.moongazer.arkanoid.powerups.ClassicPowerUpFactory;
+import org.vibecoders.moongazer.arkanoid.powerups.PowerUpFactory;
+import org.vibecoders.moongazer.arkanoid.util.IntList;
+import org.vibecoders.moongazer.arkanoid.util.Pool;
+import org.vibecoders.moongazer.arkanoid.util.Rng;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.vibecoders.moongazer.Constants.*;
+
+/**
+ * The Arkanoid simulation: paddle, balls, bricks, power-ups, lives and scoring, advanced in
+ * fixed steps. It has no rendering or input device dependencies, so the same world runs behind
+ * the game scenes and in headless tools.
+ */
+public class World implements CollisionHandler.BrickCollisionContext {
+    private static final Logger LOG = LoggerFactory.getLogger(World.class);
+    public static final int MAX_BALLS = 3;
+    private static final float BALL_RADIUS = 12f;
+    private static final float PADDLE_Y = 50f;
+    private static final float STUCK_CHECK_DURATION = 5.0f;
+    private static final float STUCK_Y_RANGE_THRESHOLD = 100f;
+
+    private final float minX;
+    private final float maxX;
+    private final float height;
+    private final BrickGrid brickGrid;
+    private final BrickField bricks = new BrickField();
+    private final List<Ball> balls = new ArrayList<>();
+    private final List<PowerUp> activePowerUps = new ArrayList<>();
+    private final EffectScheduler effects = new EffectScheduler();
+    private final IntList nearbyBricks = new IntList();
+    private final PowerUpFactory powerUpFactory = new ClassicPowerUpFactory();
+    private final Pool<Ball> ballPool = new Pool<>(() -> new Ball(0, 0, BALL_RADIUS), MAX_BALLS);
+    private final Pool<Bullet> bulletPool = Paddle.createBulletPool();
+    private final Pool<ActivePowerUpEffect> effectPool = new Pool<>(ActivePowerUpEffect::new);
+    private final Map<Brick.PowerUpType, Pool<PowerUp>> powerUpPools = new EnumMap<>(Brick.PowerUpType.class);
+    private final CollisionHandler.ScoreContext scoreContext = new CollisionHandler.ScoreContext(0, 0, 0, 0);
+    private final PaddleInput input = new PaddleInput();
+    private RunRandom random = new RunRandom(RunRandom.newSeed());
+    private Paddle paddle;
+    private PaddleAI paddleAI;
+    private WorldListener listener = new WorldListener() { };
+    private int lives = 3;
+    private int bricksDestroyed = 0;
+
+    private float stuckDetectionTimer = 0f;
+    private float minBallY = Float.MAX_VALUE;
+    private float maxBallY = Float.MIN_VALUE;
+    private Logger log = LOG;
+
+    /**
+     * Constructs a world covering the standard gameplay area between the side panels.
+     */
+    public World() {
+        this(SIDE_PANEL_WIDTH, SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH, WINDOW_HEIGHT);
+    }
+
+    /**
+     * Constructs a world with the given playfield bounds.
+     * @param minX Left wall X position
+     * @param maxX Right wall X position
+     * @param height Ceiling Y position
+     */
+    public World(float minX, float maxX, float height) {
+        this.minX = minX;
+        this.maxX = maxX;
+        this.height = height;
+        this.brickGrid = new BrickGrid(bricks, minX, 0, maxX - minX, height, BRICK_WIDTH + BRICK_PADDING);
+        this.paddleAI = new ArkanoidAI(new TrajectoryPredictor(brickGrid, minX, maxX, height));
+        for (Brick.PowerUpType type : Brick.PowerUpType.values()) {
+            if (type != Brick.PowerUpType.NONE && type != Brick.PowerUpType.EXPLOSIVE) {
+                powerUpPools.put(type, new Pool<>(() -> createPowerUp(type)));
+            }
+        }
+        reset();
+    }
+
+    /**
+     * Places a fresh paddle and ball and removes all bricks and power-ups.
+     * Score, lives and the destroyed brick count are left untouched.
+     */
+    public void reset() {
+        if (paddle != null) {
+            paddle.setBulletEnabled(false);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Pool occupancy - balls: [{}], bullets: [{}], effects: [{}]", ballPool, bulletPool, effectPool);
+        }
+        float paddleX = minX + (maxX - minX - PADDLE_WIDTH) / 2f;
+        paddle = new Paddle(paddleX, PADDLE_Y, PADDLE_WIDTH, PADDLE_HEIGHT, bulletPool);
+        clearBalls();
+        addBall((minX + maxX) / 2f, PADDLE_Y + PADDLE_HEIGHT + BALL_RADIUS + 5, BALL_RADIUS);
+        bricks.clear();
+        brickGrid.clear();
+        freePowerUps();
+        input.clear();
+        resetStuckDetection();
+    }
+
+    /**
+     * Replaces the state of this world with a copy of another world's, so the copy can be
+     * stepped ahead without touching the original: bricks, balls, paddle, power-ups, running
+     * effects, score, lives and the positions of the random streams. The listener and the
+     * paddle AI of this world are kept. Objects are taken from this world's own pools, so
+     * copying into the same scratch world again does not allocate once its pools are warm.
+     * @param source The world to copy, with the same playfield bounds
+     * @throws IllegalArgumentException if the playfield bounds differ
+     */
+    public void copyFrom(World source) {
+        if (source.minX != minX || source.maxX != maxX || source.height != height) {
+            throw new IllegalArgumentException("Cannot copy a world with different playfield bounds");
+        }
+        bricks.copyFrom(source.bricks);
+        brickGrid.rebuild();
+
+        clearBalls();
+        for (int i = 0; i < source.balls.size(); i++) {
+            Ball ball = ballPool.obtain();
+            ball.copyFrom(source.balls.get(i));
+            balls.add(ball);
+        }
+        paddle.copyFrom(source.paddle);
+
+        freePowerUps();
+        for (int i = 0; i < source.activePowerUps.size(); i++) {
+            activePowerUps.add(copyPowerUp(source.activePowerUps.get(i)));
+        }
+        effects.reset(source.effects.getTick());
+        List<ActivePowerUpEffect> sourceEffects = source.effects.getRunning();
+        for (int i = 0; i < sourceEffects.size(); i++) {
+            ActivePowerUpEffect sourceEffect = sourceEffects.get(i);
+            ActivePowerUpEffect effect = effectPool.obtain();
+            effect.copyFrom(sourceEffect, copyPowerUp(sourceEffect.getPowerUp()));
+            effects.add(effect);
+        }
+
+        scoreContext.score = source.scoreContext.score;
+        scoreContext.bestScore = source.scoreContext.bestScore;
+        scoreContext.combo = source.scoreContext.combo;
+        scoreContext.maxCombo = source.scoreContext.maxCombo;
+        input.set(source.input);
+        random.copyFrom(source.random);
+        lives = source.lives;
+        bricksDestroyed = source.bricksDestroyed;
+        stuckDetectionTimer = source.stuckDetectionTimer;
+        minBallY = source.minBallY;
+        maxBallY = source.maxBallY;
+    }
+
+    /**
+     * Takes a power-up of the same type from this world's pools and copies another into it.
+     * @param source The power-up to copy
+     * @return The copy
+     */
+    private PowerUp copyPowerUp(PowerUp source) {
+        PowerUp powerUp = powerUpPools.get(source.getType()).obtain();
+        powerUp.copyFrom(source);
+        return powerUp;
+    }
+
+    /**
+     * Takes a ball from the pool and adds it to the world, unlaunched.
+     * @param x X position
+     * @param y Y position
+     * @param radius Radius of the ball
+     * @return The new ball
+     */
+    public Ball addBall(float x, float y, float radius) {
+        Ball ball = ballPool.obtain();
+        ball.place(x, y, radius);
+        balls.add(ball);
+        return ball;
+    }
+
+    /**
+     * Removes every ball and returns them to the pool.
+     */
+    public void clearBalls() {
+        for (int i = 0; i < balls.size(); i++) {
+            ballPool.free(balls.get(i));
+        }
+        balls.clear();
+    }
+
+    /**
+     * Resets score, combo, lives and the destroyed brick count for a new run with a fresh seed.
+     * The best score is kept.
+     * @param startingLives Lives to start the run with
+     */
+    public void resetProgress(int startingLives) {
+        resetProgress(startingLives, RunRandom.newSeed());
+    }
+
+    /**
+     * Resets score, combo, lives and the destroyed brick count for a new run and reseeds every
+     * random stream, so the run can be reproduced from the seed and its inputs.
+     * The best score is kept.
+     * @param startingLives Lives to start the run with
+     * @param seed Seed of the run
+     */
+    public void resetProgress(int startingLives, long seed) {
+        random = new RunRandom(seed);
+        scoreContext.score = 0;
+        scoreContext.combo = 0;
+        scoreContext.maxCombo = 0;
+        lives = startingLives;
+        bricksDestroyed = 0;
+    }
+
+    /**
+     * Rebuilds the brick spatial index from the current brick field.
+     * Must be called whenever a level layout replaces the contents of {@link #getBricks()}.
+     */
+    public void indexBricks() {
+        brickGrid.rebuild();
+    }
+
+    /**
+     * Advances the simulation by one fixed step.
+     * @param delta The duration of the step
+     */
+    public void step(float delta) {
+        effects.advance();
+        storeLastStepPositions();
+        updateGameplay(delta);
+        handleCollisions(delta);
+    }
+
+    /**
+     * Stores the positions of all moving objects before a simulation step for render interpolation.
+     */
+    private void storeLastStepPositions() {
+        paddle.storeLastStepPosition();
+        for (int i = 0; i < balls.size(); i++) {
+            balls.get(i).storeLastStepPosition();
+        }
+        for (int i = 0; i < activePowerUps.size(); i++) {
+            activePowerUps.get(i).storeLastStepPosition();
+        }
+    }
+
+    /**
+     * Updates the paddle, balls, bricks, power-ups and effect timers.
+     * @param delta The duration of the step
+     */
+    private void updateGameplay(float delta) {
+        if (input.launch) {
+            boolean anyLaunched = false;
+            for (int i = 0; i < balls.size(); i++) {
+                Ball ball = balls.get(i);
+                if (!ball.isActive()) {
+                    ball.launch();
+                    anyLaunched = true;
+                }
+            }
+            if (anyLaunched) {
+                log.info("Ball(s) launched!");
+            }
+            input.launch = false;
+        }
+
+        if (paddleAI.isEnabled()) {
+            paddleAI.update(paddle, balls, activePowerUps);
+        }
+
+        paddle.update(delta, minX, maxX, input);
+        paddle.cleanupBullets(height);
+
+        bricks.update(delta);
+
+        for (int i = 0; i < activePowerUps.size(); i++) {
+            activePowerUps.get(i).update(delta);
+        }
+        ActivePowerUpEffect expired;
+        while ((expired = effects.pollExpired()) != null) {
+            expired.removeEffect(this);
+            log.info("{} effect expired!", expired.getEffectType());
+            freeEffect(expired);
+        }
+
+        if (balls.size() == 1 && !balls.get(0).isActive()) {
+            Ball mainBall = balls.get(0);
+            mainBall.reset(paddle.getCenterX(), paddle.getBounds().y + paddle.getBounds().height + mainBall.getRadius() + 5);
+        }
+
+        updateStuckDetection(delta);
+    }
+
+    /**
+     * Nudges the main ball out of a horizontal loop when it has not moved vertically for a while.
+     * @param delta The duration of the step
+     */
+    private void updateStuckDetection(float delta) {
+        if (balls.isEmpty() || !balls.get(0).isActive()) {
+            resetStuckDetection();
+            return;
+        }
+        Ball mainBall = balls.get(0);
+        float currentBallY = mainBall.getBounds().y;
+
+        stuckDetectionTimer += delta;
+
+        if (currentBallY < minBallY) minBallY = currentBallY;
+        if (currentBallY > maxBallY) maxBallY = currentBallY;
+
+        if (stuckDetectionTimer >= STUCK_CHECK_DURATION) {
+            float yRange = maxBallY - minBallY;
+
+            if (yRange < STUCK_Y_RANGE_THRESHOLD) {
+                log.warn("Ball stuck detected! Y range over {}s: {}px (threshold: {}px)",
+                         STUCK_CHECK_DURATION, yRange, STUCK_Y_RANGE_THRESHOLD);
+                log.warn("Applying escape velocity...");
+
+                float currentVelX = mainBall.getVelocity().x;
+                float currentVelY = mainBall.getVelocity().y;
+                float speed = (float) Math.sqrt(currentVelX * currentVelX + currentVelY * currentVelY);
+
+                float escapeAngle = (float) Math.toRadians(random.get(RunRandom.Stream.PHYSICS).nextFloat(30f, 60f));
+                float directionX = currentVelX > 0 ? 1 : -1;
+
+                mainBall.setVelocity(
+                    directionX * speed * (float) Math.cos(escapeAngle),
+                    speed * (float) Math.sin(escapeAngle)
+                );
+            }
+
+            resetStuckDetection();
+        }
+    }
+
+    /**
+     * Clears the stuck detection window.
+     */
+    private void resetStuckDetection() {
+        stuckDetectionTimer = 0f;
+        minBallY = Float.MAX_VALUE;
+        maxBallY = Float.MIN_VALUE;
+    }
+
+    /**
+     * Moves the balls through one simulation step and handles collisions between balls, bricks,
+     * paddle, power-ups, and bullets.
+     * @param delta The duration of the step
+     */
+    private void handleCollisions(float delta) {
+        for (int ballIndex = balls.size() - 1; ballIndex >= 0; ballIndex--) {
+            Ball ball = balls.get(ballIndex);
+            if (!ball.isActive()) continue;
+
+            boolean lost = CollisionHandler.moveBall(ball, delta, minX, maxX, height, brickGrid, paddle, this);
+            if (lost) {
+                ballPool.free(balls.remove(ballIndex));
+                log.info("Ball lost! Remaining balls: {}", balls.size());
+                listener.onBallDropped(balls.size());
+                if (balls.isEmpty()) {
+                    onBallLost();
+                }
+            }
+        }
+
+        handlePowerUpCollisions();
+        handleBulletCollisions();
+        if (isLevelComplete()) {
+            listener.onLevelComplete();
+        }
+    }
+
+    /**
+     * Handles collisions between the paddle and active power-ups.
+     */
+    private void handlePowerUpCollisions() {
+        Rect paddleBounds = paddle.getBounds();
+        for (int i = activePowerUps.size() - 1; i >= 0; i--) {
+            PowerUp powerUp = activePowerUps.get(i);
+
+            if (powerUp.y < 0) {
+                activePowerUps.remove(i);
+                freePowerUp(powerUp);
+                continue;
+            }
+
+            if (powerUp.x < paddleBounds.x + paddleBounds.width &&
+                    powerUp.x + powerUp.width > paddleBounds.x &&
+                    powerUp.y < paddleBounds.y + paddleBounds.height &&
+                    powerUp.y + powerUp.height > paddleBounds.y) {
+                listener.onPowerUpCollected(powerUp);
+                activePowerUps.remove(i);
+                if (!collectPowerUp(powerUp)) {
+                    freePowerUp(powerUp);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a caught power-up, or refreshes its effect if it is already running.
+     * @param powerUp The power-up that was caught
+     * @return True if a new timed effect now holds the power-up, false if it can be freed
+     */
+    private boolean collectPowerUp(PowerUp powerUp) {
+        if (!canPowerUpStack(powerUp.getType())) {
+            log.info("{} cannot stack with active effects, ignored", powerUp.getName());
+            return false;
+        }
+
+        ActivePowerUpEffect activeEffect = effects.get(powerUp.getType());
+        if (activeEffect != null) {
+            effects.refresh(activeEffect);
+            log.info("{} duration refreshed!", powerUp.getName());
+            return false;
+        }
+
+        powerUp.applyEffect(this);
+        if (powerUp.getDuration() > 0) {
+            ActivePowerUpEffect effect = effectPool.obtain();
+            effect.start(powerUp, effects.getTick());
+            effects.add(effect);
+            log.info("{} activated for {} seconds", powerUp.getName(), powerUp.getDuration() / 1000f);
+            return true;
+        } else if (powerUp.getDuration() == -1) {
+            log.info("{} collected (permanent)", powerUp.getName());
+        }
+        return false;
+    }
+
+    /**
+     * Handles collisions between bullets fired from the paddle and bricks.
+     */
+    private void handleBulletCollisions() {
+        List<Bullet> bullets = paddle.getBullets();
+
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            Bullet bullet = bullets.get(i);
+            Rect bulletBounds = bullet.getBounds();
+
+            IntList candidates = brickGrid.query(bulletBounds, nearbyBricks);
+            for (int j = 0; j < candidates.size(); j++) {
+                int brick = candidates.get(j);
+                if (!bricks.isDestroyed(brick) && bulletBounds.overlaps(bricks.getX(brick), bricks.getY(brick),
+                        bricks.getWidth(brick), bricks.getHeight(brick))) {
+                    bricks.hit(brick);
+                    listener.onBrickHit(brick);
+
+                    if (bricks.isDestroyed(brick)) {
+                        onBrickDestroyed(brick);
+
+                        if (bricks.getPowerUpType(brick) != Brick.PowerUpType.NONE) {
+                            spawnPowerUp(brick);
+                        }
+                    }
+
+                    bullet.setActive(false);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines if a power-up can stack with currently active power-up effects.
+     * Fast and slow ball cancel each other out, so neither is taken while the other runs.
+     * @param type The type of the power-up to check
+     * @return True if the power-up can stack, false otherwise
+     */
+    private boolean canPowerUpStack(Brick.PowerUpType type) {
+        return switch (type) {
+            case FAST_BALL -> !effects.isRunning(Brick.PowerUpType.SLOW_BALL);
+            case SLOW_BALL -> !effects.isRunning(Brick.PowerUpType.FAST_BALL);
+            default -> true;
+        };
+    }
+
+    /**
+     * Handles the last ball falling below the paddle: takes a life, clears effects and
+     * places a new ball on the paddle.
+     */
+    private void onBallLost() {
+        lives--;
+
+        if (scoreContext.combo > 0) {
+            log.info("Ball lost! Combo reset from {}x to 0", scoreContext.combo);
+            scoreContext.combo = 0;
+        }
+
+        clearAllActivePowerups();
+
+        clearBalls();
+        addBall(paddle.getCenterX(), paddle.getBounds().y + paddle.getBounds().height + BALL_RADIUS + 5, BALL_RADIUS);
+        resetStuckDetection();
+
+        log.info("Ball lost! Lives remaining: {}", lives);
+        listener.onBallLost(lives);
+        if (lives <= 0) {
+            listener.onGameOver();
+        }
+    }
+
+    /**
+     * Clears all active power-up effects when a life is lost.
+     */
+    private void clearAllActivePowerups() {
+        List<ActivePowerUpEffect> running = effects.getRunning();
+        if (running.isEmpty()) {
+            return;
+        }
+
+        log.info("Clearing {} active powerup effects due to life loss", running.size());
+
+        for (int i = 0; i < running.size(); i++) {
+            ActivePowerUpEffect effect = running.get(i);
+            effect.removeEffect(this);
+            log.debug("Removed {} effect", effect.getEffectType());
+        }
+
+        freePowerUps();
+    }
+
+    /**
+     * Returns every falling power-up and running effect to their pools without undoing
+     * the effects.
+     */
+    private void freePowerUps() {
+        List<ActivePowerUpEffect> running = effects.getRunning();
+        for (int i = 0; i < running.size(); i++) {
+            freeEffect(running.get(i));
+        }
+        effects.clear();
+        for (int i = 0; i < activePowerUps.size(); i++) {
+            freePowerUp(activePowerUps.get(i));
+        }
+        activePowerUps.clear();
+    }
+
+    /**
+     * Returns an ended effect and the power-up it held to their pools.
+     * @param effect The effect that is no longer running
+     */
+    private void freeEffect(ActivePowerUpEffect effect) {
+        freePowerUp(effect.getPowerUp());
+        effectPool.free(effect);
+    }
+
+    /**
+     * Returns a power-up that is no longer falling or held by an effect to its pool.
+     * @param powerUp The power-up to free
+     */
+    private void freePowerUp(PowerUp powerUp) {
+        Pool<PowerUp> pool = powerUpPools.get(powerUp.getType());
+        if (pool != null) {
+            pool.free(powerUp);
+        }
+    }
+
+    /**
+     * Checks if the level is complete (all breakable bricks destroyed).
+     * @return True if the level is complete, false otherwise
+     */
+    public boolean isLevelComplete() {
+        return bricksDestroyed != 0 && bricks.getStandingCount(Brick.BrickType.BREAKABLE) == 0;
+    }
+
+    /**
+     * Checks if the run is over.
+     * @return True if no lives remain, false otherwise
+     */
+    public boolean isGameOver() {
+        return lives <= 0;
+    }
+
+    /**
+     * Removes a destroyed brick from the spatial index and counts it.
+     * @param brick The index of the brick that was destroyed
+     */
+    @Override
+    public void onBrickDestroyed(int brick) {
+        brickGrid.remove(brick);
+        bricksDestroyed++;
+        if (log.isDebugEnabled()) {
+            log.debug("Brick destroyed! Total bricks destroyed: {}", bricksDestroyed);
+        }
+    }
+
+    /**
+     * Spawns the power-up carried by a destroyed brick, or a random one if the brick carries none.
+     * @param brick The index of the brick that was destroyed
+     */
+    @Override
+    public void spawnPowerUp(int brick) {
+        float powerUpX = bricks.getX(brick) + bricks.getWidth(brick) / 2f - 16;
+        float powerUpY = bricks.getY(brick);
+        float powerUpWidth = 35;
+        float powerUpHeight = 35;
+        Brick.PowerUpType type = bricks.getPowerUpType(brick);
+
+        if (type == Brick.PowerUpType.NONE) {
+            double rand = random.get(RunRandom.Stream.POWER_UPS).nextDouble();
+            if (rand < 0.15) {
+                type = Brick.PowerUpType.EXPAND_PADDLE;
+            } else if (rand < 0.30) {
+                type = Brick.PowerUpType.EXTRA_LIFE;
+            } else if (rand < 0.45) {
+                type = Brick.PowerUpType.FAST_BALL;
+            } else if (rand < 0.60) {
+                type = Brick.PowerUpType.SLOW_BALL;
+            } else if (rand < 0.75) {
+                type = Brick.PowerUpType.MULTI_BALL;
+            } else if (rand < 0.80) {
+                type = Brick.PowerUpType.SUPER_BALL;
+            } else if (rand < 0.85) {
+                type = Brick.PowerUpType.BULLET;
+            } else {
+                return;
+            }
+        }
+
+        Pool<PowerUp> pool = powerUpPools.get(type);
+        if (pool == null) {
+            log.warn("Power-up type {} not yet implemented", type);
+            return;
+        }
+        PowerUp powerUp = pool.obtain();
+        powerUp.place(powerUpX, powerUpY, powerUpWidth, powerUpHeight);
+        activePowerUps.add(powerUp);
+    }
+
+    /**
+     * Creates a power-up of the given type through the factory. Pools call this when they run
+     * dry; the pooled power-up is placed before it falls.
+     * @param type The power-up type
+     * @return The new power-up, or null if the type has none
+     */
+    private PowerUp createPowerUp(Brick.PowerUpType type) {
+        switch (type) {
+            case EXPAND_PADDLE:
+                return powerUpFactory.createExpandPaddle(0, 0, 0, 0);
+            case EXTRA_LIFE:
+                return powerUpFactory.createExtraLife(0, 0, 0, 0);
+            case FAST_BALL:
+                return powerUpFactory.createFastBall(0, 0, 0, 0);
+            case SLOW_BALL:
+                return powerUpFactory.createSlowBall(0, 0, 0, 0);
+            case MULTI_BALL:
+                return powerUpFactory.createMultiBall(0, 0, 0, 0);
+            case SUPER_BALL:
+                return powerUpFactory.createSuperBall(0, 0, 0, 0);
+            case BULLET:
+                return powerUpFactory.createBulletPaddle(0, 0, 0, 0);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Forwards a ball hitting a brick to the listener.
+     * @param brick The index of the brick that was hit
+     */
+    @Override
+    public void onBrickHit(int brick) {
+        listener.onBrickHit(brick);
+    }
+
+    /**
+     * Forwards a ball bouncing off the paddle to the listener.
+     */
+    @Override
+    public void onPaddleHit() {
+        listener.onPaddleHit();
+    }
+
+    /**
+     * Spawns additional balls based on the main ball's properties.
+     * @param count The number of additional balls to spawn
+     */
+    public void spawnBalls(int count) {
+        if (balls.isEmpty()) return;
+
+        Ball mainBall = balls.get(0);
+        if (!mainBall.isActive()) return;
+
+        int ballsToSpawn = Math.min(count, MAX_BALLS - balls.size());
+
+        for (int i = 0; i < ballsToSpawn; i++) {
+            Ball newBall = addBall(mainBall.getBounds().x, mainBall.getBounds().y, mainBall.getRadius());
+
+            newBall.setSuperBall(mainBall.isSuperBall());
+            newBall.setSpeedMultiplier(mainBall.getSpeedMultiplier());
+            newBall.launch();
+
+            float baseSpeed = mainBall.getVelocity().len();
+            float angleOffset = (i + 1) * 30f;
+            float angleInRadians = (float) Math.toRadians(90 + angleOffset - (ballsToSpawn * 15f));
+            newBall.setVelocity(
+                baseSpeed * (float) Math.cos(angleInRadians),
+                baseSpeed * (float) Math.sin(angleInRadians)
+            );
+        }
+
+        log.info("Spawned {} additional ball(s). Total balls: {}", ballsToSpawn, balls.size());
+    }
+
+    /**
+     * Adds points outside of brick hits, such as wave bonuses.
+     * @param bonus Points to add
+     */
+    public void addBonus(int bonus) {
+        scoreContext.score += bonus;
+        if (scoreContext.score > scoreContext.bestScore) {
+            scoreContext.bestScore = scoreContext.score;
+        }
+    }
+
+    /**
+     * Turns gameplay event logging on or off. Scratch worlds that are stepped ahead many
+     * times per frame turn it off so their events do not flood the log.
+     * @param enabled true to log gameplay events, false to discard them
+     */
+    public void setLogging(boolean enabled) {
+        log = enabled ? LOG : NOPLogger.NOP_LOGGER;
+    }
+
+    /**
+     * Sets the listener notified of gameplay events.
+     * @param listener The listener, or null to ignore events
+     */
+    public void setListener(WorldListener listener) {
+        this.listener = listener != null ? listener : new WorldListener() { };
+    }
+
+    /**
+     * Gets the left wall X position.
+     * @return Left edge of the playfield
+     */
+    public float getMinX() {
+        return minX;
+    }
+
+    /**
+     * Gets the right wall X position.
+     * @return Right edge of the playfield
+     */
+    public float getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Gets the ceiling Y position.
+     * @return Height of the playfield
+     */
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the controls applied on the next step. Frontends write into it every frame.
+     * @return The player input
+     */
+    public PaddleInput getInput() {
+        return input;
+    }
+
+    /**
+     * Gets the paddle instance.
+     * @return The Paddle object
+     */
+    public Paddle getPaddle() {
+        return paddle;
+    }
+
+    /**
+     * Gets the main ball instance.
+     * @return The main Ball object, or null if no balls are present
+     */
+    public Ball getBall() {
+        return balls.isEmpty() ? null : balls.get(0);
+    }
+
+    /**
+     * Gets the list of all balls in the game.
+     * @return The list of Ball objects
+     */
+    public List<Ball> getBalls() {
+        return balls;
+    }
+
+    /**
+     * Gets the bricks of the current level. Call {@link #indexBricks()} after replacing them.
+     * @return The BrickField
+     */
+    public BrickField getBricks() {
+        return bricks;
+    }
+
+    /**
+     * Gets the brick spatial index.
+     * @return The BrickGrid
+     */
+    public BrickGrid getBrickGrid() {
+        return brickGrid;
+    }
+
+    /**
+     * Gets the power-ups currently falling.
+     * @return The list of PowerUp objects
+     */
+    public List<PowerUp> getActivePowerUps() {
+        return activePowerUps;
+    }
+
+    /**
+     * Gets the power-up effects currently running, in the order they were activated.
+     * @return The list of ActivePowerUpEffect objects; do not modify
+     */
+    public List<ActivePowerUpEffect> getActivePowerUpEffects() {
+        return effects.getRunning();
+    }
+
+    /**
+     * Gets the simulation step count that effect timers run on.
+     * @return Steps taken by this world
+     */
+    public long getTick() {
+        return effects.getTick();
+    }
+
+    /**
+     * Gets the random stream of a subsystem for the current run.
+     * @param stream The subsystem
+     * @return Its generator
+     */
+    public Rng getRandom(RunRandom.Stream stream) {
+        return random.get(stream);
+    }
+
+    /**
+     * Gets the seed of the current run.
+     * @return The seed
+     */
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    /**
+     * Gets the pool balls are taken from.
+     * @return The ball pool
+     */
+    public Pool<Ball> getBallPool() {
+        return ballPool;
+    }
+
+    /**
+     * Gets the pool paddle bullets are taken from.
+     * @return The bullet pool
+     */
+    public Pool<Bullet> getBulletPool() {
+        return bulletPool;
+    }
+
+    /**
+     * Gets the pool running power-up effects are taken from.
+     * @return The effect pool
+     */
+    public Pool<ActivePowerUpEffect> getEffectPool() {
+        return effectPool;
+    }
+
+    /**
+     * Gets the pool power-ups of a type are taken from.
+     * @param type The power-up type
+     * @return The power-up pool, or null if the type spawns nothing
+     */
+    public Pool<PowerUp> getPowerUpPool(Brick.PowerUpType type) {
+        return powerUpPools.get(type);
+    }
+
+    /**
+     * Gets the paddle AI.
+     * @return The PaddleAI
+     */
+    public PaddleAI getPaddleAI() {
+        return paddleAI;
+    }
+
+    /**
+     * Replaces the paddle AI.
+     * @param paddleAI The PaddleAI to use
+     */
+    public void setPaddleAI(PaddleAI paddleAI) {
+        this.paddleAI = paddleAI;
+    }
+
+    /**
+     * Gets the score context.
+     * @return The ScoreContext
+     */
+    @Override
+    public CollisionHandler.ScoreContext getScoreContext() {
+        return scoreContext;
+    }
+
+    /**
+     * Gets the current score.
+     * @return The score
+     */
+    public int getScore() {
+        return scoreContext.score;
+    }
+
+    /**
+     * Sets the current score.
+     * @param score The score
+     */
+    public void setScore(int score) {
+        scoreContext.score = score;
+    }
+
+    /**
+     * Gets the best score, which follows the score once it is exceeded.
+     * @return The best score
+     */
+    public int getBestScore() {
+        return scoreContext.bestScore;
+    }
+
+    /**
+     * Sets the best score to beat.
+     * @param bestScore The best score
+     */
+    public void setBestScore(int bestScore) {
+        scoreContext.bestScore = bestScore;
+    }
+
+    /**
+     * Gets the current combo.
+     * @return The combo count
+     */
+    public int getCombo() {
+        return scoreContext.combo;
+    }
+
+    /**
+     * Gets the highest combo reached in this run.
+     * @return The max combo count
+     */
+    public int getMaxCombo() {
+        return scoreContext.maxCombo;
+    }
+
+    /**
+     * Gets the remaining lives.
+     * @return The lives
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * Sets the remaining lives.
+     * @param lives The lives
+     */
+    public void setLives(int lives) {
+        this.lives = lives;
+    }
+
+    /**
+     * Gets the number of bricks destroyed in the current level.
+     * @return The destroyed brick count
+     */
+    @Override
+    public int getBricksDestroyed() {
+        return bricksDestroyed;
+    }
+
+    /**
+     * Sets the number of bricks destroyed in the current level.
+     * @param bricksDestroyed The destroyed brick count
+     */
+    public void setBricksDestroyed(int bricksDestroyed) {
+        this.bricksDestroyed = bricksDestroyed;
+    }
+}
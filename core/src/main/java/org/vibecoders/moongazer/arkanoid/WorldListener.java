@@ -0,0 +1,55 @@
+package org.vibecoders.moongazer.arkanoid;
+
+/**
+ * Receives gameplay events raised by a {@link World} while it steps.
+ * Frontends use it for audio and visual feedback; every method defaults to a no-op
+ * so headless runs can ignore the events entirely.
+ */
+public interface WorldListener {
+    /**
+     * Called every time a brick is hit by a ball or a bullet.
+     * @param brick The index of the brick that was hit
+     */
+    default void onBrickHit(int brick) {
+    }
+
+    /**
+     * Called when a ball bounces off the paddle.
+     */
+    default void onPaddleHit() {
+    }
+
+    /**
+     * Called when the paddle catches a falling power-up.
+     * @param powerUp The power-up that was caught
+     */
+    default void onPowerUpCollected(PowerUp powerUp) {
+    }
+
+    /**
+     * Called whenever a ball falls below the paddle, including extra multi-ball balls.
+     * {@link #onBallLost(int)} follows if it was the last ball.
+     * @param ballsRemaining Balls still in play
+     */
+    default void onBallDropped(int ballsRemaining) {
+    }
+
+    /**
+     * Called when the last ball in play is lost and a life is taken.
+     * @param livesRemaining Lives left after the loss
+     */
+    default void onBallLost(int livesRemaining) {
+    }
+
+    /**
+     * Called when no lives remain.
+     */
+    default void onGameOver() {
+    }
+
+    /**
+     * Called after a step in which every breakable brick has been destroyed.
+     */
+    default void onLevelComplete() {
+    }
+}
@@ -0,0 +1,426 @@
+package org.vibecoders.moongazer.arkanoid.levels;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vibecoders.moongazer.arkanoid.Brick;
+import org.vibecoders.moongazer.arkanoid.BrickField;
+import org.vibecoders.moongazer.arkanoid.RunRandom;
+import org.vibecoders.moongazer.arkanoid.World;
+import org.vibecoders.moongazer.arkanoid.util.Rng;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.vibecoders.moongazer.Constants.*;
+
+/**
+ * Rules of an endless run: wave progression, wave bonuses and the generation of each wave's
+ * bricks from the run's level stream. Shared by the endless scene and headless tools, so a
+ * run re-simulated from its seed builds exactly the same waves.
+ * <p>
+ * A wave is generated as plain data from a copy of the level stream, without touching the
+ * world, and then laid out into the world's bricks. With a pre-generation executor set, the
+ * next wave is generated in the background while the current one is played, and completing
+ * the wave only copies the finished layout in. The level stream is drawn from by nothing
+ * else, so pre-generated waves are identical to the ones generated on demand.
+ */
+public class EndlessRun {
+    private static final Logger log = LoggerFactory.getLogger(EndlessRun.class);
+    public static final int STARTING_LIVES = 3;
+    public static final int COLUMNS = 30;
+    private final World world;
+    private int currentWave = 1;
+    private float unbreakableChance = 0.1f;
+    private Executor pregenerationExecutor;
+    private CompletableFuture<WaveLayout> nextWave;
+
+    /**
+     * Constructs the rules of an endless run played in the given world.
+     * @param world The world to generate waves into
+     */
+    public EndlessRun(World world) {
+        this.world = world;
+    }
+
+    /**
+     * Starts a run from wave 1: resets progress with the seed, places a fresh paddle and ball
+     * and generates the first wave.
+     * @param seed Seed of the run
+     */
+    public void start(long seed) {
+        discardNextWave();
+        world.resetProgress(STARTING_LIVES, seed);
+        world.reset();
+        currentWave = 1;
+        unbreakableChance = 0.1f;
+        startWave(currentWave);
+    }
+
+    /**
+     * Completes the current wave: awards the wave bonus and starts the next wave.
+     * Call when the world reports the level as complete.
+     * @return The bonus awarded
+     */
+    public int completeWave() {
+        int previousWave = currentWave;
+        currentWave++;
+        int bonus = 100 * previousWave;
+        world.addBonus(bonus);
+        log.info("Wave {} complete! Bonus: {}", previousWave, bonus);
+        startWave(currentWave);
+        return bonus;
+    }
+
+    /**
+     * Jumps straight to a wave without playing the ones before it, regenerating the bricks.
+     * Score and lives are left untouched. Meant for tools and benchmarks.
+     * @param wave The wave number to start
+     */
+    public void skipToWave(int wave) {
+        discardNextWave();
+        currentWave = wave;
+        startWave(wave);
+    }
+
+    /**
+     * Generates each next wave in the background while the current one is played.
+     * @param executor Runs the generation, or null to generate each wave when it starts
+     */
+    public void setPregenerationExecutor(Executor executor) {
+        discardNextWave();
+        this.pregenerationExecutor = executor;
+    }
+
+    /**
+     * Starts a new wave with increased difficulty, using the pre-generated layout if it is
+     * for this wave, then begins generating the following wave.
+     * @param wave The wave number to start
+     */
+    private void startWave(int wave) {
+        WaveLayout layout = null;
+        if (nextWave != null) {
+            layout = nextWave.join();
+            nextWave = null;
+            if (layout.wave != wave) {
+                layout = null;
+            }
+        }
+        if (layout == null) {
+            layout = generate(wave, copyOf(world.getRandom(RunRandom.Stream.LEVEL)));
+        }
+
+        world.setBricksDestroyed(0);
+        unbreakableChance = layout.unbreakableChance;
+        layOut(layout);
+        log.info("=== WAVE {} STARTED === (Rows: {}, Unbreakable: {}%)",
+                wave, layout.rows, (int) (unbreakableChance * 100));
+
+        if (pregenerationExecutor != null) {
+            Rng random = copyOf(world.getRandom(RunRandom.Stream.LEVEL));
+            nextWave = CompletableFuture.supplyAsync(() -> generate(wave + 1, random), pregenerationExecutor);
+        }
+    }
+
+    /**
+     * Drops a pre-generated wave that will not be played, e.g. when the run restarts.
+     */
+    private void discardNextWave() {
+        if (nextWave != null) {
+            nextWave.cancel(false);
+            nextWave = null;
+        }
+    }
+
+    /**
+     * Copies a random stream so a wave can be generated from it on another thread.
+     * @param random The stream to copy
+     * @return An independent copy at the same position
+     */
+    private static Rng copyOf(Rng random) {
+        Rng copy = new Rng(0L);
+        copy.copyFrom(random);
+        return copy;
+    }
+
+    /**
+     * Replaces the world's bricks with a generated wave and continues the world's level
+     * stream from where the generation left it.
+     * @param layout The wave to lay out
+     */
+    private void layOut(WaveLayout layout) {
+        BrickField bricks = world.getBricks();
+        bricks.clear();
+        float brickTotalWidth = BRICK_WIDTH + BRICK_PADDING;
+        float gridWidth = layout.cols * brickTotalWidth;
+        float startX = SIDE_PANEL_WIDTH + (GAMEPLAY_AREA_WIDTH - gridWidth) / 2f;
+        float startY = WINDOW_HEIGHT - 100f;
+
+        int brickIndex = 0;
+        for (int row = 0; row < layout.rows; row++) {
+            for (int col = 0; col < layout.cols; col++) {
+                float x = startX + col * brickTotalWidth;
+                float y = startY - row * (BRICK_HEIGHT + BRICK_PADDING);
+                BrickData data = layout.bricks[brickIndex++];
+
+                if (data.type == Brick.BrickType.UNBREAKABLE) {
+                    bricks.add(x, y, BRICK_WIDTH, BRICK_HEIGHT, Brick.BrickType.UNBREAKABLE);
+                } else {
+                    bricks.addBreakable(x, y, BRICK_WIDTH, BRICK_HEIGHT, data.level, data.powerUpType);
+                }
+            }
+        }
+        world.indexBricks();
+        world.getRandom(RunRandom.Stream.LEVEL).copyFrom(layout.random);
+    }
+
+    /**
+     * Generates a wave's bricks with dynamic distribution based on the wave number.
+     * Increases unbreakable bricks and power-ups as waves progress. Touches nothing but
+     * the given stream, so it can run on any thread.
+     * @param wave The wave number
+     * @param random Level stream to draw from; left at the position after the wave
+     * @return The wave layout
+     */
+    private static WaveLayout generate(int wave, Rng random) {
+        int rows = Math.min(5 + (wave / 2), 10);
+        int cols = COLUMNS;
+        float unbreakableChance = Math.min(0.1f + (wave * 0.02f), 0.4f);
+        float brickTotalWidth = BRICK_WIDTH + BRICK_PADDING;
+        int maxCols = (int) (GAMEPLAY_AREA_WIDTH / brickTotalWidth);
+        cols = Math.min(cols, maxCols);
+        int totalBricks = rows * cols;
+
+        // Reduce power-up counts - more rare
+        int[] powerUpCounts = {
+                Math.min(1 + (wave / 15), 2),  // Super Ball: 1-2
+                Math.min(1 + (wave / 12), 2),  // Multi Ball: 1-2
+                Math.min(1 + (wave / 10), 3),  // Extra Life: 1-3
+                Math.min(2 + (wave / 8), 3),   // Expand Paddle: 2-3
+                Math.min(1 + (wave / 10), 2),  // Fast Ball: 1-2
+                Math.min(1 + (wave / 10), 2),  // Slow Ball: 1-2
+                Math.min(1 + (wave / 12), 3)   // Bullet Paddle: 1-3
+        };
+
+        int powerUpTotal = 0;
+        for (int count : powerUpCounts) powerUpTotal += count;
+
+        int unbreakableCount = (int) (totalBricks * unbreakableChance);
+
+        // Calculate breakable brick distribution by level
+        int breakableTotal = totalBricks - unbreakableCount - powerUpTotal;
+
+        // Ensure at least one breakable brick
+        if (breakableTotal <= 0) {
+            log.warn("Not enough space for breakable bricks. Reducing power-ups and unbreakable bricks.");
+            // First, try reducing power-ups
+            int excess = unbreakableCount + powerUpTotal - (totalBricks - 1);
+            int powerUpExcess = Math.min(powerUpTotal, excess);
+            powerUpTotal -= powerUpExcess;
+            // Reduce individual powerUpCounts proportionally
+            int toRemove = powerUpExcess;
+            for (int i = powerUpCounts.length - 1; i >= 0 && toRemove > 0; i--) {
+                int remove = Math.min(powerUpCounts[i], toRemove);
+                powerUpCounts[i] -= remove;
+                toRemove -= remove;
+            }
+            // If still not enough, reduce unbreakable bricks
+            excess = unbreakableCount + powerUpTotal - (totalBricks - 1);
+            if (excess > 0) {
+                unbreakableCount -= Math.min(unbreakableCount, excess);
+            }
+            breakableTotal = totalBricks - unbreakableCount - powerUpTotal;
+            if (breakableTotal <= 0) {
+                // As a last resort, set breakableTotal to 1 and adjust others
+                breakableTotal = 1;
+                powerUpTotal = 0;
+                unbreakableCount = totalBricks - 1;
+                for (int i = 0; i < powerUpCounts.length; i++) powerUpCounts[i] = 0;
+            }
+        }
+
+        // Level distribution: 50% level 1, 30% level 2, 20% level 3
+        int level1Count = (int) (breakableTotal * 0.50f);
+        int level2Count = (int) (breakableTotal * 0.30f);
+        int level3Count = breakableTotal - level1Count - level2Count;
+
+        // Adjust for wave difficulty - more high level bricks as waves progress
+        float difficultyFactor = Math.min(wave / 20f, 0.5f); // Max 50% shift
+        int shiftFromLevel1 = (int) (level1Count * difficultyFactor);
+        level1Count = Math.max(0, level1Count - shiftFromLevel1);
+        int shiftToLevel2 = shiftFromLevel1 / 2 + shiftFromLevel1 % 2;
+        int shiftToLevel3 = shiftFromLevel1 / 2;
+        level2Count += shiftToLevel2;
+        level3Count += shiftToLevel3;
+
+        // Create brick data list
+        List<BrickData> brickDataList = new ArrayList<>();
+
+        // Add power-up bricks (all level 1)
+        Brick.PowerUpType[] types = {
+            Brick.PowerUpType.SUPER_BALL,
+            Brick.PowerUpType.MULTI_BALL,
+            Brick.PowerUpType.EXTRA_LIFE,
+            Brick.PowerUpType.EXPAND_PADDLE,
+            Brick.PowerUpType.FAST_BALL,
+            Brick.PowerUpType.SLOW_BALL,
+            Brick.PowerUpType.BULLET,
+        };
+
+        for (int i = 0; i < types.length; i++) {
+            for (int j = 0; j < powerUpCounts[i]; j++) {
+                brickDataList.add(new BrickData(Brick.BrickType.BREAKABLE, 1, types[i]));
+            }
+        }
+
+        // Add unbreakable bricks
+        for (int i = 0; i < unbreakableCount; i++) {
+            brickDataList.add(new BrickData(Brick.BrickType.UNBREAKABLE, -1, Brick.PowerUpType.NONE));
+        }
+
+        // Add level 1 breakable bricks
+        for (int i = 0; i < level1Count; i++) {
+            brickDataList.add(new BrickData(Brick.BrickType.BREAKABLE, 1, Brick.PowerUpType.NONE));
+        }
+
+        // Add level 2 breakable bricks
+        for (int i = 0; i < level2Count; i++) {
+            brickDataList.add(new BrickData(Brick.BrickType.BREAKABLE, 2, Brick.PowerUpType.NONE));
+        }
+
+        // Add level 3 breakable bricks
+        for (int i = 0; i < level3Count; i++) {
+            brickDataList.add(new BrickData(Brick.BrickType.BREAKABLE, 3, Brick.PowerUpType.NONE));
+        }
+
+        random.shuffle(brickDataList);
+        BrickData[] layout = brickDataList.toArray(new BrickData[0]);
+
+        log.info("Brick grid created: {} rows x {} cols = {} bricks", rows, cols, totalBricks);
+        log.info("Distribution - PowerUps: {}, Unbreakable: {}, Level1: {}, Level2: {}, Level3: {}",
+                 powerUpTotal, unbreakableCount, level1Count, level2Count, level3Count);
+        log.info("PowerUp breakdown - SuperBall: {}, MultiBall: {}, ExtraLife: {}, ExpandPaddle: {}, FastBall: {}, SlowBall: {}, BulletPaddle: {}",
+                 powerUpCounts[0], powerUpCounts[1], powerUpCounts[2], powerUpCounts[3], powerUpCounts[4], powerUpCounts[5], powerUpCounts[6]);
+
+        // Ensure no trapped bricks
+        ensureNoTrappedBricks(layout, rows, cols);
+        return new WaveLayout(wave, rows, cols, unbreakableChance, layout, random);
+    }
+
+    /**
+     * Helper class to store brick data during generation
+     */
+    private static class BrickData {
+        final Brick.BrickType type;
+        final int level;
+        final Brick.PowerUpType powerUpType;
+
+        BrickData(Brick.BrickType type, int level, Brick.PowerUpType powerUpType) {
+            this.type = type;
+            this.level = level;
+            this.powerUpType = powerUpType;
+        }
+    }
+
+    /**
+     * A generated wave as plain data: its bricks row by row and the level stream after it.
+     */
+    private static class WaveLayout {
+        final int wave;
+        final int rows;
+        final int cols;
+        final float unbreakableChance;
+        final BrickData[] bricks;
+        final Rng random;
+
+        WaveLayout(int wave, int rows, int cols, float unbreakableChance, BrickData[] bricks, Rng random) {
+            this.wave = wave;
+            this.rows = rows;
+            this.cols = cols;
+            this.unbreakableChance = unbreakableChance;
+            this.bricks = bricks;
+            this.random = random;
+        }
+    }
+
+    /**
+     * Ensures that no breakable brick is completely surrounded by unbreakable bricks.
+     * If found, converts one neighboring unbreakable brick to breakable.
+     * @param bricks Bricks of the wave, row by row
+     * @param rows Number of rows
+     * @param cols Number of columns
+     */
+    private static void ensureNoTrappedBricks(BrickData[] bricks, int rows, int cols) {
+        boolean fixed = false;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int index = row * cols + col;
+
+                // Only check breakable bricks
+                if (bricks[index].type != Brick.BrickType.BREAKABLE) continue;
+
+                // Check all 4 directions (top, bottom, left, right)
+                boolean topBlocked = (row == 0) || (bricks[(row - 1) * cols + col].type == Brick.BrickType.UNBREAKABLE);
+                boolean bottomBlocked = (row == rows - 1) || (bricks[(row + 1) * cols + col].type == Brick.BrickType.UNBREAKABLE);
+                boolean leftBlocked = (col == 0) || (bricks[row * cols + (col - 1)].type == Brick.BrickType.UNBREAKABLE);
+                boolean rightBlocked = (col == cols - 1) || (bricks[row * cols + (col + 1)].type == Brick.BrickType.UNBREAKABLE);
+
+                // If completely surrounded, open one path
+                if (topBlocked && bottomBlocked && leftBlocked && rightBlocked) {
+                    if (row > 0) {
+                        int topIndex = (row - 1) * cols + col;
+                        convertToBreakable(bricks, topIndex);
+                        fixed = true;
+                        log.warn("Fixed trapped brick at ({}, {}) by opening TOP", row, col);
+                    } else if (col > 0) {
+                        int leftIndex = row * cols + (col - 1);
+                        convertToBreakable(bricks, leftIndex);
+                        fixed = true;
+                        log.warn("Fixed trapped brick at ({}, {}) by opening LEFT", row, col);
+                    } else if (col < cols - 1) {
+                        int rightIndex = row * cols + (col + 1);
+                        convertToBreakable(bricks, rightIndex);
+                        fixed = true;
+                        log.warn("Fixed trapped brick at ({}, {}) by opening RIGHT", row, col);
+                    } else if (row < rows - 1) {
+                        int bottomIndex = (row + 1) * cols + col;
+                        convertToBreakable(bricks, bottomIndex);
+                        fixed = true;
+                        log.warn("Fixed trapped brick at ({}, {}) by opening BOTTOM", row, col);
+                    }
+                }
+            }
+        }
+        if (!fixed) {
+            log.info("No trapped bricks found - generation is valid!");
+        }
+    }
+
+    /**
+     * Converts an unbreakable brick to a normal breakable brick.
+     * @param bricks Bricks of the wave, row by row
+     * @param brickIndex Index of the brick to convert
+     */
+    private static void convertToBreakable(BrickData[] bricks, int brickIndex) {
+        if (bricks[brickIndex].type == Brick.BrickType.UNBREAKABLE) {
+            bricks[brickIndex] = new BrickData(Brick.BrickType.BREAKABLE, 1, Brick.PowerUpType.NONE);
+        }
+    }
+
+    /**
+     * Gets the wave being played.
+     * @return Current wave number, starting at 1
+     */
+    public int getWave() {
+        return currentWave;
+    }
+
+    /**
+     * Gets the chance of a brick being unbreakable in the current wave.
+     * @return Unbreakable chance between 0 and 1
+     */
+    public float getUnbreakableChance() {
+        return unbreakableChance;
+    }
+}
@@ -0,0 +1,281 @@
+package org.vibecoders.moongazer.arkanoid.levels;
+
+import org.vibecoders.moongazer.arkanoid.Brick;
+import org.vibecoders.moongazer.arkanoid.BrickField;
+import org.vibecoders.moongazer.arkanoid.RunRandom;
+import org.vibecoders.moongazer.arkanoid.World;
+import org.vibecoders.moongazer.arkanoid.util.Rng;
+
+import static org.vibecoders.moongazer.Constants.*;
+
+/**
+ * Brick layouts of the story stages. Each stage is a 10x10 pattern centered in the gameplay
+ * area, with its own rule for which bricks are unbreakable; breakable bricks draw their level
+ * and power-up from the world's level stream. Kept apart from the stage scenes so headless
+ * tools build exactly the same boards.
+ */
+public enum StoryStage {
+    /** Stage 1: a full moon with an unbreakable core. */
+    MOON(1, new int[][] {
+        {0,0,0,1,1,1,1,0,0,0},
+        {0,0,1,1,1,1,1,1,0,0},
+        {0,1,1,1,1,1,1,1,1,0},
+        {1,1,1,1,1,1,1,1,1,1},
+        {1,1,1,1,1,1,1,1,1,1},
+        {1,1,1,1,1,1,1,1,1,1},
+        {1,1,1,1,1,1,1,1,1,1},
+        {0,1,1,1,1,1,1,1,1,0},
+        {0,0,1,1,1,1,1,1,0,0},
+        {0,0,0,1,1,1,1,0,0,0}
+    }) {
+        @Override
+        Brick.BrickType getBrickType(int row, int col, int totalRows, int totalCols) {
+            float centerRow = totalRows / 2f;
+            float centerCol = totalCols / 2f;
+            double distanceFromCenter = Math.sqrt(
+                Math.pow(row - centerRow, 2) + Math.pow(col - centerCol, 2)
+            );
+            if (distanceFromCenter < 1.0) {
+                return Brick.BrickType.UNBREAKABLE;
+            }
+            if ((row + col) % 6 == 0) {
+                return Brick.BrickType.UNBREAKABLE;
+            }
+            return Brick.BrickType.BREAKABLE;
+        }
+    },
+
+    /** Stage 2: a heart with unbreakable top and bottom rows. */
+    HEART(2, new int[][] {
+        {0,0,1,1,0,0,1,1,0,0},
+        {0,1,1,1,1,1,1,1,1,0},
+        {1,1,1,1,1,1,1,1,1,1},
+        {1,1,1,1,1,1,1,1,1,1},
+        {1,1,1,1,1,1,1,1,1,1},
+        {0,1,1,1,1,1,1,1,1,0},
+        {0,0,1,1,1,1,1,1,0,0},
+        {0,0,0,1,1,1,1,0,0,0},
+        {0,0,0,0,1,1,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0,0}
+    }) {
+        @Override
+        Brick.BrickType getBrickType(int row, int col, int totalRows, int totalCols) {
+            // Create unbreakable bricks in outline pattern
+            if (row == 0 || row == totalRows - 1) {
+                return Brick.BrickType.UNBREAKABLE;
+            }
+            if ((row + col) % 5 == 0) {
+                return Brick.BrickType.UNBREAKABLE;
+            }
+            return Brick.BrickType.BREAKABLE;
+        }
+    },
+
+    /** Stage 3: seven memory fragments. */
+    MEMORY_FRAGMENTS(3, new int[][] {
+        {1,1,0,0,1,1,0,0,1,1},
+        {1,1,0,0,1,1,0,0,1,1},
+        {0,0,0,0,0,0,0,0,0,0},
+        {0,0,1,1,0,0,1,1,0,0},
+        {0,0,1,1,0,0,1,1,0,0},
+        {0,0,0,0,0,0,0,0,0,0},
+        {1,1,0,0,1,1,0,0,1,1},
+        {1,1,0,0,1,1,0,0,1,1},
+        {0,0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,1,1,0,0,0,0}
+    }) {
+        @Override
+        Brick.BrickType getBrickType(int row, int col, int totalRows, int totalCols) {
+            // Make center brick of each fragment unbreakable
+            if ((row % 3 == 1) && (col % 4 == 1)) {
+                return Brick.BrickType.UNBREAKABLE;
+            }
+            if ((row + col) % 7 == 0) {
+                return Brick.BrickType.UNBREAKABLE;
+            }
+            return Brick.BrickType.BREAKABLE;
+        }
+    },
+
+    /** Stage 4: the Fated Anchor, with an unbreakable stem and crossbar. */
+    FATE_ANCHOR(4, new int[][] {
+        {0,0,0,0,1,1,0,0,0,0},
+        {0,0,0,1,1,1,1,0,0,0},
+        {0,0,1,1,1,1,1,1,0,0},
+        {0,1,1,1,1,1,1,1,1,0},
+        {1,1,1,1,1,1,1,1,1,1},
+        {1,1,1,1,1,1,1,1,1,1},
+        {0,1,1,1,1,1,1,1,1,0},
+        {0,0,0,0,1,1,0,0,0,0},
+        {0,0,0,0,1,1,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0,0}
+    }) {
+        @Override
+        Brick.BrickType getBrickType(int row, int col, int totalRows, int totalCols) {
+            // Make the vertical line (stem) unbreakable
+            int centerCol = totalCols / 2;
+            if (col == centerCol && row >= 5) {
+                return Brick.BrickType.UNBREAKABLE;
+            }
+            // Make the horizontal line (crossbar) unbreakable
+            if (row == 5) {
+                return Brick.BrickType.UNBREAKABLE;
+            }
+            // Scattered unbreakable bricks
+            if ((row + col) % 6 == 0) {
+                return Brick.BrickType.UNBREAKABLE;
+            }
+            return Brick.BrickType.BREAKABLE;
+        }
+    },
+
+    /** Stage 5: a sunflower with an unbreakable core and petal outline. */
+    SUNFLOWER(5, new int[][] {
+        {0,0,1,1,1,1,1,1,0,0},
+        {0,1,1,1,1,1,1,1,1,0},
+        {1,1,1,0,0,0,0,1,1,1},
+        {1,1,0,0,1,1,0,0,1,1},
+        {1,1,0,1,1,1,1,0,1,1},
+        {1,1,0,1,1,1,1,0,1,1},
+        {1,1,0,0,1,1,0,0,1,1},
+        {1,1,1,0,0,0,0,1,1,1},
+        {0,1,1,1,1,1,1,1,1,0},
+        {0,0,1,1,1,1,1,1,0,0}
+    }) {
+        @Override
+        Brick.BrickType getBrickType(int row, int col, int totalRows, int totalCols) {
+            float centerRow = totalRows / 2f;
+            float centerCol = totalCols / 2f;
+            double distanceFromCenter = Math.sqrt(
+                Math.pow(row - centerRow, 2) + Math.pow(col - centerCol, 2)
+            );
+
+            // Make center (core of sunflower) unbreakable
+            if (distanceFromCenter < 2.5) {
+                return Brick.BrickType.UNBREAKABLE;
+            }
+            // Make petals outline unbreakable
+            if (row <= 2 || row >= totalRows - 3) {
+                if ((row + col) % 4 == 0) {
+                    return Brick.BrickType.UNBREAKABLE;
+                }
+            }
+            if ((row + col) % 8 == 0) {
+                return Brick.BrickType.UNBREAKABLE;
+            }
+            return Brick.BrickType.BREAKABLE;
+        }
+    };
+
+    private final int stageId;
+    private final int[][] pattern;
+
+    /**
+     * Constructs a stage layout.
+     * @param stageId Story stage number, starting at 1
+     * @param pattern Rows of the layout from the top, 1 where a brick goes
+     */
+    StoryStage(int stageId, int[][] pattern) {
+        this.stageId = stageId;
+        this.pattern = pattern;
+    }
+
+    /**
+     * Determines the brick type for a given position in the pattern.
+     * @param row The row index of the brick
+     * @param col The column index of the brick
+     * @param totalRows Total number of rows in the pattern
+     * @param totalCols Total number of columns in the pattern
+     * @return The BrickType for the specified position
+     */
+    abstract Brick.BrickType getBrickType(int row, int col, int totalRows, int totalCols);
+
+    /**
+     * Gets the layout of a story stage.
+     * @param stageId Story stage number, 1 to 5
+     * @return The stage layout
+     * @throws IllegalArgumentException if there is no such stage
+     */
+    public static StoryStage of(int stageId) {
+        for (StoryStage stage : values()) {
+            if (stage.stageId == stageId) {
+                return stage;
+            }
+        }
+        throw new IllegalArgumentException("No story stage " + stageId);
+    }
+
+    /**
+     * Replaces the world's bricks with this stage's layout and indexes them.
+     * Breakable bricks get a random level of 1 to 3 and maybe a power-up.
+     * @param world The world to build the stage in
+     */
+    public void build(World world) {
+        BrickField bricks = world.getBricks();
+        bricks.clear();
+        Rng random = world.getRandom(RunRandom.Stream.LEVEL);
+        float centerX = SIDE_PANEL_WIDTH + GAMEPLAY_AREA_WIDTH / 2f;
+        float centerY = WINDOW_HEIGHT / 2f + 50f;
+        float scaledBrickWidth = BRICK_WIDTH * 0.75f;
+        float scaledBrickHeight = BRICK_HEIGHT * 0.75f;
+        float scaledPadding = BRICK_PADDING * 0.75f;
+
+        int patternRows = pattern.length;
+        int patternCols = pattern[0].length;
+        float totalWidth = patternCols * (scaledBrickWidth + scaledPadding);
+        float totalHeight = patternRows * (scaledBrickHeight + scaledPadding);
+        float startX = centerX - totalWidth / 2f;
+        float startY = centerY + totalHeight / 2f;
+
+        for (int row = 0; row < patternRows; row++) {
+            for (int col = 0; col < patternCols; col++) {
+                if (pattern[row][col] == 1) {
+                    float x = startX + col * (scaledBrickWidth + scaledPadding);
+                    float y = startY - row * (scaledBrickHeight + scaledPadding);
+                    Brick.BrickType type = getBrickType(row, col, patternRows, patternCols);
+
+                    if (type == Brick.BrickType.BREAKABLE) {
+                        int level = random.nextInt(1, 3);
+                        Brick.PowerUpType powerUp = getRandomPowerUp(random);
+                        bricks.add(x, y, scaledBrickWidth, scaledBrickHeight, type, level, powerUp);
+                    } else {
+                        bricks.add(x, y, scaledBrickWidth, scaledBrickHeight, type);
+                    }
+                }
+            }
+        }
+        world.indexBricks();
+    }
+
+    /**
+     * Selects a random power-up type based on predefined probabilities.
+     * @param random The level stream
+     * @return A randomly selected PowerUpType
+     */
+    private static Brick.PowerUpType getRandomPowerUp(Rng random) {
+        double rand = random.nextDouble();
+        if (rand < 0.70) {
+            return Brick.PowerUpType.NONE;
+        } else if (rand < 0.75) {
+            return Brick.PowerUpType.EXPAND_PADDLE;
+        } else if (rand < 0.80) {
+            return Brick.PowerUpType.EXTRA_LIFE;
+        } else if (rand < 0.85) {
+            return Brick.PowerUpType.SLOW_BALL;
+        } else if (rand < 0.90) {
+            return Brick.PowerUpType.MULTI_BALL;
+        } else if (rand < 0.95) {
+            return Brick.PowerUpType.SUPER_BALL;
+        } else {
+            return Brick.PowerUpType.FAST_BALL;
+        }
+    }
+
+    /**
+     * Gets the story stage number.
+     * @return Stage number, starting at 1
+     */
+    public int getStageId() {
+        return stageId;
+    }
+}
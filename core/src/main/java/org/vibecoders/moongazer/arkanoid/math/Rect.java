@@ -0,0 +1,79 @@
+package org.vibecoders.moongazer.arkanoid.math;
+
+/**
+ * Axis-aligned rectangle used for body bounds in the simulation.
+ * The field layout mirrors LibGDX's Rectangle so renderers can read it directly.
+ */
+public class Rect {
+    public float x;
+    public float y;
+    public float width;
+    public float height;
+
+    /**
+     * Constructs an empty rectangle at the origin.
+     */
+    public Rect() {
+    }
+
+    /**
+     * Constructs a rectangle with the given position and size.
+     * @param x X position of the bottom-left corner
+     * @param y Y position of the bottom-left corner
+     * @param width Width of the rectangle
+     * @param height Height of the rectangle
+     */
+    public Rect(float x, float y, float width, float height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Sets the position and size of the rectangle.
+     * @param x X position of the bottom-left corner
+     * @param y Y position of the bottom-left corner
+     * @param width Width of the rectangle
+     * @param height Height of the rectangle
+     * @return This rectangle for chaining
+     */
+    public Rect set(float x, float y, float width, float height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        return this;
+    }
+
+    /**
+     * Copies the position and size of another rectangle.
+     * @param other Rectangle to copy from
+     * @return This rectangle for chaining
+     */
+    public Rect set(Rect other) {
+        return set(other.x, other.y, other.width, other.height);
+    }
+
+    /**
+     * Checks whether this rectangle overlaps another one.
+     * @param other Rectangle to test against
+     * @return true if the rectangles overlap, false otherwise
+     */
+    public boolean overlaps(Rect other) {
+        return overlaps(other.x, other.y, other.width, other.height);
+    }
+
+    /**
+     * Checks whether this rectangle overlaps a rectangle given by its edges.
+     * @param x Left edge of the other rectangle
+     * @param y Bottom edge of the other rectangle
+     * @param width Width of the other rectangle
+     * @param height Height of the other rectangle
+     * @return true if the rectangles overlap, false otherwise
+     */
+    public boolean overlaps(float x, float y, float width, float height) {
+        return this.x < x + width && this.x + this.width > x
+            && this.y < y + height && this.y + this.height > y;
+    }
+}
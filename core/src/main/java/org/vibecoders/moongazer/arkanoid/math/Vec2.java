@@ -0,0 +1,64 @@
+package org.vibecoders.moongazer.arkanoid.math;
+
+/**
+ * Two-component vector used for velocities in the simulation.
+ */
+public class Vec2 {
+    public float x;
+    public float y;
+
+    /**
+     * Constructs a zero vector.
+     */
+    public Vec2() {
+    }
+
+    /**
+     * Constructs a vector with the given components.
+     * @param x X component
+     * @param y Y component
+     */
+    public Vec2(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Sets both components of the vector.
+     * @param x X component
+     * @param y Y component
+     * @return This vector for chaining
+     */
+    public Vec2 set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Creates a copy of this vector.
+     * @return A new vector with the same components
+     */
+    public Vec2 cpy() {
+        return new Vec2(x, y);
+    }
+
+    /**
+     * Gets the length of the vector.
+     * @return Euclidean length
+     */
+    public float len() {
+        return (float) Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * Scales the vector by a scalar.
+     * @param scalar Factor to multiply both components by
+     * @return This vector for chaining
+     */
+    public Vec2 scl(float scalar) {
+        x *= scalar;
+        y *= scalar;
+        return this;
+    }
+}
@@ -0,0 +1,151 @@
+package org.vibecoders.moongazer.arkanoid.powerups;
+
+import org.vibecoders.moongazer.arkanoid.Brick;
+import org.vibecoders.moongazer.arkanoid.PowerUp;
+import org.vibecoders.moongazer.arkanoid.World;
+import org.vibecoders.moongazer.arkanoid.util.Pool;
+
+import static org.vibecoders.moongazer.Constants.FIXED_TIMESTEP;
+
+/**
+ * A timed power-up effect in play. Its timer runs on simulation steps: the effect records the
+ * step it expires on, so it costs nothing while it runs and pausing the game stops it.
+ */
+public class ActivePowerUpEffect implements Pool.Poolable {
+    private PowerUp powerUp;
+    private long startTick;
+    private long expiryTick;
+    private int durationTicks;
+    private String effectType;
+    int heapIndex = -1;
+
+    /**
+     * Constructs an empty effect for a pool. Call {@link #start(PowerUp, long)} before use.
+     */
+    public ActivePowerUpEffect() {
+    }
+
+    /**
+     * Constructs a new ActivePowerUpEffect starting at step 0.
+     * @param powerUp The power-up to track
+     */
+    public ActivePowerUpEffect(PowerUp powerUp) {
+        start(powerUp, 0L);
+    }
+
+    /**
+     * Starts tracking a power-up from the given step.
+     * @param powerUp The power-up to track
+     * @param tick The current simulation step
+     */
+    public void start(PowerUp powerUp, long tick) {
+        this.powerUp = powerUp;
+        this.durationTicks = toTicks(powerUp.getDuration());
+        this.effectType = powerUp.getName();
+        refreshDuration(tick);
+    }
+
+    /**
+     * Continues another effect's timer for a copy of its power-up.
+     * @param other The effect to copy
+     * @param powerUp The copy of the other effect's power-up
+     */
+    public void copyFrom(ActivePowerUpEffect other, PowerUp powerUp) {
+        this.powerUp = powerUp;
+        this.startTick = other.startTick;
+        this.expiryTick = other.expiryTick;
+        this.durationTicks = other.durationTicks;
+        this.effectType = other.effectType;
+    }
+
+    /**
+     * Drops the tracked power-up so a pooled effect holds no stale reference.
+     */
+    @Override
+    public void reset() {
+        powerUp = null;
+        startTick = 0L;
+        expiryTick = 0L;
+        durationTicks = 0;
+        effectType = null;
+        heapIndex = -1;
+    }
+
+    /**
+     * Converts a power-up duration to simulation steps.
+     * @param durationMillis Duration in milliseconds, negative for permanent
+     * @return Duration in steps, or -1 if permanent
+     */
+    static int toTicks(int durationMillis) {
+        if (durationMillis < 0) return -1;
+        return Math.round(durationMillis / 1000f / FIXED_TIMESTEP);
+    }
+
+    /**
+     * Checks if the power-up effect has expired.
+     * @param tick The current simulation step
+     * @return true if expired, false otherwise
+     */
+    public boolean hasExpired(long tick) {
+        return durationTicks >= 0 && tick >= expiryTick;
+    }
+
+    /**
+     * Removes the power-up effect from the game.
+     * @param world The game world
+     */
+    public void removeEffect(World world) {
+        powerUp.removeEffect(world);
+    }
+
+    /**
+     * Restarts the effect's full duration from the given step.
+     * @param tick The current simulation step
+     */
+    public void refreshDuration(long tick) {
+        this.startTick = tick;
+        this.expiryTick = durationTicks < 0 ? Long.MAX_VALUE : tick + durationTicks;
+    }
+
+    /**
+     * Gets the power-up object.
+     * @return PowerUp object
+     */
+    public PowerUp getPowerUp() {
+        return powerUp;
+    }
+
+    /**
+     * Gets the power-up type of the effect.
+     * @return Power-up type
+     */
+    public Brick.PowerUpType getType() {
+        return powerUp.getType();
+    }
+
+    /**
+     * Gets the type of effect.
+     * @return Effect type name
+     */
+    public String getEffectType() {
+        return effectType;
+    }
+
+    /**
+     * Gets the simulation step the effect expires on.
+     * @return Expiry step, or Long.MAX_VALUE if permanent
+     */
+    public long getExpiryTick() {
+        return expiryTick;
+    }
+
+    /**
+     * Gets the remaining time for this effect.
+     * @param tick The current simulation step
+     * @return Remaining time in seconds, or -1 if permanent
+     */
+    public float getRemainingTime(long tick) {
+        if (durationTicks < 0) return -1;
+        return Math.max(0, expiryTick - tick) * FIXED_TIMESTEP;
+    }
+}
@@ -1,7 +1,8 @@
 package org.vibecoders.moongazer.arkanoid.powerups;
 
+import org.vibecoders.moongazer.arkanoid.Brick;
 import org.vibecoders.moongazer.arkanoid.PowerUp;
-import org.vibecoders.moongazer.scenes.arkanoid.Arkanoid;
+import org.vibecoders.moongazer.arkanoid.World;
 
 public class BulletPaddle extends PowerUp {
     /**
@@ -13,25 +14,24 @@ public class BulletPaddle extends PowerUp {
      */
     public BulletPaddle(float x, float y, float width, float height) {
         super(x, y, width, height);
-        loadTexture("textures/arkanoid/perk.png");
     }
 
     /**
      * Applies the bullet shooting effect to the paddle.
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void applyEffect(Arkanoid arkanoid) {
-        arkanoid.getPaddle().setBulletEnabled(true);
+    public void applyEffect(World world) {
+        world.getPaddle().setBulletEnabled(true);
     }
 
     /**
      * Removes the bullet shooting effect from the paddle.
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void removeEffect(Arkanoid arkanoid) {
-        arkanoid.getPaddle().setBulletEnabled(false);
+    public void removeEffect(World world) {
+        world.getPaddle().setBulletEnabled(false);
     }
 
     /**
@@ -51,4 +51,13 @@ public class BulletPaddle extends PowerUp {
     public String getName() {
         return "Bullet Paddle";
     }
+
+    /**
+     * Gets the type of the power-up.
+     * @return Power-up type
+     */
+    @Override
+    public Brick.PowerUpType getType() {
+        return Brick.PowerUpType.BULLET;
+    }
 }
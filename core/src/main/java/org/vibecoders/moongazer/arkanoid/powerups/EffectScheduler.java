@@ -0,0 +1,178 @@
+package org.vibecoders.moongazer.arkanoid.powerups;
+
+import org.vibecoders.moongazer.arkanoid.Brick;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Timed power-up effects in play, on the simulation clock. Each power-up type has at most one
+ * running effect, found by type in constant time; a min-heap ordered by expiry step hands out
+ * the effects that have run out, so a step with nothing expiring only looks at the heap root.
+ * Effects stay listed in the order they were activated for display.
+ */
+public class EffectScheduler {
+    private static final int TYPE_COUNT = Brick.PowerUpType.values().length;
+
+    private final ActivePowerUpEffect[] byType = new ActivePowerUpEffect[TYPE_COUNT];
+    private final ActivePowerUpEffect[] heap = new ActivePowerUpEffect[TYPE_COUNT];
+    private final List<ActivePowerUpEffect> running = new ArrayList<>(TYPE_COUNT);
+    private int heapSize;
+    private long tick;
+
+    /**
+     * Advances the clock by one simulation step.
+     */
+    public void advance() {
+        tick++;
+    }
+
+    /**
+     * Gets the current simulation step.
+     * @return Steps since the clock was last reset
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the running effect of a power-up type.
+     * @param type Power-up type
+     * @return The effect, or null if none is running
+     */
+    public ActivePowerUpEffect get(Brick.PowerUpType type) {
+        return byType[type.ordinal()];
+    }
+
+    /**
+     * Checks whether an effect of a power-up type is running.
+     * @param type Power-up type
+     * @return true if one is running
+     */
+    public boolean isRunning(Brick.PowerUpType type) {
+        return byType[type.ordinal()] != null;
+    }
+
+    /**
+     * Schedules an effect that has been started.
+     * @param effect The effect to schedule
+     * @throws IllegalStateException if an effect of the same type is already running
+     */
+    public void add(ActivePowerUpEffect effect) {
+        int type = effect.getType().ordinal();
+        if (byType[type] != null) {
+            throw new IllegalStateException(effect.getType() + " effect is already running");
+        }
+        byType[type] = effect;
+        running.add(effect);
+        effect.heapIndex = heapSize;
+        heap[heapSize++] = effect;
+        siftUp(effect.heapIndex);
+    }
+
+    /**
+     * Restarts a running effect's full duration from the current step.
+     * @param effect The running effect
+     */
+    public void refresh(ActivePowerUpEffect effect) {
+        effect.refreshDuration(tick);
+        siftDown(effect.heapIndex);
+    }
+
+    /**
+     * Removes and returns an effect whose time is up.
+     * @return An expired effect, or null if none has expired
+     */
+    public ActivePowerUpEffect pollExpired() {
+        if (heapSize == 0 || !heap[0].hasExpired(tick)) {
+            return null;
+        }
+        ActivePowerUpEffect effect = heap[0];
+        ActivePowerUpEffect last = heap[--heapSize];
+        heap[heapSize] = null;
+        if (heapSize > 0) {
+            heap[0] = last;
+            last.heapIndex = 0;
+            siftDown(0);
+        }
+        effect.heapIndex = -1;
+        byType[effect.getType().ordinal()] = null;
+        running.remove(effect);
+        return effect;
+    }
+
+    /**
+     * Unschedules every effect without undoing them. The caller frees the effects.
+     */
+    public void clear() {
+        for (int i = 0; i < heapSize; i++) {
+            heap[i].heapIndex = -1;
+            heap[i] = null;
+        }
+        heapSize = 0;
+        running.clear();
+        Arrays.fill(byType, null);
+    }
+
+    /**
+     * Unschedules every effect and sets the clock, e.g. when copying another world.
+     * @param tick The simulation step to continue from
+     */
+    public void reset(long tick) {
+        clear();
+        this.tick = tick;
+    }
+
+    /**
+     * Gets the running effects in the order they were activated.
+     * @return The running effects; do not modify
+     */
+    public List<ActivePowerUpEffect> getRunning() {
+        return running;
+    }
+
+    /**
+     * Moves an effect towards the root while it expires before its parent.
+     * @param index Heap position of the effect
+     */
+    private void siftUp(int index) {
+        ActivePowerUpEffect effect = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].getExpiryTick() <= effect.getExpiryTick()) break;
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(effect, index);
+    }
+
+    /**
+     * Moves an effect towards the leaves while a child expires before it.
+     * @param index Heap position of the effect
+     */
+    private void siftDown(int index) {
+        ActivePowerUpEffect effect = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heap[child + 1].getExpiryTick() < heap[child].getExpiryTick()) {
+                child++;
+            }
+            if (effect.getExpiryTick() <= heap[child].getExpiryTick()) break;
+            place(heap[child], index);
+            index = child;
+        }
+        place(effect, index);
+    }
+
+    /**
+     * Puts an effect at a heap position.
+     * @param effect The effect
+     * @param index Heap position
+     */
+    private void place(ActivePowerUpEffect effect, int index) {
+        heap[index] = effect;
+        effect.heapIndex = index;
+    }
+}
@@ -1,7 +1,8 @@
 package org.vibecoders.moongazer.arkanoid.powerups;
 
+import org.vibecoders.moongazer.arkanoid.Brick;
 import org.vibecoders.moongazer.arkanoid.PowerUp;
-import org.vibecoders.moongazer.scenes.arkanoid.Arkanoid;
+import org.vibecoders.moongazer.arkanoid.World;
 
 public class ExpandPaddle extends PowerUp {
     /**
@@ -13,26 +14,25 @@ public class ExpandPaddle extends PowerUp {
      */
     public ExpandPaddle(float x, float y, float width, float height) {
         super(x, y, width, height);
-        loadTexture("textures/arkanoid/perk5.png");
     }
 
     /**
      * Applies the paddle expansion effect.
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void applyEffect(Arkanoid arkanoid) {
-        arkanoid.getPaddle().setSize((int) (arkanoid.getPaddle().getWidth() * 2), arkanoid.getPaddle().getHeight());
+    public void applyEffect(World world) {
+        world.getPaddle().setSize((int) (world.getPaddle().getWidth() * 2), world.getPaddle().getHeight());
     }
 
     /**
      * Removes the paddle expansion effect.
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void removeEffect(Arkanoid arkanoid) {
-        if (arkanoid.getPaddle() != null) {
-            arkanoid.getPaddle().setSize((int) (arkanoid.getPaddle().getWidth() / 2), arkanoid.getPaddle().getHeight());
+    public void removeEffect(World world) {
+        if (world.getPaddle() != null) {
+            world.getPaddle().setSize((int) (world.getPaddle().getWidth() / 2), world.getPaddle().getHeight());
         }
     }
 
@@ -53,4 +53,13 @@ public class ExpandPaddle extends PowerUp {
     public String getName() {
         return "Expand Paddle";
     }
+
+    /**
+     * Gets the type of the power-up.
+     * @return Power-up type
+     */
+    @Override
+    public Brick.PowerUpType getType() {
+        return Brick.PowerUpType.EXPAND_PADDLE;
+    }
 }
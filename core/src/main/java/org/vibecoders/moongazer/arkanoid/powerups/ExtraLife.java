@@ -1,7 +1,8 @@
 package org.vibecoders.moongazer.arkanoid.powerups;
 
+import org.vibecoders.moongazer.arkanoid.Brick;
 import org.vibecoders.moongazer.arkanoid.PowerUp;
-import org.vibecoders.moongazer.scenes.arkanoid.Arkanoid;
+import org.vibecoders.moongazer.arkanoid.World;
 
 public class ExtraLife extends PowerUp {
     /**
@@ -13,26 +14,25 @@ public class ExtraLife extends PowerUp {
      */
     public ExtraLife(float x, float y, float width, float height) {
         super(x, y, width, height);
-        loadTexture("textures/ui/hearth.png");
     }
 
     /**
      * Applies the extra life effect, adding one life if under maximum.
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void applyEffect(Arkanoid arkanoid) {
-        if (arkanoid.lives < 3) {
-            arkanoid.lives += 1;
+    public void applyEffect(World world) {
+        if (world.getLives() < 3) {
+            world.setLives(world.getLives() + 1);
         }
     }
 
     /**
      * Removes the effect (does nothing for instant effects).
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void removeEffect(Arkanoid arkanoid) {
+    public void removeEffect(World world) {
     }
 
     /**
@@ -52,4 +52,13 @@ public class ExtraLife extends PowerUp {
     public String getName() {
         return "Add live";
     }
+
+    /**
+     * Gets the type of the power-up.
+     * @return Power-up type
+     */
+    @Override
+    public Brick.PowerUpType getType() {
+        return Brick.PowerUpType.EXTRA_LIFE;
+    }
 }
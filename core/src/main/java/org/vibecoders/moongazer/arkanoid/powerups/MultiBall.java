@@ -1,7 +1,8 @@
 package org.vibecoders.moongazer.arkanoid.powerups;
 
+import org.vibecoders.moongazer.arkanoid.Brick;
 import org.vibecoders.moongazer.arkanoid.PowerUp;
-import org.vibecoders.moongazer.scenes.arkanoid.Arkanoid;
+import org.vibecoders.moongazer.arkanoid.World;
 
 public class MultiBall extends PowerUp {
     /**
@@ -13,24 +14,23 @@ public class MultiBall extends PowerUp {
      */
     public MultiBall(float x, float y, float width, float height) {
         super(x, y, width, height);
-        loadTexture("textures/arkanoid/perk3.png");
     }
 
     /**
      * Applies the multi-ball effect, spawning additional balls.
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void applyEffect(Arkanoid arkanoid) {
-        arkanoid.spawnBalls(2);
+    public void applyEffect(World world) {
+        world.spawnBalls(2);
     }
 
     /**
      * Removes the effect (does nothing for instant effects).
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void removeEffect(Arkanoid arkanoid) {
+    public void removeEffect(World world) {
     }
 
     /**
@@ -50,4 +50,13 @@ public class MultiBall extends PowerUp {
     public String getName() {
         return "Multi Ball";
     }
+
+    /**
+     * Gets the type of the power-up.
+     * @return Power-up type
+     */
+    @Override
+    public Brick.PowerUpType getType() {
+        return Brick.PowerUpType.MULTI_BALL;
+    }
 }
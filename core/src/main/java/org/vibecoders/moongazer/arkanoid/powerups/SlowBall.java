@@ -1,7 +1,8 @@
 package org.vibecoders.moongazer.arkanoid.powerups;
 
+import org.vibecoders.moongazer.arkanoid.Brick;
 import org.vibecoders.moongazer.arkanoid.PowerUp;
-import org.vibecoders.moongazer.scenes.arkanoid.Arkanoid;
+import org.vibecoders.moongazer.arkanoid.World;
 
 public class SlowBall extends PowerUp {
     /**
@@ -13,26 +14,25 @@ public class SlowBall extends PowerUp {
      */
     public SlowBall(float x, float y, float width, float height) {
         super(x, y, width, height);
-        loadTexture("textures/arkanoid/perk4.png");
     }
 
     /**
      * Applies the slow ball effect, halving ball speed.
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void applyEffect(Arkanoid arkanoid) {
-        arkanoid.getBall().setSpeedMultiplier(0.5f);
+    public void applyEffect(World world) {
+        world.getBall().setSpeedMultiplier(0.5f);
     }
 
     /**
      * Removes the slow ball effect, returning to normal speed.
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void removeEffect(Arkanoid arkanoid) {
-        if (arkanoid.getBall() != null) {
-            arkanoid.getBall().setSpeedMultiplier(1.0f);
+    public void removeEffect(World world) {
+        if (world.getBall() != null) {
+            world.getBall().setSpeedMultiplier(1.0f);
         }
     }
 
@@ -53,4 +53,13 @@ public class SlowBall extends PowerUp {
     public String getName() {
         return "speed x0.5";
     }
+
+    /**
+     * Gets the type of the power-up.
+     * @return Power-up type
+     */
+    @Override
+    public Brick.PowerUpType getType() {
+        return Brick.PowerUpType.SLOW_BALL;
+    }
 }
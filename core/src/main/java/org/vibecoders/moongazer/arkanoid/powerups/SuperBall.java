@@ -1,7 +1,8 @@
 package org.vibecoders.moongazer.arkanoid.powerups;
 
+import org.vibecoders.moongazer.arkanoid.Brick;
 import org.vibecoders.moongazer.arkanoid.PowerUp;
-import org.vibecoders.moongazer.scenes.arkanoid.Arkanoid;
+import org.vibecoders.moongazer.arkanoid.World;
 
 public class SuperBall extends PowerUp {
     /**
@@ -13,27 +14,26 @@ public class SuperBall extends PowerUp {
      */
     public SuperBall(float x, float y, float width, float height) {
         super(x, y, width, height);
-        loadTexture("textures/arkanoid/perk1.png");
     }
 
     /**
      * Applies the super ball effect, allowing ball to pass through bricks.
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void applyEffect(Arkanoid arkanoid) {
-        arkanoid.getBall().setSuperBall(true);
+    public void applyEffect(World world) {
+        world.getBall().setSuperBall(true);
     }
 
     /**
      * Removes the super ball effect, returning to normal behavior.
-     * @param arkanoid The game instance
+     * @param world The game world
      */
     @Override
-    public void removeEffect(Arkanoid arkanoid) {
+    public void removeEffect(World world) {
         // Check if ball still exists before removing effect
-        if (arkanoid.getBall() != null) {
-            arkanoid.getBall().setSuperBall(false);
+        if (world.getBall() != null) {
+            world.getBall().setSuperBall(false);
         }
     }
 
@@ -54,4 +54,13 @@ public class SuperBall extends PowerUp {
     public String getName() {
         return "Super Ball";
     }
+
+    /**
+     * Gets the type of the power-up.
+     * @return Power-up type
+     */
+    @Override
+    public Brick.PowerUpType getType() {
+        return Brick.PowerUpType.SUPER_BALL;
+    }
 }
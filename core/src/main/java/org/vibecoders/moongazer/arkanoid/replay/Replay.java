@@ -0,0 +1,227 @@
+package org.vibecoders.moongazer.arkanoid.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A recorded run: the seed, the starting conditions and the input changes of every fixed
+ * simulation step. Re-simulating the inputs from the seed reproduces the run exactly, so a
+ * replay stays a few kilobytes no matter how long the run was.
+ *
+ * <p>File layout, all counts as unsigned varints:
+ * <pre>
+ * "MGRP" magic, version byte, seed (8 bytes), starting lives, flags byte (bit 0: AI enabled),
+ * step count, final score, final wave, event count, events...
+ * </pre>
+ * Each event is the step delta since the previous event, a flags byte and, if the pointer
+ * moved, the zigzag pointer X delta. See {@link ReplayRecorder} for the flag bits.
+ */
+public class Replay {
+    private static final byte[] MAGIC = {'M', 'G', 'R', 'P'};
+    /**
+     * Format and simulation version. Bumped whenever the simulation changes how recorded
+     * inputs play out, since older replays would no longer reproduce their run. Version 2:
+     * timed power-up effects last exactly their duration in steps instead of one step more.
+     * Version 3: a super ball hits a breakable brick once per pass instead of breaking it.
+     * Version 4: pointer smoothing is scaled by the step length.
+     */
+    private static final int VERSION = 4;
+    private static final int FLAG_AI_ENABLED = 1;
+
+    private final long seed;
+    private final int startingLives;
+    private final boolean aiEnabled;
+    private final int stepCount;
+    private final int score;
+    private final int wave;
+    private final int eventCount;
+    private final byte[] events;
+
+    /**
+     * Constructs a replay from recorded data.
+     * @param seed Seed of the run
+     * @param startingLives Lives the run started with
+     * @param aiEnabled Whether the paddle AI was on at the start
+     * @param stepCount Number of simulation steps recorded
+     * @param score Final score of the run
+     * @param wave Final wave of the run
+     * @param eventCount Number of encoded input events
+     * @param events Encoded input events
+     */
+    Replay(long seed, int startingLives, boolean aiEnabled, int stepCount, int score, int wave,
+           int eventCount, byte[] events) {
+        this.seed = seed;
+        this.startingLives = startingLives;
+        this.aiEnabled = aiEnabled;
+        this.stepCount = stepCount;
+        this.score = score;
+        this.wave = wave;
+        this.eventCount = eventCount;
+        this.events = events;
+    }
+
+    /**
+     * Starts playing the replay from its first step.
+     * @return A player positioned at step 0
+     */
+    public ReplayPlayer play() {
+        return new ReplayPlayer(this);
+    }
+
+    /**
+     * Writes the replay in its binary format.
+     * @param out Destination stream, left open
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream(32);
+        Varint.write(header, startingLives);
+        header.write(aiEnabled ? FLAG_AI_ENABLED : 0);
+        Varint.write(header, stepCount);
+        Varint.write(header, score);
+        Varint.write(header, wave);
+        Varint.write(header, eventCount);
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(seed);
+        header.writeTo(data);
+        data.write(events);
+        data.flush();
+    }
+
+    /**
+     * Encodes the replay into a byte array.
+     * @return The binary replay
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(events.length + 32);
+        try {
+            write(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing to memory failed", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads a replay in its binary format.
+     * @param in Source stream, read to the end
+     * @return The replay
+     * @throws IOException if reading fails or the data is not a replay
+     */
+    public static Replay read(InputStream in) throws IOException {
+        return fromBytes(in.readAllBytes());
+    }
+
+    /**
+     * Decodes a replay from a byte array.
+     * @param bytes The binary replay
+     * @return The replay
+     * @throws IOException if the data is not a replay of a supported version
+     */
+    public static Replay fromBytes(byte[] bytes) throws IOException {
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedByte();
+        if (version < VERSION) {
+            throw new IOException("Replay version " + version + " was recorded by an older simulation "
+                                  + "and cannot be played back by version " + VERSION);
+        }
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        long seed = data.readLong();
+
+        int headerStart = MAGIC.length + 1 + Long.BYTES;
+        ByteArrayInputStream header = new ByteArrayInputStream(bytes, headerStart, bytes.length - headerStart);
+        try {
+            int startingLives = (int) Varint.read(header);
+            int flags = header.read();
+            int stepCount = (int) Varint.read(header);
+            int score = (int) Varint.read(header);
+            int wave = (int) Varint.read(header);
+            int eventCount = (int) Varint.read(header);
+            byte[] events = header.readAllBytes();
+            return new Replay(seed, startingLives, (flags & FLAG_AI_ENABLED) != 0, stepCount, score, wave,
+                              eventCount, events);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt replay header", e);
+        }
+    }
+
+    /**
+     * Gets the seed of the run.
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the lives the run started with.
+     * @return The starting lives
+     */
+    public int getStartingLives() {
+        return startingLives;
+    }
+
+    /**
+     * Checks whether the paddle AI was on at the start of the run.
+     * @return true if the AI was enabled
+     */
+    public boolean isAiEnabled() {
+        return aiEnabled;
+    }
+
+    /**
+     * Gets the number of simulation steps in the run.
+     * @return The step count
+     */
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Gets the final score the recording client reported.
+     * @return The score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the final wave the recording client reported.
+     * @return The wave
+     */
+    public int getWave() {
+        return wave;
+    }
+
+    /**
+     * Gets the number of encoded input events.
+     * @return The event count
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Gets the encoded input events.
+     * @return The event bytes, not to be modified
+     */
+    byte[] getEvents() {
+        return events;
+    }
+}
@@ -0,0 +1,93 @@
+package org.vibecoders.moongazer.arkanoid.replay;
+
+import org.vibecoders.moongazer.arkanoid.PaddleInput;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * Feeds the inputs of a replay back into a world, one fixed step at a time.
+ */
+public class ReplayPlayer {
+    private final Replay replay;
+    private final ByteArrayInputStream events;
+    private int eventsLeft;
+    private int step;
+    private int nextEventStep = -1;
+    private int held;
+    private int pointerX;
+
+    /**
+     * Constructs a player at the first step of a replay.
+     * @param replay The replay to play
+     */
+    ReplayPlayer(Replay replay) {
+        this.replay = replay;
+        byte[] bytes = replay.getEvents();
+        this.events = new ByteArrayInputStream(bytes, 0, bytes.length);
+        this.eventsLeft = replay.getEventCount();
+        readNextEventStep();
+    }
+
+    /**
+     * Writes the recorded input of the next step. Call once per step, right before it.
+     * @param input The world input to fill
+     * @return true if the paddle AI was switched before this step
+     */
+    public boolean apply(PaddleInput input) {
+        boolean toggleAi = false;
+        input.launch = false;
+        if (step == nextEventStep) {
+            int flags = events.read();
+            held = flags & ReplayRecorder.HELD_MASK;
+            input.launch = (flags & ReplayRecorder.LAUNCH) != 0;
+            toggleAi = (flags & ReplayRecorder.TOGGLE_AI) != 0;
+            if ((flags & ReplayRecorder.POINTER_MOVED) != 0) {
+                pointerX += (int) Varint.readSigned(events);
+            }
+            readNextEventStep();
+        }
+        input.left = (held & ReplayRecorder.LEFT) != 0;
+        input.right = (held & ReplayRecorder.RIGHT) != 0;
+        input.fire = (held & ReplayRecorder.FIRE) != 0;
+        input.pointerDown = (held & ReplayRecorder.POINTER_DOWN) != 0;
+        input.pointerX = pointerX;
+        step++;
+        return toggleAi;
+    }
+
+    /**
+     * Reads the step of the next event, if any remain.
+     */
+    private void readNextEventStep() {
+        if (eventsLeft-- > 0) {
+            int base = nextEventStep < 0 ? 0 : nextEventStep;
+            nextEventStep = base + (int) Varint.read(events);
+        } else {
+            nextEventStep = -1;
+        }
+    }
+
+    /**
+     * Checks whether every recorded step has been played.
+     * @return true if the replay is over
+     */
+    public boolean isFinished() {
+        return step >= replay.getStepCount();
+    }
+
+    /**
+     * Gets the number of steps played so far.
+     * @return The step count
+     */
+    public int getStep() {
+        return step;
+    }
+
+    /**
+     * Gets the replay being played.
+     * @return The replay
+     */
+    public Replay getReplay() {
+        return replay;
+    }
+}
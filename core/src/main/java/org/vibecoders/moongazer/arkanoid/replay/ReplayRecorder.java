@@ -0,0 +1,112 @@
+package org.vibecoders.moongazer.arkanoid.replay;
+
+import org.vibecoders.moongazer.arkanoid.PaddleInput;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Records the input a world sees on every fixed step. Steps whose input matches the previous
+ * step write nothing, so holding a key for a minute costs the same as tapping it.
+ * Pointer positions are stored as whole pixels and only while the pointer is down, which is
+ * the only time the paddle reads them.
+ */
+public class ReplayRecorder {
+    static final int LEFT = 1;
+    static final int RIGHT = 1 << 1;
+    static final int FIRE = 1 << 2;
+    static final int POINTER_DOWN = 1 << 3;
+    static final int HELD_MASK = LEFT | RIGHT | FIRE | POINTER_DOWN;
+    static final int LAUNCH = 1 << 4;
+    static final int TOGGLE_AI = 1 << 5;
+    static final int POINTER_MOVED = 1 << 6;
+
+    private final ByteArrayOutputStream events = new ByteArrayOutputStream(4096);
+    private boolean recording;
+    private long seed;
+    private int startingLives;
+    private boolean aiEnabled;
+    private int step;
+    private int eventCount;
+    private int lastEventStep;
+    private int lastHeld;
+    private int lastPointerX;
+
+    /**
+     * Starts a new recording, discarding any unfinished one.
+     * @param seed Seed the run was started with
+     * @param startingLives Lives the run starts with
+     * @param aiEnabled Whether the paddle AI is on at the start
+     */
+    public void begin(long seed, int startingLives, boolean aiEnabled) {
+        this.seed = seed;
+        this.startingLives = startingLives;
+        this.aiEnabled = aiEnabled;
+        events.reset();
+        step = 0;
+        eventCount = 0;
+        lastEventStep = 0;
+        lastHeld = 0;
+        lastPointerX = 0;
+        recording = true;
+    }
+
+    /**
+     * Records the input of the step about to run. Call once per step, right before it.
+     * @param input The input the world will read on this step
+     * @param aiToggled Whether the paddle AI was switched since the previous step
+     */
+    public void record(PaddleInput input, boolean aiToggled) {
+        if (!recording) return;
+        int flags = 0;
+        if (input.left) flags |= LEFT;
+        if (input.right) flags |= RIGHT;
+        if (input.fire) flags |= FIRE;
+        if (input.pointerDown) flags |= POINTER_DOWN;
+        int held = flags;
+        if (input.launch) flags |= LAUNCH;
+        if (aiToggled) flags |= TOGGLE_AI;
+        int pointerX = Math.round(input.pointerX);
+        if (input.pointerDown && pointerX != lastPointerX) flags |= POINTER_MOVED;
+
+        if (held != lastHeld || (flags & ~HELD_MASK) != 0) {
+            Varint.write(events, step - lastEventStep);
+            events.write(flags);
+            if ((flags & POINTER_MOVED) != 0) {
+                Varint.writeSigned(events, pointerX - lastPointerX);
+                lastPointerX = pointerX;
+            }
+            lastEventStep = step;
+            lastHeld = held;
+            eventCount++;
+        }
+        step++;
+    }
+
+    /**
+     * Ends the recording.
+     * @param score Final score of the run
+     * @param wave Final wave of the run
+     * @return The finished replay, or null if nothing was being recorded
+     */
+    public Replay finish(int score, int wave) {
+        if (!recording) return null;
+        recording = false;
+        return new Replay(seed, startingLives, aiEnabled, step, score, wave, eventCount, events.toByteArray());
+    }
+
+    /**
+     * Checks whether a recording is in progress.
+     * @return true if recording
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Gets the number of steps recorded so far.
+     * @return The step count
+     */
+    public int getStepCount() {
+        return step;
+    }
+}
@@ -0,0 +1,232 @@
+package org.vibecoders.moongazer.arkanoid.replay;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vibecoders.moongazer.arkanoid.PaddleAI;
+import org.vibecoders.moongazer.arkanoid.World;
+import org.vibecoders.moongazer.arkanoid.WorldListener;
+import org.vibecoders.moongazer.arkanoid.levels.EndlessRun;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.vibecoders.moongazer.Constants.FIXED_TIMESTEP;
+
+/**
+ * Checks endless runs by re-simulating their replays without rendering, as fast as the CPU
+ * allows, and comparing the outcome with the score and wave the client reported.
+ * Every verification builds its own world, so a backlog of replays can be checked in
+ * parallel across cores.
+ *
+ * <p>Run as a program to re-validate replay files in bulk, e.g. after a balance change:
+ * <pre>
+ * java ... ReplayVerifier replays/ [more files or directories]
+ * </pre>
+ * It prints one line per replay and exits with status 1 if any replay fails.
+ */
+public class ReplayVerifier {
+    private static final Logger log = LoggerFactory.getLogger(ReplayVerifier.class);
+    private static final String REPLAY_EXTENSION = ".mgr";
+
+    /**
+     * Outcome of re-simulating one replay.
+     */
+    public static class Result {
+        private final Replay replay;
+        private final boolean valid;
+        private final int score;
+        private final int wave;
+        private final int steps;
+        private final String reason;
+
+        /**
+         * Constructs a verification result.
+         * @param replay The replay that was checked
+         * @param valid Whether the simulated outcome matches the reported one
+         * @param score Score reached by the simulation
+         * @param wave Wave reached by the simulation
+         * @param steps Number of steps simulated
+         * @param reason Why the replay was rejected, or null if it is valid
+         */
+        Result(Replay replay, boolean valid, int score, int wave, int steps, String reason) {
+            this.replay = replay;
+            this.valid = valid;
+            this.score = score;
+            this.wave = wave;
+            this.steps = steps;
+            this.reason = reason;
+        }
+
+        /**
+         * Gets the replay that was checked.
+         * @return The replay
+         */
+        public Replay getReplay() {
+            return replay;
+        }
+
+        /**
+         * Checks whether the simulated outcome matches the reported one.
+         * @return true if the replay can be trusted
+         */
+        public boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * Gets the score reached by the simulation.
+         * @return The verified score
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Gets the wave reached by the simulation.
+         * @return The verified wave
+         */
+        public int getWave() {
+            return wave;
+        }
+
+        /**
+         * Gets the number of steps that were simulated.
+         * @return The simulated step count
+         */
+        public int getSteps() {
+            return steps;
+        }
+
+        /**
+         * Gets why the replay was rejected.
+         * @return The rejection reason, or null if the replay is valid
+         */
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            String outcome = "score " + score + ", wave " + wave + ", " + steps + " steps";
+            return valid ? "OK (" + outcome + ")" : "REJECTED: " + reason + " (" + outcome + ")";
+        }
+    }
+
+    /**
+     * Re-simulates an endless run from its seed and inputs and compares the final score
+     * and wave with the ones recorded in the replay.
+     * @param replay The replay to check
+     * @return The verification result
+     */
+    public static Result verify(Replay replay) {
+        if (replay.getStartingLives() != EndlessRun.STARTING_LIVES) {
+            return new Result(replay, false, 0, 0, 0,
+                              "Run started with " + replay.getStartingLives() + " lives");
+        }
+        World world = new World();
+        EndlessRun run = new EndlessRun(world);
+        world.setListener(new WorldListener() {
+            @Override
+            public void onLevelComplete() {
+                run.completeWave();
+            }
+        });
+        world.getPaddleAI().setEnabled(replay.isAiEnabled());
+        run.start(replay.getSeed());
+
+        ReplayPlayer player = replay.play();
+        try {
+            while (!player.isFinished() && !world.isGameOver()) {
+                if (player.apply(world.getInput())) {
+                    PaddleAI paddleAI = world.getPaddleAI();
+                    paddleAI.setEnabled(!paddleAI.isEnabled());
+                }
+                world.step(FIXED_TIMESTEP);
+            }
+        } catch (RuntimeException e) {
+            return new Result(replay, false, world.getScore(), run.getWave(), player.getStep(),
+                              "Corrupt input events at step " + player.getStep());
+        }
+
+        int score = world.getScore();
+        int wave = run.getWave();
+        int steps = player.getStep();
+        String reason = null;
+        if (!player.isFinished()) {
+            reason = "Game over at step " + steps + " of " + replay.getStepCount();
+        } else if (score != replay.getScore()) {
+            reason = "Reported score " + replay.getScore() + " does not match";
+        } else if (wave != replay.getWave()) {
+            reason = "Reported wave " + replay.getWave() + " does not match";
+        }
+        return new Result(replay, reason == null, score, wave, steps, reason);
+    }
+
+    /**
+     * Verifies a batch of replays in parallel, using every core.
+     * @param replays The replays to check
+     * @return The results, in the order of the replays
+     */
+    public static List<Result> verifyAll(List<Replay> replays) {
+        long start = System.nanoTime();
+        List<Result> results = replays.parallelStream()
+                .map(ReplayVerifier::verify)
+                .toList();
+        log.info("Verified {} replays in {} ms", replays.size(), (System.nanoTime() - start) / 1_000_000);
+        return results;
+    }
+
+    /**
+     * Verifies the given replay files and directories of replay files.
+     * @param args Paths of replay files or directories containing them
+     * @throws IOException if a path cannot be listed
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: ReplayVerifier <replay file or directory>...");
+            System.exit(2);
+        }
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            Path path = Path.of(arg);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> entries = Files.list(path)) {
+                    entries.filter(p -> p.getFileName().toString().endsWith(REPLAY_EXTENSION))
+                           .sorted()
+                           .forEach(files::add);
+                }
+            } else {
+                files.add(path);
+            }
+        }
+
+        List<Path> readable = new ArrayList<>();
+        List<Replay> replays = new ArrayList<>();
+        int failures = 0;
+        for (Path file : files) {
+            try (InputStream in = Files.newInputStream(file)) {
+                replays.add(Replay.read(in));
+                readable.add(file);
+            } catch (IOException e) {
+                System.out.println(file + ": UNREADABLE: " + e.getMessage());
+                failures++;
+            }
+        }
+
+        List<Result> results = verifyAll(replays);
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            System.out.println(readable.get(i) + ": " + result);
+            if (!result.isValid()) {
+                failures++;
+            }
+        }
+        System.out.println(files.size() - failures + "/" + files.size() + " replays verified");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,66 @@
+package org.vibecoders.moongazer.arkanoid.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+/**
+ * LEB128 variable-length integers: 7 bits per byte, high bit set while more bytes follow.
+ * Small values such as step deltas take a single byte.
+ */
+final class Varint {
+    private Varint() {
+    }
+
+    /**
+     * Writes a non-negative value.
+     * @param out Destination
+     * @param value Value to write, must not be negative
+     */
+    static void write(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Writes a signed value with zigzag encoding, so small negative deltas stay short.
+     * @param out Destination
+     * @param value Value to write
+     */
+    static void writeSigned(ByteArrayOutputStream out, long value) {
+        write(out, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Reads a non-negative value.
+     * @param in Source
+     * @return The value
+     * @throws IllegalArgumentException if the data ends early or the value is too long
+     */
+    static long read(ByteArrayInputStream in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IllegalArgumentException("Truncated varint");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint too long");
+    }
+
+    /**
+     * Reads a zigzag-encoded signed value.
+     * @param in Source
+     * @return The value
+     */
+    static long readSigned(ByteArrayInputStream in) {
+        long raw = read(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+}
@@ -0,0 +1,191 @@
+package org.vibecoders.moongazer.arkanoid.sim;
+
+import org.vibecoders.moongazer.arkanoid.util.Rng;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Command-line runner that plays thousands of endless games with the paddle AI, one world
+ * per task on a fork/join pool, and reports how the endless difficulty curve plays out:
+ * per-wave clear times, how far games survive and the score percentiles.
+ *
+ * <pre>
+ * ./gradlew :core:balanceEndless --args="--games 5000 --seed 1 --max-minutes 15"
+ * </pre>
+ * Options: {@code --games} number of games (2000), {@code --threads} pool size (all cores),
+ * {@code --seed} base seed (random), {@code --max-minutes} game time limit per game (20).
+ * The same base seed plays the same games, so two runs can be compared after a tuning change.
+ */
+public class EndlessBalancer {
+    private static final int[] SCORE_PERCENTILES = {10, 25, 50, 75, 90, 99};
+
+    private int games = 2000;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long seed = System.nanoTime();
+    private float maxMinutes = 20f;
+
+    /**
+     * Runs the balancing games and prints the report.
+     * @param args Command-line options
+     * @throws Exception if a game fails
+     */
+    public static void main(String[] args) throws Exception {
+        EndlessBalancer balancer = new EndlessBalancer();
+        balancer.parseArgs(args);
+        balancer.run(System.out);
+    }
+
+    /**
+     * Reads the command-line options.
+     * @param args Command-line options
+     */
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--max-minutes" -> maxMinutes = Float.parseFloat(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]
+                        + " (expected --games, --threads, --seed or --max-minutes)");
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Plays every game on a fork/join pool and prints the report.
+     * @param out Destination of the report
+     * @throws Exception if a game fails
+     */
+    private void run(PrintStream out) throws Exception {
+        int maxSteps = EndlessSimulation.stepsFor(maxMinutes);
+        Rng seeds = new Rng(seed);
+        List<Callable<EndlessSimulation.Outcome>> tasks = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            long gameSeed = seeds.nextLong();
+            tasks.add(() -> EndlessSimulation.play(gameSeed, maxSteps));
+        }
+
+        out.printf("Playing %d endless games on %d threads (base seed %d, limit %.1f min)%n",
+                   games, threads, seed, maxMinutes);
+        long start = System.nanoTime();
+        List<EndlessSimulation.Outcome> outcomes = new ArrayList<>(games);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (Future<EndlessSimulation.Outcome> future : pool.invokeAll(tasks)) {
+                outcomes.add(future.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long steps = 0;
+        for (EndlessSimulation.Outcome outcome : outcomes) {
+            steps += outcome.getSteps();
+        }
+        out.printf("Done in %.1f s (%.0f games/s, %.1fM steps/s)%n%n",
+                   seconds, games / seconds, steps / seconds / 1e6);
+
+        printWaves(out, outcomes);
+        printScores(out, outcomes);
+    }
+
+    /**
+     * Prints, for every wave, how many games reached it, died in it or cleared it, and how
+     * long clearing it took.
+     * @param out Destination of the report
+     * @param outcomes Outcomes of every game
+     */
+    private void printWaves(PrintStream out, List<EndlessSimulation.Outcome> outcomes) {
+        int maxWave = 0;
+        int timedOut = 0;
+        for (EndlessSimulation.Outcome outcome : outcomes) {
+            maxWave = Math.max(maxWave, outcome.getWave());
+            if (outcome.isTimedOut()) timedOut++;
+        }
+
+        out.println("wave  reached  survival  died  cleared  clear p50 s  clear p90 s  clear mean s");
+        for (int wave = 1; wave <= maxWave; wave++) {
+            int reached = 0;
+            int died = 0;
+            float[] clearTimes = new float[outcomes.size()];
+            int cleared = 0;
+            for (EndlessSimulation.Outcome outcome : outcomes) {
+                if (outcome.getWave() < wave) continue;
+                reached++;
+                if (outcome.getWavesCleared() >= wave) {
+                    clearTimes[cleared++] = outcome.getClearTime(wave);
+                } else if (!outcome.isTimedOut()) {
+                    died++;
+                }
+            }
+            float[] times = Arrays.copyOf(clearTimes, cleared);
+            Arrays.sort(times);
+            out.printf("%4d  %7d  %7.1f%%  %4d  %7d  %11s  %11s  %12s%n",
+                       wave, reached, 100f * reached / outcomes.size(), died, cleared,
+                       format(percentile(times, 50)), format(percentile(times, 90)), format(mean(times)));
+        }
+        out.printf("%d of %d games were still alive at the time limit%n%n", timedOut, outcomes.size());
+    }
+
+    /**
+     * Prints the score distribution.
+     * @param out Destination of the report
+     * @param outcomes Outcomes of every game
+     */
+    private void printScores(PrintStream out, List<EndlessSimulation.Outcome> outcomes) {
+        float[] scores = new float[outcomes.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = outcomes.get(i).getScore();
+        }
+        Arrays.sort(scores);
+        StringBuilder line = new StringBuilder("score");
+        for (int p : SCORE_PERCENTILES) {
+            line.append("  p").append(p).append(' ').append((int) percentile(scores, p));
+        }
+        line.append("  mean ").append((int) mean(scores));
+        line.append("  max ").append(scores.length > 0 ? (int) scores[scores.length - 1] : 0);
+        out.println(line);
+    }
+
+    /**
+     * Gets a nearest-rank percentile of sorted values.
+     * @param sorted Values in ascending order
+     * @param p Percentile between 0 and 100
+     * @return The percentile, or NaN if there are no values
+     */
+    private static float percentile(float[] sorted, int p) {
+        if (sorted.length == 0) return Float.NaN;
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Gets the mean of values.
+     * @param values The values
+     * @return The mean, or NaN if there are no values
+     */
+    private static float mean(float[] values) {
+        if (values.length == 0) return Float.NaN;
+        double sum = 0;
+        for (float value : values) sum += value;
+        return (float) (sum / values.length);
+    }
+
+    /**
+     * Formats a time in seconds for the wave table.
+     * @param seconds Time in seconds, or NaN
+     * @return The formatted time, or "-" if there is none
+     */
+    private static String format(float seconds) {
+        return Float.isNaN(seconds) ? "-" : String.format("%.1f", seconds);
+    }
+}
@@ -0,0 +1,191 @@
+package org.vibecoders.moongazer.arkanoid.sim;
+
+import org.vibecoders.moongazer.arkanoid.Ball;
+import org.vibecoders.moongazer.arkanoid.World;
+import org.vibecoders.moongazer.arkanoid.WorldListener;
+import org.vibecoders.moongazer.arkanoid.levels.EndlessRun;
+import org.vibecoders.moongazer.arkanoid.util.IntList;
+
+import java.util.List;
+
+import static org.vibecoders.moongazer.Constants.FIXED_TIMESTEP;
+
+/**
+ * Plays one endless game headlessly with the paddle AI at the controls, relaunching the
+ * ball whenever it waits on the paddle. Each simulation owns its world, so many can run
+ * on different threads at once.
+ */
+public class EndlessSimulation {
+
+    /**
+     * Result of one simulated endless game.
+     */
+    public static class Outcome {
+        private final long seed;
+        private final int wave;
+        private final int score;
+        private final int steps;
+        private final boolean timedOut;
+        private final int[] waveClearSteps;
+
+        /**
+         * Constructs the outcome of a game.
+         * @param seed Seed of the game
+         * @param wave Wave the game ended in
+         * @param score Final score
+         * @param steps Number of simulation steps played
+         * @param timedOut Whether the game hit the step limit before game over
+         * @param waveClearSteps Steps spent clearing each completed wave, in wave order
+         */
+        Outcome(long seed, int wave, int score, int steps, boolean timedOut, int[] waveClearSteps) {
+            this.seed = seed;
+            this.wave = wave;
+            this.score = score;
+            this.steps = steps;
+            this.timedOut = timedOut;
+            this.waveClearSteps = waveClearSteps;
+        }
+
+        /**
+         * Gets the seed of the game.
+         * @return The seed
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Gets the wave the game ended in.
+         * @return The final wave
+         */
+        public int getWave() {
+            return wave;
+        }
+
+        /**
+         * Gets the final score.
+         * @return The score
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Gets the number of simulation steps played.
+         * @return The step count
+         */
+        public int getSteps() {
+            return steps;
+        }
+
+        /**
+         * Checks whether the game was stopped by the step limit instead of a game over.
+         * @return true if the AI was still alive at the limit
+         */
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        /**
+         * Gets the number of waves that were cleared.
+         * @return Cleared wave count
+         */
+        public int getWavesCleared() {
+            return waveClearSteps.length;
+        }
+
+        /**
+         * Gets the time spent clearing a wave.
+         * @param wave Wave number, starting at 1, no higher than {@link #getWavesCleared()}
+         * @return Clear time in seconds of game time
+         */
+        public float getClearTime(int wave) {
+            return waveClearSteps[wave - 1] * FIXED_TIMESTEP;
+        }
+    }
+
+    private final World world = new World();
+    private final EndlessRun run = new EndlessRun(world);
+    private final IntList waveClearSteps = new IntList();
+    private int step;
+    private int waveStartStep;
+
+    /**
+     * Sets up a game with the AI enabled and the first wave generated from the seed.
+     * @param seed Seed of the game
+     */
+    private EndlessSimulation(long seed) {
+        world.setListener(new WorldListener() {
+            @Override
+            public void onLevelComplete() {
+                int clearedAt = step + 1;
+                waveClearSteps.add(clearedAt - waveStartStep);
+                waveStartStep = clearedAt;
+                run.completeWave();
+            }
+        });
+        world.getPaddleAI().setEnabled(true);
+        run.start(seed);
+    }
+
+    /**
+     * Plays an endless game until game over or the step limit.
+     * @param seed Seed of the game
+     * @param maxSteps Step limit, so a game the AI never loses still ends
+     * @return The outcome of the game
+     */
+    public static Outcome play(long seed, int maxSteps) {
+        return new EndlessSimulation(seed).run(seed, maxSteps);
+    }
+
+    /**
+     * Steps the world until game over or the step limit.
+     * @param seed Seed of the game
+     * @param maxSteps Step limit
+     * @return The outcome of the game
+     */
+    private Outcome run(long seed, int maxSteps) {
+        while (step < maxSteps && !world.isGameOver()) {
+            step(world);
+            step++;
+        }
+        int[] clearSteps = new int[waveClearSteps.size()];
+        for (int i = 0; i < clearSteps.length; i++) {
+            clearSteps[i] = waveClearSteps.get(i);
+        }
+        return new Outcome(seed, run.getWave(), world.getScore(), step, !world.isGameOver(), clearSteps);
+    }
+
+    /**
+     * Converts a game-time limit into a step limit at the fixed simulation rate.
+     * @param minutes Game time in minutes
+     * @return Number of fixed steps in that time
+     */
+    static int stepsFor(float minutes) {
+        return Math.round(minutes * 60f / FIXED_TIMESTEP);
+    }
+
+    /**
+     * Advances a world by one fixed step, launching any ball that waits on the paddle. Shared
+     * by the headless runners so they all play the same way.
+     * @param world World under AI control
+     */
+    static void step(World world) {
+        world.getInput().launch = hasWaitingBall(world.getBalls());
+        world.step(FIXED_TIMESTEP);
+    }
+
+    /**
+     * Checks whether a ball is waiting on the paddle to be launched.
+     * @param balls Balls in play
+     * @return true if any ball is not launched
+     */
+    private static boolean hasWaitingBall(List<Ball> balls) {
+        for (int i = 0; i < balls.size(); i++) {
+            if (!balls.get(i).isActive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,360 @@
+package org.vibecoders.moongazer.arkanoid.sim;
+
+import org.vibecoders.moongazer.arkanoid.ArkanoidAI;
+import org.vibecoders.moongazer.arkanoid.LookaheadAI;
+import org.vibecoders.moongazer.arkanoid.PaddleAI;
+import org.vibecoders.moongazer.arkanoid.TrajectoryPredictor;
+import org.vibecoders.moongazer.arkanoid.World;
+import org.vibecoders.moongazer.arkanoid.WorldListener;
+import org.vibecoders.moongazer.arkanoid.levels.EndlessRun;
+import org.vibecoders.moongazer.arkanoid.levels.StoryStage;
+
+import static org.vibecoders.moongazer.Constants.FIXED_TIMESTEP;
+
+/**
+ * Plays one headless game of endless or of a story stage with a paddle AI at the controls,
+ * relaunching the ball whenever it waits on the paddle, and measures both how the AI did and
+ * how fast the simulation ran. Each game owns its world, so many can run on different threads
+ * at once.
+ */
+public class SelfPlay {
+    /** Lives a story stage starts with, as in the story scenes. */
+    public static final int STORY_LIVES = 3;
+
+    /**
+     * Paddle AI implementations that can play. New implementations go here to be benchmarked.
+     */
+    public enum Player {
+        /** The rule-based {@link ArkanoidAI} aiming with the brick-aware predictor. */
+        ARKANOID("arkanoid"),
+        /** The {@link LookaheadAI} with one worker and no frame budget, so it is deterministic. */
+        LOOKAHEAD("lookahead");
+
+        private final String id;
+
+        /**
+         * Constructs a player.
+         * @param id Name used on the command line and in reports
+         */
+        Player(String id) {
+            this.id = id;
+        }
+
+        /**
+         * Creates the AI for a world.
+         * @param world The world whose paddle the AI controls
+         * @return The AI, not yet enabled
+         */
+        PaddleAI create(World world) {
+            return switch (this) {
+                case ARKANOID -> new ArkanoidAI(new TrajectoryPredictor(world.getBrickGrid(), world.getMinX(),
+                                                                        world.getMaxX(), world.getHeight()));
+                case LOOKAHEAD -> new LookaheadAI(world, 1, 0L, 1.5f);
+            };
+        }
+
+        /**
+         * Gets the name used on the command line and in reports.
+         * @return The player id
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Finds a player by its id.
+         * @param id The player id
+         * @return The player
+         * @throws IllegalArgumentException if no player has the id
+         */
+        public static Player of(String id) {
+            for (Player player : values()) {
+                if (player.id.equals(id)) {
+                    return player;
+                }
+            }
+            throw new IllegalArgumentException("Unknown AI " + id);
+        }
+    }
+
+    /**
+     * Game modes that can be played: endless and each story stage.
+     */
+    public enum Mode {
+        ENDLESS("endless", null),
+        STAGE_1("stage1", StoryStage.MOON),
+        STAGE_2("stage2", StoryStage.HEART),
+        STAGE_3("stage3", StoryStage.MEMORY_FRAGMENTS),
+        STAGE_4("stage4", StoryStage.FATE_ANCHOR),
+        STAGE_5("stage5", StoryStage.SUNFLOWER);
+
+        private final String id;
+        private final StoryStage stage;
+
+        /**
+         * Constructs a mode.
+         * @param id Name used on the command line and in reports
+         * @param stage Layout of the story stage, or null for endless
+         */
+        Mode(String id, StoryStage stage) {
+            this.id = id;
+            this.stage = stage;
+        }
+
+        /**
+         * Gets the name used on the command line and in reports.
+         * @return The mode id
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Finds a mode by its id.
+         * @param id The mode id
+         * @return The mode
+         * @throws IllegalArgumentException if no mode has the id
+         */
+        public static Mode of(String id) {
+            for (Mode mode : values()) {
+                if (mode.id.equals(id)) {
+                    return mode;
+                }
+            }
+            throw new IllegalArgumentException("Unknown mode " + id);
+        }
+    }
+
+    /**
+     * Result of one self-play game.
+     */
+    public static class Outcome {
+        private final Player player;
+        private final Mode mode;
+        private final long seed;
+        private final int score;
+        private final int wavesCleared;
+        private final int ballsLost;
+        private final int livesLost;
+        private final int frames;
+        private final boolean gameOver;
+        private final long wallNanos;
+
+        /**
+         * Constructs the outcome of a game.
+         * @param player The AI that played
+         * @param mode The mode played
+         * @param seed Seed of the game
+         * @param score Final score
+         * @param wavesCleared Endless waves cleared, or 1 if the story stage was cleared
+         * @param ballsLost Balls that fell below the paddle, extra multi-ball balls included
+         * @param livesLost Lives taken
+         * @param frames Simulation steps played
+         * @param gameOver Whether the game ended with no lives left
+         * @param wallNanos Wall-clock time spent stepping the game
+         */
+        Outcome(Player player, Mode mode, long seed, int score, int wavesCleared, int ballsLost, int livesLost,
+                int frames, boolean gameOver, long wallNanos) {
+            this.player = player;
+            this.mode = mode;
+            this.seed = seed;
+            this.score = score;
+            this.wavesCleared = wavesCleared;
+            this.ballsLost = ballsLost;
+            this.livesLost = livesLost;
+            this.frames = frames;
+            this.gameOver = gameOver;
+            this.wallNanos = wallNanos;
+        }
+
+        /**
+         * Gets the AI that played.
+         * @return The player
+         */
+        public Player getPlayer() {
+            return player;
+        }
+
+        /**
+         * Gets the mode played.
+         * @return The mode
+         */
+        public Mode getMode() {
+            return mode;
+        }
+
+        /**
+         * Gets the seed of the game.
+         * @return The seed
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Gets the final score.
+         * @return The score
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Gets the number of endless waves cleared, or 1 if the story stage was cleared.
+         * @return Cleared wave count
+         */
+        public int getWavesCleared() {
+            return wavesCleared;
+        }
+
+        /**
+         * Gets the number of balls that fell below the paddle, extra multi-ball balls included.
+         * @return Lost ball count
+         */
+        public int getBallsLost() {
+            return ballsLost;
+        }
+
+        /**
+         * Gets the number of lives taken.
+         * @return Lost life count
+         */
+        public int getLivesLost() {
+            return livesLost;
+        }
+
+        /**
+         * Gets the number of simulation steps the AI survived.
+         * @return The step count
+         */
+        public int getFrames() {
+            return frames;
+        }
+
+        /**
+         * Checks whether the game ended with no lives left.
+         * @return true if the AI lost every life
+         */
+        public boolean isGameOver() {
+            return gameOver;
+        }
+
+        /**
+         * Gets the game time played.
+         * @return Simulated seconds
+         */
+        public float getSimSeconds() {
+            return frames * FIXED_TIMESTEP;
+        }
+
+        /**
+         * Gets the wall-clock time spent stepping the game, AI included.
+         * @return Milliseconds
+         */
+        public double getWallMillis() {
+            return wallNanos / 1e6;
+        }
+
+        /**
+         * Gets the simulation cost.
+         * @return Wall-clock milliseconds per second of game time
+         */
+        public double getMillisPerSimSecond() {
+            return frames == 0 ? 0 : getWallMillis() / getSimSeconds();
+        }
+    }
+
+    private final Player player;
+    private final Mode mode;
+    private final long seed;
+    private final World world = new World();
+    private final EndlessRun endlessRun = new EndlessRun(world);
+    private int wavesCleared;
+    private int ballsLost;
+    private int livesLost;
+    private boolean stageCleared;
+
+    /**
+     * Sets up a game.
+     * @param player The AI to play
+     * @param mode The mode to play
+     * @param seed Seed of the game
+     */
+    private SelfPlay(Player player, Mode mode, long seed) {
+        this.player = player;
+        this.mode = mode;
+        this.seed = seed;
+        world.setListener(new WorldListener() {
+            @Override
+            public void onBallDropped(int ballsRemaining) {
+                ballsLost++;
+            }
+
+            @Override
+            public void onBallLost(int livesRemaining) {
+                livesLost++;
+            }
+
+            @Override
+            public void onLevelComplete() {
+                wavesCleared++;
+                if (mode == Mode.ENDLESS) {
+                    endlessRun.completeWave();
+                } else {
+                    stageCleared = true;
+                }
+            }
+        });
+    }
+
+    /**
+     * Plays a game until game over, the story stage is cleared or the step limit.
+     * @param player The AI to play
+     * @param mode The mode to play
+     * @param seed Seed of the game
+     * @param maxSteps Step limit, so a game the AI never loses still ends
+     * @return The outcome of the game
+     */
+    public static Outcome play(Player player, Mode mode, long seed, int maxSteps) {
+        return new SelfPlay(player, mode, seed).run(maxSteps);
+    }
+
+    /**
+     * Starts the mode, then steps the world under the AI and times it.
+     * @param maxSteps Step limit
+     * @return The outcome of the game
+     */
+    private Outcome run(int maxSteps) {
+        PaddleAI ai = player.create(world);
+        world.setPaddleAI(ai);
+        ai.setEnabled(true);
+        if (mode == Mode.ENDLESS) {
+            endlessRun.start(seed);
+        } else {
+            world.resetProgress(STORY_LIVES, seed);
+            world.reset();
+            mode.stage.build(world);
+        }
+
+        int step = 0;
+        long wallNanos;
+        try {
+            long start = System.nanoTime();
+            while (step < maxSteps && !world.isGameOver() && !stageCleared) {
+                EndlessSimulation.step(world);
+                step++;
+            }
+            wallNanos = System.nanoTime() - start;
+        } finally {
+            if (ai instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Failed to close " + player.getId() + " AI", e);
+                }
+            }
+        }
+        return new Outcome(player, mode, seed, world.getScore(), wavesCleared, ballsLost, livesLost, step,
+                           world.isGameOver(), wallNanos);
+    }
+}
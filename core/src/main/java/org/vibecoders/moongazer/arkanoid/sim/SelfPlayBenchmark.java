@@ -0,0 +1,270 @@
+package org.vibecoders.moongazer.arkanoid.sim;
+
+import org.vibecoders.moongazer.arkanoid.util.Rng;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Command-line runner that plays every paddle AI over a fixed corpus of seeds in endless and
+ * in each story stage, writes one CSV row per game and prints a summary per AI and mode.
+ * The corpus and the AIs are deterministic, so two runs of the same code write the same
+ * gameplay columns; comparing a run against an earlier report shows which games a gameplay
+ * or physics change affected and how the simulation cost moved.
+ *
+ * <pre>
+ * ./gradlew :core:selfPlay --args="--baseline build/reports/self-play-before.csv"
+ * </pre>
+ * Options: {@code --ai} comma-separated AIs (all), {@code --modes} comma-separated modes
+ * (endless and stage1 to stage5), {@code --seeds} games per AI and mode (6), {@code --corpus}
+ * seed of the corpus (1), {@code --max-minutes} game time limit per game (3), {@code --threads}
+ * games played at once (all cores), {@code --out} report file (build/reports/self-play.csv),
+ * {@code --baseline} earlier report to compare against.
+ * Wall-clock times are measured per game while other games run; use {@code --threads 1} for
+ * the steadiest throughput numbers.
+ */
+public class SelfPlayBenchmark {
+    private static final String HEADER = "ai,mode,seed,score,waves_cleared,balls_lost,lives_lost,frames,"
+            + "game_over,sim_seconds,wall_ms,ms_per_sim_second";
+    private static final int MAX_LISTED_CHANGES = 10;
+
+    private List<SelfPlay.Player> players = List.of(SelfPlay.Player.values());
+    private List<SelfPlay.Mode> modes = List.of(SelfPlay.Mode.values());
+    private int seeds = 6;
+    private long corpus = 1L;
+    private float maxMinutes = 3f;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private Path out = Path.of("build", "reports", "self-play.csv");
+    private Path baseline;
+
+    /**
+     * Runs the benchmark, writes the report and prints the summary.
+     * @param args Command-line options
+     * @throws Exception if a game fails or a report cannot be read or written
+     */
+    public static void main(String[] args) throws Exception {
+        SelfPlayBenchmark benchmark = new SelfPlayBenchmark();
+        benchmark.parseArgs(args);
+        benchmark.run(System.out);
+    }
+
+    /**
+     * Reads the command-line options.
+     * @param args Command-line options
+     */
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--ai" -> players = Arrays.stream(value.split(",")).map(SelfPlay.Player::of).toList();
+                case "--modes" -> modes = Arrays.stream(value.split(",")).map(SelfPlay.Mode::of).toList();
+                case "--seeds" -> seeds = Integer.parseInt(value);
+                case "--corpus" -> corpus = Long.parseLong(value);
+                case "--max-minutes" -> maxMinutes = Float.parseFloat(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--out" -> out = Path.of(value);
+                case "--baseline" -> baseline = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]
+                        + " (expected --ai, --modes, --seeds, --corpus, --max-minutes, --threads, --out or --baseline)");
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Plays every game on a fork/join pool, writes the report and prints the summary and the
+     * comparison with the baseline.
+     * @param console Destination of the summary
+     * @throws Exception if a game fails or a report cannot be read or written
+     */
+    private void run(PrintStream console) throws Exception {
+        int maxSteps = EndlessSimulation.stepsFor(maxMinutes);
+        long[] corpusSeeds = new long[seeds];
+        Rng corpusRandom = new Rng(corpus);
+        for (int i = 0; i < seeds; i++) {
+            corpusSeeds[i] = corpusRandom.nextLong();
+        }
+        List<Callable<SelfPlay.Outcome>> tasks = new ArrayList<>();
+        for (SelfPlay.Player player : players) {
+            for (SelfPlay.Mode mode : modes) {
+                for (long seed : corpusSeeds) {
+                    tasks.add(() -> SelfPlay.play(player, mode, seed, maxSteps));
+                }
+            }
+        }
+
+        console.printf("Playing %d games (%d AIs x %d modes x %d seeds, corpus %d, limit %.1f min) on %d threads%n",
+                       tasks.size(), players.size(), modes.size(), seeds, corpus, maxMinutes, threads);
+        long start = System.nanoTime();
+        List<SelfPlay.Outcome> outcomes = new ArrayList<>(tasks.size());
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (Future<SelfPlay.Outcome> future : pool.invokeAll(tasks)) {
+                outcomes.add(future.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        console.printf("Done in %.1f s%n%n", (System.nanoTime() - start) / 1e9);
+
+        writeReport(outcomes);
+        printSummary(console, outcomes);
+        console.printf("%nReport written to %s%n", out.toAbsolutePath());
+        if (baseline != null) {
+            compare(console, outcomes, readReport(baseline));
+        }
+    }
+
+    /**
+     * Writes one CSV row per game, in AI, mode and corpus order.
+     * @param outcomes Outcomes of every game
+     * @throws IOException if the report cannot be written
+     */
+    private void writeReport(List<SelfPlay.Outcome> outcomes) throws IOException {
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println(HEADER);
+            for (SelfPlay.Outcome outcome : outcomes) {
+                writer.printf(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%d,%d,%b,%.3f,%.3f,%.4f%n",
+                              outcome.getPlayer().getId(), outcome.getMode().getId(), outcome.getSeed(),
+                              outcome.getScore(), outcome.getWavesCleared(), outcome.getBallsLost(),
+                              outcome.getLivesLost(), outcome.getFrames(), outcome.isGameOver(),
+                              outcome.getSimSeconds(), outcome.getWallMillis(), outcome.getMillisPerSimSecond());
+            }
+        }
+    }
+
+    /**
+     * Prints the mean results of each AI in each mode.
+     * @param console Destination of the summary
+     * @param outcomes Outcomes of every game
+     */
+    private void printSummary(PrintStream console, List<SelfPlay.Outcome> outcomes) {
+        console.println("ai         mode      games  score  waves cleared  balls lost  lives lost  "
+                        + "game overs  frames   ms/sim s");
+        for (SelfPlay.Player player : players) {
+            for (SelfPlay.Mode mode : modes) {
+                int games = 0;
+                int gameOvers = 0;
+                double score = 0;
+                double waves = 0;
+                double balls = 0;
+                double lives = 0;
+                double frames = 0;
+                double wallMillis = 0;
+                double simSeconds = 0;
+                for (SelfPlay.Outcome outcome : outcomes) {
+                    if (outcome.getPlayer() != player || outcome.getMode() != mode) continue;
+                    games++;
+                    if (outcome.isGameOver()) gameOvers++;
+                    score += outcome.getScore();
+                    waves += outcome.getWavesCleared();
+                    balls += outcome.getBallsLost();
+                    lives += outcome.getLivesLost();
+                    frames += outcome.getFrames();
+                    wallMillis += outcome.getWallMillis();
+                    simSeconds += outcome.getSimSeconds();
+                }
+                if (games == 0) continue;
+                console.printf(Locale.ROOT, "%-10s %-8s %6d %6.0f %14.2f %11.2f %11.2f %11d %7.0f %10.3f%n",
+                               player.getId(), mode.getId(), games, score / games, waves / games, balls / games,
+                               lives / games, gameOvers, frames / games, wallMillis / simSeconds);
+            }
+        }
+    }
+
+    /**
+     * Compares this run with an earlier report: lists the games whose gameplay columns changed
+     * and how the simulation cost of each AI moved.
+     * @param console Destination of the comparison
+     * @param outcomes Outcomes of this run
+     * @param baselineRows Rows of the earlier report, by AI, mode and seed
+     */
+    private void compare(PrintStream console, List<SelfPlay.Outcome> outcomes, Map<String, String[]> baselineRows) {
+        console.printf("%nCompared with %s%n", baseline);
+        int matched = 0;
+        int changed = 0;
+        Map<SelfPlay.Player, double[]> cost = new HashMap<>();
+        for (SelfPlay.Outcome outcome : outcomes) {
+            String[] row = baselineRows.get(key(outcome.getPlayer().getId(), outcome.getMode().getId(),
+                                                Long.toString(outcome.getSeed())));
+            if (row == null) continue;
+            matched++;
+            boolean same = Integer.parseInt(row[3]) == outcome.getScore()
+                    && Integer.parseInt(row[4]) == outcome.getWavesCleared()
+                    && Integer.parseInt(row[5]) == outcome.getBallsLost()
+                    && Integer.parseInt(row[6]) == outcome.getLivesLost()
+                    && Integer.parseInt(row[7]) == outcome.getFrames();
+            if (!same) {
+                if (changed < MAX_LISTED_CHANGES) {
+                    console.printf("  changed: %s %s seed %d  score %s -> %d  frames %s -> %d  balls lost %s -> %d%n",
+                                   outcome.getPlayer().getId(), outcome.getMode().getId(), outcome.getSeed(),
+                                   row[3], outcome.getScore(), row[7], outcome.getFrames(), row[5],
+                                   outcome.getBallsLost());
+                }
+                changed++;
+            }
+            // Totals of baseline wall ms, baseline sim s, current wall ms and current sim s
+            double[] totals = cost.computeIfAbsent(outcome.getPlayer(), player -> new double[4]);
+            totals[0] += Double.parseDouble(row[10]);
+            totals[1] += Double.parseDouble(row[9]);
+            totals[2] += outcome.getWallMillis();
+            totals[3] += outcome.getSimSeconds();
+        }
+        console.printf("Gameplay changed in %d of %d matching games%n", changed, matched);
+        for (SelfPlay.Player player : players) {
+            double[] totals = cost.get(player);
+            if (totals == null) continue;
+            double before = totals[0] / totals[1];
+            double now = totals[2] / totals[3];
+            console.printf(Locale.ROOT, "%-10s ms/sim s %.3f -> %.3f (%+.1f%%)%n",
+                           player.getId(), before, now, (now / before - 1) * 100);
+        }
+    }
+
+    /**
+     * Reads an earlier report.
+     * @param path The report file
+     * @return Its rows split into columns, by AI, mode and seed
+     * @throws IOException if the report cannot be read
+     * @throws IllegalArgumentException if the file is not a self-play report
+     */
+    private static Map<String, String[]> readReport(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(HEADER)) {
+            throw new IllegalArgumentException(path + " is not a self-play report");
+        }
+        Map<String, String[]> rows = new HashMap<>();
+        for (int i = 1; i < lines.size(); i++) {
+            String[] row = lines.get(i).split(",");
+            rows.put(key(row[0], row[1], row[2]), row);
+        }
+        return rows;
+    }
+
+    /**
+     * Builds the key matching a game across reports.
+     * @param ai AI id
+     * @param mode Mode id
+     * @param seed Seed of the game
+     * @return The key
+     */
+    private static String key(String ai, String mode, String seed) {
+        return ai + '/' + mode + '/' + seed;
+    }
+}
@@ -0,0 +1,98 @@
+package org.vibecoders.moongazer.arkanoid.util;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive ints, used for brick indices so lookups do not box.
+ */
+public class IntList {
+    private int[] items;
+    private int size;
+
+    /**
+     * Constructs an empty list with a small initial capacity.
+     */
+    public IntList() {
+        this(8);
+    }
+
+    /**
+     * Constructs an empty list.
+     * @param capacity Initial capacity
+     */
+    public IntList(int capacity) {
+        this.items = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Appends a value.
+     * @param value Value to append
+     */
+    public void add(int value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+        }
+        items[size++] = value;
+    }
+
+    /**
+     * Gets the value at a position.
+     * @param index Position in the list
+     * @return The value
+     */
+    public int get(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException(index);
+        return items[index];
+    }
+
+    /**
+     * Removes the first occurrence of a value by moving the last value into its place.
+     * Order is not preserved.
+     * @param value Value to remove
+     * @return true if the value was found, false otherwise
+     */
+    public boolean removeValue(int value) {
+        for (int i = 0; i < size; i++) {
+            if (items[i] == value) {
+                items[i] = items[--size];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the list holds a value.
+     * @param value Value to look for
+     * @return true if present, false otherwise
+     */
+    public boolean contains(int value) {
+        for (int i = 0; i < size; i++) {
+            if (items[i] == value) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes every value, keeping the capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Gets the number of values in the list.
+     * @return Value count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the list is empty.
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,119 @@
+package org.vibecoders.moongazer.arkanoid.util;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Free list of reusable objects, so entities spawned during play do not allocate once the
+ * pool has warmed up. The pool also counts what it hands out, so its occupancy can be
+ * checked in tests and debug logs.
+ * @param <T> Type of pooled object
+ */
+public class Pool<T extends Pool.Poolable> {
+    private final Supplier<T> factory;
+    private final ArrayList<T> free;
+    private int created;
+    private int inUse;
+    private int peakInUse;
+
+    /**
+     * Objects that can be returned to a pool and reused.
+     */
+    public interface Poolable {
+        /**
+         * Puts the object back into its freshly constructed state.
+         */
+        void reset();
+    }
+
+    /**
+     * Constructs an empty pool.
+     * @param factory Creates a new object when the pool is empty
+     */
+    public Pool(Supplier<T> factory) {
+        this(factory, 16);
+    }
+
+    /**
+     * Constructs an empty pool.
+     * @param factory Creates a new object when the pool is empty
+     * @param capacity Initial capacity of the free list
+     */
+    public Pool(Supplier<T> factory, int capacity) {
+        this.factory = factory;
+        this.free = new ArrayList<>(capacity);
+    }
+
+    /**
+     * Takes a reset object from the pool, creating one if none is free.
+     * @return A ready-to-use object
+     */
+    public T obtain() {
+        T object;
+        if (free.isEmpty()) {
+            object = factory.get();
+            created++;
+        } else {
+            object = free.remove(free.size() - 1);
+        }
+        inUse++;
+        if (inUse > peakInUse) {
+            peakInUse = inUse;
+        }
+        return object;
+    }
+
+    /**
+     * Resets an object and returns it to the pool. The caller must not use it afterwards.
+     * @param object Object to return
+     */
+    public void free(T object) {
+        object.reset();
+        free.add(object);
+        if (inUse > 0) {
+            inUse--;
+        }
+    }
+
+    /**
+     * Gets the number of objects waiting in the pool.
+     * @return Free object count
+     */
+    public int getFreeCount() {
+        return free.size();
+    }
+
+    /**
+     * Gets the number of objects obtained and not yet freed.
+     * @return In-use object count
+     */
+    public int getInUseCount() {
+        return inUse;
+    }
+
+    /**
+     * Gets the highest number of objects that were in use at the same time.
+     * @return Peak in-use object count
+     */
+    public int getPeakInUseCount() {
+        return peakInUse;
+    }
+
+    /**
+     * Gets the number of objects the pool has allocated through its factory.
+     * Once the pool has warmed up this stops growing.
+     * @return Created object count
+     */
+    public int getCreatedCount() {
+        return created;
+    }
+
+    /**
+     * Describes the pool occupancy for debug logs.
+     * @return Occupancy summary
+     */
+    @Override
+    public String toString() {
+        return inUse + " in use, " + free.size() + " free, " + created + " created, peak " + peakInUse;
+    }
+}
@@ -0,0 +1,121 @@
+package org.vibecoders.moongazer.arkanoid.util;
+
+import java.util.List;
+
+/**
+ * Small seeded pseudo-random generator (SplitMix64). The output for a seed is fixed by this
+ * class rather than by the JDK, so a recorded seed reproduces the same run on any runtime.
+ * Instances are not thread-safe; give each thread or subsystem its own stream via
+ * {@link #split()}.
+ */
+public class Rng {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final float FLOAT_UNIT = 0x1.0p-24f;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long state;
+
+    /**
+     * Constructs a generator.
+     * @param seed Seed of the sequence
+     */
+    public Rng(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Derives an independent generator from the next value of this one.
+     * Splitting in the same order always yields the same child sequences.
+     * @return The child generator
+     */
+    public Rng split() {
+        return new Rng(nextLong());
+    }
+
+    /**
+     * Continues another generator's sequence from its current position.
+     * @param other The generator to copy
+     */
+    public void copyFrom(Rng other) {
+        this.state = other.state;
+    }
+
+    /**
+     * Gets the next 64 random bits.
+     * @return A random long
+     */
+    public long nextLong() {
+        long z = state += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets a random int between 0 (inclusive) and a bound (exclusive).
+     * @param bound Upper bound, must be positive
+     * @return A random int in [0, bound)
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive: " + bound);
+        }
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Gets a random int between two bounds, both inclusive.
+     * @param min Lowest value
+     * @param max Highest value
+     * @return A random int in [min, max]
+     */
+    public int nextInt(int min, int max) {
+        return min + nextInt(max - min + 1);
+    }
+
+    /**
+     * Gets a random float between 0 (inclusive) and 1 (exclusive).
+     * @return A random float in [0, 1)
+     */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * FLOAT_UNIT;
+    }
+
+    /**
+     * Gets a random float between two bounds.
+     * @param min Lower bound (inclusive)
+     * @param max Upper bound (exclusive)
+     * @return A random float in [min, max)
+     */
+    public float nextFloat(float min, float max) {
+        return min + nextFloat() * (max - min);
+    }
+
+    /**
+     * Gets a random double between 0 (inclusive) and 1 (exclusive).
+     * @return A random double in [0, 1)
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Gets a random boolean.
+     * @return true or false with equal chance
+     */
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Shuffles a list in place (Fisher-Yates).
+     * @param list The list to shuffle
+     * @param <T> Element type
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+}
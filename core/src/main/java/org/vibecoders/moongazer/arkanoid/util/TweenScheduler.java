@@ -0,0 +1,148 @@
+package org.vibecoders.moongazer.arkanoid.util;
+
+import java.util.Arrays;
+
+/**
+ * Advances timed animations that only cost anything while they run. A tween joins the active
+ * set when started and leaves it by swap-remove when its time is up or it is cancelled, so
+ * one update walks exactly the animations that are moving.
+ */
+public class TweenScheduler {
+    private Tween[] active;
+    private int activeCount;
+
+    /**
+     * Animation driven by the scheduler. Subclasses compute their animated values from the
+     * elapsed time and keep them in their own fields for drawing.
+     */
+    public abstract static class Tween {
+        private float elapsed;
+        private float duration;
+        private int slot = -1;
+
+        /**
+         * Updates the animated values.
+         * @param elapsed Time since the tween started, from 0 up to its duration
+         */
+        protected abstract void apply(float elapsed);
+
+        /**
+         * Called once when the tween runs to its end, after the last {@link #apply(float)}.
+         * Not called when the tween is cancelled.
+         */
+        protected void finish() {
+        }
+
+        /**
+         * Checks whether the tween is running.
+         * @return true between start and its end or cancellation
+         */
+        public boolean isActive() {
+            return slot >= 0;
+        }
+
+        /**
+         * Gets the time since the tween started.
+         * @return Elapsed time in seconds
+         */
+        public float getElapsed() {
+            return elapsed;
+        }
+
+        /**
+         * Gets how long the tween runs.
+         * @return Duration in seconds
+         */
+        public float getDuration() {
+            return duration;
+        }
+
+        /**
+         * Gets how far along the tween is.
+         * @return Progress from 0 to 1
+         */
+        public float getProgress() {
+            return duration <= 0f ? 1f : Math.min(1f, elapsed / duration);
+        }
+    }
+
+    /**
+     * Constructs an empty scheduler.
+     */
+    public TweenScheduler() {
+        this(8);
+    }
+
+    /**
+     * Constructs an empty scheduler.
+     * @param capacity Initial number of tweens that can run at once
+     */
+    public TweenScheduler(int capacity) {
+        active = new Tween[Math.max(1, capacity)];
+    }
+
+    /**
+     * Starts a tween from the beginning, restarting it if it is already running.
+     * @param tween The tween to start
+     * @param duration How long it runs, in seconds
+     */
+    public void start(Tween tween, float duration) {
+        tween.elapsed = 0f;
+        tween.duration = duration;
+        if (tween.slot < 0) {
+            if (activeCount == active.length) {
+                active = Arrays.copyOf(active, activeCount * 2);
+            }
+            tween.slot = activeCount;
+            active[activeCount++] = tween;
+        }
+        tween.apply(0f);
+    }
+
+    /**
+     * Stops a tween where it is, without calling {@link Tween#finish()}.
+     * @param tween The tween to stop
+     */
+    public void cancel(Tween tween) {
+        int slot = tween.slot;
+        if (slot < 0) return;
+        Tween last = active[--activeCount];
+        active[slot] = last;
+        last.slot = slot;
+        active[activeCount] = null;
+        tween.slot = -1;
+    }
+
+    /**
+     * Advances every running tween and removes the ones that reached their end.
+     * @param delta Time elapsed since the last update
+     */
+    public void update(float delta) {
+        for (int i = activeCount - 1; i >= 0; i--) {
+            Tween tween = active[i];
+            tween.elapsed = Math.min(tween.elapsed + delta, tween.duration);
+            tween.apply(tween.elapsed);
+            if (tween.elapsed >= tween.duration) {
+                cancel(tween);
+                tween.finish();
+            }
+        }
+    }
+
+    /**
+     * Stops every running tween without finishing them.
+     */
+    public void clear() {
+        for (int i = activeCount - 1; i >= 0; i--) {
+            cancel(active[i]);
+        }
+    }
+
+    /**
+     * Gets the number of running tweens.
+     * @return Active tween count
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+}
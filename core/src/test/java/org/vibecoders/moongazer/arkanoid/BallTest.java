@@ -1,6 +1,6 @@
 package org.vibecoders.moongazer.arkanoid;
 
-import com.badlogic.gdx.math.Vector2;
+import org.vibecoders.moongazer.arkanoid.math.Vec2;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -11,7 +11,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Unit tests for Ball class
  */
 @DisplayName("Ball Tests")
-class BallTest extends BaseArkanoidTest {
+class BallTest {
     private Ball ball;
     private static final float EPSILON = 0.001f;
 
@@ -42,7 +42,7 @@ class BallTest extends BaseArkanoidTest {
     @Test
     @DisplayName("Ball velocity should reverse X direction correctly")
     void testReverseX() {
-        Vector2 initialVelocity = ball.getVelocity().cpy();
+        Vec2 initialVelocity = ball.getVelocity().cpy();
         ball.reverseX();
         assertEquals(-initialVelocity.x, ball.getVelocity().x, EPSILON);
         assertEquals(initialVelocity.y, ball.getVelocity().y, EPSILON);
@@ -51,7 +51,7 @@ class BallTest extends BaseArkanoidTest {
     @Test
     @DisplayName("Ball velocity should reverse Y direction correctly")
     void testReverseY() {
-        Vector2 initialVelocity = ball.getVelocity().cpy();
+        Vec2 initialVelocity = ball.getVelocity().cpy();
         ball.reverseY();
         assertEquals(initialVelocity.x, ball.getVelocity().x, EPSILON);
         assertEquals(-initialVelocity.y, ball.getVelocity().y, EPSILON);
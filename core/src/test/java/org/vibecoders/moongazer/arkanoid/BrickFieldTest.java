@@ -0,0 +1,280 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BrickField class
+ */
+@DisplayName("BrickField Tests")
+class BrickFieldTest {
+    private BrickField bricks;
+    private int breakableBrick;
+    private int unbreakableBrick;
+    private static final float EPSILON = 0.001f;
+
+    @BeforeEach
+    void setUp() {
+        bricks = new BrickField();
+        // Create a breakable brick with 1 durability
+        breakableBrick = bricks.add(100f, 200f, 60f, 20f, Brick.BrickType.BREAKABLE);
+
+        // Create an unbreakable brick
+        unbreakableBrick = bricks.add(200f, 300f, 60f, 20f, Brick.BrickType.UNBREAKABLE);
+    }
+
+    @Test
+    @DisplayName("Breakable brick should be created with correct properties")
+    void testBreakableBrickCreation() {
+        assertEquals(Brick.BrickType.BREAKABLE, bricks.getType(breakableBrick));
+        assertFalse(bricks.isDestroyed(breakableBrick));
+        assertEquals(1, bricks.getDurability(breakableBrick));
+        assertEquals(Brick.PowerUpType.NONE, bricks.getPowerUpType(breakableBrick));
+    }
+
+    @Test
+    @DisplayName("Unbreakable brick should be created with correct properties")
+    void testUnbreakableBrickCreation() {
+        assertEquals(Brick.BrickType.UNBREAKABLE, bricks.getType(unbreakableBrick));
+        assertFalse(bricks.isDestroyed(unbreakableBrick));
+        assertEquals(-1, bricks.getDurability(unbreakableBrick));
+    }
+
+    @Test
+    @DisplayName("Breakable brick should be destroyed after one hit")
+    void testBreakableBrickOneHit() {
+        bricks.hit(breakableBrick);
+
+        assertTrue(bricks.isDestroyed(breakableBrick));
+        assertEquals(0, bricks.getDurability(breakableBrick));
+        assertTrue(bricks.isDisappearing(breakableBrick));
+    }
+
+    @Test
+    @DisplayName("Unbreakable brick should never be destroyed")
+    void testUnbreakableBrickHit() {
+        bricks.hit(unbreakableBrick);
+        bricks.hit(unbreakableBrick);
+        bricks.hit(unbreakableBrick);
+
+        assertFalse(bricks.isDestroyed(unbreakableBrick));
+        assertEquals(-1, bricks.getDurability(unbreakableBrick));
+    }
+
+    @Test
+    @DisplayName("Brick with multiple durability should require multiple hits")
+    void testMultiDurabilityBrick() {
+        int strongBrick = bricks.addBreakable(100f, 200f, 60f, 20f, 3, Brick.PowerUpType.NONE);
+
+        assertEquals(3, bricks.getDurability(strongBrick));
+        bricks.hit(strongBrick);
+        assertEquals(2, bricks.getDurability(strongBrick));
+        assertFalse(bricks.isDestroyed(strongBrick));
+        assertTrue(bricks.isHitAnimating(strongBrick));
+
+        bricks.hit(strongBrick);
+        assertEquals(1, bricks.getDurability(strongBrick));
+        assertFalse(bricks.isDestroyed(strongBrick));
+
+        bricks.hit(strongBrick);
+        assertEquals(0, bricks.getDurability(strongBrick));
+        assertTrue(bricks.isDestroyed(strongBrick));
+        assertEquals(3, bricks.getMaxDurability(strongBrick));
+    }
+
+    @Test
+    @DisplayName("Brick should be created with power-up type")
+    void testBrickWithPowerUp() {
+        int powerUpBrick = bricks.addBreakable(100f, 200f, 60f, 20f, 1, Brick.PowerUpType.EXPAND_PADDLE);
+
+        assertEquals(Brick.PowerUpType.EXPAND_PADDLE, bricks.getPowerUpType(powerUpBrick));
+    }
+
+    @Test
+    @DisplayName("Brick bounds should be set correctly")
+    void testBrickBounds() {
+        assertEquals(100f, bricks.getX(breakableBrick), EPSILON);
+        assertEquals(200f, bricks.getY(breakableBrick), EPSILON);
+        assertEquals(60f, bricks.getWidth(breakableBrick), EPSILON);
+        assertEquals(20f, bricks.getHeight(breakableBrick), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Hit animation should shake the render position but not the collision bounds")
+    void testHitShakeLeavesBoundsAlone() {
+        int strongBrick = bricks.addBreakable(100f, 200f, 60f, 20f, 2, Brick.PowerUpType.NONE);
+        bricks.hit(strongBrick);
+        bricks.update(0.05f);
+
+        assertEquals(100f, bricks.getX(strongBrick), EPSILON);
+        assertNotEquals(100f, bricks.getRenderX(strongBrick), EPSILON);
+
+        bricks.update(1f);
+        assertFalse(bricks.isHitAnimating(strongBrick));
+        assertEquals(100f, bricks.getRenderX(strongBrick), EPSILON);
+        assertEquals(1f, bricks.getAlpha(strongBrick), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Destroyed bricks should leave the live list once they have faded out")
+    void testDestroyedBrickLeavesLiveList() {
+        int third = bricks.add(300f, 300f, 60f, 20f, Brick.BrickType.BREAKABLE);
+        assertEquals(3, bricks.getLiveCount());
+
+        bricks.hit(breakableBrick);
+        bricks.update(0.5f);
+        assertEquals(3, bricks.getLiveCount(), "Brick should stay live while fading out");
+
+        bricks.update(0.6f);
+        assertEquals(2, bricks.getLiveCount());
+        assertEquals(3, bricks.size(), "Indices should stay valid after removal");
+        assertEquals(0f, bricks.getAlpha(breakableBrick), EPSILON);
+        for (int i = 0; i < bricks.getLiveCount(); i++) {
+            assertNotEquals(breakableBrick, bricks.getLive(i));
+        }
+        assertEquals(300f, bricks.getX(third), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Set should convert a brick in place")
+    void testSetConvertsBrick() {
+        bricks.set(unbreakableBrick, Brick.BrickType.BREAKABLE, 1, Brick.PowerUpType.NONE);
+
+        assertEquals(Brick.BrickType.BREAKABLE, bricks.getType(unbreakableBrick));
+        assertEquals(1, bricks.getDurability(unbreakableBrick));
+        bricks.hit(unbreakableBrick);
+        assertTrue(bricks.isDestroyed(unbreakableBrick));
+    }
+
+    @Test
+    @DisplayName("Field should grow past its initial capacity")
+    void testGrow() {
+        BrickField small = new BrickField(2);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, small.add(i * 10f, 0f, 10f, 10f, Brick.BrickType.BREAKABLE));
+        }
+        assertEquals(10, small.size());
+        assertEquals(10, small.getLiveCount());
+        assertEquals(90f, small.getX(9), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Clear should remove every brick")
+    void testClear() {
+        bricks.clear();
+        assertEquals(0, bricks.size());
+        assertEquals(0, bricks.getLiveCount());
+        assertEquals(0, bricks.getStandingCount(Brick.BrickType.BREAKABLE));
+        assertEquals(0, bricks.getStandingCount(Brick.BrickType.UNBREAKABLE));
+        assertEquals(0, bricks.getRemainingCount(1));
+    }
+
+    @Test
+    @DisplayName("Counters should follow hits, destruction and conversion")
+    void testCounters() {
+        int strong = bricks.addBreakable(300f, 200f, 60f, 20f, 3, Brick.PowerUpType.NONE);
+        assertEquals(2, bricks.getStandingCount(Brick.BrickType.BREAKABLE));
+        assertEquals(1, bricks.getStandingCount(Brick.BrickType.UNBREAKABLE));
+        assertEquals(1, bricks.getRemainingCount(1));
+        assertEquals(1, bricks.getRemainingCount(3));
+
+        bricks.hit(strong);
+        assertEquals(0, bricks.getRemainingCount(3));
+        assertEquals(1, bricks.getRemainingCount(2));
+
+        bricks.hit(breakableBrick);
+        bricks.hit(breakableBrick);
+        assertEquals(1, bricks.getStandingCount(Brick.BrickType.BREAKABLE));
+        assertEquals(0, bricks.getRemainingCount(1));
+
+        bricks.set(unbreakableBrick, Brick.BrickType.BREAKABLE, 1, Brick.PowerUpType.NONE);
+        assertEquals(2, bricks.getStandingCount(Brick.BrickType.BREAKABLE));
+        assertEquals(0, bricks.getStandingCount(Brick.BrickType.UNBREAKABLE));
+        assertEquals(1, bricks.getRemainingCount(1));
+    }
+
+    @Test
+    @DisplayName("Counters should handle any durability in constant memory")
+    void testLargeDurabilityCounters() {
+        int huge = bricks.addBreakable(300f, 200f, 60f, 20f, Integer.MAX_VALUE, Brick.PowerUpType.NONE);
+        assertEquals(1, bricks.getRemainingCount(Integer.MAX_VALUE));
+        assertEquals(1, bricks.getRemainingCount(BrickField.MAX_COUNTED_DURABILITY + 1));
+
+        bricks.hit(huge);
+        assertEquals(Integer.MAX_VALUE - 1, bricks.getDurability(huge));
+        assertEquals(1, bricks.getRemainingCount(Integer.MAX_VALUE - 1));
+
+        bricks.set(huge, Brick.BrickType.BREAKABLE, BrickField.MAX_COUNTED_DURABILITY, Brick.PowerUpType.NONE);
+        assertEquals(0, bricks.getRemainingCount(BrickField.MAX_COUNTED_DURABILITY + 1));
+        assertEquals(1, bricks.getRemainingCount(BrickField.MAX_COUNTED_DURABILITY));
+
+        bricks.set(unbreakableBrick, Brick.BrickType.BREAKABLE, Integer.MAX_VALUE, Brick.PowerUpType.NONE);
+        BrickField copy = new BrickField();
+        copy.copyFrom(bricks);
+        assertEquals(1, copy.getRemainingCount(Integer.MAX_VALUE));
+        assertEquals(1, copy.getRemainingCount(1));
+    }
+
+    @Test
+    @DisplayName("Only hit bricks should animate, until their animation ends")
+    void testAnimatingSubset() {
+        int strong = bricks.addBreakable(300f, 200f, 60f, 20f, 2, Brick.PowerUpType.NONE);
+        assertEquals(0, bricks.getAnimatingCount());
+
+        bricks.hit(strong);
+        bricks.hit(breakableBrick);
+        bricks.hit(unbreakableBrick);
+        assertEquals(2, bricks.getAnimatingCount());
+
+        // The hit animation ends before the disappear animation
+        bricks.update(0.7f);
+        assertEquals(1, bricks.getAnimatingCount());
+        assertFalse(bricks.isHitAnimating(strong));
+        bricks.update(0.4f);
+        assertEquals(0, bricks.getAnimatingCount());
+        assertEquals(2, bricks.getLiveCount());
+    }
+
+    @Test
+    @DisplayName("Revision should change only when the idle bricks change")
+    void testRevision() {
+        int strong = bricks.addBreakable(300f, 200f, 60f, 20f, 2, Brick.PowerUpType.NONE);
+        int revision = bricks.getRevision();
+
+        // Unbreakable bricks ignore hits and static bricks do not update
+        bricks.hit(unbreakableBrick);
+        bricks.update(0.1f);
+        assertEquals(revision, bricks.getRevision());
+
+        bricks.hit(strong);
+        assertTrue(bricks.isAnimating(strong));
+        assertNotEquals(revision, bricks.getRevision());
+        revision = bricks.getRevision();
+
+        // Animation frames do not touch the idle bricks until the brick settles again
+        bricks.update(0.3f);
+        assertEquals(revision, bricks.getRevision());
+        bricks.update(0.4f);
+        assertFalse(bricks.isAnimating(strong));
+        assertNotEquals(revision, bricks.getRevision());
+    }
+
+    @Test
+    @DisplayName("Copy should carry counters and animations")
+    void testCopyFrom() {
+        bricks.hit(breakableBrick);
+        BrickField copy = new BrickField(1);
+        copy.copyFrom(bricks);
+
+        assertEquals(0, copy.getStandingCount(Brick.BrickType.BREAKABLE));
+        assertEquals(1, copy.getStandingCount(Brick.BrickType.UNBREAKABLE));
+        assertEquals(1, copy.getAnimatingCount());
+        copy.update(1.1f);
+        assertEquals(0, copy.getAnimatingCount());
+        assertEquals(1, copy.getLiveCount());
+        assertEquals(1, bricks.getAnimatingCount());
+    }
+}
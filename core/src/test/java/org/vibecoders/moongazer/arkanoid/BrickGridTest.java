@@ -0,0 +1,102 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.vibecoders.moongazer.arkanoid.util.IntList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BrickGrid class
+ */
+@DisplayName("BrickGrid Tests")
+class BrickGridTest {
+    private BrickField bricks;
+    private BrickGrid grid;
+    private IntList result;
+
+    @BeforeEach
+    void setUp() {
+        bricks = new BrickField();
+        // 620x620 area split into 62px cells
+        grid = new BrickGrid(bricks, 0f, 0f, 620f, 620f, 62f);
+        result = new IntList();
+    }
+
+    @Test
+    @DisplayName("Query should only return bricks near the region")
+    void testQueryReturnsNearbyBricks() {
+        int near = bricks.add(0f, 0f, 60f, 60f, Brick.BrickType.BREAKABLE);
+        int far = bricks.add(496f, 496f, 60f, 60f, Brick.BrickType.BREAKABLE);
+        grid.add(near);
+        grid.add(far);
+
+        grid.query(10f, 10f, 30f, 30f, result);
+
+        assertEquals(1, result.size());
+        assertEquals(near, result.get(0));
+    }
+
+    @Test
+    @DisplayName("Bricks spanning several cells should be reported once")
+    void testSpanningBrickReportedOnce() {
+        int wide = bricks.add(50f, 50f, 100f, 20f, Brick.BrickType.BREAKABLE);
+        grid.add(wide);
+
+        grid.query(0f, 0f, 200f, 200f, result);
+
+        assertEquals(1, result.size());
+        assertEquals(1, grid.size());
+    }
+
+    @Test
+    @DisplayName("Removed bricks should no longer be returned")
+    void testRemove() {
+        int brick = bricks.add(62f, 62f, 60f, 60f, Brick.BrickType.BREAKABLE);
+        grid.add(brick);
+        grid.remove(brick);
+
+        grid.query(0f, 0f, 620f, 620f, result);
+
+        assertTrue(result.isEmpty());
+        assertEquals(0, grid.size());
+    }
+
+    @Test
+    @DisplayName("Rebuild should skip destroyed bricks")
+    void testRebuildSkipsDestroyed() {
+        int alive = bricks.add(0f, 0f, 60f, 60f, Brick.BrickType.BREAKABLE);
+        int destroyed = bricks.add(62f, 0f, 60f, 60f, Brick.BrickType.BREAKABLE);
+        bricks.hit(destroyed);
+
+        grid.rebuild();
+
+        assertEquals(1, grid.size());
+        grid.query(0f, 0f, 620f, 620f, result);
+        assertEquals(alive, result.get(0));
+    }
+
+    @Test
+    @DisplayName("Converted bricks should stay indexed")
+    void testConvertedBrickStaysIndexed() {
+        int brick = bricks.add(124f, 124f, 60f, 60f, Brick.BrickType.UNBREAKABLE);
+        grid.add(brick);
+
+        bricks.set(brick, Brick.BrickType.BREAKABLE, 1, Brick.PowerUpType.NONE);
+
+        grid.query(130f, 130f, 140f, 140f, result);
+        assertEquals(1, result.size());
+        assertEquals(Brick.BrickType.BREAKABLE, bricks.getType(result.get(0)));
+    }
+
+    @Test
+    @DisplayName("Positions outside the area should clamp to border cells")
+    void testOutOfBoundsClamped() {
+        int edge = bricks.add(600f, 600f, 60f, 60f, Brick.BrickType.BREAKABLE);
+        grid.add(edge);
+
+        grid.query(1000f, 1000f, 1100f, 1100f, result);
+
+        assertEquals(1, result.size());
+    }
+}
@@ -10,7 +10,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Unit tests for Bullet class
  */
 @DisplayName("Bullet Tests")
-class BulletTest extends BaseArkanoidTest {
+class BulletTest {
     private Bullet bullet;
     private static final float EPSILON = 0.001f;
 
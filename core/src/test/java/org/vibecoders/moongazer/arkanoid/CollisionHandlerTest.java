@@ -0,0 +1,169 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.vibecoders.moongazer.arkanoid.util.IntList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the swept ball movement in CollisionHandler
+ */
+@DisplayName("CollisionHandler Tests")
+class CollisionHandlerTest {
+    private static final float MIN_X = 0f;
+    private static final float MAX_X = 600f;
+    private static final float MAX_Y = 600f;
+    private static final float EPSILON = 0.001f;
+
+    private BrickField bricks;
+    private BrickGrid grid;
+    private Paddle paddle;
+    private Ball ball;
+    private IntList destroyed;
+    private CollisionHandler.BrickCollisionContext context;
+
+    @BeforeEach
+    void setUp() {
+        bricks = new BrickField();
+        grid = new BrickGrid(bricks, MIN_X, 0f, MAX_X - MIN_X, MAX_Y, 62f);
+        paddle = new Paddle(250f, 20f, 100f, 20f);
+        ball = new Ball(300f, 200f, 10f);
+        ball.launch();
+        destroyed = new IntList();
+        CollisionHandler.ScoreContext scoreContext = new CollisionHandler.ScoreContext(0, 0, 0, 0);
+        context = new CollisionHandler.BrickCollisionContext() {
+            @Override
+            public void onBrickDestroyed(int brick) {
+                destroyed.add(brick);
+                grid.remove(brick);
+            }
+
+            @Override
+            public void spawnPowerUp(int brick) {}
+
+            @Override
+            public int getBricksDestroyed() {
+                return destroyed.size();
+            }
+
+            @Override
+            public CollisionHandler.ScoreContext getScoreContext() {
+                return scoreContext;
+            }
+        };
+    }
+
+    private boolean step(float delta) {
+        return CollisionHandler.moveBall(ball, delta, MIN_X, MAX_X, MAX_Y, grid, paddle, context);
+    }
+
+    @Test
+    @DisplayName("Ball should move freely when nothing is in its path")
+    void testFreeMovement() {
+        ball.setVelocity(100f, 50f);
+
+        assertFalse(step(0.1f));
+
+        assertEquals(310f, ball.getBounds().x, EPSILON);
+        assertEquals(205f, ball.getBounds().y, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Fast ball should not tunnel through a thin brick")
+    void testNoTunneling() {
+        int brick = bricks.add(280f, 400f, 40f, 5f, Brick.BrickType.BREAKABLE);
+        grid.add(brick);
+        ball.setVelocity(0f, 10000f);
+
+        step(0.05f);
+
+        assertTrue(bricks.isDestroyed(brick));
+        assertEquals(1, destroyed.size());
+        assertTrue(ball.getVelocity().y < 0);
+        assertTrue(ball.getBounds().y < 400f);
+    }
+
+    @Test
+    @DisplayName("Several contacts in one step should all be resolved in order")
+    void testMultipleContactsInOneStep() {
+        ball.getBounds().x = 580f;
+        ball.getBounds().y = 580f;
+        ball.setVelocity(400f, 400f);
+
+        step(0.05f);
+
+        assertTrue(ball.getVelocity().x < 0);
+        assertTrue(ball.getVelocity().y < 0);
+        assertTrue(ball.getBounds().x <= MAX_X - ball.getRadius());
+        assertTrue(ball.getBounds().y <= MAX_Y - ball.getRadius());
+    }
+
+    @Test
+    @DisplayName("Unbreakable brick should reflect the ball without being destroyed")
+    void testUnbreakableBrickReflects() {
+        int wall = bricks.add(200f, 260f, 200f, 20f, Brick.BrickType.UNBREAKABLE);
+        grid.add(wall);
+        ball.setVelocity(100f, 300f);
+
+        step(0.2f);
+
+        assertFalse(bricks.isDestroyed(wall));
+        assertTrue(ball.getVelocity().y < 0);
+        assertTrue(ball.getBounds().y + ball.getRadius() <= 260f);
+    }
+
+    @Test
+    @DisplayName("Super ball should pass through breakable bricks")
+    void testSuperBallPassesThrough() {
+        int brick = bricks.addBreakable(280f, 300f, 40f, 20f, 1, Brick.PowerUpType.NONE);
+        grid.add(brick);
+        ball.setSuperBall(true);
+        ball.setVelocity(0f, 300f);
+
+        step(0.5f);
+
+        assertTrue(bricks.isDestroyed(brick));
+        assertEquals(300f, ball.getVelocity().y, EPSILON);
+        assertEquals(350f, ball.getBounds().y, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Super ball should hit a strong brick once on the way through")
+    void testSuperBallHitsOncePerPass() {
+        int brick = bricks.addBreakable(280f, 300f, 40f, 20f, 3, Brick.PowerUpType.NONE);
+        grid.add(brick);
+        ball.setSuperBall(true);
+        ball.setVelocity(0f, 300f);
+
+        step(0.5f);
+
+        assertFalse(bricks.isDestroyed(brick));
+        assertEquals(2, bricks.getDurability(brick));
+        assertEquals(0, destroyed.size());
+        assertEquals(1, context.getScoreContext().combo);
+        assertEquals(350f, ball.getBounds().y, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Ball landing on the paddle should bounce upwards above it")
+    void testPaddleBounce() {
+        ball.getBounds().y = 100f;
+        ball.setVelocity(0f, -600f);
+
+        assertFalse(step(0.2f));
+
+        assertTrue(ball.getVelocity().y > 0);
+        assertTrue(ball.getBounds().y - ball.getRadius() >= 40f);
+    }
+
+    @Test
+    @DisplayName("Ball falling past the paddle should be reported as lost")
+    void testBallLost() {
+        ball.getBounds().x = 50f;
+        ball.getBounds().y = 100f;
+        ball.setVelocity(0f, -600f);
+
+        assertTrue(step(0.2f));
+    }
+}
@@ -0,0 +1,100 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.vibecoders.moongazer.arkanoid.levels.EndlessRun;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.vibecoders.moongazer.Constants.FIXED_TIMESTEP;
+
+/**
+ * Unit tests for LookaheadAI class
+ */
+@DisplayName("LookaheadAI Tests")
+class LookaheadAITest {
+    private static final int STEPS = 240 * 30;
+
+    private LookaheadAI ai;
+
+    @AfterEach
+    void tearDown() {
+        if (ai != null) {
+            ai.close();
+        }
+    }
+
+    /**
+     * Plays an endless run under a lookahead AI, relaunching the ball whenever it waits.
+     * @param seed Seed of the run
+     * @param frameBudgetNanos Frame budget of the AI
+     * @return The world after the run
+     */
+    private World play(long seed, long frameBudgetNanos) {
+        World world = new World();
+        EndlessRun run = new EndlessRun(world);
+        world.setListener(new WorldListener() {
+            @Override
+            public void onLevelComplete() {
+                run.completeWave();
+            }
+        });
+        ai = new LookaheadAI(world, 2, frameBudgetNanos, 1f);
+        world.setPaddleAI(ai);
+        ai.setEnabled(true);
+        run.start(seed);
+        for (int i = 0; i < STEPS && !world.isGameOver(); i++) {
+            world.getInput().launch = !world.getBall().isActive();
+            world.step(FIXED_TIMESTEP);
+        }
+        ai.close();
+        return world;
+    }
+
+    @Test
+    @DisplayName("Planning AI should keep the ball in play and break bricks")
+    void testKeepsBallInPlay() {
+        World world = play(7L, 0L);
+
+        assertEquals(EndlessRun.STARTING_LIVES, world.getLives(), "No life should be lost");
+        assertTrue(world.getScore() > 0, "Bricks should be broken");
+        assertTrue(ai.getRolloutsCompleted() > 0);
+        assertEquals(0, ai.getRolloutsAbandoned(), "Without a budget every plan should be played");
+    }
+
+    @Test
+    @DisplayName("Without a frame budget the same seed should play the same game")
+    void testDeterministicWithoutBudget() {
+        World first = play(11L, 0L);
+        World second = play(11L, 0L);
+
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getBricksDestroyed(), second.getBricksDestroyed());
+        assertEquals(first.getPaddle().getBounds().x, second.getPaddle().getBounds().x);
+    }
+
+    @Test
+    @DisplayName("A budget too short for any plan should abandon rollouts and keep playing")
+    void testFrameBudget() {
+        World world = play(3L, 1L);
+
+        assertTrue(ai.getRolloutsAbandoned() > 0, "Rollouts should be abandoned when the budget runs out");
+        assertFalse(world.isGameOver());
+    }
+
+    @Test
+    @DisplayName("Disabled AI should leave the paddle still")
+    void testDisabled() {
+        World world = new World();
+        ai = new LookaheadAI(world, 1, 0L, 1f);
+        world.setPaddleAI(ai);
+        world.getBall().launch();
+        float startX = world.getPaddle().getBounds().x;
+        for (int i = 0; i < 240; i++) {
+            world.step(FIXED_TIMESTEP);
+        }
+
+        assertEquals(startX, world.getPaddle().getBounds().x);
+        assertEquals(0, ai.getRolloutsCompleted());
+    }
+}
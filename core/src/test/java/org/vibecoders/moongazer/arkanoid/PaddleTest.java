@@ -10,7 +10,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Unit tests for Paddle class
  */
 @DisplayName("Paddle Tests")
-class PaddleTest extends BaseArkanoidTest {
+class PaddleTest {
     private Paddle paddle;
     private static final float EPSILON = 0.001f;
 
@@ -201,4 +201,58 @@ class PaddleTest extends BaseArkanoidTest {
         // but we can't test without calling update()
         assertNotNull(paddle);
     }
+
+    @Test
+    @DisplayName("Spent bullets should be reused for the next shot")
+    void testBulletsReused() {
+        PaddleInput fire = new PaddleInput();
+        paddle.setBulletEnabled(true);
+
+        fire.fire = true;
+        paddle.update(0.016f, 0f, 800f, fire);
+        assertEquals(2, paddle.getBullets().size());
+        Bullet first = paddle.getBullets().get(0);
+
+        first.setActive(false);
+        paddle.getBullets().get(1).setActive(false);
+        paddle.cleanupBullets(1000f);
+        assertTrue(paddle.getBullets().isEmpty());
+
+        fire.fire = false;
+        paddle.update(0.5f, 0f, 800f, fire);
+        fire.fire = true;
+        paddle.update(0.016f, 0f, 800f, fire);
+
+        assertEquals(2, paddle.getBullets().size());
+        assertTrue(paddle.getBullets().contains(first), "A spent bullet should be fired again");
+        assertTrue(first.isActive(), "A reused bullet should be active again");
+    }
+
+    @Test
+    @DisplayName("Pointer smoothing should converge at the same rate for any step length")
+    void testPointerSmoothingPerSecond() {
+        PaddleInput pointer = new PaddleInput();
+        pointer.pointerDown = true;
+        pointer.pointerX = 500f;
+        // Target is 460 (pointer minus half the width), 360 away from the start
+
+        Paddle frame = new Paddle(100f, 50f, 80f, 15f);
+        frame.update(1f / 60f, 0f, 800f, pointer);
+        for (int i = 0; i < 4; i++) {
+            paddle.update(1f / 240f, 0f, 800f, pointer);
+        }
+        assertEquals(460f - 360f * 0.25f, frame.getBounds().x, 0.01f);
+        assertEquals(frame.getBounds().x, paddle.getBounds().x, 0.01f);
+
+        for (int i = 4; i < 24; i++) {
+            paddle.update(1f / 240f, 0f, 800f, pointer);
+        }
+        // A tenth of a second is six 60 Hz frames
+        assertEquals(460f - 360f * (float) Math.pow(0.25f, 6), paddle.getBounds().x, 0.01f);
+
+        for (int i = 24; i < 240; i++) {
+            paddle.update(1f / 240f, 0f, 800f, pointer);
+        }
+        assertEquals(460f, paddle.getBounds().x, 0.01f);
+    }
 }
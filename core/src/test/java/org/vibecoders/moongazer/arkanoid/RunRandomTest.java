@@ -0,0 +1,74 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.vibecoders.moongazer.arkanoid.util.Rng;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the seeded random streams of a run
+ */
+@DisplayName("RunRandom Tests")
+class RunRandomTest {
+
+    @Test
+    @DisplayName("Same seed should produce the same sequences")
+    void testReproducible() {
+        RunRandom first = new RunRandom(42L);
+        RunRandom second = new RunRandom(42L);
+        for (RunRandom.Stream stream : RunRandom.Stream.values()) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(first.get(stream).nextLong(), second.get(stream).nextLong());
+            }
+        }
+        assertNotEquals(new RunRandom(42L).get(RunRandom.Stream.LEVEL).nextLong(),
+                        new RunRandom(43L).get(RunRandom.Stream.LEVEL).nextLong());
+    }
+
+    @Test
+    @DisplayName("Drawing from one stream should not shift another")
+    void testIndependentStreams() {
+        RunRandom busy = new RunRandom(7L);
+        RunRandom idle = new RunRandom(7L);
+        for (int i = 0; i < 50; i++) {
+            busy.get(RunRandom.Stream.LEVEL).nextDouble();
+        }
+        assertEquals(idle.get(RunRandom.Stream.POWER_UPS).nextLong(), busy.get(RunRandom.Stream.POWER_UPS).nextLong());
+    }
+
+    @Test
+    @DisplayName("Bounded draws should stay in range and shuffles should keep every element")
+    void testRanges() {
+        Rng rng = new Rng(1L);
+        for (int i = 0; i < 1000; i++) {
+            int level = rng.nextInt(1, 3);
+            assertTrue(level >= 1 && level <= 3, "Level out of range: " + level);
+            float f = rng.nextFloat(30f, 60f);
+            assertTrue(f >= 30f && f < 60f, "Angle out of range: " + f);
+        }
+
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 20; i++) list.add(i);
+        rng.shuffle(list);
+        assertEquals(20, list.size());
+        for (int i = 0; i < 20; i++) {
+            assertTrue(list.contains(i), "Shuffle lost " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Resetting progress with a seed should reseed the world")
+    void testWorldSeed() {
+        World first = new World(0f, 600f, 600f);
+        World second = new World(0f, 600f, 600f);
+        first.resetProgress(3, 99L);
+        second.resetProgress(3, 99L);
+        assertEquals(99L, first.getSeed());
+        assertEquals(first.getRandom(RunRandom.Stream.POWER_UPS).nextLong(),
+                     second.getRandom(RunRandom.Stream.POWER_UPS).nextLong());
+    }
+}
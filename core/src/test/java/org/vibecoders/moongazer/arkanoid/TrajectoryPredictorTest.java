@@ -0,0 +1,128 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TrajectoryPredictor class
+ */
+@DisplayName("TrajectoryPredictor Tests")
+class TrajectoryPredictorTest {
+    private static final float EPSILON = 0.001f;
+    private static final float INTERCEPT_Y = 50f;
+
+    private BrickField bricks;
+    private BrickGrid grid;
+    private TrajectoryPredictor predictor;
+
+    @BeforeEach
+    void setUp() {
+        bricks = new BrickField();
+        // 400x600 area with the ceiling at the top of the grid
+        grid = new BrickGrid(bricks, 0f, 0f, 400f, 600f, 50f);
+        predictor = new TrajectoryPredictor(grid, 0f, 400f, 600f);
+    }
+
+    private Ball createBall(float x, float y, float vx, float vy) {
+        Ball ball = new Ball(x, y, 10f);
+        ball.setVelocity(vx, vy);
+        ball.launch();
+        return ball;
+    }
+
+    @Test
+    @DisplayName("Falling ball should land on its straight line")
+    void testStraightLanding() {
+        Ball ball = createBall(100f, 100f, 300f, -300f);
+
+        assertEquals(150f, predictor.predictLandingX(ball, INTERCEPT_Y), 0.01f);
+        assertEquals(50f / 300f, predictor.predictLandingTime(ball, INTERCEPT_Y), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Wall bounce should mirror the path off the wall")
+    void testWallBounce() {
+        Ball ball = createBall(350f, 300f, 100f, -100f);
+
+        // Travels 250 across, reflecting off the right wall at x = 390 (wall minus radius)
+        assertEquals(180f, predictor.predictLandingX(ball, INTERCEPT_Y), 0.05f);
+        assertEquals(2.5f, predictor.predictLandingTime(ball, INTERCEPT_Y), 0.01f);
+    }
+
+    @Test
+    @DisplayName("Brick above a rising ball should send it back down early")
+    void testBrickBounce() {
+        Ball ball = createBall(200f, 100f, 0f, 300f);
+        int brick = bricks.add(150f, 300f, 100f, 20f, Brick.BrickType.BREAKABLE);
+        grid.add(brick);
+
+        // Up 190 to the brick's underside, then down 240 to the intercept
+        assertEquals(200f, predictor.predictLandingX(ball, INTERCEPT_Y), 0.05f);
+        assertEquals(430f / 300f, predictor.predictLandingTime(ball, INTERCEPT_Y), 0.01f);
+    }
+
+    @Test
+    @DisplayName("Super ball should pass through breakable bricks")
+    void testSuperBallIgnoresBreakableBricks() {
+        Ball ball = createBall(200f, 100f, 0f, 300f);
+        ball.setSuperBall(true);
+        grid.add(bricks.add(150f, 300f, 100f, 20f, Brick.BrickType.BREAKABLE));
+
+        // Up 490 to the ceiling, then down 540 to the intercept
+        assertEquals(1030f / 300f, predictor.predictLandingTime(ball, INTERCEPT_Y), 0.01f);
+    }
+
+    @Test
+    @DisplayName("Ball rising past the horizon should have no landing")
+    void testBeyondHorizon() {
+        Ball ball = createBall(200f, 100f, 0f, 100f);
+
+        assertTrue(Float.isNaN(predictor.predictLandingX(ball, INTERCEPT_Y)));
+        assertEquals(Float.POSITIVE_INFINITY, predictor.predictLandingTime(ball, INTERCEPT_Y));
+    }
+
+    @Test
+    @DisplayName("Prediction should be reused while the ball follows its line")
+    void testCacheHitAlongLine() {
+        Ball ball = createBall(100f, 300f, 100f, -100f);
+        float first = predictor.predictLandingX(ball, INTERCEPT_Y);
+        ball.update(0.5f);
+
+        assertEquals(first, predictor.predictLandingX(ball, INTERCEPT_Y), EPSILON);
+        assertEquals(2.0f, predictor.predictLandingTime(ball, INTERCEPT_Y), 0.01f);
+        assertEquals(1, predictor.getCacheMisses());
+        assertEquals(2, predictor.getCacheHits());
+    }
+
+    @Test
+    @DisplayName("Prediction should be recomputed after a bounce or a brick change")
+    void testCacheInvalidation() {
+        Ball ball = createBall(200f, 100f, 0f, 300f);
+        int brick = bricks.add(150f, 300f, 100f, 20f, Brick.BrickType.BREAKABLE);
+        grid.add(brick);
+        predictor.predictLandingTime(ball, INTERCEPT_Y);
+
+        grid.remove(brick);
+        assertEquals(1030f / 300f, predictor.predictLandingTime(ball, INTERCEPT_Y), 0.01f);
+
+        ball.reverseY();
+        assertEquals(50f / 300f, predictor.predictLandingTime(ball, INTERCEPT_Y), 0.01f);
+        assertEquals(3, predictor.getCacheMisses());
+        assertEquals(0, predictor.getCacheHits());
+    }
+
+    @Test
+    @DisplayName("Prediction should be recomputed when the ball becomes a super ball")
+    void testCacheInvalidationOnSuperBall() {
+        Ball ball = createBall(200f, 100f, 0f, 300f);
+        grid.add(bricks.add(150f, 300f, 100f, 20f, Brick.BrickType.BREAKABLE));
+        assertEquals(430f / 300f, predictor.predictLandingTime(ball, INTERCEPT_Y), 0.01f);
+
+        ball.setSuperBall(true);
+        assertEquals(1030f / 300f, predictor.predictLandingTime(ball, INTERCEPT_Y), 0.01f);
+        assertEquals(2, predictor.getCacheMisses());
+        assertEquals(0, predictor.getCacheHits());
+    }
+}
@@ -0,0 +1,243 @@
+package org.vibecoders.moongazer.arkanoid;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.vibecoders.moongazer.arkanoid.util.Pool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the headless World simulation
+ */
+@DisplayName("World Tests")
+class WorldTest {
+    private static final float STEP = 1f / 240f;
+    private static final float EPSILON = 0.001f;
+
+    private World world;
+    private int ballsLost;
+    private int gameOvers;
+    private int levelsCompleted;
+
+    @BeforeEach
+    void setUp() {
+        world = new World(0f, 600f, 600f);
+        world.getPaddleAI().setEnabled(false);
+        world.setListener(new WorldListener() {
+            @Override
+            public void onBallLost(int livesRemaining) {
+                ballsLost++;
+            }
+
+            @Override
+            public void onGameOver() {
+                gameOvers++;
+            }
+
+            @Override
+            public void onLevelComplete() {
+                levelsCompleted++;
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Ball should stay on the paddle until the launch input is given")
+    void testLaunchInput() {
+        Ball ball = world.getBall();
+        world.step(STEP);
+        assertFalse(ball.isActive(), "Ball should wait on the paddle");
+
+        world.getInput().launch = true;
+        world.step(STEP);
+        assertTrue(ball.isActive(), "Ball should be launched");
+        assertFalse(world.getInput().launch, "Launch input should be consumed by the step");
+    }
+
+    @Test
+    @DisplayName("Paddle should follow the movement input")
+    void testPaddleInput() {
+        float startX = world.getPaddle().getBounds().x;
+        world.getInput().right = true;
+        for (int i = 0; i < 24; i++) {
+            world.step(STEP);
+        }
+        assertTrue(world.getPaddle().getBounds().x > startX, "Paddle should move right");
+    }
+
+    @Test
+    @DisplayName("Losing the last ball should take a life and place a new ball")
+    void testBallLost() {
+        world.setLives(2);
+        Ball ball = world.getBall();
+        ball.launch();
+        ball.getBounds().x = 20f;
+        ball.getBounds().y = 20f;
+        ball.setVelocity(0f, -600f);
+
+        for (int i = 0; i < 24; i++) {
+            world.step(STEP);
+        }
+
+        assertEquals(1, world.getLives());
+        assertEquals(1, ballsLost);
+        assertEquals(0, gameOvers);
+        assertEquals(1, world.getBalls().size());
+        assertSame(ball, world.getBall(), "The lost ball should be reused from the pool");
+        assertFalse(world.getBall().isActive());
+        assertEquals(1, world.getBallPool().getInUseCount());
+    }
+
+    @Test
+    @DisplayName("Losing the final life should end the game")
+    void testGameOver() {
+        world.setLives(1);
+        Ball ball = world.getBall();
+        ball.launch();
+        ball.getBounds().x = 20f;
+        ball.getBounds().y = 20f;
+        ball.setVelocity(0f, -600f);
+
+        for (int i = 0; i < 24; i++) {
+            world.step(STEP);
+        }
+
+        assertTrue(world.isGameOver());
+        assertEquals(1, gameOvers);
+    }
+
+    @Test
+    @DisplayName("Destroying the last breakable brick should complete the level and score")
+    void testLevelComplete() {
+        world.getBricks().add(280f, 400f, 60f, 20f, Brick.BrickType.BREAKABLE, 1, Brick.PowerUpType.NONE);
+        world.indexBricks();
+        Ball ball = world.getBall();
+        ball.launch();
+        ball.getBounds().x = 310f;
+        ball.getBounds().y = 300f;
+        ball.setVelocity(0f, 600f);
+
+        for (int i = 0; i < 60 && levelsCompleted == 0; i++) {
+            world.step(STEP);
+        }
+
+        assertEquals(1, levelsCompleted);
+        assertEquals(1, world.getBricksDestroyed());
+        assertTrue(world.getScore() > 0, "Breaking a brick should score");
+        assertEquals(1, world.getCombo());
+    }
+
+    @Test
+    @DisplayName("Multi-ball bursts should reuse pooled balls")
+    void testBallPool() {
+        world.getBall().launch();
+        world.spawnBalls(2);
+        assertEquals(3, world.getBalls().size());
+        assertEquals(3, world.getBallPool().getCreatedCount());
+
+        world.clearBalls();
+        assertEquals(0, world.getBallPool().getInUseCount());
+        assertEquals(3, world.getBallPool().getFreeCount());
+
+        Ball ball = world.addBall(300f, 100f, 12f);
+        ball.launch();
+        world.spawnBalls(2);
+        assertEquals(3, world.getBalls().size());
+        assertEquals(3, world.getBallPool().getCreatedCount(), "No new balls should be allocated");
+        assertEquals(3, world.getBallPool().getPeakInUseCount());
+    }
+
+    @Test
+    @DisplayName("Missed power-ups should return to their pool")
+    void testPowerUpPool() {
+        int brick = world.getBricks().add(20f, 400f, 60f, 20f, Brick.BrickType.BREAKABLE, 1, Brick.PowerUpType.FAST_BALL);
+        world.indexBricks();
+        Pool<PowerUp> pool = world.getPowerUpPool(Brick.PowerUpType.FAST_BALL);
+
+        for (int drop = 0; drop < 2; drop++) {
+            world.spawnPowerUp(brick);
+            PowerUp powerUp = world.getActivePowerUps().get(0);
+            assertEquals(400f, powerUp.y, EPSILON, "Pooled power-up should start at the brick");
+            for (int i = 0; i < 2000 && !world.getActivePowerUps().isEmpty(); i++) {
+                world.step(STEP);
+            }
+            assertTrue(world.getActivePowerUps().isEmpty(), "Power-up should fall past the paddle");
+            assertEquals(0, pool.getInUseCount());
+        }
+        assertEquals(1, pool.getCreatedCount(), "The second drop should reuse the first power-up");
+    }
+
+    @Test
+    @DisplayName("Bonus points should raise the best score")
+    void testAddBonus() {
+        world.setBestScore(50);
+        world.addBonus(100);
+        assertEquals(100, world.getScore());
+        assertEquals(100, world.getBestScore());
+    }
+
+    @Test
+    @DisplayName("Resetting progress should keep the best score")
+    void testResetProgress() {
+        world.addBonus(100);
+        world.resetProgress(3);
+        assertEquals(0, world.getScore());
+        assertEquals(100, world.getBestScore());
+        assertEquals(3, world.getLives());
+        assertEquals(0, world.getBricksDestroyed());
+        assertEquals(0, world.getCombo());
+    }
+
+    @Test
+    @DisplayName("A copied world should play on exactly like the original")
+    void testCopyFrom() {
+        world.resetProgress(3, 42L);
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 8; col++) {
+                world.getBricks().add(20f + col * 70f, 400f + row * 30f, 60f, 20f, Brick.BrickType.BREAKABLE,
+                                      1 + row % 2, Brick.PowerUpType.NONE);
+            }
+        }
+        world.indexBricks();
+        world.getInput().launch = true;
+        world.getInput().right = true;
+        for (int i = 0; i < 240; i++) {
+            world.step(STEP);
+        }
+
+        World copy = new World(0f, 600f, 600f);
+        copy.getPaddleAI().setEnabled(false);
+        copy.copyFrom(world);
+        for (int i = 0; i < 2400; i++) {
+            world.step(STEP);
+            copy.step(STEP);
+        }
+
+        assertEquals(world.getScore(), copy.getScore());
+        assertEquals(world.getLives(), copy.getLives());
+        assertEquals(world.getBricksDestroyed(), copy.getBricksDestroyed());
+        assertEquals(world.getBalls().size(), copy.getBalls().size());
+        assertEquals(world.getBall().getBounds().x, copy.getBall().getBounds().x, EPSILON);
+        assertEquals(world.getBall().getBounds().y, copy.getBall().getBounds().y, EPSILON);
+        assertEquals(world.getPaddle().getBounds().x, copy.getPaddle().getBounds().x, EPSILON);
+        assertEquals(world.getActivePowerUps().size(), copy.getActivePowerUps().size());
+    }
+
+    @Test
+    @DisplayName("Copying should not share state with the original")
+    void testCopyIsIndependent() {
+        world.getBricks().add(280f, 400f, 60f, 20f, Brick.BrickType.BREAKABLE, 1, Brick.PowerUpType.NONE);
+        world.indexBricks();
+        World copy = new World(0f, 600f, 600f);
+        copy.copyFrom(world);
+
+        copy.getBricks().hit(0);
+        copy.getBall().launch();
+
+        assertFalse(world.getBricks().isDestroyed(0));
+        assertFalse(world.getBall().isActive());
+        assertNotSame(world.getBall(), copy.getBall());
+        assertThrows(IllegalArgumentException.class, () -> new World(0f, 500f, 600f).copyFrom(world));
+    }
+}
@@ -0,0 +1,109 @@
+package org.vibecoders.moongazer.arkanoid.levels;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.vibecoders.moongazer.arkanoid.Brick;
+import org.vibecoders.moongazer.arkanoid.BrickField;
+import org.vibecoders.moongazer.arkanoid.World;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the endless run rules and wave generation
+ */
+@DisplayName("EndlessRun Tests")
+class EndlessRunTest {
+
+    @Test
+    @DisplayName("Same seed should generate the same waves")
+    void testReproducibleWaves() {
+        World first = new World();
+        World second = new World();
+        EndlessRun firstRun = new EndlessRun(first);
+        EndlessRun secondRun = new EndlessRun(second);
+        firstRun.start(42L);
+        secondRun.start(42L);
+        assertSameLayout(first.getBricks(), second.getBricks());
+
+        firstRun.completeWave();
+        secondRun.completeWave();
+        assertSameLayout(first.getBricks(), second.getBricks());
+    }
+
+    @Test
+    @DisplayName("Pre-generated waves should match waves generated on demand")
+    void testPregeneratedWaves() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            World expected = new World();
+            World actual = new World();
+            EndlessRun expectedRun = new EndlessRun(expected);
+            EndlessRun actualRun = new EndlessRun(actual);
+            actualRun.setPregenerationExecutor(executor);
+
+            // A restart drops the wave pre-generated for the old seed
+            actualRun.start(9L);
+            expectedRun.start(42L);
+            actualRun.start(42L);
+            assertSameLayout(expected.getBricks(), actual.getBricks());
+            for (int wave = 2; wave <= 12; wave++) {
+                expectedRun.completeWave();
+                actualRun.completeWave();
+                assertEquals(wave, actualRun.getWave());
+                assertSameLayout(expected.getBricks(), actual.getBricks());
+            }
+
+            expectedRun.skipToWave(20);
+            actualRun.skipToWave(20);
+            expectedRun.completeWave();
+            actualRun.completeWave();
+            assertSameLayout(expected.getBricks(), actual.getBricks());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Every wave should leave breakable bricks to clear")
+    void testWaveHasBreakableBricks() {
+        World world = new World();
+        EndlessRun run = new EndlessRun(world);
+        run.start(7L);
+        for (int wave = 1; wave <= 25; wave++) {
+            BrickField bricks = world.getBricks();
+            int breakable = 0;
+            for (int i = 0; i < bricks.size(); i++) {
+                if (bricks.getType(i) == Brick.BrickType.BREAKABLE) breakable++;
+            }
+            assertTrue(breakable > 0, "Wave " + wave + " has no breakable bricks");
+            assertEquals(wave, run.getWave());
+            run.completeWave();
+        }
+    }
+
+    @Test
+    @DisplayName("Completing a wave should award its bonus and advance")
+    void testCompleteWave() {
+        World world = new World();
+        EndlessRun run = new EndlessRun(world);
+        run.start(1L);
+        assertEquals(EndlessRun.STARTING_LIVES, world.getLives());
+        assertEquals(100, run.completeWave());
+        assertEquals(200, run.completeWave());
+        assertEquals(300, world.getScore());
+        assertEquals(3, run.getWave());
+        assertTrue(run.getUnbreakableChance() > 0.1f, "Later waves should have more unbreakable bricks");
+    }
+
+    private static void assertSameLayout(BrickField expected, BrickField actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getType(i), actual.getType(i));
+            assertEquals(expected.getDurability(i), actual.getDurability(i));
+            assertEquals(expected.getPowerUpType(i), actual.getPowerUpType(i));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.vibecoders.moongazer.arkanoid.levels;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.vibecoders.moongazer.arkanoid.BrickField;
+import org.vibecoders.moongazer.arkanoid.World;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the story stage layouts
+ */
+@DisplayName("StoryStage Tests")
+class StoryStageTest {
+    private static final float EPSILON = 0.001f;
+
+    @Test
+    @DisplayName("Stages should be found by their number")
+    void testOf() {
+        for (StoryStage stage : StoryStage.values()) {
+            assertSame(stage, StoryStage.of(stage.getStageId()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> StoryStage.of(6));
+    }
+
+    @Test
+    @DisplayName("Building a stage should replace the bricks with its pattern")
+    void testBuildReplacesBricks() {
+        World world = new World();
+        world.resetProgress(3, 1L);
+        StoryStage.HEART.build(world);
+        StoryStage.MOON.build(world);
+
+        // The moon pattern has 76 cells
+        assertEquals(76, world.getBricks().size());
+    }
+
+    @Test
+    @DisplayName("Same seed should build the same stage")
+    void testReproducibleLayout() {
+        for (StoryStage stage : StoryStage.values()) {
+            World first = new World();
+            World second = new World();
+            first.resetProgress(3, 42L);
+            second.resetProgress(3, 42L);
+            stage.build(first);
+            stage.build(second);
+
+            BrickField a = first.getBricks();
+            BrickField b = second.getBricks();
+            assertEquals(a.size(), b.size());
+            for (int i = 0; i < a.size(); i++) {
+                assertEquals(a.getX(i), b.getX(i), EPSILON);
+                assertEquals(a.getY(i), b.getY(i), EPSILON);
+                assertEquals(a.getType(i), b.getType(i));
+                assertEquals(a.getPowerUpType(i), b.getPowerUpType(i));
+                assertEquals(a.getDurability(i), b.getDurability(i));
+            }
+        }
+    }
+}
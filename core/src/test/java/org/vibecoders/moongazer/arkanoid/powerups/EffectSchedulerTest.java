@@ -0,0 +1,88 @@
+package org.vibecoders.moongazer.arkanoid.powerups;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.vibecoders.moongazer.arkanoid.Brick;
+import org.vibecoders.moongazer.arkanoid.PowerUp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EffectScheduler class
+ */
+@DisplayName("EffectScheduler Tests")
+class EffectSchedulerTest {
+    private static final float EPSILON = 0.001f;
+    // 5 s at 240 steps per second
+    private static final int FIVE_SECONDS = 1200;
+
+    private EffectScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new EffectScheduler();
+    }
+
+    private ActivePowerUpEffect start(PowerUp powerUp) {
+        ActivePowerUpEffect effect = new ActivePowerUpEffect();
+        effect.start(powerUp, scheduler.getTick());
+        scheduler.add(effect);
+        return effect;
+    }
+
+    private void advance(int steps) {
+        for (int i = 0; i < steps; i++) {
+            scheduler.advance();
+        }
+    }
+
+    @Test
+    @DisplayName("Effect should expire exactly when its duration in steps has passed")
+    void testExpiry() {
+        ActivePowerUpEffect effect = start(new SlowBall(0f, 0f, 20f, 20f));
+        assertSame(effect, scheduler.get(Brick.PowerUpType.SLOW_BALL));
+        assertEquals(5f, effect.getRemainingTime(scheduler.getTick()), EPSILON);
+
+        advance(FIVE_SECONDS - 1);
+        assertNull(scheduler.pollExpired());
+        advance(1);
+        assertSame(effect, scheduler.pollExpired());
+        assertNull(scheduler.pollExpired());
+        assertFalse(scheduler.isRunning(Brick.PowerUpType.SLOW_BALL));
+        assertTrue(scheduler.getRunning().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Effects should expire in order of expiry, and refreshing should push one back")
+    void testOrderAndRefresh() {
+        ActivePowerUpEffect expand = start(new ExpandPaddle(0f, 0f, 20f, 20f));
+        ActivePowerUpEffect slow = start(new SlowBall(0f, 0f, 20f, 20f));
+        assertEquals(expand, scheduler.getRunning().get(0));
+
+        advance(FIVE_SECONDS - 10);
+        scheduler.refresh(slow);
+        advance(10);
+        assertNull(scheduler.pollExpired());
+
+        // The refreshed slow ball now ends 10 steps before the 10 s expand paddle
+        advance(FIVE_SECONDS - 10);
+        assertSame(slow, scheduler.pollExpired());
+        assertNull(scheduler.pollExpired());
+        advance(10);
+        assertSame(expand, scheduler.pollExpired());
+    }
+
+    @Test
+    @DisplayName("A type should only run once, and clear should drop everything")
+    void testDuplicateAndClear() {
+        start(new SuperBall(0f, 0f, 20f, 20f));
+        assertThrows(IllegalStateException.class, () -> start(new SuperBall(0f, 0f, 20f, 20f)));
+
+        scheduler.reset(42L);
+        assertEquals(42L, scheduler.getTick());
+        assertFalse(scheduler.isRunning(Brick.PowerUpType.SUPER_BALL));
+        start(new SuperBall(0f, 0f, 20f, 20f));
+        assertEquals(1, scheduler.getRunning().size());
+    }
+}
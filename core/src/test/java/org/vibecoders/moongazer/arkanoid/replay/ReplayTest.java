@@ -0,0 +1,137 @@
+package org.vibecoders.moongazer.arkanoid.replay;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.vibecoders.moongazer.arkanoid.Brick;
+import org.vibecoders.moongazer.arkanoid.PaddleAI;
+import org.vibecoders.moongazer.arkanoid.PaddleInput;
+import org.vibecoders.moongazer.arkanoid.RunRandom;
+import org.vibecoders.moongazer.arkanoid.World;
+import org.vibecoders.moongazer.arkanoid.util.Rng;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for recording and playing back runs
+ */
+@DisplayName("Replay Tests")
+class ReplayTest {
+    private static final float STEP = 1f / 240f;
+    private static final float EPSILON = 0.001f;
+    private static final int STEPS = 240 * 30;
+
+    /**
+     * Starts a seeded run with a small level drawn from the level stream.
+     */
+    private static World startRun(long seed) {
+        World world = new World(0f, 600f, 600f);
+        world.resetProgress(3, seed);
+        world.reset();
+        Rng level = world.getRandom(RunRandom.Stream.LEVEL);
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 8; col++) {
+                world.getBricks().addBreakable(5f + col * 74f, 480f - row * 25f, 70f, 20f,
+                                               level.nextInt(1, 3), Brick.PowerUpType.NONE);
+            }
+        }
+        world.indexBricks();
+        return world;
+    }
+
+    /**
+     * Plays a scripted run: the AI keeps the ball alive at first, then key presses,
+     * a pointer drag and repeated launches take over after the AI is toggled off.
+     */
+    private static Replay recordScriptedRun(World world) {
+        world.getPaddleAI().setEnabled(true);
+        ReplayRecorder recorder = new ReplayRecorder();
+        recorder.begin(world.getSeed(), 3, world.getPaddleAI().isEnabled());
+        Rng script = new Rng(5L);
+        PaddleInput input = world.getInput();
+        for (int step = 0; step < STEPS && !world.isGameOver(); step++) {
+            if (step % 60 == 0) {
+                input.left = script.nextInt(3) == 0;
+                input.right = !input.left && script.nextBoolean();
+            }
+            input.launch = step % 240 == 10;
+            input.pointerDown = step > 3000 && step < 3200;
+            input.pointerX = 100 + (step % 400);
+            boolean toggleAi = step == 2000;
+            if (toggleAi) {
+                toggle(world.getPaddleAI());
+            }
+            recorder.record(input, toggleAi);
+            world.step(STEP);
+        }
+        return recorder.finish(world.getScore(), 1);
+    }
+
+    /**
+     * Re-simulates a replay in a fresh world.
+     */
+    private static World playBack(Replay replay) {
+        World world = startRun(replay.getSeed());
+        world.getPaddleAI().setEnabled(replay.isAiEnabled());
+        ReplayPlayer player = replay.play();
+        while (!player.isFinished()) {
+            if (player.apply(world.getInput())) {
+                toggle(world.getPaddleAI());
+            }
+            world.step(STEP);
+        }
+        return world;
+    }
+
+    private static void toggle(PaddleAI ai) {
+        ai.setEnabled(!ai.isEnabled());
+    }
+
+    @Test
+    @DisplayName("Playing a replay should reproduce the recorded run")
+    void testPlaybackReproducesRun() {
+        World live = startRun(1234L);
+        Replay replay = recordScriptedRun(live);
+        World replayed = playBack(replay);
+
+        assertEquals(live.getScore(), replayed.getScore());
+        assertEquals(live.getLives(), replayed.getLives());
+        assertEquals(live.getBricksDestroyed(), replayed.getBricksDestroyed());
+        assertEquals(live.getPaddleAI().isEnabled(), replayed.getPaddleAI().isEnabled());
+        assertEquals(live.getPaddle().getBounds().x, replayed.getPaddle().getBounds().x, EPSILON);
+        assertEquals(live.getBall().getBounds().x, replayed.getBall().getBounds().x, EPSILON);
+        assertEquals(live.getBall().getBounds().y, replayed.getBall().getBounds().y, EPSILON);
+        assertTrue(live.getBricksDestroyed() > 0, "The scripted run should break bricks");
+    }
+
+    @Test
+    @DisplayName("Replays should survive the binary round trip and stay small")
+    void testBinaryRoundTrip() throws Exception {
+        World live = startRun(99L);
+        Replay replay = recordScriptedRun(live);
+        byte[] bytes = replay.toBytes();
+        Replay decoded = Replay.fromBytes(bytes);
+
+        assertEquals(replay.getSeed(), decoded.getSeed());
+        assertEquals(replay.getStepCount(), decoded.getStepCount());
+        assertEquals(replay.getScore(), decoded.getScore());
+        assertEquals(replay.getEventCount(), decoded.getEventCount());
+        assertTrue(bytes.length < 4096, "30 seconds of input should take a few KB, was " + bytes.length);
+        assertEquals(live.getScore(), playBack(decoded).getScore());
+    }
+
+    @Test
+    @DisplayName("Corrupt data should be rejected")
+    void testRejectsCorruptData() {
+        assertThrows(java.io.IOException.class, () -> Replay.fromBytes(new byte[] {'N', 'O', 'P', 'E', 1}));
+    }
+
+    @Test
+    @DisplayName("Replays from an older simulation version should be rejected")
+    void testRejectsOlderVersion() throws Exception {
+        byte[] bytes = recordScriptedRun(startRun(7L)).toBytes();
+        bytes[4] = 1;
+
+        java.io.IOException e = assertThrows(java.io.IOException.class, () -> Replay.fromBytes(bytes));
+        assertTrue(e.getMessage().contains("older simulation"), e.getMessage());
+    }
+}
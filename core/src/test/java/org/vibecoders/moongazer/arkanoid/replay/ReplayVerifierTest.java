@@ -0,0 +1,94 @@
+package org.vibecoders.moongazer.arkanoid.replay;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.vibecoders.moongazer.arkanoid.World;
+import org.vibecoders.moongazer.arkanoid.WorldListener;
+import org.vibecoders.moongazer.arkanoid.levels.EndlessRun;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.vibecoders.moongazer.Constants.FIXED_TIMESTEP;
+
+/**
+ * Unit tests for the headless replay verifier
+ */
+@DisplayName("ReplayVerifier Tests")
+class ReplayVerifierTest {
+    private static final int STEPS = 240 * 20;
+
+    /**
+     * Plays an endless run with the paddle AI and records it the way the endless scene does.
+     */
+    private static Replay recordEndlessRun(long seed) {
+        World world = new World();
+        EndlessRun run = new EndlessRun(world);
+        world.setListener(new WorldListener() {
+            @Override
+            public void onLevelComplete() {
+                run.completeWave();
+            }
+        });
+        world.getPaddleAI().setEnabled(true);
+        run.start(seed);
+        ReplayRecorder recorder = new ReplayRecorder();
+        recorder.begin(seed, EndlessRun.STARTING_LIVES, true);
+        for (int step = 0; step < STEPS && !world.isGameOver(); step++) {
+            world.getInput().launch = step % 240 == 0;
+            recorder.record(world.getInput(), false);
+            world.step(FIXED_TIMESTEP);
+        }
+        return recorder.finish(world.getScore(), run.getWave());
+    }
+
+    private static Replay withOutcome(Replay replay, int score, int wave) {
+        return new Replay(replay.getSeed(), replay.getStartingLives(), replay.isAiEnabled(), replay.getStepCount(),
+                          score, wave, replay.getEventCount(), replay.getEvents());
+    }
+
+    @Test
+    @DisplayName("An honest run should verify with its reported outcome")
+    void testHonestRun() {
+        Replay replay = recordEndlessRun(1234L);
+        ReplayVerifier.Result result = ReplayVerifier.verify(replay);
+
+        assertTrue(result.isValid(), result.toString());
+        assertNull(result.getReason());
+        assertEquals(replay.getScore(), result.getScore());
+        assertEquals(replay.getWave(), result.getWave());
+        assertEquals(replay.getStepCount(), result.getSteps());
+        assertTrue(result.getScore() > 0, "The AI should score during the run");
+    }
+
+    @Test
+    @DisplayName("An inflated score or wave should be rejected")
+    void testTamperedOutcome() {
+        Replay replay = recordEndlessRun(99L);
+        ReplayVerifier.Result score = ReplayVerifier.verify(withOutcome(replay, replay.getScore() + 1000, replay.getWave()));
+        ReplayVerifier.Result wave = ReplayVerifier.verify(withOutcome(replay, replay.getScore(), replay.getWave() + 1));
+
+        assertFalse(score.isValid());
+        assertFalse(wave.isValid());
+        assertEquals(replay.getScore(), score.getScore(), "The verifier should report the simulated score");
+        assertNotNull(wave.getReason());
+    }
+
+    @Test
+    @DisplayName("Bulk verification should keep the order of the replays")
+    void testVerifyAll() {
+        List<Replay> replays = new ArrayList<>();
+        for (long seed = 1; seed <= 6; seed++) {
+            Replay replay = recordEndlessRun(seed);
+            replays.add(seed % 2 == 0 ? withOutcome(replay, replay.getScore() + 1, replay.getWave()) : replay);
+        }
+        List<ReplayVerifier.Result> results = ReplayVerifier.verifyAll(replays);
+
+        assertEquals(replays.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertSame(replays.get(i), results.get(i).getReplay());
+            assertEquals(i % 2 == 0, results.get(i).isValid(), "Replay " + i + ": " + results.get(i));
+        }
+    }
+}
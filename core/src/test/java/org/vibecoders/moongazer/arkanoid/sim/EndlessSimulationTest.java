@@ -0,0 +1,48 @@
+package org.vibecoders.moongazer.arkanoid.sim;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for headless endless games
+ */
+@DisplayName("EndlessSimulation Tests")
+class EndlessSimulationTest {
+    private static final float EPSILON = 0.001f;
+    private static final int STEPS = 240 * 60;
+
+    @Test
+    @DisplayName("Same seed should play the same game")
+    void testReproducible() {
+        EndlessSimulation.Outcome first = EndlessSimulation.play(42L, STEPS);
+        EndlessSimulation.Outcome second = EndlessSimulation.play(42L, STEPS);
+
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getWave(), second.getWave());
+        assertEquals(first.getSteps(), second.getSteps());
+        assertEquals(first.getWavesCleared(), second.getWavesCleared());
+        for (int wave = 1; wave <= first.getWavesCleared(); wave++) {
+            assertEquals(first.getClearTime(wave), second.getClearTime(wave), EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("A game should stop at the step limit and report it")
+    void testStepLimit() {
+        EndlessSimulation.Outcome outcome = EndlessSimulation.play(7L, 240);
+
+        assertTrue(outcome.isTimedOut());
+        assertEquals(240, outcome.getSteps());
+        assertEquals(1, outcome.getWave());
+        assertEquals(0, outcome.getWavesCleared());
+    }
+
+    @Test
+    @DisplayName("The AI should launch the ball and score")
+    void testAiPlays() {
+        EndlessSimulation.Outcome outcome = EndlessSimulation.play(3L, STEPS);
+        assertTrue(outcome.getScore() > 0, "The AI should break bricks within a minute");
+    }
+}
@@ -0,0 +1,48 @@
+package org.vibecoders.moongazer.arkanoid.sim;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SelfPlay class
+ */
+@DisplayName("SelfPlay Tests")
+class SelfPlayTest {
+    private static final int STEPS = 240 * 30;
+
+    @Test
+    @DisplayName("Same seed should play the same story game")
+    void testReproducible() {
+        SelfPlay.Outcome first = SelfPlay.play(SelfPlay.Player.ARKANOID, SelfPlay.Mode.STAGE_1, 42L, STEPS);
+        SelfPlay.Outcome second = SelfPlay.play(SelfPlay.Player.ARKANOID, SelfPlay.Mode.STAGE_1, 42L, STEPS);
+
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getFrames(), second.getFrames());
+        assertEquals(first.getBallsLost(), second.getBallsLost());
+        assertEquals(first.getLivesLost(), second.getLivesLost());
+        assertEquals(first.getWavesCleared(), second.getWavesCleared());
+    }
+
+    @Test
+    @DisplayName("Every mode should be playable and report its metrics")
+    void testEveryMode() {
+        for (SelfPlay.Mode mode : SelfPlay.Mode.values()) {
+            SelfPlay.Outcome outcome = SelfPlay.play(SelfPlay.Player.ARKANOID, mode, 7L, STEPS);
+
+            assertTrue(outcome.getFrames() > 0);
+            assertTrue(outcome.getScore() > 0, mode.getId() + " should score within 30 seconds");
+            assertTrue(outcome.getLivesLost() <= outcome.getBallsLost());
+            assertTrue(outcome.getMillisPerSimSecond() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Players and modes should be found by their ids")
+    void testLookup() {
+        assertSame(SelfPlay.Player.LOOKAHEAD, SelfPlay.Player.of("lookahead"));
+        assertSame(SelfPlay.Mode.STAGE_3, SelfPlay.Mode.of("stage3"));
+        assertThrows(IllegalArgumentException.class, () -> SelfPlay.Mode.of("stage9"));
+    }
+}
@@ -0,0 +1,99 @@
+package org.vibecoders.moongazer.arkanoid.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TweenScheduler class
+ */
+@DisplayName("TweenScheduler Tests")
+class TweenSchedulerTest {
+    private static final float EPSILON = 0.001f;
+
+    private TweenScheduler scheduler;
+
+    /**
+     * Tween recording the last elapsed time it was given and whether it finished.
+     */
+    private static class Recorder extends TweenScheduler.Tween {
+        private float lastElapsed = -1f;
+        private int applied;
+        private int finished;
+
+        @Override
+        protected void apply(float elapsed) {
+            lastElapsed = elapsed;
+            applied++;
+        }
+
+        @Override
+        protected void finish() {
+            finished++;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TweenScheduler(1);
+    }
+
+    @Test
+    @DisplayName("Tween should run until its duration and then finish once")
+    void testRunToEnd() {
+        Recorder tween = new Recorder();
+        scheduler.start(tween, 1f);
+        assertTrue(tween.isActive());
+        assertEquals(0f, tween.lastElapsed, EPSILON);
+
+        scheduler.update(0.4f);
+        assertEquals(0.4f, tween.getProgress(), EPSILON);
+        scheduler.update(0.8f);
+        assertEquals(1f, tween.lastElapsed, EPSILON);
+        assertFalse(tween.isActive());
+        assertEquals(1, tween.finished);
+
+        scheduler.update(0.5f);
+        assertEquals(3, tween.applied);
+        assertEquals(0, scheduler.getActiveCount());
+    }
+
+    @Test
+    @DisplayName("Starting a running tween should restart it without adding it twice")
+    void testRestart() {
+        Recorder tween = new Recorder();
+        scheduler.start(tween, 1f);
+        scheduler.update(0.5f);
+        scheduler.start(tween, 2f);
+
+        assertEquals(1, scheduler.getActiveCount());
+        assertEquals(0f, tween.getElapsed(), EPSILON);
+        assertEquals(2f, tween.getDuration(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Cancelled tweens should stop without finishing")
+    void testCancel() {
+        Recorder first = new Recorder();
+        Recorder second = new Recorder();
+        Recorder third = new Recorder();
+        scheduler.start(first, 1f);
+        scheduler.start(second, 1f);
+        scheduler.start(third, 1f);
+
+        scheduler.cancel(first);
+        scheduler.cancel(first);
+        assertEquals(2, scheduler.getActiveCount());
+        scheduler.update(0.5f);
+        assertEquals(0f, first.lastElapsed, EPSILON);
+        assertEquals(0.5f, second.lastElapsed, EPSILON);
+        assertEquals(0.5f, third.lastElapsed, EPSILON);
+
+        scheduler.clear();
+        assertEquals(0, scheduler.getActiveCount());
+        assertFalse(third.isActive());
+        assertEquals(0, first.finished + second.finished + third.finished);
+    }
+}
@@ -11,4 +11,4 @@ plugins {
 }
 
 rootProject.name = "Moongazer"
-include("app")
+include("app", "core", "benchmarks")